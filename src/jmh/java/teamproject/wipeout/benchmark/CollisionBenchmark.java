@@ -0,0 +1,74 @@
+package teamproject.wipeout.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javafx.geometry.Point2D;
+import org.openjdk.jmh.annotations.*;
+import teamproject.wipeout.engine.component.Transform;
+import teamproject.wipeout.engine.component.physics.CollisionResolutionComponent;
+import teamproject.wipeout.engine.component.physics.HitboxComponent;
+import teamproject.wipeout.engine.component.shape.Rectangle;
+import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.entity.GameEntity;
+import teamproject.wipeout.engine.system.physics.CollisionSystem;
+
+/**
+ * Measures one CollisionSystem update with a varying number of 32x32 hitbox entities,
+ * spread out so that each entity overlaps a few others on average.
+ *
+ * Collisions push the entities apart, so each update first puts them back to measure the same overlaps every time.
+ * Resetting is part of the measured method (a per-invocation setup would distort timings this short), and is
+ * measured on its own by resetPositions, to be subtracted from collisionUpdate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+
+    @Param({"50", "200", "1000"})
+    public int entityCount;
+
+    private GameScene scene;
+    private CollisionSystem collisionSystem;
+    private Transform[] transforms;
+    private Point2D[] startPositions;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.scene = new GameScene();
+        this.collisionSystem = new CollisionSystem(this.scene);
+        this.transforms = new Transform[this.entityCount];
+        this.startPositions = new Point2D[this.entityCount];
+
+        // Keep the density constant, so the number of overlapping pairs grows linearly with the entity count
+        double areaSize = Math.sqrt(this.entityCount) * 64;
+        Random random = new Random(42);
+
+        for (int i = 0; i < this.entityCount; i++) {
+            this.startPositions[i] = new Point2D(random.nextDouble() * areaSize, random.nextDouble() * areaSize);
+
+            GameEntity entity = this.scene.createEntity();
+            this.transforms[i] = new Transform(this.startPositions[i], 0);
+            entity.addComponent(this.transforms[i]);
+            entity.addComponent(new HitboxComponent(new Rectangle(0, 0, 32, 32)));
+            entity.addComponent(new CollisionResolutionComponent());
+        }
+    }
+
+    @Benchmark
+    public void resetPositions() {
+        for (int i = 0; i < this.entityCount; i++) {
+            this.transforms[i].setPosition(this.startPositions[i]);
+        }
+    }
+
+    @Benchmark
+    public void collisionUpdate() {
+        this.resetPositions();
+        this.collisionSystem.accept(0.0);
+    }
+}
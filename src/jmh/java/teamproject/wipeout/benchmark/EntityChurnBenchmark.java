@@ -0,0 +1,80 @@
+package teamproject.wipeout.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import teamproject.wipeout.engine.component.PickableComponent;
+import teamproject.wipeout.engine.component.TagComponent;
+import teamproject.wipeout.engine.component.Transform;
+import teamproject.wipeout.engine.component.physics.HitboxComponent;
+import teamproject.wipeout.engine.component.physics.MovementComponent;
+import teamproject.wipeout.engine.component.render.RenderComponent;
+import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.entity.ComponentStorage.StorageMode;
+import teamproject.wipeout.engine.entity.GameEntity;
+import teamproject.wipeout.engine.entity.collector.EntityCollector;
+import teamproject.wipeout.engine.entity.collector.SignatureEntityCollector;
+import teamproject.wipeout.engine.system.render.RendererEntityCollector;
+
+/**
+ * Measures spawning and destroying 10,000 pickable-like entities in a scene with five active collectors (a busy late game).
+ * Every entity is destroyed by the end of each invocation, so the same scene is reused.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class EntityChurnBenchmark {
+
+    private static final int ENTITY_COUNT = 10000;
+
+    private GameScene scene;
+    private List<EntityCollector> collectors;
+    private List<GameEntity> spawned;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.scene = new GameScene(StorageMode.ARRAY);
+        this.collectors = List.of(
+            new SignatureEntityCollector(this.scene, Set.of(Transform.class, MovementComponent.class)),
+            new SignatureEntityCollector(this.scene, Set.of(Transform.class, HitboxComponent.class)),
+            new SignatureEntityCollector(this.scene, Set.of(PickableComponent.class)),
+            new SignatureEntityCollector(this.scene, Set.of(TagComponent.class)),
+            new RendererEntityCollector(this.scene)
+        );
+        this.spawned = new ArrayList<>(ENTITY_COUNT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (EntityCollector collector : this.collectors) {
+            collector.cleanup();
+        }
+    }
+
+    @Benchmark
+    public int spawnAndDestroy() {
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            GameEntity entity = this.scene.createEntity();
+            entity.addComponent(new Transform(i, i));
+            entity.addComponent(new MovementComponent());
+            entity.addComponent(new HitboxComponent());
+            entity.addComponent(new RenderComponent());
+            entity.addComponent(new TagComponent("pickable"));
+            this.spawned.add(entity);
+        }
+
+        // Destroyed in spawn order
+        for (int i = 0; i < this.spawned.size(); i++) {
+            this.spawned.get(i).destroy();
+        }
+        this.spawned.clear();
+
+        return this.scene.entities.size();
+    }
+}
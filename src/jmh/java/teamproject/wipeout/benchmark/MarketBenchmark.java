@@ -0,0 +1,41 @@
+package teamproject.wipeout.benchmark;
+
+import java.io.FileNotFoundException;
+import java.util.concurrent.TimeUnit;
+
+import javafx.util.Pair;
+import org.openjdk.jmh.annotations.*;
+import teamproject.wipeout.game.item.ItemStore;
+import teamproject.wipeout.game.market.Market;
+
+/**
+ * Measures pricing a market trade of a varying number of items.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarketBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int quantity;
+
+    @Param({"true", "false"})
+    public boolean buy;
+
+    private Market market;
+    private int itemID;
+
+    @Setup(Level.Trial)
+    public void setup() throws FileNotFoundException, ReflectiveOperationException {
+        this.market = new Market(new ItemStore("items.json"), false);
+        this.itemID = this.market.stockDatabase.keySet().iterator().next();
+    }
+
+    @Benchmark
+    public Pair<Double, Integer> totalCostAndDeviations() {
+        return this.market.calculateTotalCostAndDeviations(this.itemID, this.quantity, this.buy);
+    }
+}
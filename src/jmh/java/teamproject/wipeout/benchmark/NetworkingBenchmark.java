@@ -0,0 +1,47 @@
+package teamproject.wipeout.benchmark;
+
+import java.io.FileNotFoundException;
+import java.util.concurrent.TimeUnit;
+
+import javafx.geometry.Point2D;
+import org.openjdk.jmh.annotations.*;
+import teamproject.wipeout.game.item.ItemStore;
+import teamproject.wipeout.game.market.Market;
+import teamproject.wipeout.networking.data.GameUpdate;
+import teamproject.wipeout.networking.data.GameUpdateType;
+import teamproject.wipeout.networking.state.MarketState;
+import teamproject.wipeout.networking.state.PlayerState;
+
+/**
+ * Measures deep cloning the GameUpdates sent most often: player movement and market changes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NetworkingBenchmark {
+
+    private GameUpdate playerUpdate;
+    private GameUpdate marketUpdate;
+
+    @Setup(Level.Trial)
+    public void setup() throws FileNotFoundException, ReflectiveOperationException {
+        PlayerState playerState = new PlayerState(1, "Farmer", "player-red", 100, new Point2D(250, 300), new Point2D(0, -500));
+        this.playerUpdate = new GameUpdate(playerState);
+
+        Market market = new Market(new ItemStore("items.json"), false);
+        this.marketUpdate = new GameUpdate(GameUpdateType.MARKET_STATE, 1, new MarketState(market.stockDatabase));
+    }
+
+    @Benchmark
+    public GameUpdate clonePlayerUpdate() {
+        return this.playerUpdate.deepClone();
+    }
+
+    @Benchmark
+    public GameUpdate cloneMarketUpdate() {
+        return this.marketUpdate.deepClone();
+    }
+}
@@ -0,0 +1,79 @@
+package teamproject.wipeout.benchmark;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import javafx.scene.paint.Color;
+import org.openjdk.jmh.annotations.*;
+import teamproject.wipeout.engine.component.Transform;
+import teamproject.wipeout.engine.component.render.particle.ParticleComponent;
+import teamproject.wipeout.engine.component.render.particle.ParticleParameters;
+import teamproject.wipeout.engine.component.render.particle.ParticleParameters.ParticleSimulationSpace;
+import teamproject.wipeout.engine.component.render.particle.property.OvalParticle;
+import teamproject.wipeout.engine.core.GameLoop;
+import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.entity.GameEntity;
+import teamproject.wipeout.engine.system.render.ParticleSystem;
+import teamproject.wipeout.util.SupplierGenerator;
+
+/**
+ * Measures one ParticleSystem update with 10,000 live particles, split between a number of emitters,
+ * simulated on the benchmark thread or in parallel on the common ForkJoinPool.
+ * Particles live far longer than the benchmark, so the live count stays at the maximum
+ * and each update simulates every particle without emitting new ones.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParticleBenchmark {
+
+    private static final int PARTICLE_COUNT = 10000;
+
+    @Param({"1", "40"})
+    public int emitters;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private ParticleSystem particleSystem;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        GameScene scene = new GameScene();
+        this.particleSystem = new ParticleSystem(scene, this.parallel ? ForkJoinPool.commonPool() : null);
+
+        for (int i = 0; i < this.emitters; i++) {
+            this.createEmitter(scene, PARTICLE_COUNT / this.emitters);
+        }
+
+        // Emit until the maximum number of particles are alive
+        for (int i = 0; i < 100; i++) {
+            this.particleSystem.accept(GameLoop.timeStep);
+        }
+    }
+
+    private void createEmitter(GameScene scene, int particleCount) {
+        ParticleParameters parameters = new ParticleParameters(1000000, true, new OvalParticle(Color.WHITE), ParticleSimulationSpace.WORLD,
+                SupplierGenerator.staticSupplier(1000000.0), SupplierGenerator.rangeSupplier(1.0, 4.0), null,
+                SupplierGenerator.staticSupplier(1.0), SupplierGenerator.circlePointSupplier(5, 10));
+        parameters.setMaxParticles(particleCount);
+        parameters.setEmissionRate(particleCount * 100);
+        parameters.addUpdateFunction((particle, percentage, timeStep) -> {
+            particle.opacity = 1 - percentage;
+        });
+
+        GameEntity emitter = scene.createEntity();
+        emitter.addComponent(new Transform(100, 100));
+        ParticleComponent particleComponent = new ParticleComponent(parameters);
+        emitter.addComponent(particleComponent);
+        particleComponent.play();
+    }
+
+    @Benchmark
+    public void particleUpdate() {
+        this.particleSystem.accept(GameLoop.timeStep);
+    }
+}
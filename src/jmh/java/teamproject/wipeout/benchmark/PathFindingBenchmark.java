@@ -0,0 +1,65 @@
+package teamproject.wipeout.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javafx.geometry.Point2D;
+import org.openjdk.jmh.annotations.*;
+import teamproject.wipeout.engine.component.ai.NavigationMesh;
+import teamproject.wipeout.engine.component.ai.NavigationSquare;
+import teamproject.wipeout.engine.system.ai.PathFindingSystem;
+import teamproject.wipeout.game.entity.WorldEntity;
+
+/**
+ * Measures finding a path between random points of the world's navigation mesh,
+ * which is what the AI players and animals do whenever they pick a new destination,
+ * and finding the square closest to a point, which starts every path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathFindingBenchmark {
+
+    private static final int PATH_COUNT = 256;
+
+    private NavigationMesh navMesh;
+    private Point2D[] starts;
+    private Point2D[] ends;
+    private int nextPath;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // The mesh the world generates for a player sized agent
+        this.navMesh = WorldEntity.generateNavMesh(new Point2D(64, 64));
+        this.starts = new Point2D[PATH_COUNT];
+        this.ends = new Point2D[PATH_COUNT];
+
+        Random random = new Random(42);
+        for (int i = 0; i < PATH_COUNT; i++) {
+            this.starts[i] = randomPoint(random);
+            this.ends[i] = randomPoint(random);
+        }
+    }
+
+    @Benchmark
+    public List<Point2D> findPath() {
+        int i = this.nextPath;
+        this.nextPath = (i + 1) % PATH_COUNT;
+        return PathFindingSystem.findPath(this.starts[i], this.ends[i], this.navMesh);
+    }
+
+    @Benchmark
+    public NavigationSquare findClosestSquare() {
+        int i = this.nextPath;
+        this.nextPath = (i + 1) % PATH_COUNT;
+        return this.navMesh.findClosestSquare(this.starts[i]);
+    }
+
+    private static Point2D randomPoint(Random random) {
+        return new Point2D(random.nextDouble() * WorldEntity.WORLD_SIZE[0], random.nextDouble() * WorldEntity.WORLD_SIZE[1]);
+    }
+}
@@ -0,0 +1,99 @@
+package teamproject.wipeout.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javafx.geometry.Point2D;
+import javafx.scene.paint.Color;
+import org.openjdk.jmh.annotations.*;
+import teamproject.wipeout.engine.component.Transform;
+import teamproject.wipeout.engine.component.render.RectRenderable;
+import teamproject.wipeout.engine.component.render.RenderComponent;
+import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.entity.GameEntity;
+import teamproject.wipeout.util.sort.InsertionSort;
+import teamproject.wipeout.util.sort.RenderOrderComparator;
+
+/**
+ * Measures the sort the RenderSystem used to do every frame, on a nearly sorted list of renderable entities
+ * where a few of them moved slightly since the last frame, against culling to a viewport first and sorting primitive keys.
+ * The drawing itself needs a JavaFX toolkit, so only the sort is measured.
+ *
+ * Each measured method first moves some entities, as happens between frames. Moving is part of the measured method
+ * (a per-invocation setup would distort timings this short), and is measured on its own by moveEntities,
+ * to be subtracted from the others.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderSortBenchmark {
+
+    @Param({"200", "1000", "5000"})
+    public int entityCount;
+
+    private List<GameEntity> entities;
+    private Transform[] transforms;
+    private RenderOrderComparator comparator;
+    private Random random;
+    private long[] sortKeys;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        GameScene scene = new GameScene();
+        this.entities = new ArrayList<>(this.entityCount);
+        this.transforms = new Transform[this.entityCount];
+        this.comparator = new RenderOrderComparator();
+        this.random = new Random(42);
+        this.sortKeys = new long[this.entityCount];
+
+        for (int i = 0; i < this.entityCount; i++) {
+            GameEntity entity = scene.createEntity();
+            this.transforms[i] = new Transform(this.random.nextDouble() * 2000, this.random.nextDouble() * 2000);
+            entity.addComponent(this.transforms[i]);
+            entity.addComponent(new RenderComponent(new RectRenderable(Color.RED, 32, 32)));
+            this.entities.add(entity);
+        }
+
+        InsertionSort.sort(this.entities, this.comparator);
+    }
+
+    @Benchmark
+    public void moveEntities() {
+        // Roughly how much changes between frames: a tenth of the entities move a few pixels
+        for (int i = 0; i < this.entityCount / 10; i++) {
+            Transform transform = this.transforms[this.random.nextInt(this.entityCount)];
+            Point2D position = transform.getPosition();
+            transform.setPosition(position.add(0, this.random.nextDouble() * 8 - 4));
+        }
+    }
+
+    @Benchmark
+    public List<GameEntity> renderSort() {
+        this.moveEntities();
+        return InsertionSort.sort(this.entities, this.comparator);
+    }
+
+    @Benchmark
+    public long culledKeySort() {
+        this.moveEntities();
+
+        // A 960x540 viewport of the 2000x2000 area, as the RenderSystem culls before sorting
+        int visibleCount = 0;
+        for (int i = 0; i < this.entityCount; i++) {
+            Transform t = this.transforms[i];
+            double x = t.getWorldX();
+            double y = t.getWorldY();
+            if (x + 32 >= 500 && y + 32 >= 700 && x <= 1460 && y <= 1240) {
+                this.sortKeys[visibleCount++] = RenderOrderComparator.sortKey(t.getZPosition(), y + 32, i);
+            }
+        }
+        Arrays.sort(this.sortKeys, 0, visibleCount);
+        return visibleCount > 0 ? this.sortKeys[0] : 0;
+    }
+}
@@ -3,8 +3,10 @@ package teamproject.wipeout;
 import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.ObjectBinding;
+import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.geometry.Point2D;
@@ -19,11 +21,15 @@ import javafx.scene.text.Text;
 import javafx.stage.Window;
 import javafx.util.Pair;
 import teamproject.wipeout.engine.audio.GameAudio;
+import teamproject.wipeout.engine.component.render.AnimatedSpriteRenderable;
 import teamproject.wipeout.engine.component.render.CameraFollowComponent;
 import teamproject.wipeout.engine.component.render.RenderComponent;
+import teamproject.wipeout.engine.core.FrameStatistics;
 import teamproject.wipeout.engine.core.GameLoop;
 import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.core.QualityGovernor;
 import teamproject.wipeout.engine.core.SystemUpdater;
+import teamproject.wipeout.engine.entity.ComponentStorage.StorageMode;
 import teamproject.wipeout.engine.input.InputHandler;
 import teamproject.wipeout.engine.system.ClockSystem;
 import teamproject.wipeout.engine.system.EventSystem;
@@ -40,6 +46,7 @@ import teamproject.wipeout.engine.system.input.MouseHoverSystem;
 import teamproject.wipeout.engine.system.physics.CollisionSystem;
 import teamproject.wipeout.engine.system.physics.MovementSystem;
 import teamproject.wipeout.engine.system.render.CameraFollowSystem;
+import teamproject.wipeout.engine.system.render.InterpolationSystem;
 import teamproject.wipeout.engine.system.render.ParticleSystem;
 import teamproject.wipeout.engine.system.render.RenderSystem;
 import teamproject.wipeout.game.UI.GameMode;
@@ -94,6 +101,8 @@ public class Gameplay extends StackPane implements Controller {
 
     private ReadOnlyDoubleProperty widthProperty;
     private ReadOnlyDoubleProperty heightProperty;
+    // Fraction of the window's resolution the canvases are drawn at
+    private final DoubleProperty renderScale;
 
     private SpriteManager spriteManager;
     private ItemStore itemStore;
@@ -103,6 +112,8 @@ public class Gameplay extends StackPane implements Controller {
     private WorldEntity worldEntity;
 
     private RenderSystem renderer;
+    private ParticleSystem particleSystem;
+    private QualityGovernor qualityGovernor;
     private SystemUpdater systemUpdater;
     private InputHandler inputHandler;
 
@@ -158,11 +169,28 @@ public class Gameplay extends StackPane implements Controller {
         }
 
         this.focusListener = null;
+        this.renderScale = new SimpleDoubleProperty(1);
 
         this.keyBindings = bindings;
         this.networker = networker;
     }
 
+    /**
+     * Gets the frame timing information of the running game, e.g. for logging or a debug overlay
+     * @return The FrameStatistics of the game loop, or null if the content has not been created
+     */
+    public FrameStatistics getFrameStatistics() {
+        return this.gameLoop == null ? null : this.gameLoop.getStatistics();
+    }
+
+    /**
+     * Gets the QualityGovernor lowering rendering quality when frames take too long to render
+     * @return The QualityGovernor of the game loop, or null if the content has not been created
+     */
+    public QualityGovernor getQualityGovernor() {
+        return this.qualityGovernor;
+    }
+
     /** 
      * Sets up resizes and focus properties from the window
      * @param window The window this Game is within
@@ -191,11 +219,16 @@ public class Gameplay extends StackPane implements Controller {
         }
 
         // Scene
-        this.gameScene = new GameScene();
-        this.renderer = new RenderSystem(this.gameScene, this.dynamicCanvas, this.staticCanvas);
+        this.gameScene = new GameScene(StorageMode.ARRAY);
+        this.renderer = new RenderSystem(this.gameScene, this.staticCanvas, this.dynamicCanvas);
         this.initializeSystemUpdater();
         this.gameLoop = new GameLoop(this.systemUpdater, this.renderer);
 
+        // Rendering quality
+        this.qualityGovernor = new QualityGovernor();
+        this.qualityGovernor.setOnLevelChange(this::applyQualityLevel);
+        this.gameLoop.setQualityGovernor(this.qualityGovernor);
+
         // Input
         this.inputHandler = new InputHandler(this.getScene());
 
@@ -304,22 +337,28 @@ public class Gameplay extends StackPane implements Controller {
 	public Parent getContent() {
 		this.dynamicCanvas = new Canvas();
         this.staticCanvas = new Canvas();
+        // Canvases are drawn at the render scale, then scaled up (about their centre) to fill the window
         if (this.widthProperty != null) {
-            this.dynamicCanvas.widthProperty().bind(this.widthProperty);
-            this.staticCanvas.widthProperty().bind(this.widthProperty);
+            this.dynamicCanvas.widthProperty().bind(this.widthProperty.multiply(this.renderScale));
+            this.staticCanvas.widthProperty().bind(this.widthProperty.multiply(this.renderScale));
 
         } else {
-            this.dynamicCanvas.setWidth(800);
-            this.staticCanvas.setWidth(800);
+            this.dynamicCanvas.widthProperty().bind(this.renderScale.multiply(800));
+            this.staticCanvas.widthProperty().bind(this.renderScale.multiply(800));
         }
 
         if (this.heightProperty != null) {
-            this.dynamicCanvas.heightProperty().bind(this.heightProperty);
-            this.staticCanvas.heightProperty().bind(this.heightProperty);
+            this.dynamicCanvas.heightProperty().bind(this.heightProperty.multiply(this.renderScale));
+            this.staticCanvas.heightProperty().bind(this.heightProperty.multiply(this.renderScale));
 
         } else {
-            this.dynamicCanvas.setHeight(600);
-            this.staticCanvas.setHeight(600);
+            this.dynamicCanvas.heightProperty().bind(this.renderScale.multiply(600));
+            this.staticCanvas.heightProperty().bind(this.renderScale.multiply(600));
+        }
+
+        for (Canvas canvas : List.of(this.staticCanvas, this.dynamicCanvas)) {
+            canvas.scaleXProperty().bind(Bindings.divide(1, this.renderScale));
+            canvas.scaleYProperty().bind(Bindings.divide(1, this.renderScale));
         }
 
         this.interfaceOverlay = new StackPane();
@@ -360,6 +399,9 @@ public class Gameplay extends StackPane implements Controller {
             this.getScene().getWindow().focusedProperty().removeListener(this.focusListener);
         }
 
+        // The animation rate is shared by every animation, so restore it for the next game
+        AnimatedSpriteRenderable.setAnimationRateMultiplier(1);
+
         if (this.backingTrack != null && this.backingTrack.isPlaying()) {
             this.backingTrack.stop();
         }
@@ -396,13 +438,16 @@ public class Gameplay extends StackPane implements Controller {
      * Initialises the GameSystems
      */
     private void initializeSystemUpdater() {
-        this.systemUpdater = new SystemUpdater();
+        this.systemUpdater = new SystemUpdater(this.gameScene);
+
+        this.systemUpdater.addSystem(new InterpolationSystem(this.gameScene));
 
         this.systemUpdater.addSystem(new MovementSystem(this.gameScene));
         this.systemUpdater.addSystem(new CollisionSystem(this.gameScene));
         this.systemUpdater.addSystem(new CameraFollowSystem(this.gameScene));
         this.systemUpdater.addSystem(new FarmSpriteSystem(this.gameScene, this.spriteManager));
-        this.systemUpdater.addSystem(new ParticleSystem(this.gameScene));
+        this.particleSystem = new ParticleSystem(this.gameScene);
+        this.systemUpdater.addSystem(this.particleSystem);
         this.systemUpdater.addSystem(new GrowthSystem(this.gameScene));
         this.systemUpdater.addSystem(new SteeringSystem(this.gameScene));
         this.systemUpdater.addSystem(new ScriptSystem(this.gameScene));
@@ -413,6 +458,17 @@ public class Gameplay extends StackPane implements Controller {
         this.systemUpdater.addSystem(this.movementAudio);
     }
 
+    /**
+     * Applies the settings of the QualityGovernor's current level to the canvases and systems.
+     */
+    private void applyQualityLevel() {
+        double scale = this.qualityGovernor.getRenderScale();
+        this.renderScale.set(scale);
+        this.renderer.setRenderScale(scale);
+        this.particleSystem.setParticleMultiplier(this.qualityGovernor.getParticleMultiplier());
+        AnimatedSpriteRenderable.setAnimationRateMultiplier(this.qualityGovernor.getAnimationRateMultiplier());
+    }
+
     /**
      * Sets up the camera to follow the player.
      * @param cameraEntity The CameraEntity to use
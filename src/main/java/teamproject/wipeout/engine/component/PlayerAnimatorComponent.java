@@ -1,17 +1,17 @@
 package teamproject.wipeout.engine.component;
 
-import javafx.scene.image.Image;
+import teamproject.wipeout.engine.component.render.SpriteRegion;
 
 /**
  * Component storing animation frames for each direction a player is moving in
  */
 public class PlayerAnimatorComponent implements GameComponent {
     
-    private Image[] upFrames;
-    private Image[] rightFrames;
-    private Image[] downFrames;
-    private Image[] leftFrames;
-    private Image[] idleFrames;
+    private SpriteRegion[] upFrames;
+    private SpriteRegion[] rightFrames;
+    private SpriteRegion[] downFrames;
+    private SpriteRegion[] leftFrames;
+    private SpriteRegion[] idleFrames;
 
     /**
      * Creates a new instance of PlayerAnimatorComponent
@@ -22,7 +22,7 @@ public class PlayerAnimatorComponent implements GameComponent {
      * @param leftFrames
      * @param idleFrames
      */
-    public PlayerAnimatorComponent(Image[] upFrames, Image[] rightFrames, Image[] downFrames, Image[] leftFrames, Image[] idleFrames) {
+    public PlayerAnimatorComponent(SpriteRegion[] upFrames, SpriteRegion[] rightFrames, SpriteRegion[] downFrames, SpriteRegion[] leftFrames, SpriteRegion[] idleFrames) {
         this.upFrames = upFrames;
         this.rightFrames = rightFrames;
         this.downFrames = downFrames;
@@ -34,7 +34,7 @@ public class PlayerAnimatorComponent implements GameComponent {
      * Getter for the animation frames when this player is moving upwards
      * @return The animation frames
      */
-    public Image[] getUpFrames() {
+    public SpriteRegion[] getUpFrames() {
         return this.upFrames;
     }
 
@@ -42,7 +42,7 @@ public class PlayerAnimatorComponent implements GameComponent {
      * Getter for the animation frames when this player is moving right
      * @return The animation frames
      */
-    public Image[] getRightFrames() {
+    public SpriteRegion[] getRightFrames() {
         return this.rightFrames;
     }
 
@@ -50,7 +50,7 @@ public class PlayerAnimatorComponent implements GameComponent {
      * Getter for the animation frames when this player is moving down
      * @return The animation frames
      */
-    public Image[] getDownFrames() {
+    public SpriteRegion[] getDownFrames() {
         return this.downFrames;
     }
 
@@ -58,7 +58,7 @@ public class PlayerAnimatorComponent implements GameComponent {
      * Getter for the animation frames when this player is moving left
      * @return The animation frames
      */
-    public Image[] getLeftFrames() {
+    public SpriteRegion[] getLeftFrames() {
         return this.leftFrames;
     }
 
@@ -66,7 +66,7 @@ public class PlayerAnimatorComponent implements GameComponent {
      * Getter for the animation frames when this player is idling
      * @return The animation frames
      */
-    public Image[] getIdleFrames() {
+    public SpriteRegion[] getIdleFrames() {
         return this.idleFrames;
     }
 
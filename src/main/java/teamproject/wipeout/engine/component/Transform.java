@@ -1,22 +1,38 @@
 package teamproject.wipeout.engine.component;
 
+import java.util.List;
+
 import javafx.geometry.Point2D;
+import teamproject.wipeout.engine.entity.ComponentType;
 import teamproject.wipeout.engine.entity.GameEntity;
 
 /**
- * Represents a position and rotation in physical space
+ * Represents a position and rotation in physical space.
+ *
+ * The world position is cached, and only recalculated after this transform or one of its ancestors moves (or is re-parented).
+ * If a transform is dirty, all of its descendants are dirty too, so invalidating stops at subtrees that are already dirty.
  */
 public class Transform implements EntityAwareGameComponent {
 
+    private static final int TRANSFORM_ID = ComponentType.getID(Transform.class);
+
     // The entity this Transform is attached to
     private GameEntity entity;
-    // The entity's parent last time the world position was calculated
-    private GameEntity lastParent;
 
+    // Positions are stored as primitives so that moving doesn't allocate - the Point2D versions are created when asked for
+    private double x;
+    private double y;
     private Point2D position;
+    private double worldX;
+    private double worldY;
     private Point2D worldPosition;
+    // The world position at the start of the last update step, used to interpolate rendering
+    private double previousWorldX;
+    private double previousWorldY;
+    private boolean hasPreviousWorldPosition;
     private double rotation;
-    private boolean worldPositionDirty;
+    // Volatile so that systems reading transforms in parallel see the cached world position written with it
+    private volatile boolean worldPositionDirty;
     private int zPosition;
 
     /**
@@ -32,41 +48,45 @@ public class Transform implements EntityAwareGameComponent {
     }
 
     public Transform(double x, double y) {
-        this.position = new Point2D(x, y);
+        this.x = x;
+        this.y = y;
         this.zPosition = 0;
         this.worldPositionDirty = true;
     }
 
     public Transform(double x, double y, int z) {
-        this.position = new Point2D(x, y);
+        this.x = x;
+        this.y = y;
         this.zPosition = z;
         this.worldPositionDirty = true;
     }
 
 
     public Transform(Point2D position, double rotation) {
-        this.position = position;
+        this.setLocalPosition(position);
         this.worldPositionDirty = true;
         this.rotation = rotation;
         this.zPosition = 0;
     }
 
     public Transform(Point2D position, double rotation, int z) {
-        this.position = position;
+        this.setLocalPosition(position);
         this.zPosition = z;
         this.worldPositionDirty = true;
         this.rotation = rotation;
     }
 
     public Transform(double x, double y, double rotation) {
-        this.position = new Point2D(x, y);
+        this.x = x;
+        this.y = y;
         this.zPosition = 0;
         this.worldPositionDirty = true;
         this.rotation = rotation;
     }
 
     public Transform(double x, double y, double rotation, int z) {
-        this.position = new Point2D(x, y);
+        this.x = x;
+        this.y = y;
         this.zPosition = z;
         this.worldPositionDirty = true;
         this.rotation = rotation;
@@ -87,19 +107,40 @@ public class Transform implements EntityAwareGameComponent {
      */
     public void setEntity(GameEntity newEntity) {
         this.entity = newEntity;
-        this.lastParent = this.entity.getParent();
-        if (this.entity.getParent() != null) {
-            this.worldPositionDirty = true;
-        }
+        this.worldPositionDirty = true;
+
+        // Descendants were positioned relative to a transform further up, which they now skip over
+        invalidateChildPositions(newEntity);
     }
 
     /**
      * Marks the world position of this component as dirty, meaning it will be recalculated next time it is requested.
+     * The world positions of all descendant transforms are marked dirty too.
      */
     public void setWorldPosDirty() {
+        if (this.worldPositionDirty) {
+            // All descendants are already dirty
+            return;
+        }
         this.worldPositionDirty = true;
 
-        this.invalidateChildPositions();
+        invalidateChildPositions(this.entity);
+    }
+
+    /**
+     * Marks the world positions of an entity's transform and all of its descendants' transforms as dirty,
+     * e.g. because it moved to a different parent
+     *
+     * @param entity The entity whose world position changed
+     */
+    public static void invalidateWorldPositions(GameEntity entity) {
+        Transform transform = entity.getComponent(TRANSFORM_ID);
+        if (transform != null) {
+            transform.setWorldPosDirty();
+        }
+        else {
+            invalidateChildPositions(entity);
+        }
     }
 
     /**
@@ -108,7 +149,30 @@ public class Transform implements EntityAwareGameComponent {
      * @return The local position of this transform
      */
     public Point2D getPosition() {
-        return this.position;
+        Point2D cachedPosition = this.position;
+        if (cachedPosition == null) {
+            cachedPosition = new Point2D(this.x, this.y);
+            this.position = cachedPosition;
+        }
+        return cachedPosition;
+    }
+
+    /**
+     * Gets the local x position of this transform (relative to the parent)
+     *
+     * @return The local x position
+     */
+    public double getX() {
+        return this.x;
+    }
+
+    /**
+     * Gets the local y position of this transform (relative to the parent)
+     *
+     * @return The local y position
+     */
+    public double getY() {
+        return this.y;
     }
 
     /**
@@ -117,33 +181,124 @@ public class Transform implements EntityAwareGameComponent {
      * @param newPosition The new local position
      */
     public void setPosition(Point2D newPosition) {
-        this.position = newPosition;
-        
-        this.invalidateChildPositions();
+        this.setLocalPosition(newPosition);
+
+        this.setWorldPosDirty();
     }
 
     /**
-     * Gets the world position of this transform
+     * Sets the local position of this transform without allocating a Point2D
+     *
+     * @param x The new local x position
+     * @param y The new local y position
+     */
+    public void setPosition(double x, double y) {
+        this.x = x;
+        this.y = y;
+        this.position = null;
+
+        this.setWorldPosDirty();
+    }
+
+    /**
+     * Moves this transform by an offset without allocating a Point2D
+     *
+     * @param dx The x offset
+     * @param dy The y offset
+     */
+    public void translate(double dx, double dy) {
+        if (dx != 0 || dy != 0) {
+            this.setPosition(this.x + dx, this.y + dy);
+        }
+    }
+
+    /**
+     * Gets the world position of this transform, recalculating it only if it is dirty
      * 
      * @return The world position
      */
     public Point2D getWorldPosition() {
-        if (this.worldPositionDirty || this.lastParent != this.entity.getParent()) {
-            GameEntity currentEntity = this.entity.getParent();
-            while (currentEntity != null && !currentEntity.hasComponent(Transform.class)) {
-                currentEntity = currentEntity.getParent();
-            }
-            if (currentEntity == null) {
-                this.worldPosition = this.position;
-            }
-            else {
-                this.worldPosition = this.position.add(currentEntity.getComponent(Transform.class).getWorldPosition());
-            }
+        this.updateWorldPosition();
+
+        Point2D cachedWorldPosition = this.worldPosition;
+        if (cachedWorldPosition == null) {
+            cachedWorldPosition = new Point2D(this.worldX, this.worldY);
+            this.worldPosition = cachedWorldPosition;
+        }
+        return cachedWorldPosition;
+    }
+
+    /**
+     * Gets the world x position of this transform without allocating a Point2D
+     *
+     * @return The world x position
+     */
+    public double getWorldX() {
+        this.updateWorldPosition();
+        return this.worldX;
+    }
+
+    /**
+     * Gets the world y position of this transform without allocating a Point2D
+     *
+     * @return The world y position
+     */
+    public double getWorldY() {
+        this.updateWorldPosition();
+        return this.worldY;
+    }
+
+    /**
+     * Records the current world position as the position at the start of an update step
+     */
+    public void savePreviousWorldPosition() {
+        this.updateWorldPosition();
+        this.previousWorldX = this.worldX;
+        this.previousWorldY = this.worldY;
+        this.hasPreviousWorldPosition = true;
+    }
+
+    /**
+     * Gets a world position between the one saved at the start of the last update step and the current one
+     * 
+     * @param alpha How far to move from the previous position towards the current one (0-1)
+     * @return The interpolated world position
+     */
+    public Point2D getInterpolatedWorldPosition(double alpha) {
+        this.updateWorldPosition();
+        if (!this.hasPreviousWorldPosition || alpha >= 1 || (this.previousWorldX == this.worldX && this.previousWorldY == this.worldY)) {
+            return this.getWorldPosition();
         }
+        return new Point2D(this.previousWorldX + (this.worldX - this.previousWorldX) * alpha,
+                this.previousWorldY + (this.worldY - this.previousWorldY) * alpha);
+    }
 
-        this.lastParent = this.entity.getParent();
+    /**
+     * Gets the x coordinate of getInterpolatedWorldPosition, without creating a Point2D
+     * 
+     * @param alpha How far to move from the previous position towards the current one (0-1)
+     * @return The interpolated world x coordinate
+     */
+    public double getInterpolatedWorldX(double alpha) {
+        this.updateWorldPosition();
+        if (!this.hasPreviousWorldPosition || alpha >= 1) {
+            return this.worldX;
+        }
+        return this.previousWorldX + (this.worldX - this.previousWorldX) * alpha;
+    }
 
-        return this.worldPosition;
+    /**
+     * Gets the y coordinate of getInterpolatedWorldPosition, without creating a Point2D
+     * 
+     * @param alpha How far to move from the previous position towards the current one (0-1)
+     * @return The interpolated world y coordinate
+     */
+    public double getInterpolatedWorldY(double alpha) {
+        this.updateWorldPosition();
+        if (!this.hasPreviousWorldPosition || alpha >= 1) {
+            return this.worldY;
+        }
+        return this.previousWorldY + (this.worldY - this.previousWorldY) * alpha;
     }
 
     /**
@@ -183,15 +338,74 @@ public class Transform implements EntityAwareGameComponent {
     }
 
     /**
-     * Invalidates the world position of all children of this transform's entity
-     * (this recursively invalidates all their children, etc)
+     * Recalculates the world position if it is dirty
      */
-    private void invalidateChildPositions() {
-        // Recursively go down the hierarchy and invalidate world positions
-        for (GameEntity child : this.entity.getChildren()) {
-            if (child.hasComponent(Transform.class)) {
-                child.getComponent(Transform.class).setWorldPosDirty();
+    private void updateWorldPosition() {
+        if (!this.worldPositionDirty) {
+            return;
+        }
+
+        Transform parentTransform = this.getParentTransform();
+        if (parentTransform == null) {
+            this.worldX = this.x;
+            this.worldY = this.y;
+        }
+        else {
+            this.worldX = this.x + parentTransform.getWorldX();
+            this.worldY = this.y + parentTransform.getWorldY();
+        }
+        this.worldPosition = null;
+        // Cleared last, so a reader that sees a clean transform also sees its new world position
+        this.worldPositionDirty = false;
+    }
+
+    /**
+     * Copies a position into the primitive local position, keeping the Point2D to hand back from getPosition
+     *
+     * @param newPosition The new local position
+     */
+    private void setLocalPosition(Point2D newPosition) {
+        this.x = newPosition.getX();
+        this.y = newPosition.getY();
+        this.position = newPosition;
+    }
+
+    /**
+     * Gets the transform of the closest ancestor entity with one
+     *
+     * @return The ancestor's transform, or null if no ancestor has one
+     */
+    private Transform getParentTransform() {
+        if (this.entity == null) {
+            return null;
+        }
+
+        GameEntity currentEntity = this.entity.getParent();
+        while (currentEntity != null) {
+            Transform transform = currentEntity.getComponent(TRANSFORM_ID);
+            if (transform != null) {
+                return transform;
             }
+            currentEntity = currentEntity.getParent();
+        }
+        return null;
+    }
+
+    /**
+     * Invalidates the world position of all transforms below an entity
+     * (entities without a transform are looked through, as their children are positioned relative to the entity above them)
+     *
+     * @param entity The entity whose descendants should be invalidated
+     */
+    private static void invalidateChildPositions(GameEntity entity) {
+        if (entity == null || entity.getChildren() == null) {
+            return;
+        }
+
+        // Recursively go down the hierarchy and invalidate world positions
+        List<GameEntity> children = entity.getChildren();
+        for (int i = 0; i < children.size(); i++) {
+            invalidateWorldPositions(children.get(i));
         }
     }
 }
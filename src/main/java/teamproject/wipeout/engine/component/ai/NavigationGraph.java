@@ -0,0 +1,141 @@
+package teamproject.wipeout.engine.component.ai;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.geometry.Point2D;
+
+/**
+ * A compiled copy of the connections between NavigationSquares, for path finding.
+ *
+ * Each square is given an integer ID (its index in getSquares). The edges leaving square i are stored at indexes
+ * edgeOffsets[i] to edgeOffsets[i + 1] - 1 of the edge arrays, as the ID of the square they lead to and the
+ * midpoint of the intersection between the two squares.
+ */
+public class NavigationGraph {
+
+    private static final float doubleCompare = 0.00001f;
+
+    public final int[] edgeOffsets;
+    public final int[] edgeTargets;
+    public final double[] edgeMidX;
+    public final double[] edgeMidY;
+
+    private final NavigationSquare[] squares;
+    private final Map<NavigationSquare, Integer> ids;
+
+    private NavigationGraph(List<NavigationSquare> squares, Map<NavigationSquare, Integer> ids) {
+        this.squares = squares.toArray(new NavigationSquare[0]);
+        this.ids = ids;
+        this.edgeOffsets = new int[this.squares.length + 1];
+
+        int edgeCount = 0;
+        for (int i = 0; i < this.squares.length; i++) {
+            edgeCount += this.squares[i].adjacentEdges.size();
+        }
+
+        this.edgeTargets = new int[edgeCount];
+        this.edgeMidX = new double[edgeCount];
+        this.edgeMidY = new double[edgeCount];
+
+        int e = 0;
+        for (int i = 0; i < this.squares.length; i++) {
+            this.edgeOffsets[i] = e;
+            for (NavigationEdge edge : this.squares[i].adjacentEdges) {
+                Point2D start = edge.start;
+                Point2D end = edge.end;
+
+                //Calculate midpoint of intersection to a square.
+                //Is the intersection along the horizontal axis.
+                if (Math.abs(start.getX() - end.getX()) < doubleCompare) {
+                    this.edgeMidX[e] = start.getX();
+                    this.edgeMidY[e] = (start.getY() + end.getY()) / 2;
+                }
+                //Is the intersection along the vertical axis.
+                else if (Math.abs(start.getY() - end.getY()) < doubleCompare) {
+                    this.edgeMidX[e] = (start.getX() + end.getX()) / 2;
+                    this.edgeMidY[e] = start.getY();
+                }
+                //In the event of an error.
+                else {
+                    throw new ArithmeticException("Arithmetic error in calculating mid-point of an intersection. Possible reason: X & Y co-ordinates for an axis are not the same OR comparing doubles failed.");
+                }
+
+                this.edgeTargets[e] = ids.get(edge.adjacentSquare);
+                e++;
+            }
+        }
+        this.edgeOffsets[this.squares.length] = e;
+    }
+
+    /**
+     * Compiles the connections between a collection of squares, and any squares they are connected to.
+     * The squares given are numbered first, in order.
+     * @param squares The squares to include
+     * @return The new NavigationGraph
+     */
+    public static NavigationGraph of(Collection<NavigationSquare> squares) {
+        List<NavigationSquare> ordered = new ArrayList<>(squares.size());
+        Map<NavigationSquare, Integer> ids = new IdentityHashMap<>(squares.size() * 2);
+        for (NavigationSquare square : squares) {
+            if (!ids.containsKey(square)) {
+                ids.put(square, ordered.size());
+                ordered.add(square);
+            }
+        }
+
+        // Follow edges to squares that weren't given, so every edge has a target
+        for (int i = 0; i < ordered.size(); i++) {
+            for (NavigationEdge edge : ordered.get(i).adjacentEdges) {
+                if (!ids.containsKey(edge.adjacentSquare)) {
+                    ids.put(edge.adjacentSquare, ordered.size());
+                    ordered.add(edge.adjacentSquare);
+                }
+            }
+        }
+
+        return new NavigationGraph(ordered, ids);
+    }
+
+    /**
+     * Compiles the connections between a square and every square that can be reached from it
+     * @param square The square to start from
+     * @return The new NavigationGraph
+     */
+    public static NavigationGraph reachableFrom(NavigationSquare square) {
+        return of(List.of(square));
+    }
+
+    /**
+     * Gets the ID of a square
+     * @param square The square
+     * @return The ID, or -1 if the square isn't in this graph
+     */
+    public int getId(NavigationSquare square) {
+        Integer id = this.ids.get(square);
+        if (id == null) {
+            return -1;
+        }
+        return id;
+    }
+
+    /**
+     * Gets the square with an ID
+     * @param id The ID of the square
+     * @return The square
+     */
+    public NavigationSquare getSquare(int id) {
+        return this.squares[id];
+    }
+
+    /**
+     * Gets the number of squares in this graph
+     * @return The number of squares
+     */
+    public int size() {
+        return this.squares.length;
+    }
+}
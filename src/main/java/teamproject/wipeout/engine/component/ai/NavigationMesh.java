@@ -11,14 +11,20 @@ import teamproject.wipeout.engine.component.shape.Rectangle;
  */
 public class NavigationMesh {
     
+    // Use addSquare and removeSquare to change the squares, so the spatial index is kept up to date
     public List<NavigationSquare> squares;
 
+    // Spatial index of the squares, for finding the square at a point
+    private NavigationSquareGrid squareGrid;
+    // Compiled from the squares when a path is first needed, and dropped when they change
+    private volatile NavigationGraph graph;
 
     /**
      * Creates an empty mesh with a blank arraylist of squares.
      */
     private NavigationMesh() {
         squares = new ArrayList<NavigationSquare>();
+        squareGrid = new NavigationSquareGrid(squares);
     }
 
     /**
@@ -27,6 +33,7 @@ public class NavigationMesh {
      */
     private NavigationMesh(List<NavigationSquare> squares) {
         this.squares = squares;
+        this.squareGrid = new NavigationSquareGrid(squares);
     }
 
     /**
@@ -114,6 +121,12 @@ public class NavigationMesh {
         }
 
         squares.add(square);
+        graph = null;
+
+        // Squares much larger than the grid's cells need a grid with larger cells
+        if (!squareGrid.add(square)) {
+            squareGrid = new NavigationSquareGrid(squares);
+        }
 
         return true;
     }
@@ -140,7 +153,39 @@ public class NavigationMesh {
         }
 
         square.adjacentEdges.clear();
+        graph = null;
+        squareGrid.remove(square);
 
         return true;
     }
+
+    /**
+     * Gets the connections between the squares of this mesh, compiled for path finding.
+     * The graph is kept until a square is added or removed.
+     * @return The NavigationGraph of this mesh
+     */
+    public synchronized NavigationGraph getGraph() {
+        if (graph == null) {
+            graph = NavigationGraph.of(squares);
+        }
+        return graph;
+    }
+
+    /**
+     * Finds the square of this mesh containing a position (including its boundaries)
+     * @param position The position
+     * @return The square containing the position, or null if it is outside the mesh
+     */
+    public NavigationSquare findContainingSquare(Point2D position) {
+        return squareGrid.findContaining(position.getX(), position.getY());
+    }
+
+    /**
+     * Finds the square of this mesh closest to a position
+     * @param position The position
+     * @return The closest square, or null if the mesh has no squares
+     */
+    public NavigationSquare findClosestSquare(Point2D position) {
+        return squareGrid.findClosest(position.getX(), position.getY());
+    }
 }
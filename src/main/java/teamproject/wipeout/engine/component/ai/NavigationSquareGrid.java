@@ -0,0 +1,212 @@
+package teamproject.wipeout.engine.component.ai;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Spatial index of the squares of a NavigationMesh, for finding the square containing (or closest to) a point.
+ *
+ * The world is split into a uniform grid of square cells, and each cell stores the squares overlapping it, in the
+ * order they were added. Squares can be added and removed without rebuilding the grid, but must not be moved while
+ * they are in it.
+ */
+public class NavigationSquareGrid {
+
+    // A square may cover at most this many cells - the cell size is chosen so every square fits
+    public static final int MAX_SQUARE_CELLS = 1024;
+    private static final double DEFAULT_CELL_SIZE = 64;
+
+    private final HashMap<Long, List<NavigationSquare>> cells;
+    private final double cellSize;
+
+    // The cells any square has been added to (never shrinks when squares are removed)
+    private int minColumn;
+    private int minRow;
+    private int maxColumn;
+    private int maxRow;
+
+    /**
+     * Creates a new instance of NavigationSquareGrid containing a list of squares.
+     * The cell size is the average width and height of the squares, made larger if needed so every square fits.
+     * @param squares The squares to add
+     */
+    public NavigationSquareGrid(List<NavigationSquare> squares) {
+        this.cells = new HashMap<>();
+        this.minColumn = Integer.MAX_VALUE;
+        this.minRow = Integer.MAX_VALUE;
+        this.maxColumn = Integer.MIN_VALUE;
+        this.maxRow = Integer.MIN_VALUE;
+
+        double totalSize = 0;
+        double largestSize = 0;
+        for (NavigationSquare square : squares) {
+            double width = square.bottomRight.getX() - square.topLeft.getX();
+            double height = square.bottomRight.getY() - square.topLeft.getY();
+            totalSize += width + height;
+            largestSize = Math.max(largestSize, Math.max(width, height));
+        }
+
+        double cellSize = squares.isEmpty() ? DEFAULT_CELL_SIZE : totalSize / (2 * squares.size());
+        // A square covers one more cell than its size in cells on each axis, at most
+        cellSize = Math.max(cellSize, largestSize / (Math.sqrt(MAX_SQUARE_CELLS) - 1));
+        this.cellSize = cellSize > 0 ? cellSize : DEFAULT_CELL_SIZE;
+
+        for (NavigationSquare square : squares) {
+            this.add(square);
+        }
+    }
+
+    public double getCellSize() {
+        return this.cellSize;
+    }
+
+    /**
+     * Adds a square to every cell it overlaps, unless it would cover more than MAX_SQUARE_CELLS cells
+     * @param square The square to add
+     * @return Whether the square was added (if not, a new grid should be created)
+     */
+    public boolean add(NavigationSquare square) {
+        int firstColumn = this.toCell(square.topLeft.getX());
+        int lastColumn = this.toCell(square.bottomRight.getX());
+        int firstRow = this.toCell(square.topLeft.getY());
+        int lastRow = this.toCell(square.bottomRight.getY());
+        if ((long) (lastColumn - firstColumn + 1) * (lastRow - firstRow + 1) > MAX_SQUARE_CELLS) {
+            return false;
+        }
+
+        for (int column = firstColumn; column <= lastColumn; column++) {
+            for (int row = firstRow; row <= lastRow; row++) {
+                this.cells.computeIfAbsent(key(column, row), (key) -> new ArrayList<>(4)).add(square);
+            }
+        }
+
+        this.minColumn = Math.min(this.minColumn, firstColumn);
+        this.minRow = Math.min(this.minRow, firstRow);
+        this.maxColumn = Math.max(this.maxColumn, lastColumn);
+        this.maxRow = Math.max(this.maxRow, lastRow);
+        return true;
+    }
+
+    /**
+     * Removes a square from every cell it overlaps
+     * @param square The square to remove
+     * @return Whether the square was in the grid
+     */
+    public boolean remove(NavigationSquare square) {
+        int firstColumn = this.toCell(square.topLeft.getX());
+        int lastColumn = this.toCell(square.bottomRight.getX());
+        int firstRow = this.toCell(square.topLeft.getY());
+        int lastRow = this.toCell(square.bottomRight.getY());
+
+        boolean removed = false;
+        for (int column = firstColumn; column <= lastColumn; column++) {
+            for (int row = firstRow; row <= lastRow; row++) {
+                long key = key(column, row);
+                List<NavigationSquare> cell = this.cells.get(key);
+                if (cell != null && cell.remove(square)) {
+                    removed = true;
+                    if (cell.isEmpty()) {
+                        this.cells.remove(key);
+                    }
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Finds a square containing a point (including its boundaries) - the first added, if there are several
+     * @param x The x coordinate of the point
+     * @param y The y coordinate of the point
+     * @return The square, or null if no square contains the point
+     */
+    public NavigationSquare findContaining(double x, double y) {
+        List<NavigationSquare> cell = this.cells.get(key(this.toCell(x), this.toCell(y)));
+        if (cell == null) {
+            return null;
+        }
+
+        for (int i = 0; i < cell.size(); i++) {
+            NavigationSquare square = cell.get(i);
+            if (square.topLeft.getX() <= x && x <= square.bottomRight.getX() && square.topLeft.getY() <= y && y <= square.bottomRight.getY()) {
+                return square;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the square closest to a point, searching outwards from the point's cell one ring of cells at a time
+     * @param x The x coordinate of the point
+     * @param y The y coordinate of the point
+     * @return The closest square, or null if the grid is empty
+     */
+    public NavigationSquare findClosest(double x, double y) {
+        if (this.cells.isEmpty()) {
+            return null;
+        }
+
+        int column = this.toCell(x);
+        int row = this.toCell(y);
+
+        // Rings closer than this don't overlap any cell a square has been added to
+        int firstRing = Math.max(Math.max(this.minColumn - column, column - this.maxColumn), Math.max(this.minRow - row, row - this.maxRow));
+        int lastRing = Math.max(Math.max(column - this.minColumn, this.maxColumn - column), Math.max(row - this.minRow, this.maxRow - row));
+
+        NavigationSquare closest = null;
+        double closestDistance = Double.POSITIVE_INFINITY;
+        for (int ring = Math.max(firstRing, 0); ring <= lastRing; ring++) {
+            // Squares first found in this ring are at least (ring - 1) cells away
+            if (closest != null && (ring - 1) * this.cellSize > closestDistance) {
+                break;
+            }
+
+            for (int r = Math.max(row - ring, this.minRow); r <= Math.min(row + ring, this.maxRow); r++) {
+                // Every cell of the first and last rows of the ring, and only the first and last cells of the rows between
+                boolean edgeRow = r == row - ring || r == row + ring;
+                int firstColumn = edgeRow ? Math.max(column - ring, this.minColumn) : column - ring;
+                int lastColumn = edgeRow ? Math.min(column + ring, this.maxColumn) : column + ring;
+                int step = edgeRow ? 1 : 2 * ring;
+
+                for (int c = firstColumn; c <= lastColumn; c += step) {
+                    List<NavigationSquare> cell = this.cells.get(key(c, r));
+                    if (cell == null) {
+                        continue;
+                    }
+
+                    for (int i = 0; i < cell.size(); i++) {
+                        NavigationSquare square = cell.get(i);
+                        double distance = distance(square, x, y);
+                        if (distance < closestDistance) {
+                            closest = square;
+                            closestDistance = distance;
+                        }
+                    }
+                }
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Gets the distance from a point to the closest point of a square (0 if the square contains it)
+     * @param square The square
+     * @param x The x coordinate of the point
+     * @param y The y coordinate of the point
+     * @return The distance
+     */
+    public static double distance(NavigationSquare square, double x, double y) {
+        double dx = Math.max(Math.max(square.topLeft.getX() - x, x - square.bottomRight.getX()), 0);
+        double dy = Math.max(Math.max(square.topLeft.getY() - y, y - square.bottomRight.getY()), 0);
+        return Math.hypot(dx, dy);
+    }
+
+    private int toCell(double coordinate) {
+        return (int) Math.floor(coordinate / this.cellSize);
+    }
+
+    private static long key(int column, int row) {
+        return ((long) column << 32) | (row & 0xFFFFFFFFL);
+    }
+}
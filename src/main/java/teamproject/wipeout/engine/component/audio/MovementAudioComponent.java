@@ -11,7 +11,10 @@ public class MovementAudioComponent implements GameComponent{
 	
 	public MovementComponent moveComp;
 	public boolean playing;
+	// Opened the first time the sound plays, so entities can be created without an audio device (e.g. headless)
 	GameAudio audio;
+	private String fileName;
+	private double volume;
 	
 	/**
 	 * constructor
@@ -20,13 +23,18 @@ public class MovementAudioComponent implements GameComponent{
 	 */
 	public MovementAudioComponent(MovementComponent m, String fileName) {
 		this.moveComp = m;
-		audio = new GameAudio(fileName, true);
+		this.fileName = fileName;
+		this.volume = 0.05f;
 	}
 	
 	/**
 	 * called to play sound
 	 */
 	public void playSound() {
+		if (audio == null) {
+			audio = new GameAudio(fileName, true);
+			audio.setVolume(volume);
+		}
 		audio.play();
 		playing = true;
 		
@@ -36,7 +44,9 @@ public class MovementAudioComponent implements GameComponent{
 	 * called to stop sound
 	 */
 	public void stop() {
-		audio.stop();
+		if (audio != null) {
+			audio.stop();
+		}
 		playing = false;
 	}
 	
@@ -45,7 +55,10 @@ public class MovementAudioComponent implements GameComponent{
 	 * @param volume - volume to set effect to
 	 */
 	public void setVolume(double volume) {
-    	audio.setVolume(volume);
+		this.volume = volume;
+		if (audio != null) {
+			audio.setVolume(volume);
+		}
     }
     
     /**
@@ -53,7 +66,7 @@ public class MovementAudioComponent implements GameComponent{
      * @return a double value between 0.0 (inaudible) and 1.0 (full volume).
      */
     public double getVolume() {
-    	return audio.getVolume();
+    	return audio == null ? volume : audio.getVolume();
     }
 	
 	/**
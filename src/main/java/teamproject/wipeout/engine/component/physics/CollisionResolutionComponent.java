@@ -5,13 +5,11 @@ import javafx.util.Pair;
 import teamproject.wipeout.engine.component.GameComponent;
 import teamproject.wipeout.engine.component.Transform;
 import teamproject.wipeout.engine.component.shape.Shape;
+import teamproject.wipeout.engine.core.TimerWheel;
 import teamproject.wipeout.engine.entity.GameEntity;
 import teamproject.wipeout.game.player.AIPlayer;
 
 import java.util.ArrayList;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -30,7 +28,8 @@ public class CollisionResolutionComponent implements GameComponent {
 	private int timeMultiplier;
 
 	private final Function<Point2D, Consumer<Pair<Integer, Runnable>>> onCollision;
-	private final ScheduledExecutorService avoidanceExecutorService;
+	// The avoidance task waiting to run in the scene's timer wheel, or null
+	private TimerWheel.Timeout avoidanceTimeout;
 
 	public CollisionResolutionComponent() {
 		this.isMoveable = true;
@@ -39,7 +38,6 @@ public class CollisionResolutionComponent implements GameComponent {
 		this.timeMultiplier = 0;
 
 		this.onCollision = null;
-		this.avoidanceExecutorService = null;
 	}
 
 	public CollisionResolutionComponent(boolean isMoveable, Function<Point2D, Consumer<Pair<Integer, Runnable>>> onCollision) {
@@ -49,12 +47,12 @@ public class CollisionResolutionComponent implements GameComponent {
 		this.timeMultiplier = 1;
 
 		this.onCollision = onCollision;
-		this.avoidanceExecutorService = Executors.newSingleThreadScheduledExecutor();
 	}
 
 	public void cleanup() {
-		if (this.avoidanceExecutorService != null) {
-			this.avoidanceExecutorService.shutdown();
+		if (this.avoidanceTimeout != null) {
+			this.avoidanceTimeout.cancel();
+			this.avoidanceTimeout = null;
 		}
 	}
 
@@ -62,6 +60,15 @@ public class CollisionResolutionComponent implements GameComponent {
 		return "collisionResolution";
 	}
 
+	/**
+	 * Gets whether this entity is affected by collisions.
+	 * Entities that aren't are treated as static colliders, which are assumed never to move.
+	 * @return true if moveable, otherwise false
+	 */
+	public boolean isMoveable() {
+		return this.isMoveable;
+	}
+
 	public void resetControlVariables() {
 		this.deactivateOnCollision = false;
 		this.timeMultiplier = 1;
@@ -75,7 +82,22 @@ public class CollisionResolutionComponent implements GameComponent {
 	 */
 	public static void resolveCollision(GameEntity g1, GameEntity g2, ArrayList<Pair<Shape, Shape>> p) {
 		for (Pair<Shape, Shape> shapePair : p) {
-			resolveCollision(g1, g2, shapePair);
+			Point2D resolutionVector = GeometryUtil.getResolutionVector(shapePair.getKey(), shapePair.getValue());
+			if (resolutionVector != null) {
+				resolveCollision(g1, g2, resolutionVector.getX(), resolutionVector.getY());
+			}
+		}
+	}
+
+	/**
+	 * Resolves each contact found between two game entities by HitboxComponent.collides, without allocating
+	 * @param g1 first game entity
+	 * @param g2 second game entity
+	 * @param contacts contacts between the two entities' hitboxes
+	 */
+	public static void resolveCollision(GameEntity g1, GameEntity g2, ContactBuffer contacts) {
+		for (int i = 0; i < contacts.size(); i++) {
+			resolveCollision(g1, g2, contacts.getResolutionX(i), contacts.getResolutionY(i));
 		}
 	}
     
@@ -83,14 +105,10 @@ public class CollisionResolutionComponent implements GameComponent {
 	 * Resolves one collision of a pair of colliding shapes between two game entities
 	 * @param g1
 	 * @param g2
-	 * @param p Pairs of shapes belonging to the two entities that collided.
+	 * @param resolutionX x component of the vector that moves g1's shape out of g2's
+	 * @param resolutionY y component of the vector that moves g1's shape out of g2's
 	 */
-    private static void resolveCollision(GameEntity g1, GameEntity g2, Pair<Shape, Shape> p) {
-    	Point2D resolutionVector = GeometryUtil.getResolutionVector(p.getKey(), p.getValue());
-    	if (resolutionVector == null) {
-    		return;
-    	}
-
+    private static void resolveCollision(GameEntity g1, GameEntity g2, double resolutionX, double resolutionY) {
     	Transform t1 = g1.getComponent(Transform.class);
     	CollisionResolutionComponent c1 = g1.getComponent(CollisionResolutionComponent.class);
     	
@@ -100,51 +118,59 @@ public class CollisionResolutionComponent implements GameComponent {
     	
     	if (c1.isMoveable) {
         	if (c2.isMoveable) {
-        		t1.setPosition(t1.getPosition().add(resolutionVector.multiply(0.5)));
-        		t2.setPosition(t2.getPosition().add(resolutionVector.multiply(-0.5)));
-				processOnCollision(c2, resolutionVector);
+        		t1.translate(resolutionX * 0.5, resolutionY * 0.5);
+        		t2.translate(resolutionX * -0.5, resolutionY * -0.5);
+				processOnCollision(g2, c2, resolutionX, resolutionY);
 
         	} else {
-        		t1.setPosition(t1.getPosition().add(resolutionVector));
+        		t1.translate(resolutionX, resolutionY);
         	}
-			processOnCollision(c1, resolutionVector);
+			processOnCollision(g1, c1, resolutionX, resolutionY);
 
     	} else if (c2.isMoveable) {
-    		t2.setPosition(t2.getPosition().add(resolutionVector.multiply(-1)));
-    		processOnCollision(c2, resolutionVector);
+    		t2.translate(-resolutionX, -resolutionY);
+    		processOnCollision(g2, c2, resolutionX, resolutionY);
     	}
     }
 
-    private static void processOnCollision(CollisionResolutionComponent c, Point2D resolutionVector) {
-		if (c.onCollision != null && !c.deactivateOnCollision) {
+	/**
+	 * Starts an entity's collision avoidance, and schedules it to end after a delay in the scene's game time
+	 * @param g the entity that collided
+	 * @param c the entity's collision resolution component
+	 * @param resolutionX x component of the resolution vector
+	 * @param resolutionY y component of the resolution vector
+	 */
+    private static void processOnCollision(GameEntity g, CollisionResolutionComponent c, double resolutionX, double resolutionY) {
+		if (c.onCollision != null && !c.deactivateOnCollision && g.getScene() != null) {
 			c.deactivateOnCollision = true;
-			Consumer<Pair<Integer, Runnable>> task = c.onCollision.apply(editVector(resolutionVector));
+			Consumer<Pair<Integer, Runnable>> task = c.onCollision.apply(editVector(resolutionX, resolutionY));
 
-			long delay = AIPlayer.COLLISION_RESOLUTION_TIME * c.timeMultiplier;
+			double delay = AIPlayer.COLLISION_RESOLUTION_TIME * c.timeMultiplier / 1000.0;
 			c.timeMultiplier += 1;
 
 			Runnable blockingTask = () -> {
+				c.avoidanceTimeout = null;
 				c.deactivateOnCollision = false;
 				Runnable resetMultiplier = () -> c.timeMultiplier = 1;
 				task.accept(new Pair<Integer, Runnable>(c.timeMultiplier, resetMultiplier));
 			};
 
-			c.avoidanceExecutorService.schedule(blockingTask, delay, TimeUnit.MILLISECONDS);
+			c.avoidanceTimeout = g.getScene().getTimerWheel().schedule(delay, blockingTask);
 		}
 	}
 
-	private static Point2D editVector(Point2D vector) {
+	private static Point2D editVector(double x, double y) {
 		int vectorX = 0;
-		if (vector.getX() > 0.0) {
+		if (x > 0.0) {
 			vectorX = 1;
-		} else if (vector.getX() < 0.0) {
+		} else if (x < 0.0) {
 			vectorX = -1;
 		}
 
 		int vectorY = 0;
-		if (vector.getY() > 0.0) {
+		if (y > 0.0) {
 			vectorY = 1;
-		} else if (vector.getY() < 0.0) {
+		} else if (y < 0.0) {
 			vectorY = -1;
 		}
 
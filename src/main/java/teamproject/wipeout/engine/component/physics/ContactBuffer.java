@@ -0,0 +1,74 @@
+package teamproject.wipeout.engine.component.physics;
+
+import java.util.Arrays;
+
+/**
+ * Reusable list of contacts found by the narrow phase (see HitboxComponent.collides and GeometryUtil.collide).
+ * Each contact is a pair of colliding hitboxes and the vector that moves the first one out of the second.
+ * Storage is kept between uses, so filling the buffer doesn't allocate once it is big enough.
+ */
+public class ContactBuffer {
+
+	private int[] firstHitbox;
+	private int[] secondHitbox;
+	private double[] resolutionX;
+	private double[] resolutionY;
+	private int size;
+
+	public ContactBuffer() {
+		this.firstHitbox = new int[4];
+		this.secondHitbox = new int[4];
+		this.resolutionX = new double[4];
+		this.resolutionY = new double[4];
+	}
+
+	/**
+	 * Removes all contacts
+	 */
+	public void clear() {
+		this.size = 0;
+	}
+
+	/**
+	 * Adds a contact
+	 * @param first index of the first entity's hitbox
+	 * @param second index of the second entity's hitbox
+	 * @param x x component of the resolution vector
+	 * @param y y component of the resolution vector
+	 */
+	public void add(int first, int second, double x, double y) {
+		if (this.size == this.firstHitbox.length) {
+			int capacity = this.size * 2;
+			this.firstHitbox = Arrays.copyOf(this.firstHitbox, capacity);
+			this.secondHitbox = Arrays.copyOf(this.secondHitbox, capacity);
+			this.resolutionX = Arrays.copyOf(this.resolutionX, capacity);
+			this.resolutionY = Arrays.copyOf(this.resolutionY, capacity);
+		}
+
+		this.firstHitbox[this.size] = first;
+		this.secondHitbox[this.size] = second;
+		this.resolutionX[this.size] = x;
+		this.resolutionY[this.size] = y;
+		this.size++;
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	public int getFirstHitbox(int contact) {
+		return this.firstHitbox[contact];
+	}
+
+	public int getSecondHitbox(int contact) {
+		return this.secondHitbox[contact];
+	}
+
+	public double getResolutionX(int contact) {
+		return this.resolutionX[contact];
+	}
+
+	public double getResolutionY(int contact) {
+		return this.resolutionY[contact];
+	}
+}
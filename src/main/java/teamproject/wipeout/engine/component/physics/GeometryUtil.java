@@ -444,6 +444,311 @@ public class GeometryUtil
 		return null;
 		
 	}
+
+	/**
+	 * Checks whether two hitboxes intersect and, if they do, adds a contact with their resolution vector.
+	 * Works on the shapes' coordinates plus an offset for each, so no translated copies of the shapes are created.
+	 * Gives the same results as intersects and getResolutionVector on shapes moved by the offsets.
+	 * @param s1 first shape
+	 * @param x1 x offset of the first shape (e.g. its entity's world position)
+	 * @param y1 y offset of the first shape
+	 * @param s2 second shape
+	 * @param x2 x offset of the second shape
+	 * @param y2 y offset of the second shape
+	 * @param contacts buffer to add the contact to
+	 * @param first index of the first shape, stored with the contact
+	 * @param second index of the second shape, stored with the contact
+	 * @return true if the shapes collide, false otherwise
+	 */
+	public static boolean collide(Shape s1, double x1, double y1, Shape s2, double x2, double y2, ContactBuffer contacts, int first, int second) {
+		if (s1 instanceof Rectangle) {
+			Rectangle r1 = (Rectangle) s1;
+			double left1 = r1.getX() + x1;
+			double top1 = r1.getY() + y1;
+			if (s2 instanceof Rectangle) {
+				Rectangle r2 = (Rectangle) s2;
+				return collideRectangles(left1, top1, r1.getWidth(), r1.getHeight(), r2.getX() + x2, r2.getY() + y2, r2.getWidth(), r2.getHeight(), contacts, first, second);
+			}
+			else if (s2 instanceof Circle) {
+				Circle c2 = (Circle) s2;
+				return collideRectangleCircle(left1, top1, r1.getWidth(), r1.getHeight(), c2.getCentreX() + x2, c2.getCentreY() + y2, c2.getRadius(), contacts, first, second);
+			}
+		}
+		else if (s1 instanceof Circle) {
+			Circle c1 = (Circle) s1;
+			double centreX1 = c1.getCentreX() + x1;
+			double centreY1 = c1.getCentreY() + y1;
+			if (s2 instanceof Rectangle) {
+				Rectangle r2 = (Rectangle) s2;
+				// Resolved from the rectangle's side, like getResolutionVector(Shape, Shape)
+				return collideRectangleCircle(r2.getX() + x2, r2.getY() + y2, r2.getWidth(), r2.getHeight(), centreX1, centreY1, c1.getRadius(), contacts, first, second);
+			}
+			else if (s2 instanceof Circle) {
+				Circle c2 = (Circle) s2;
+				return collideCircles(centreX1, centreY1, c1.getRadius(), c2.getCentreX() + x2, c2.getCentreY() + y2, c2.getRadius(), contacts, first, second);
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Checks whether two hitboxes intersect, without creating translated copies of the shapes
+	 * @param s1 first shape
+	 * @param x1 x offset of the first shape
+	 * @param y1 y offset of the first shape
+	 * @param s2 second shape
+	 * @param x2 x offset of the second shape
+	 * @param y2 y offset of the second shape
+	 * @return true if the shapes collide, false otherwise
+	 */
+	public static boolean intersects(Shape s1, double x1, double y1, Shape s2, double x2, double y2) {
+		return collide(s1, x1, y1, s2, x2, y2, null, 0, 0);
+	}
+
+	/**
+	 * Sweeps a moving box against a still box, to find when during the move they first touch.
+	 * Boxes that already overlap at the start of the move are not counted as a hit, as they are left to be resolved by collide.
+	 * @param minX1 left of the moving box at the start of the move
+	 * @param minY1 top of the moving box at the start of the move
+	 * @param maxX1 right of the moving box at the start of the move
+	 * @param maxY1 bottom of the moving box at the start of the move
+	 * @param dx horizontal distance moved
+	 * @param dy vertical distance moved
+	 * @param minX2 left of the still box
+	 * @param minY2 top of the still box
+	 * @param maxX2 right of the still box
+	 * @param maxY2 bottom of the still box
+	 * @param normal array of length 2 set to the unit normal of the face that was hit, or null
+	 * @return the fraction of the move at which the boxes touch, between 0 and 1, or 1 if they don't during the move
+	 */
+	public static double sweepAABB(double minX1, double minY1, double maxX1, double maxY1, double dx, double dy, double minX2, double minY2, double maxX2, double maxY2, double[] normal) {
+		double entryX;
+		double exitX;
+		if (dx == 0) {
+			if (maxX1 <= minX2 || minX1 >= maxX2) {
+				return 1;
+			}
+			entryX = Double.NEGATIVE_INFINITY;
+			exitX = Double.POSITIVE_INFINITY;
+		}
+		else if (dx > 0) {
+			entryX = (minX2 - maxX1) / dx;
+			exitX = (maxX2 - minX1) / dx;
+		}
+		else {
+			entryX = (maxX2 - minX1) / dx;
+			exitX = (minX2 - maxX1) / dx;
+		}
+
+		double entryY;
+		double exitY;
+		if (dy == 0) {
+			if (maxY1 <= minY2 || minY1 >= maxY2) {
+				return 1;
+			}
+			entryY = Double.NEGATIVE_INFINITY;
+			exitY = Double.POSITIVE_INFINITY;
+		}
+		else if (dy > 0) {
+			entryY = (minY2 - maxY1) / dy;
+			exitY = (maxY2 - minY1) / dy;
+		}
+		else {
+			entryY = (maxY2 - minY1) / dy;
+			exitY = (minY2 - maxY1) / dy;
+		}
+
+		double entry = Math.max(entryX, entryY);
+		double exit = Math.min(exitX, exitY);
+		if (entry < 0 || entry >= 1 || entry >= exit) {
+			return 1;
+		}
+
+		if (normal != null) {
+			if (entryX > entryY) {
+				normal[0] = -Math.signum(dx);
+				normal[1] = 0;
+			}
+			else {
+				normal[0] = 0;
+				normal[1] = -Math.signum(dy);
+			}
+		}
+		return entry;
+	}
+
+	private static boolean collideRectangles(double x1, double y1, double w1, double h1, double x2, double y2, double w2, double h2, ContactBuffer contacts, int first, int second) {
+		double right1 = x1 + w1;
+		double bottom1 = y1 + h1;
+		double right2 = x2 + w2;
+		double bottom2 = y2 + h2;
+
+		// Same test as intersects(Rectangle, Rectangle): a corner of one rectangle is inside the other
+		boolean intersects = containsCorner(x2, y2, right2, bottom2, x1, y1, right1, bottom1) || containsCorner(x1, y1, right1, bottom1, x2, y2, right2, bottom2);
+		if (!intersects) {
+			return false;
+		}
+		if (contacts == null) {
+			return true;
+		}
+
+		// Same as getResolutionVector(Rectangle, Rectangle), with the edge segment intersections done on the coordinates
+		boolean leftR2TopR1 = crosses(x2, y2, bottom2, y1, x1, right1);
+		boolean leftR2BottomR1 = crosses(x2, y2, bottom2, bottom1, x1, right1);
+		boolean rightR2TopR1 = crosses(right2, y2, bottom2, y1, x1, right1);
+		boolean rightR2BottomR1 = crosses(right2, y2, bottom2, bottom1, x1, right1);
+		boolean leftR1TopR2 = crosses(x1, y1, bottom1, y2, x2, right2);
+		boolean leftR1BottomR2 = crosses(x1, y1, bottom1, bottom2, x2, right2);
+		boolean rightR1TopR2 = crosses(right1, y1, bottom1, y2, x2, right2);
+		boolean rightR1BottomR2 = crosses(right1, y1, bottom1, bottom2, x2, right2);
+
+		boolean corner = (leftR2BottomR1 && rightR1TopR2) ||
+				(leftR1BottomR2 && rightR2TopR1) ||
+				(leftR2TopR1 && rightR1BottomR2) ||
+				(leftR1TopR2 && rightR2BottomR1);
+
+		double overlap = Double.MAX_VALUE;
+		double resolutionX = 0;
+		double resolutionY = 0;
+
+		if ((leftR2TopR1 && leftR2BottomR1) || (leftR1TopR2 && leftR1BottomR2) ||
+				(rightR2TopR1 && rightR2BottomR1) || (rightR1TopR2 && rightR1BottomR2) || corner) {
+			double i1 = Math.abs(right1 - x2);
+			double i2 = Math.abs(x1 - right2);
+			if (Math.abs(overlap) > i1) {
+				overlap = -i1;
+				resolutionX = overlap;
+			}
+			if (Math.abs(overlap) > i2) {
+				overlap = i2;
+				resolutionX = overlap;
+			}
+		}
+		if ((leftR1TopR2 && rightR1TopR2) || (leftR2TopR1 && rightR2TopR1) ||
+				(leftR2BottomR1 && rightR2BottomR1) || (leftR1BottomR2 && rightR1BottomR2) || corner) {
+			double i1 = Math.abs(bottom1 - y2);
+			double i2 = Math.abs(y1 - bottom2);
+			if (Math.abs(overlap) > i1) {
+				overlap = -i1;
+				resolutionX = 0;
+				resolutionY = overlap;
+			}
+			if (Math.abs(overlap) > i2) {
+				overlap = i2;
+				resolutionX = 0;
+				resolutionY = overlap;
+			}
+		}
+
+		contacts.add(first, second, resolutionX, resolutionY);
+		return true;
+	}
+
+	private static boolean collideRectangleCircle(double x, double y, double w, double h, double centreX, double centreY, double radius, ContactBuffer contacts, int first, int second) {
+		double right = x + w;
+		double bottom = y + h;
+
+		// Same test as intersects(Circle, Rectangle): the closest point of the rectangle is within the radius
+		double closestX = Math.max(x, Math.min(centreX, right));
+		double closestY = Math.max(y, Math.min(centreY, bottom));
+		double dx = centreX - closestX;
+		double dy = centreY - closestY;
+		if (dx * dx + dy * dy > radius * radius) {
+			return false;
+		}
+		if (contacts == null) {
+			return true;
+		}
+
+		// Same as getResolutionVector(Rectangle, Circle)
+		double minDistance = Double.MAX_VALUE;
+		double resolutionX = 0;
+		double resolutionY = 0;
+
+		double distanceToTop = distanceToHorizontalSegment(centreX, centreY, y, x, right) - radius;
+		if (distanceToTop <= minDistance) {
+			minDistance = distanceToTop;
+			resolutionX = 0;
+			resolutionY = minDistance;
+		}
+		double distanceToBottom = distanceToHorizontalSegment(centreX, centreY, bottom, x, right) - radius;
+		if (distanceToBottom <= minDistance) {
+			minDistance = distanceToBottom;
+			resolutionX = 0;
+			resolutionY = -minDistance;
+		}
+		double distanceToLeft = distanceToVerticalSegment(centreX, centreY, x, y, bottom) - radius;
+		if (distanceToLeft <= minDistance) {
+			minDistance = distanceToLeft;
+			resolutionX = minDistance;
+			resolutionY = 0;
+		}
+		double distanceToRight = distanceToVerticalSegment(centreX, centreY, right, y, bottom) - radius;
+		if (distanceToRight <= minDistance) {
+			minDistance = distanceToRight;
+			resolutionX = -minDistance;
+			resolutionY = 0;
+		}
+
+		contacts.add(first, second, resolutionX, resolutionY);
+		return true;
+	}
+
+	private static boolean collideCircles(double x1, double y1, double radius1, double x2, double y2, double radius2, ContactBuffer contacts, int first, int second) {
+		double dx = x1 - x2;
+		double dy = y1 - y2;
+		double distanceBetweenCentres = Math.sqrt(dx * dx + dy * dy);
+		double radiusSum = radius1 + radius2;
+		if (distanceBetweenCentres > radiusSum) {
+			return false;
+		}
+		if (contacts == null) {
+			return true;
+		}
+
+		// Same as getResolutionVector(Circle, Circle)
+		double resolutionX = 0;
+		double resolutionY = 0;
+		if (distanceBetweenCentres != 0) {
+			double scale = (radiusSum - distanceBetweenCentres) / distanceBetweenCentres;
+			resolutionX = dx * scale;
+			resolutionY = dy * scale;
+		}
+
+		contacts.add(first, second, resolutionX, resolutionY);
+		return true;
+	}
+
+	/**
+	 * Checks whether any corner of the second box is inside the first (inclusive of edges)
+	 */
+	private static boolean containsCorner(double left, double top, double right, double bottom, double cornerLeft, double cornerTop, double cornerRight, double cornerBottom) {
+		boolean leftInside = cornerLeft >= left && cornerLeft <= right;
+		boolean rightInside = cornerRight >= left && cornerRight <= right;
+		boolean topInside = cornerTop >= top && cornerTop <= bottom;
+		boolean bottomInside = cornerBottom >= top && cornerBottom <= bottom;
+		return (leftInside || rightInside) && (topInside || bottomInside);
+	}
+
+	/**
+	 * Checks whether a vertical segment and a horizontal segment intersect (inclusive of end points)
+	 */
+	private static boolean crosses(double verticalX, double verticalTop, double verticalBottom, double horizontalY, double horizontalLeft, double horizontalRight) {
+		return verticalX >= horizontalLeft && verticalX <= horizontalRight && horizontalY >= verticalTop && horizontalY <= verticalBottom;
+	}
+
+	private static double distanceToHorizontalSegment(double px, double py, double y, double left, double right) {
+		double dx = px - Math.max(left, Math.min(px, right));
+		double dy = py - y;
+		return Math.sqrt(dx * dx + dy * dy);
+	}
+
+	private static double distanceToVerticalSegment(double px, double py, double x, double top, double bottom) {
+		double dx = px - x;
+		double dy = py - Math.max(top, Math.min(py, bottom));
+		return Math.sqrt(dx * dx + dy * dy);
+	}
 }
 
 
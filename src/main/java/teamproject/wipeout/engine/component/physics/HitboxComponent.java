@@ -23,6 +23,12 @@ public class HitboxComponent implements GameComponent {
 	 * width and height of rectangle are the dimensions of the bounding box.
 	 */
 	private ArrayList<Shape> hitboxes = new ArrayList<Shape>();
+
+	// Box around all hitboxes, relative to the entity (see updateBounds)
+	private double boundsMinX;
+	private double boundsMinY;
+	private double boundsMaxX;
+	private double boundsMaxY;
 		
 	
 	//varargs constructor. See https://www.baeldung.com/java-varargs for info
@@ -66,6 +72,57 @@ public class HitboxComponent implements GameComponent {
     public String getType() {
         return "hitbox";
     }
+
+	/**
+	 * Recalculates the axis-aligned box around all hitboxes, relative to the entity.
+	 * Hitbox shapes can be edited in place, so this is recalculated each time it is needed rather than cached on change.
+	 * With no hitboxes, the box is empty (min is infinite and max is negative infinite).
+	 */
+	public void updateBounds() {
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+
+		for (int i = 0; i < this.hitboxes.size(); i++) {
+			Shape shape = this.hitboxes.get(i);
+			if (shape instanceof Rectangle) {
+				Rectangle r = (Rectangle) shape;
+				minX = Math.min(minX, r.getX());
+				minY = Math.min(minY, r.getY());
+				maxX = Math.max(maxX, r.getX() + r.getWidth());
+				maxY = Math.max(maxY, r.getY() + r.getHeight());
+			}
+			else if (shape instanceof Circle) {
+				Circle c = (Circle) shape;
+				minX = Math.min(minX, c.getCentreX() - c.getRadius());
+				minY = Math.min(minY, c.getCentreY() - c.getRadius());
+				maxX = Math.max(maxX, c.getCentreX() + c.getRadius());
+				maxY = Math.max(maxY, c.getCentreY() + c.getRadius());
+			}
+		}
+
+		this.boundsMinX = minX;
+		this.boundsMinY = minY;
+		this.boundsMaxX = maxX;
+		this.boundsMaxY = maxY;
+	}
+
+	public double getBoundsMinX() {
+		return this.boundsMinX;
+	}
+
+	public double getBoundsMinY() {
+		return this.boundsMinY;
+	}
+
+	public double getBoundsMaxX() {
+		return this.boundsMaxX;
+	}
+
+	public double getBoundsMaxY() {
+		return this.boundsMaxY;
+	}
     
     
 	/**
@@ -102,6 +159,36 @@ public class HitboxComponent implements GameComponent {
 
     }
     
+	/**
+	 * Finds all pairs of colliding hitboxes between two game entities, without allocating.
+	 * The hitboxes are tested at the entities' world positions rather than copied there.
+	 * @param g1 first game entity
+	 * @param g2 second game entity
+	 * @param contacts buffer that is cleared, then filled with a contact for each colliding pair of hitboxes
+	 * @return the number of contacts found
+	 */
+	public static int collides(GameEntity g1, GameEntity g2, ContactBuffer contacts) {
+		contacts.clear();
+
+		Transform t1 = g1.getComponent(Transform.class);
+		ArrayList<Shape> bb1 = g1.getComponent(HitboxComponent.class).hitboxes;
+		double x1 = t1.getWorldX();
+		double y1 = t1.getWorldY();
+
+		Transform t2 = g2.getComponent(Transform.class);
+		ArrayList<Shape> bb2 = g2.getComponent(HitboxComponent.class).hitboxes;
+		double x2 = t2.getWorldX();
+		double y2 = t2.getWorldY();
+
+		for (int i = 0; i < bb1.size(); i++) {
+			for (int j = 0; j < bb2.size(); j++) {
+				GeometryUtil.collide(bb1.get(i), x1, y1, bb2.get(j), x2, y2, contacts, i, j);
+			}
+		}
+
+		return contacts.size();
+	}
+
     /**
      * Checks whether two game entities collide
      * @param g1
@@ -109,10 +196,20 @@ public class HitboxComponent implements GameComponent {
      * @return true if entities collide, false otherwise
      */
     public static boolean checkCollides(GameEntity g1, GameEntity g2) {
-    	if(collides(g1,g2)==null) {
-    		return false;
-    	}
-    	return true;
+		Transform t1 = g1.getComponent(Transform.class);
+		ArrayList<Shape> bb1 = g1.getComponent(HitboxComponent.class).hitboxes;
+
+		Transform t2 = g2.getComponent(Transform.class);
+		ArrayList<Shape> bb2 = g2.getComponent(HitboxComponent.class).hitboxes;
+
+		for (int i = 0; i < bb1.size(); i++) {
+			for (int j = 0; j < bb2.size(); j++) {
+				if (GeometryUtil.intersects(bb1.get(i), t1.getWorldX(), t1.getWorldY(), bb2.get(j), t2.getWorldX(), t2.getWorldY())) {
+					return true;
+				}
+			}
+		}
+		return false;
     }
     
       
@@ -14,15 +14,15 @@ public class MovementComponent implements GameComponent {
 
     public static final double ZERO_VELOCITY_THRESHOLD = 25.0;
 
-    /**
-     * Point to represent the horizontal and vertical velocity respectively
-     */
-    public Point2D velocity;
+    // Horizontal and vertical velocity, kept as primitives so that updating them every step doesn't allocate
+    private double velocityX;
+    private double velocityY;
     public double velocityDecayRate = 0.95;
     /**
      * Point to represent the horizontal and vertical acceleration respectively
+     * (it only changes when steering or input changes, so it stays a Point2D)
      */
-    public Point2D acceleration;
+    public Point2D acceleration = Point2D.ZERO;
     public FacingDirection facingDirection;
     public BasicEvent<FacingDirection> facingDirectionChanged;
 
@@ -31,43 +31,47 @@ public class MovementComponent implements GameComponent {
 
     private double speedMultiplier = 1.0;
 
+    // Whether the CollisionSystem sweeps this entity's last move against static colliders, so it can't pass through them
+    private boolean continuousCollisionDetection;
+    // The distance moved in the last step
+    private double displacementX;
+    private double displacementY;
+
     public MovementComponent() {
         this.facingDirectionChanged = new BasicEvent<>();
-        this.velocity = Point2D.ZERO;
-        this.acceleration = Point2D.ZERO;
         this.facingDirection = FacingDirection.NONE;
     }
 
     public MovementComponent(Point2D velocity, Point2D acceleration) {
         this.facingDirectionChanged = new BasicEvent<>();
-        this.velocity = velocity;
-        this.acceleration = acceleration;
+        this.setVelocity(velocity);
+        this.setAcceleration(acceleration);
         this.facingDirection = FacingDirection.NONE;
         this.updateFacingDirection();
     }
 
     public MovementComponent(Point2D velocity, Point2D acceleration, double velocityDecayRate) {
         this.facingDirectionChanged = new BasicEvent<>();
-        this.velocity = velocity;
+        this.setVelocity(velocity);
         this.velocityDecayRate = velocityDecayRate;
-        this.acceleration = acceleration;
+        this.setAcceleration(acceleration);
         this.facingDirection = FacingDirection.NONE;
         this.updateFacingDirection();
     }
 
     public MovementComponent(float xVelocity, float yVelocity, float xAcceleration, float yAcceleration) {
         this.facingDirectionChanged = new BasicEvent<>();
-        this.velocity = new Point2D(xVelocity, yVelocity);
-        this.acceleration = new Point2D(xAcceleration, yAcceleration);
+        this.setVelocity(xVelocity, yVelocity);
+        this.setAcceleration(xAcceleration, yAcceleration);
         this.facingDirection = FacingDirection.NONE;
         this.updateFacingDirection();
     }
 
     public MovementComponent(float xVelocity, float yVelocity, float xAcceleration, float yAcceleration, double velocityDecayRate) {
         this.facingDirectionChanged = new BasicEvent<>();
-        this.velocity = new Point2D(xVelocity, yVelocity);
+        this.setVelocity(xVelocity, yVelocity);
         this.velocityDecayRate = velocityDecayRate;
-        this.acceleration = new Point2D(xAcceleration, yAcceleration);
+        this.setAcceleration(xAcceleration, yAcceleration);
         this.facingDirection = FacingDirection.NONE;
         this.updateFacingDirection();
     }
@@ -94,6 +98,103 @@ public class MovementComponent implements GameComponent {
         return this.speedMultiplier;
     }
 
+    /**
+     * Gets the velocity as a new Point2D (use getVelocityX and getVelocityY to avoid allocating)
+     * @return The horizontal and vertical velocity respectively
+     */
+    public Point2D getVelocity() {
+        return new Point2D(this.velocityX, this.velocityY);
+    }
+
+    public double getVelocityX() {
+        return this.velocityX;
+    }
+
+    public double getVelocityY() {
+        return this.velocityY;
+    }
+
+    public void setVelocity(Point2D velocity) {
+        this.setVelocity(velocity.getX(), velocity.getY());
+    }
+
+    public void setVelocity(double x, double y) {
+        this.velocityX = x;
+        this.velocityY = y;
+    }
+
+    public Point2D getAcceleration() {
+        return this.acceleration;
+    }
+
+    public double getAccelerationX() {
+        return this.acceleration.getX();
+    }
+
+    public double getAccelerationY() {
+        return this.acceleration.getY();
+    }
+
+    public void setAcceleration(Point2D acceleration) {
+        this.acceleration = acceleration;
+    }
+
+    /**
+     * Sets the acceleration, only creating a new Point2D if it has changed
+     * @param x The horizontal acceleration
+     * @param y The vertical acceleration
+     */
+    public void setAcceleration(double x, double y) {
+        if (x == 0 && y == 0) {
+            this.acceleration = Point2D.ZERO;
+        }
+        else if (x != this.acceleration.getX() || y != this.acceleration.getY()) {
+            this.acceleration = new Point2D(x, y);
+        }
+    }
+
+    /**
+     * Checks whether the velocity is non-zero
+     * @return true if moving, otherwise false
+     */
+    public boolean isMoving() {
+        return this.velocityX != 0 || this.velocityY != 0;
+    }
+
+    /**
+     * Sets whether the CollisionSystem should sweep this entity's moves against static colliders.
+     * This stops fast entities from passing through thin colliders between steps, at the cost of a sweep each step.
+     * @param continuousCollisionDetection true to enable continuous collision detection, otherwise false
+     */
+    public void setContinuousCollisionDetection(boolean continuousCollisionDetection) {
+        this.continuousCollisionDetection = continuousCollisionDetection;
+    }
+
+    public boolean isContinuousCollisionDetection() {
+        return this.continuousCollisionDetection;
+    }
+
+    /**
+     * Gets the horizontal distance moved in the last step, set by the MovementSystem
+     * @return The horizontal displacement
+     */
+    public double getDisplacementX() {
+        return this.displacementX;
+    }
+
+    /**
+     * Gets the vertical distance moved in the last step, set by the MovementSystem
+     * @return The vertical displacement
+     */
+    public double getDisplacementY() {
+        return this.displacementY;
+    }
+
+    public void setDisplacement(double x, double y) {
+        this.displacementX = x;
+        this.displacementY = y;
+    }
+
     /** Update the facing diection every timestep, based on velocity */
     public void updateFacingDirection() {
         double x = this.acceleration.getX();
@@ -115,7 +216,7 @@ public class MovementComponent implements GameComponent {
                 this.facingDirection = FacingDirection.DOWN;
             }
         }
-        else if (this.velocity.getX() == 0 && this.velocity.getY() == 0) {
+        else if (!this.isMoving()) {
             this.facingDirection = FacingDirection.NONE;
         }
 
@@ -129,7 +230,9 @@ public class MovementComponent implements GameComponent {
      * @param timestep each timestep when the velocity should get updated
      */
     public void updateVelocity(Double timestep){
-        this.velocity = this.velocity.add(this.acceleration.multiply(timestep * this.speedMultiplier));
+        double accelerationScale = timestep * this.speedMultiplier;
+        this.velocityX += this.acceleration.getX() * accelerationScale;
+        this.velocityY += this.acceleration.getY() * accelerationScale;
         this.decayVelocity(timestep);
         this.capVelocity();
     }
@@ -140,20 +243,18 @@ public class MovementComponent implements GameComponent {
      */
     public void decayVelocity(Double timestep){
         double decay_rate = 1f - Math.min(timestep, 1f);
-        this.velocity = this.velocity.multiply(decay_rate * velocityDecayRate);
+        this.velocityX *= decay_rate * velocityDecayRate;
+        this.velocityY *= decay_rate * velocityDecayRate;
     }
 
     /** Cap is making sure that the speed of the object won't become too long with time */
     public void capVelocity(){
-        double xVelocity = this.velocity.getX();
-        double yVelocity = this.velocity.getY();
-        if (this.acceleration.getX() == 0 && Math.abs(xVelocity) < ZERO_VELOCITY_THRESHOLD){
-            xVelocity = 0.0;
+        if (this.acceleration.getX() == 0 && Math.abs(this.velocityX) < ZERO_VELOCITY_THRESHOLD){
+            this.velocityX = 0.0;
         }
-        if (this.acceleration.getY() == 0 && Math.abs(yVelocity) < ZERO_VELOCITY_THRESHOLD){
-            yVelocity = 0.0;
+        if (this.acceleration.getY() == 0 && Math.abs(this.velocityY) < ZERO_VELOCITY_THRESHOLD){
+            this.velocityY = 0.0;
         }
-        this.velocity = new Point2D(xVelocity, yVelocity);
     }
 
     public String getType() {
@@ -2,16 +2,18 @@ package teamproject.wipeout.engine.component.render;
 
 import javafx.geometry.Point2D;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 
 /**
- * Renderable to display a sequence of sprite frames at a certain framerate
+ * Renderable to display a sequence of sprite frames (regions of an atlas image) at a certain framerate
  */
 public class AnimatedSpriteRenderable implements Renderable {
 
+    // Fraction of every animation's frame rate shown, lowered to save rendering time
+    private static volatile double animationRateMultiplier = 1;
+
     public Point2D spriteScale;
     
-    protected Image[] frames;
+    protected SpriteRegion[] frames;
     protected int framesPerSecond;
 
     protected double secondsPerFrame;
@@ -21,10 +23,10 @@ public class AnimatedSpriteRenderable implements Renderable {
     /**
      * Creates a new instance of AnimatedSpriteRenderable
      * 
-     * @param frames The images to display, in order
+     * @param frames The sprite regions to display, in order
      * @param framesPerSecond The number of images to display per second
      */
-    public AnimatedSpriteRenderable(Image[] frames, int framesPerSecond) {
+    public AnimatedSpriteRenderable(SpriteRegion[] frames, int framesPerSecond) {
         this.setFrames(frames);
         this.setFPS(framesPerSecond);
 
@@ -36,11 +38,11 @@ public class AnimatedSpriteRenderable implements Renderable {
     /**
      * Creates a new instance of AnimatedSpriteRenderable
      * 
-     * @param frames The images to display, in order
+     * @param frames The sprite regions to display, in order
      * @param framesPerSecond The number of images to display per second
-     * @param scale The scale to display the images at
+     * @param scale The scale to display the frames at
      */
-    public AnimatedSpriteRenderable(Image[] frames, int framesPerSecond, double scale) {
+    public AnimatedSpriteRenderable(SpriteRegion[] frames, int framesPerSecond, double scale) {
         this(frames, framesPerSecond);
 
         this.spriteScale = new Point2D(scale, scale);
@@ -49,12 +51,12 @@ public class AnimatedSpriteRenderable implements Renderable {
     /**
      * Creates a new instance of AnimatedSpriteRenderable
      * 
-     * @param frames The images to display, in order
+     * @param frames The sprite regions to display, in order
      * @param framesPerSecond The number of images to display per second
      * @param scaleX The scale to display the image width at
      * @param scaleY The scale to display the image height at
      */
-    public AnimatedSpriteRenderable(Image[] frames, int framesPerSecond, double scaleX, double scaleY) {
+    public AnimatedSpriteRenderable(SpriteRegion[] frames, int framesPerSecond, double scaleX, double scaleY) {
         this(frames, framesPerSecond);
 
         this.spriteScale = new Point2D(scaleX, scaleY);
@@ -63,9 +65,9 @@ public class AnimatedSpriteRenderable implements Renderable {
     /**
      * Changes the frames this object is displaying
      * 
-     * @param newFrames The new images to display
+     * @param newFrames The new sprite regions to display
      */
-    public void setFrames(Image[] newFrames) {
+    public void setFrames(SpriteRegion[] newFrames) {
         this.frames = newFrames;
         this.currentFrame = 0;
     }
@@ -90,26 +92,53 @@ public class AnimatedSpriteRenderable implements Renderable {
     }
 
     public double getWidth() {
-        return this.frames[this.currentFrame].getWidth() * this.spriteScale.getX();
+        return this.frames[this.currentFrame].width * this.spriteScale.getX();
     }
 
     public double getHeight() {
-        return this.frames[this.currentFrame].getHeight() * this.spriteScale.getY();
+        return this.frames[this.currentFrame].height * this.spriteScale.getY();
+    }
+
+    public SpriteRegion getSprite() {
+        if (this.frames == null) {
+            return null;
+        }
+        this.updateCurrentFrame();
+        return this.frames[this.currentFrame];
     }
 
     public void render(GraphicsContext gc, double x, double y, double scale) {
+        this.updateCurrentFrame();
+
+        if (this.frames != null) {
+            SpriteRegion sprite = this.frames[this.currentFrame];
+            sprite.draw(gc, x * scale, y * scale, sprite.width * scale * this.spriteScale.getX(), sprite.height * scale * this.spriteScale.getY());
+        }
+    }
+
+    /**
+     * Sets the fraction of every animation's frame rate to show - animations keep the same speed, but skip frames
+     * @param multiplier The fraction to show (0-1)
+     */
+    public static void setAnimationRateMultiplier(double multiplier) {
+        animationRateMultiplier = multiplier;
+    }
+
+    public static double getAnimationRateMultiplier() {
+        return animationRateMultiplier;
+    }
+
+    /**
+     * Moves on to the frame that should be displayed at the current time
+     */
+    private void updateCurrentFrame() {
         double currentTime = System.nanoTime() / 1000000000.0;
         double timeSinceLastFrameChange = currentTime - this.lastFrameTime;
 
-        if (timeSinceLastFrameChange > this.secondsPerFrame) {
+        if (timeSinceLastFrameChange > this.secondsPerFrame / animationRateMultiplier) {
             // Skip to current frame
             this.currentFrame = (this.currentFrame + (int) (timeSinceLastFrameChange / this.secondsPerFrame)) % this.frames.length;
             this.lastFrameTime = currentTime;
         }
-
-        if (this.frames != null) {
-            Image sprite = this.frames[this.currentFrame];
-            gc.drawImage(sprite, x * scale, y * scale, sprite.getWidth() * scale * this.spriteScale.getX(), sprite.getHeight() * scale * this.spriteScale.getY());
-        }
     }
 }
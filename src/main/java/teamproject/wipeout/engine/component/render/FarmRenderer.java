@@ -2,7 +2,6 @@ package teamproject.wipeout.engine.component.render;
 
 import javafx.geometry.Point2D;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import teamproject.wipeout.game.assetmanagement.SpriteManager;
 import teamproject.wipeout.game.farm.entity.FarmEntity;
 
@@ -75,49 +74,49 @@ public class FarmRenderer implements Renderable {
 
         // Render top row
         double topX = farmStartX;
-        gc.drawImage(this.getFarmTile("top-left"), topX, farmStartY, spriteWidth, spriteHeight);
-        Image top = this.getFarmTile("top");
+        this.drawTile(gc, this.getFarmTile("top-left"), topX, farmStartY, spriteWidth, spriteHeight);
+        SpriteRegion top = this.getFarmTile("top");
         for (topX += spriteWidth; topX < farmEndX - spriteWidth; topX += spriteWidth) {
-            gc.drawImage(top, topX, farmStartY, spriteWidth, spriteHeight);
+            this.drawTile(gc, top, topX, farmStartY, spriteWidth, spriteHeight);
         }
-        gc.drawImage(this.getFarmTile("top-right"), topX, farmStartY, spriteWidth, spriteHeight);
+        this.drawTile(gc, this.getFarmTile("top-right"), topX, farmStartY, spriteWidth, spriteHeight);
 
         // Render centre rows
-        Image left = this.getFarmTile("centre-left");
-        Image centre = this.getFarmTile("centre");
-        Image right = this.getFarmTile("centre-right");
+        SpriteRegion left = this.getFarmTile("centre-left");
+        SpriteRegion centre = this.getFarmTile("centre");
+        SpriteRegion right = this.getFarmTile("centre-right");
         double centerY = y * scale;
         for (centerY += spriteHeight; centerY < farmEndY - spriteHeight; centerY += spriteHeight) {
             double centerX = x * scale;
-            gc.drawImage(left, centerX, centerY, spriteWidth, spriteHeight);
+            this.drawTile(gc, left, centerX, centerY, spriteWidth, spriteHeight);
 
             for (centerX += spriteWidth; centerX < farmEndX - spriteWidth; centerX += spriteWidth) {
-                gc.drawImage(centre, centerX, centerY, spriteWidth, spriteHeight);
+                this.drawTile(gc, centre, centerX, centerY, spriteWidth, spriteHeight);
             }
 
-            gc.drawImage(right, centerX, centerY, spriteWidth, spriteHeight);
+            this.drawTile(gc, right, centerX, centerY, spriteWidth, spriteHeight);
         }
 
         // Render bottom row
         double bottomX = x * scale;
         double bottomY = centerY;
-        gc.drawImage(this.getFarmTile("bottom-left"), bottomX, bottomY, spriteWidth, spriteHeight);
-        Image bottom = this.getFarmTile("bottom");
+        this.drawTile(gc, this.getFarmTile("bottom-left"), bottomX, bottomY, spriteWidth, spriteHeight);
+        SpriteRegion bottom = this.getFarmTile("bottom");
         for (bottomX += spriteWidth; bottomX < farmEndX - spriteWidth; bottomX += spriteWidth) {
-            gc.drawImage(bottom, bottomX, bottomY, spriteWidth, spriteHeight);
+            this.drawTile(gc, bottom, bottomX, bottomY, spriteWidth, spriteHeight);
         }
-        gc.drawImage(this.getFarmTile("bottom-right"), bottomX, bottomY, spriteWidth, spriteHeight);
+        this.drawTile(gc, this.getFarmTile("bottom-right"), bottomX, bottomY, spriteWidth, spriteHeight);
     }
 
     /**
      * Returns an appropriate farm-soil sprite for the given tile name.
      *
      * @param tile Sprite tile name
-     * @return {@code Image} sprite for the given tile name, or {@code null} if the sprite does not exist
+     * @return {@link SpriteRegion} sprite for the given tile name, or {@code null} if the sprite does not exist
      */
-    protected Image getFarmTile(String tile) {
+    protected SpriteRegion getFarmTile(String tile) {
         try {
-            return this.spriteManager.getSpriteSet("soil", tile)[0];
+            return this.spriteManager.getSpriteRegions("soil", tile)[0];
 
         } catch (IOException exception) {
             exception.printStackTrace();
@@ -126,4 +125,10 @@ public class FarmRenderer implements Renderable {
         return null;
     }
 
+    private void drawTile(GraphicsContext gc, SpriteRegion tile, double x, double y, double width, double height) {
+        if (tile != null) {
+            tile.draw(gc, x, y, width, height);
+        }
+    }
+
 }
@@ -16,6 +16,8 @@ public class RenderComponent implements GameComponent {
     public Point2D offset = Point2D.ZERO;
 
     private boolean isStatic = false;
+    // Set when a static entity's appearance or bounds change, so the renderer draws it again
+    private boolean dirty = false;
     
     private ArrayList<Renderable> renderables;
 
@@ -24,6 +26,7 @@ public class RenderComponent implements GameComponent {
     }
 
     public RenderComponent(boolean isStatic) {
+        this.isStatic = isStatic;
         this.renderables = new ArrayList<Renderable>();
     }
 
@@ -65,13 +68,28 @@ public class RenderComponent implements GameComponent {
     }
 
     /**
-     * Indicates whether this object is static (only rendered when the camera moves)
+     * Indicates whether this object is static (rasterized once into the static layer, and only drawn again once marked dirty)
      * @return boolean Whether the current object is static
      */
     public boolean isStatic() {
         return this.isStatic;
     }
 
+    /**
+     * Marks a static object as changed (e.g. resized, moved or drawn differently), so the area it covers is drawn again
+     */
+    public void markDirty() {
+        this.dirty = true;
+    }
+
+    public boolean isDirty() {
+        return this.dirty;
+    }
+
+    public void clearDirty() {
+        this.dirty = false;
+    }
+
     /**
      * Checks to see if this component has a given renderable.
      * @param renderableObj The renderable to check.
@@ -167,8 +185,8 @@ public class RenderComponent implements GameComponent {
      * @param scale The scale to render at (1 for normal size)
      */
     public void render(GraphicsContext gc, double x, double y, double scale) {
-        for (Renderable r : renderables) {
-            r.render(gc, x + offset.getX(), y + offset.getY(), scale);
+        for (int i = 0; i < renderables.size(); i++) {
+            renderables.get(i).render(gc, x + offset.getX(), y + offset.getY(), scale);
         }
     }
 
@@ -27,4 +27,15 @@ public interface Renderable {
      * @param scale The scale to render this Renderable at (1 for normal size)
      */
     public void render(GraphicsContext gc, double x, double y, double scale);
+
+    /**
+     * Gets the sprite this renderable would draw now, so it can be recorded when a frame is prepared
+     * and drawn later without reading this renderable again.
+     * The sprite is drawn at this renderable's width and height.
+     *
+     * @return The sprite region, or null if this renderable doesn't just draw a sprite (it is then drawn with render)
+     */
+    public default SpriteRegion getSprite() {
+        return null;
+    }
 }
@@ -0,0 +1,87 @@
+package teamproject.wipeout.engine.component.render;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+
+/**
+ * A rectangular area of an atlas image (e.g. one frame of a spritesheet).
+ * Drawing sprites as regions of a few shared atlases, rather than as separate images, means fewer textures for the renderer to upload and switch between.
+ */
+public class SpriteRegion {
+
+    public final Image atlas;
+    public final double x;
+    public final double y;
+    public final double width;
+    public final double height;
+
+    // A separate copy of this region, only made if something asks for one (volatile, as UI code may ask off the FX thread)
+    private volatile Image image;
+
+    /**
+     * Creates a new instance of SpriteRegion
+     *
+     * @param atlas The image containing the region
+     * @param x The x coordinate of the region in the atlas, in pixels
+     * @param y The y coordinate of the region in the atlas, in pixels
+     * @param width The width of the region, in pixels
+     * @param height The height of the region, in pixels
+     * @throws IllegalArgumentException if the region isn't inside the atlas
+     */
+    public SpriteRegion(Image atlas, double x, double y, double width, double height) {
+        if (x < 0 || y < 0 || width < 0 || height < 0 || x + width > atlas.getWidth() || y + height > atlas.getHeight()) {
+            throw new IllegalArgumentException("Invalid region - Atlas width:" + atlas.getWidth() + ", atlas height:" + atlas.getHeight() + ", requested x, y, w, h: " + x + ", " + y + ", " + width + ", " + height);
+        }
+
+        this.atlas = atlas;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Creates a region covering the whole of an image
+     *
+     * @param image The image
+     * @return The region
+     */
+    public static SpriteRegion whole(Image image) {
+        return new SpriteRegion(image, 0, 0, image.getWidth(), image.getHeight());
+    }
+
+    /**
+     * Draws this region using the source rectangle drawImage overload
+     *
+     * @param gc The GraphicsContext to draw to
+     * @param x The x coordinate to draw at
+     * @param y The y coordinate to draw at
+     * @param width The width to draw at
+     * @param height The height to draw at
+     */
+    public void draw(GraphicsContext gc, double x, double y, double width, double height) {
+        gc.drawImage(this.atlas, this.x, this.y, this.width, this.height, x, y, width, height);
+    }
+
+    /**
+     * Gets this region as a separate image, for code that needs an Image (e.g. UI nodes).
+     * The copy is made the first time this is called - renderables should draw the region instead.
+     *
+     * @return The image
+     */
+    public Image toImage() {
+        Image image = this.image;
+        if (image == null) {
+            if (this.x == 0 && this.y == 0 && this.width == this.atlas.getWidth() && this.height == this.atlas.getHeight()) {
+                image = this.atlas;
+            }
+            else {
+                image = new WritableImage(this.atlas.getPixelReader(), (int) this.x, (int) this.y, (int) this.width, (int) this.height);
+            }
+            // Two threads may both make a copy - they are identical, so whichever is stored last is kept
+            this.image = image;
+        }
+        return image;
+    }
+}
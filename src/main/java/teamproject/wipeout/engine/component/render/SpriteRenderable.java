@@ -2,22 +2,21 @@ package teamproject.wipeout.engine.component.render;
 
 import javafx.geometry.Point2D;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 
 /**
- * Renderable to display a static sprite to the screen
+ * Renderable to display a static sprite (a region of an atlas image) to the screen
  */
 public class SpriteRenderable implements Renderable {
     
-    public Image sprite;
+    public SpriteRegion sprite;
     public Point2D spriteScale;
 
     /**
      * Creates an instance of SpriteRenderable
      * 
-     * @param sprite The sprite image to render
+     * @param sprite The sprite region to render
      */
-    public SpriteRenderable(Image sprite) {
+    public SpriteRenderable(SpriteRegion sprite) {
         this.sprite = sprite;
         this.spriteScale = new Point2D(1, 1);
     }
@@ -25,10 +24,10 @@ public class SpriteRenderable implements Renderable {
     /**
      * Creates an instance of SpriteRenderable
      * 
-     * @param sprite The sprite image to render
+     * @param sprite The sprite region to render
      * @param scale A scale to multiply the width and height by
      */
-    public SpriteRenderable(Image sprite, double scale) {
+    public SpriteRenderable(SpriteRegion sprite, double scale) {
         this.sprite = sprite;
         this.spriteScale = new Point2D(scale, scale);
     }
@@ -36,18 +35,18 @@ public class SpriteRenderable implements Renderable {
     /**
      * Creates an instance of SpriteRenderable
      * 
-     * @param sprite The sprite image to render
+     * @param sprite The sprite region to render
      * @param scaleX A scale to multiply the width by
      * @param scaleY A scale to multiply the height by
      */
-    public SpriteRenderable(Image sprite, double scaleX, double scaleY) {
+    public SpriteRenderable(SpriteRegion sprite, double scaleX, double scaleY) {
         this.sprite = sprite;
         this.spriteScale = new Point2D(scaleX, scaleY);
     }
 
     public double getWidth() {
         if (sprite != null) {
-            return this.sprite.getWidth() * this.spriteScale.getX();
+            return this.sprite.width * this.spriteScale.getX();
         }
         else {
             return 0;
@@ -56,16 +55,20 @@ public class SpriteRenderable implements Renderable {
 
     public double getHeight() {
         if (sprite != null) {
-            return this.sprite.getHeight() * this.spriteScale.getY();
+            return this.sprite.height * this.spriteScale.getY();
         }
         else {
             return 0;
         }
     }
 
+    public SpriteRegion getSprite() {
+        return this.sprite;
+    }
+
     public void render(GraphicsContext gc, double x, double y, double scale){
         if (this.sprite != null) {
-            gc.drawImage(this.sprite, x * scale, y * scale, sprite.getWidth() * scale * this.spriteScale.getX(), sprite.getHeight() * scale * this.spriteScale.getY());
+            this.sprite.draw(gc, x * scale, y * scale, this.sprite.width * scale * this.spriteScale.getX(), this.sprite.height * scale * this.spriteScale.getY());
         }
     }
 }
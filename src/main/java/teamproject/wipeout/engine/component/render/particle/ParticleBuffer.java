@@ -0,0 +1,374 @@
+package teamproject.wipeout.engine.component.render.particle;
+
+import java.util.Arrays;
+
+import teamproject.wipeout.engine.component.render.particle.ParticleParameters.ParticleSimulationSpace;
+import teamproject.wipeout.engine.component.render.particle.property.ParticleType;
+import teamproject.wipeout.engine.component.render.particle.type.Particle;
+import teamproject.wipeout.engine.component.render.particle.type.ParticleRender;
+
+/**
+ * Stores the particles of a particle system as arrays of each of their values, rather than as separate objects.
+ *
+ * The first size() entries of each array are the live particles. Dead particles are removed by moving the last
+ * particle into their place, so particles aren't kept in the order they were added.
+ * Buffers only grow, so they can be reused (e.g. pooled by ParticleSystem) without allocating.
+ *
+ * Simulating the particles can be deferred (e.g. while they are off-screen): deferred time is added up, then
+ * catchUp ages and moves every particle by all of it at once. Particles added while time is deferred are placed so
+ * that catching up brings them back to their starting values.
+ */
+public class ParticleBuffer {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Current values of each particle - ParticleUpdateFunctions may change these
+    public double[] x;
+    public double[] y;
+    public double[] velocityX;
+    public double[] velocityY;
+    public double[] width;
+    public double[] height;
+    public double[] opacity;
+
+    // How long each particle has been alive (s), and how far through its lifetime it is (0-1)
+    public double[] aliveTime;
+    public double[] percentage;
+
+    // Initial values of each particle
+    public double[] lifetime;
+    public double[] startX;
+    public double[] startY;
+    public double[] startVelocityX;
+    public double[] startVelocityY;
+    public double[] startWidth;
+    public double[] startHeight;
+    public double[] startOpacity;
+
+    private ParticleRender[] renderFunctions;
+    private ParticleSimulationSpace simulationSpace;
+    private int count;
+
+    private double maxX;
+    private double maxY;
+
+    // Time the particles haven't been aged or moved by yet (s)
+    private double pendingTime;
+
+    // The render function used for new particles, created once for each emission type
+    private ParticleType emissionType;
+    private ParticleRender emissionRender;
+
+    // Holds a copy of one particle, for update functions without a batch form
+    private final Particle scratch;
+
+    /**
+     * Creates a new, empty instance of ParticleBuffer
+     */
+    public ParticleBuffer() {
+        this.allocate(INITIAL_CAPACITY);
+        this.simulationSpace = ParticleSimulationSpace.LOCAL;
+        this.scratch = new Particle();
+        this.maxX = Double.NEGATIVE_INFINITY;
+        this.maxY = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Gets the number of live particles
+     * @return The number of particles
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Gets the number of particles this buffer can hold before it has to grow
+     * @return The capacity
+     */
+    public int capacity() {
+        return this.x.length;
+    }
+
+    /**
+     * Gets the simulation space of the particles (the space of the last particle added)
+     * @return The simulation space
+     */
+    public ParticleSimulationSpace getSimulationSpace() {
+        return this.simulationSpace;
+    }
+
+    /**
+     * Gets the render function of a particle
+     * @param i The index of the particle
+     * @return The render function
+     */
+    public ParticleRender getRenderFunction(int i) {
+        return this.renderFunctions[i];
+    }
+
+    /**
+     * Gets the largest x coordinate of a particle after the last call to move
+     * @return The largest x coordinate, or negative infinity if there were no particles
+     */
+    public double getMaxX() {
+        return this.maxX;
+    }
+
+    /**
+     * Gets the largest y coordinate of a particle after the last call to move
+     * @return The largest y coordinate, or negative infinity if there were no particles
+     */
+    public double getMaxY() {
+        return this.maxY;
+    }
+
+    /**
+     * Adds a new particle
+     * @param x The starting x coordinate
+     * @param y The starting y coordinate
+     * @param simulationSpace The simulation space of the particle
+     * @param velocityX The starting x velocity
+     * @param velocityY The starting y velocity
+     * @param lifetime The lifetime (s)
+     * @param width The starting width
+     * @param height The starting height
+     * @param opacity The starting opacity
+     * @param type The type of particle, which determines how it appears on the screen
+     */
+    public void add(double x, double y, ParticleSimulationSpace simulationSpace, double velocityX, double velocityY, double lifetime, double width, double height, double opacity, ParticleType type) {
+        if (this.count == this.x.length) {
+            this.ensureCapacity(this.count * 2);
+        }
+
+        if (type != this.emissionType) {
+            this.emissionType = type;
+            this.emissionRender = type.renderFactory();
+        }
+
+        // Start the particle as far back as the deferred time, so catching up brings it to where it should be now
+        int i = this.count++;
+        this.x[i] = x - velocityX * this.pendingTime;
+        this.y[i] = y - velocityY * this.pendingTime;
+        this.velocityX[i] = velocityX;
+        this.velocityY[i] = velocityY;
+        this.width[i] = width;
+        this.height[i] = height;
+        this.opacity[i] = opacity;
+        this.aliveTime[i] = -this.pendingTime;
+        this.percentage[i] = 0;
+        this.lifetime[i] = lifetime;
+        this.startX[i] = x;
+        this.startY[i] = y;
+        this.startVelocityX[i] = velocityX;
+        this.startVelocityY[i] = velocityY;
+        this.startWidth[i] = width;
+        this.startHeight[i] = height;
+        this.startOpacity[i] = opacity;
+        this.renderFunctions[i] = this.emissionRender;
+        this.simulationSpace = simulationSpace;
+    }
+
+    /**
+     * Ages every particle by a time step, removing particles that have outlived their lifetime
+     * and updating how far through its lifetime each remaining particle is
+     * @param timeStep The time step (s)
+     */
+    public void age(double timeStep) {
+        int i = 0;
+        while (i < this.count) {
+            double time = this.aliveTime[i] + timeStep;
+            double fraction = time / this.lifetime[i];
+
+            if (fraction > 1) {
+                this.remove(i);
+            }
+            else {
+                this.aliveTime[i] = time;
+                this.percentage[i] = fraction;
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Moves every particle by its velocity over a time step, and finds the largest x and y coordinates
+     * @param timeStep The time step (s)
+     */
+    public void move(double timeStep) {
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+
+        for (int i = 0; i < this.count; i++) {
+            double newX = this.x[i] + this.velocityX[i] * timeStep;
+            double newY = this.y[i] + this.velocityY[i] * timeStep;
+            this.x[i] = newX;
+            this.y[i] = newY;
+            maxX = Math.max(maxX, newX);
+            maxY = Math.max(maxY, newY);
+        }
+
+        this.maxX = maxX;
+        this.maxY = maxY;
+    }
+
+    /**
+     * Defers simulating the particles by a time step, until catchUp is called
+     * @param timeStep The time step (s)
+     */
+    public void defer(double timeStep) {
+        this.pendingTime += timeStep;
+    }
+
+    /**
+     * Gets the time the particles haven't been simulated by yet
+     * @return The deferred time (s)
+     */
+    public double getPendingTime() {
+        return this.pendingTime;
+    }
+
+    /**
+     * Ages and moves every particle by the deferred time, at its current velocity.
+     * Update functions aren't applied for the deferred time.
+     */
+    public void catchUp() {
+        if (this.pendingTime > 0) {
+            double time = this.pendingTime;
+            this.pendingTime = 0;
+            this.age(time);
+            this.move(time);
+        }
+    }
+
+    /**
+     * Removes a particle, moving the last particle into its place
+     * @param i The index of the particle
+     */
+    public void remove(int i) {
+        int last = --this.count;
+        if (i != last) {
+            this.x[i] = this.x[last];
+            this.y[i] = this.y[last];
+            this.velocityX[i] = this.velocityX[last];
+            this.velocityY[i] = this.velocityY[last];
+            this.width[i] = this.width[last];
+            this.height[i] = this.height[last];
+            this.opacity[i] = this.opacity[last];
+            this.aliveTime[i] = this.aliveTime[last];
+            this.percentage[i] = this.percentage[last];
+            this.lifetime[i] = this.lifetime[last];
+            this.startX[i] = this.startX[last];
+            this.startY[i] = this.startY[last];
+            this.startVelocityX[i] = this.startVelocityX[last];
+            this.startVelocityY[i] = this.startVelocityY[last];
+            this.startWidth[i] = this.startWidth[last];
+            this.startHeight[i] = this.startHeight[last];
+            this.startOpacity[i] = this.startOpacity[last];
+            this.renderFunctions[i] = this.renderFunctions[last];
+        }
+        this.renderFunctions[last] = null;
+    }
+
+    /**
+     * Removes every particle
+     */
+    public void clear() {
+        Arrays.fill(this.renderFunctions, 0, this.count, null);
+        this.count = 0;
+        this.pendingTime = 0;
+        this.maxX = Double.NEGATIVE_INFINITY;
+        this.maxY = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Gets a Particle to copy particles into, for update functions that work on one particle at a time.
+     * The same Particle is returned every time.
+     * @return The Particle
+     */
+    public Particle getScratchParticle() {
+        return this.scratch;
+    }
+
+    /**
+     * Copies a particle's values into a Particle
+     * @param i The index of the particle
+     * @param particle The Particle to copy into
+     */
+    public void load(int i, Particle particle) {
+        particle.setStart(this.startX[i], this.startY[i], this.startVelocityX[i], this.startVelocityY[i], this.lifetime[i],
+                this.startWidth[i], this.startHeight[i], this.startOpacity[i], this.simulationSpace, this.renderFunctions[i]);
+        particle.x = this.x[i];
+        particle.y = this.y[i];
+        particle.velocityX = this.velocityX[i];
+        particle.velocityY = this.velocityY[i];
+        particle.width = this.width[i];
+        particle.height = this.height[i];
+        particle.opacity = this.opacity[i];
+        particle.aliveTime = this.aliveTime[i];
+    }
+
+    /**
+     * Copies the values a Particle can change back into a particle
+     * @param i The index of the particle
+     * @param particle The Particle to copy from
+     */
+    public void store(int i, Particle particle) {
+        this.x[i] = particle.x;
+        this.y[i] = particle.y;
+        this.velocityX[i] = particle.velocityX;
+        this.velocityY[i] = particle.velocityY;
+        this.width[i] = particle.width;
+        this.height[i] = particle.height;
+        this.opacity[i] = particle.opacity;
+    }
+
+    /**
+     * Makes sure this buffer can hold a number of particles without growing
+     * @param capacity The number of particles
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity <= this.x.length) {
+            return;
+        }
+
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.velocityX = Arrays.copyOf(this.velocityX, capacity);
+        this.velocityY = Arrays.copyOf(this.velocityY, capacity);
+        this.width = Arrays.copyOf(this.width, capacity);
+        this.height = Arrays.copyOf(this.height, capacity);
+        this.opacity = Arrays.copyOf(this.opacity, capacity);
+        this.aliveTime = Arrays.copyOf(this.aliveTime, capacity);
+        this.percentage = Arrays.copyOf(this.percentage, capacity);
+        this.lifetime = Arrays.copyOf(this.lifetime, capacity);
+        this.startX = Arrays.copyOf(this.startX, capacity);
+        this.startY = Arrays.copyOf(this.startY, capacity);
+        this.startVelocityX = Arrays.copyOf(this.startVelocityX, capacity);
+        this.startVelocityY = Arrays.copyOf(this.startVelocityY, capacity);
+        this.startWidth = Arrays.copyOf(this.startWidth, capacity);
+        this.startHeight = Arrays.copyOf(this.startHeight, capacity);
+        this.startOpacity = Arrays.copyOf(this.startOpacity, capacity);
+        this.renderFunctions = Arrays.copyOf(this.renderFunctions, capacity);
+    }
+
+    private void allocate(int capacity) {
+        this.x = new double[capacity];
+        this.y = new double[capacity];
+        this.velocityX = new double[capacity];
+        this.velocityY = new double[capacity];
+        this.width = new double[capacity];
+        this.height = new double[capacity];
+        this.opacity = new double[capacity];
+        this.aliveTime = new double[capacity];
+        this.percentage = new double[capacity];
+        this.lifetime = new double[capacity];
+        this.startX = new double[capacity];
+        this.startY = new double[capacity];
+        this.startVelocityX = new double[capacity];
+        this.startVelocityY = new double[capacity];
+        this.startWidth = new double[capacity];
+        this.startHeight = new double[capacity];
+        this.startOpacity = new double[capacity];
+        this.renderFunctions = new ParticleRender[capacity];
+    }
+}
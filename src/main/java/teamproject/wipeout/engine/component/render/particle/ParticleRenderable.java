@@ -1,18 +1,15 @@
 package teamproject.wipeout.engine.component.render.particle;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import javafx.scene.canvas.GraphicsContext;
 import teamproject.wipeout.engine.component.render.Renderable;
-import teamproject.wipeout.engine.component.render.particle.type.Particle;
+import teamproject.wipeout.engine.component.render.particle.ParticleParameters.ParticleSimulationSpace;
 
 /**
- * Renderable for particle systems - renders a list of particles to the screen every frame
+ * Renderable for particle systems - renders a buffer of particles to the screen every frame
  */
 public class ParticleRenderable implements Renderable {
 
-    public List<Particle> particles;
+    public ParticleBuffer particles;
 
     private double width;
     private double height;
@@ -21,7 +18,15 @@ public class ParticleRenderable implements Renderable {
      * Creates a new instance of ParticleRenderable
      */
     public ParticleRenderable() {
-        this.particles = new ArrayList<Particle>();
+        this(new ParticleBuffer());
+    }
+
+    /**
+     * Creates a new instance of ParticleRenderable
+     * @param particles The buffer to store the particles in
+     */
+    public ParticleRenderable(ParticleBuffer particles) {
+        this.particles = particles;
     }
     
     /**
@@ -59,11 +64,33 @@ public class ParticleRenderable implements Renderable {
     }
 
     /**
-     * Renders the particles in the list to the screen
+     * Renders the particles in the buffer to the screen
      */
     public void render(GraphicsContext gc, double x, double y, double scale) {
-        for (Particle particle : particles) {
-            particle.render(gc, x, y, scale);
+        ParticleBuffer p = this.particles;
+
+        // World space particles are positioned in the world, rather than relative to the entity
+        double offsetX = 0;
+        double offsetY = 0;
+        if (p.getSimulationSpace() == ParticleSimulationSpace.LOCAL) {
+            offsetX = x;
+            offsetY = y;
+        }
+
+        // Only change the opacity when it differs from the last particle
+        double globalOpacity = gc.getGlobalAlpha();
+        double currentOpacity = globalOpacity;
+        for (int i = 0; i < p.size(); i++) {
+            double opacity = p.opacity[i] == 1 ? globalOpacity : p.opacity[i];
+            if (opacity != currentOpacity) {
+                gc.setGlobalAlpha(opacity);
+                currentOpacity = opacity;
+            }
+            p.getRenderFunction(i).render(gc, (offsetX + p.x[i]) * scale, (offsetY + p.y[i]) * scale, p.width[i] * scale, p.height[i] * scale);
+        }
+
+        if (currentOpacity != globalOpacity) {
+            gc.setGlobalAlpha(globalOpacity);
         }
     }
 }
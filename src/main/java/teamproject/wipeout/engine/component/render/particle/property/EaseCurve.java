@@ -1,11 +1,12 @@
 package teamproject.wipeout.engine.component.render.particle.property;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 /**
  * Implements various Bezier easing curves
  */
-public class EaseCurve implements Function<Double, Double> {
+public class EaseCurve implements Function<Double, Double>, DoubleUnaryOperator {
 
     public static final EaseCurve LINEAR = new EaseCurve(EaseType.LINEAR);
     public static final EaseCurve EASE_IN = new EaseCurve(EaseType.EASE_OUT);
@@ -45,14 +46,14 @@ public class EaseCurve implements Function<Double, Double> {
         });
 
 
-        public final Function<Double, Double> easeFunction;
+        public final DoubleUnaryOperator easeFunction;
 
-        private EaseType(Function<Double, Double> easeFunction) {
+        private EaseType(DoubleUnaryOperator easeFunction) {
             this.easeFunction = easeFunction;
         }
     }
 
-    private Function<Double, Double> easeFunction;
+    private DoubleUnaryOperator easeFunction;
 
     /**
      * Creates an instance of EaseCurve
@@ -70,6 +71,16 @@ public class EaseCurve implements Function<Double, Double> {
      * @return The mapped value
      */
     public Double apply(Double x) {
-        return easeFunction.apply(x);
+        return this.applyAsDouble(x);
+    }
+
+    /**
+     * Applies the easing function to a given double value, without boxing it. The value should be between 0 and 1 or unexpected behaviour will occur
+     * 
+     * @param x The value to apply the function to
+     * @return The mapped value
+     */
+    public double applyAsDouble(double x) {
+        return easeFunction.applyAsDouble(x);
     }
 }
@@ -22,7 +22,7 @@ public class ParameterEaseCurve extends EaseCurve {
     }
 
     @Override
-    public Double apply(Double x) {
-        return multiplier * super.apply(x) + offset;
+    public double applyAsDouble(double x) {
+        return multiplier * super.applyAsDouble(x) + offset;
     }
 }
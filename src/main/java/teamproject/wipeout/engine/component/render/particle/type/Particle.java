@@ -5,16 +5,19 @@ import javafx.scene.canvas.GraphicsContext;
 import teamproject.wipeout.engine.component.render.particle.ParticleParameters.ParticleSimulationSpace;
 
 /**
- * Represents an individual particle in a particle system
+ * Represents an individual particle in a particle system.
+ * Particles are stored in a ParticleBuffer - a Particle holds a copy of one of them (see ParticleBuffer.load)
  */
 public class Particle {
     // Position of the particle, relative to the particle system
-    public Point2D position;
+    public double x;
+    public double y;
 
     public double aliveTime;
 
     // Velocity of this particle
-    public Point2D velocity;
+    public double velocityX;
+    public double velocityY;
 
     // The width of this particle
     public double width;
@@ -28,8 +31,10 @@ public class Particle {
     private double lifetime;
 
     private ParticleSimulationSpace simulationSpace;
-    private Point2D startPosition;
-    private Point2D startVelocity;
+    private double startX;
+    private double startY;
+    private double startVelocityX;
+    private double startVelocityY;
     private double startWidth;
     private double startHeight;
     private double startOpacity;
@@ -46,12 +51,16 @@ public class Particle {
      * @param render The render function to use, determines how this particle will appear on the screen
      */
     public void initialise(Point2D position, ParticleSimulationSpace simulationSpace, Point2D velocity, double lifetime, double width, double height, double opacity, ParticleRender render) {
-        this.position = position;
-        this.startPosition = position;
+        this.x = position.getX();
+        this.y = position.getY();
+        this.startX = this.x;
+        this.startY = this.y;
         this.simulationSpace = simulationSpace;
 
-        this.startVelocity = velocity;
-        this.velocity = velocity;
+        this.velocityX = velocity.getX();
+        this.velocityY = velocity.getY();
+        this.startVelocityX = this.velocityX;
+        this.startVelocityY = this.velocityY;
 
         this.lifetime = lifetime;
 
@@ -67,6 +76,32 @@ public class Particle {
         this.aliveTime = 0;
     }
 
+    /**
+     * Sets the initial values of this particle, and the values it doesn't change itself
+     * @param startX The starting x coordinate
+     * @param startY The starting y coordinate
+     * @param startVelocityX The starting x velocity
+     * @param startVelocityY The starting y velocity
+     * @param lifetime The lifetime (s)
+     * @param startWidth The starting width
+     * @param startHeight The starting height
+     * @param startOpacity The starting opacity
+     * @param simulationSpace The simulation space
+     * @param render The render function
+     */
+    public void setStart(double startX, double startY, double startVelocityX, double startVelocityY, double lifetime, double startWidth, double startHeight, double startOpacity, ParticleSimulationSpace simulationSpace, ParticleRender render) {
+        this.startX = startX;
+        this.startY = startY;
+        this.startVelocityX = startVelocityX;
+        this.startVelocityY = startVelocityY;
+        this.lifetime = lifetime;
+        this.startWidth = startWidth;
+        this.startHeight = startHeight;
+        this.startOpacity = startOpacity;
+        this.simulationSpace = simulationSpace;
+        this.renderFunction = render;
+    }
+
     /**
      * Gets the simulation space for this particle
      */
@@ -83,19 +118,35 @@ public class Particle {
     }
 
     /**
-     * Gets the initial value of the position for this particle
+     * Gets the current position of this particle as a new Point2D (use x and y to avoid allocating)
+     * @return A Point2D object representing the position
+     */
+    public Point2D getPosition() {
+        return new Point2D(this.x, this.y);
+    }
+
+    /**
+     * Gets the current velocity of this particle as a new Point2D (use velocityX and velocityY to avoid allocating)
+     * @return A Point2D object representing the velocity
+     */
+    public Point2D getVelocity() {
+        return new Point2D(this.velocityX, this.velocityY);
+    }
+
+    /**
+     * Gets the initial value of the position for this particle as a new Point2D
      * @return A Point2D object representing the initial position
      */
     public Point2D getStartPosition() {
-        return this.startPosition;
+        return new Point2D(this.startX, this.startY);
     }
 
     /**
-     * Gets the initial value of the velocity for this particle
+     * Gets the initial value of the velocity for this particle as a new Point2D
      * @return A Point2D object representing the initial velocity of this particle
      */
     public Point2D getStartVelocity() {
-        return this.startVelocity;
+        return new Point2D(this.startVelocityX, this.startVelocityY);
     }
 
     /**
@@ -127,19 +178,19 @@ public class Particle {
             double globalOpacity = gc.getGlobalAlpha();
             gc.setGlobalAlpha(this.opacity);
             if (this.simulationSpace == ParticleSimulationSpace.LOCAL) {
-                this.renderFunction.render(gc, (x + this.position.getX()) * scale, (y + this.position.getY()) * scale, width * scale, height * scale);
+                this.renderFunction.render(gc, (x + this.x) * scale, (y + this.y) * scale, width * scale, height * scale);
             }
             else {
-                this.renderFunction.render(gc, this.position.getX() * scale, this.position.getY() * scale, width * scale, height * scale);
+                this.renderFunction.render(gc, this.x * scale, this.y * scale, width * scale, height * scale);
             }
             gc.setGlobalAlpha(globalOpacity);
         }
         else {
             if (this.simulationSpace == ParticleSimulationSpace.LOCAL) {
-                this.renderFunction.render(gc, (x + this.position.getX()) * scale, (y + this.position.getY()) * scale, width * scale, height * scale);
+                this.renderFunction.render(gc, (x + this.x) * scale, (y + this.y) * scale, width * scale, height * scale);
             }
             else {
-                this.renderFunction.render(gc, this.position.getX() * scale, this.position.getY() * scale, width * scale, height * scale);
+                this.renderFunction.render(gc, this.x * scale, this.y * scale, width * scale, height * scale);
             }
         }
     }
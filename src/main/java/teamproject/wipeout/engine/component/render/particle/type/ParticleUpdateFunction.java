@@ -1,9 +1,102 @@
 package teamproject.wipeout.engine.component.render.particle.type;
 
+import teamproject.wipeout.engine.component.render.particle.ParticleBuffer;
+import teamproject.wipeout.engine.component.render.particle.property.EaseCurve;
+
 /**
  * Interface for "over time" effects on particles - i.e.: effects that apply over the course of a particle's lifetime
+ *
+ * ParticleSystem calls the batch form, update(ParticleBuffer, double), which by default copies each particle
+ * into a Particle. Effects that override it to work on the buffer's arrays directly avoid the copying
+ * - the effects created by the static methods below do.
  */
 @FunctionalInterface
 public interface ParticleUpdateFunction {
     public void update(Particle p, double percentage, double timeStep);
+
+    /**
+     * Applies this effect to every particle in a buffer
+     * @param particles The particles to update
+     * @param timeStep The time step (s)
+     */
+    public default void update(ParticleBuffer particles, double timeStep) {
+        Particle p = particles.getScratchParticle();
+        for (int i = 0; i < particles.size(); i++) {
+            particles.load(i, p);
+            this.update(p, particles.percentage[i], timeStep);
+            particles.store(i, p);
+        }
+    }
+
+    /**
+     * Creates an effect that sets the opacity of each particle to an easing curve of its lifetime
+     * @param curve The easing curve
+     * @return The ParticleUpdateFunction
+     */
+    public static ParticleUpdateFunction opacityOverLifetime(EaseCurve curve) {
+        return new ParticleUpdateFunction() {
+            public void update(Particle p, double percentage, double timeStep) {
+                p.opacity = curve.applyAsDouble(percentage);
+            }
+
+            public void update(ParticleBuffer particles, double timeStep) {
+                double[] opacity = particles.opacity;
+                double[] percentage = particles.percentage;
+                for (int i = 0; i < particles.size(); i++) {
+                    opacity[i] = curve.applyAsDouble(percentage[i]);
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates an effect that scales the starting size of each particle by an easing curve of its lifetime
+     * @param curve The easing curve
+     * @return The ParticleUpdateFunction
+     */
+    public static ParticleUpdateFunction sizeOverLifetime(EaseCurve curve) {
+        return new ParticleUpdateFunction() {
+            public void update(Particle p, double percentage, double timeStep) {
+                double scale = curve.applyAsDouble(percentage);
+                p.width = p.getStartWidth() * scale;
+                p.height = p.getStartHeight() * scale;
+            }
+
+            public void update(ParticleBuffer particles, double timeStep) {
+                double[] width = particles.width;
+                double[] height = particles.height;
+                double[] startWidth = particles.startWidth;
+                double[] startHeight = particles.startHeight;
+                double[] percentage = particles.percentage;
+                for (int i = 0; i < particles.size(); i++) {
+                    double scale = curve.applyAsDouble(percentage[i]);
+                    width[i] = startWidth[i] * scale;
+                    height[i] = startHeight[i] * scale;
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates an effect that multiplies the velocity of each particle by a factor every update step
+     * @param factor The factor to multiply by
+     * @return The ParticleUpdateFunction
+     */
+    public static ParticleUpdateFunction damping(double factor) {
+        return new ParticleUpdateFunction() {
+            public void update(Particle p, double percentage, double timeStep) {
+                p.velocityX *= factor;
+                p.velocityY *= factor;
+            }
+
+            public void update(ParticleBuffer particles, double timeStep) {
+                double[] velocityX = particles.velocityX;
+                double[] velocityY = particles.velocityY;
+                for (int i = 0; i < particles.size(); i++) {
+                    velocityX[i] *= factor;
+                    velocityY[i] *= factor;
+                }
+            }
+        };
+    }
 }
@@ -0,0 +1,132 @@
+package teamproject.wipeout.engine.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import teamproject.wipeout.engine.component.GameComponent;
+import teamproject.wipeout.engine.entity.GameEntity;
+
+/**
+ * Records structural changes to a GameScene (creating/destroying entities, adding/removing components)
+ * so that systems can request them while iterating their entities, and applies them later in one batch.
+ *
+ * Collectors are notified once per changed entity when the buffer is flushed, rather than once per change.
+ * Changes can be recorded from any thread, but the buffer must be flushed by the thread updating the scene.
+ */
+public class EntityCommandBuffer {
+
+    private GameScene scene;
+    private List<Runnable> commands;
+    private boolean flushing;
+
+    /**
+     * Creates a new instance of EntityCommandBuffer
+     * @param scene The GameScene the recorded changes are applied to
+     */
+    public EntityCommandBuffer(GameScene scene) {
+        this.scene = scene;
+        this.commands = new ArrayList<>();
+        this.flushing = false;
+    }
+
+    /**
+     * Records the creation of a new entity
+     * @param initialiser Called with the new entity once it has been created, to add its components
+     */
+    public void createEntity(Consumer<GameEntity> initialiser) {
+        this.record(() -> {
+            GameEntity entity = this.scene.createEntity();
+            if (initialiser != null) {
+                initialiser.accept(entity);
+            }
+        });
+    }
+
+    /**
+     * Records the destruction of an entity
+     * @param entity The entity to destroy
+     */
+    public void destroy(GameEntity entity) {
+        this.record(() -> {
+            // The entity may have been destroyed by an earlier command
+            if (this.scene.entities.contains(entity)) {
+                entity.destroy();
+            }
+        });
+    }
+
+    /**
+     * Records adding a component to an entity
+     * @param entity The entity to add the component to
+     * @param component The component to add
+     */
+    public void addComponent(GameEntity entity, GameComponent component) {
+        this.record(() -> {
+            if (this.scene.entities.contains(entity)) {
+                entity.addComponent(component);
+            }
+        });
+    }
+
+    /**
+     * Records removing a component from an entity
+     * @param entity The entity to remove the component from
+     * @param componentType The class of the component to remove
+     */
+    public void removeComponent(GameEntity entity, Class<? extends GameComponent> componentType) {
+        this.record(() -> {
+            if (this.scene.entities.contains(entity)) {
+                entity.removeComponent(componentType);
+            }
+        });
+    }
+
+    /**
+     * Records an arbitrary action to be run when the buffer is flushed, for callbacks that may change the scene
+     * @param action The action to run
+     */
+    public void run(Runnable action) {
+        this.record(action);
+    }
+
+    /**
+     * Adds a command to the end of the buffer
+     * @param command The command to add
+     */
+    private synchronized void record(Runnable command) {
+        this.commands.add(command);
+    }
+
+    /**
+     * Gets whether there are any changes waiting to be applied
+     * @return Whether the buffer is empty
+     */
+    public synchronized boolean isEmpty() {
+        return this.commands.isEmpty();
+    }
+
+    /**
+     * Applies every recorded change in the order they were recorded, then clears the buffer.
+     * Changes recorded while flushing are applied in the same flush.
+     */
+    public void flush() {
+        if (this.flushing || this.commands.isEmpty()) {
+            return;
+        }
+
+        this.flushing = true;
+        this.scene.entityChangeEvent.beginBatch();
+        try {
+            // Commands may record more commands, so the size is checked on every iteration
+            for (int i = 0; i < this.commands.size(); i++) {
+                this.commands.get(i).run();
+            }
+        }
+        finally {
+            this.commands.clear();
+            this.scene.entityChangeEvent.endBatch();
+            this.flushing = false;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package teamproject.wipeout.engine.core;
+
+/**
+ * Collects timing information about each frame of a GameLoop: how long the updates and rendering took,
+ * how many update steps were run, and how much time was dropped because the loop fell too far behind.
+ * If the loop's rendering quality is governed (see QualityGovernor), the current quality level is recorded too.
+ */
+public class FrameStatistics {
+
+    private final FrameTimeHistogram updateTimes;
+    private final FrameTimeHistogram renderTimes;
+
+    // subStepCounts[n] is the number of frames that ran n update steps (the last entry counts anything above)
+    private final long[] subStepCounts;
+    private long frameCount;
+    private long framesWithDroppedTime;
+    private double droppedTime;
+    private int qualityLevel;
+    private long qualityLevelChanges;
+
+    /**
+     * Creates a new instance of FrameStatistics
+     * @param maxSubSteps The most update steps a frame can run
+     */
+    public FrameStatistics(int maxSubSteps) {
+        this.updateTimes = new FrameTimeHistogram();
+        this.renderTimes = new FrameTimeHistogram();
+        this.subStepCounts = new long[maxSubSteps + 1];
+    }
+
+    /**
+     * Records one frame
+     * @param updateNanos The time spent running update steps (ns)
+     * @param renderNanos The time spent rendering (ns)
+     * @param subSteps The number of update steps run
+     * @param dropped The game time skipped to avoid falling further behind (s)
+     */
+    public synchronized void recordFrame(long updateNanos, long renderNanos, int subSteps, double dropped) {
+        this.updateTimes.record(updateNanos);
+        this.renderTimes.record(renderNanos);
+        this.subStepCounts[Math.min(subSteps, this.subStepCounts.length - 1)]++;
+        this.frameCount++;
+
+        if (dropped > 0) {
+            this.framesWithDroppedTime++;
+            this.droppedTime += dropped;
+        }
+    }
+
+    /**
+     * Records the quality level the next frame will be rendered at
+     * @param level The quality level (0 is full quality)
+     */
+    public synchronized void recordQualityLevel(int level) {
+        if (level != this.qualityLevel) {
+            this.qualityLevel = level;
+            this.qualityLevelChanges++;
+        }
+    }
+
+    /**
+     * Gets the current quality level frames are rendered at
+     * @return The quality level (0 is full quality)
+     */
+    public synchronized int getQualityLevel() {
+        return this.qualityLevel;
+    }
+
+    /**
+     * Gets the number of times the quality level has changed
+     * @return The number of changes
+     */
+    public synchronized long getQualityLevelChanges() {
+        return this.qualityLevelChanges;
+    }
+
+    /**
+     * Gets the distribution of time spent running update steps each frame
+     * @return The update time histogram
+     */
+    public FrameTimeHistogram getUpdateTimes() {
+        return this.updateTimes;
+    }
+
+    /**
+     * Gets the distribution of time spent rendering each frame
+     * @return The render time histogram
+     */
+    public FrameTimeHistogram getRenderTimes() {
+        return this.renderTimes;
+    }
+
+    /**
+     * Gets the number of update steps that a given percentage of frames ran at most
+     * @param percentile The percentile to get, between 0 and 100
+     * @return The number of update steps
+     */
+    public synchronized int getSubStepPercentile(double percentile) {
+        if (this.frameCount == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(this.frameCount * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < this.subStepCounts.length; i++) {
+            seen += this.subStepCounts[i];
+            if (seen >= target) {
+                return i;
+            }
+        }
+        return this.subStepCounts.length - 1;
+    }
+
+    /**
+     * Gets the number of frames that ran a given number of update steps
+     * @param subSteps The number of update steps
+     * @return The number of frames
+     */
+    public synchronized long getFramesWithSubSteps(int subSteps) {
+        if (subSteps < 0 || subSteps >= this.subStepCounts.length) {
+            return 0;
+        }
+        return this.subStepCounts[subSteps];
+    }
+
+    /**
+     * Gets the number of frames recorded
+     * @return The number of frames
+     */
+    public synchronized long getFrameCount() {
+        return this.frameCount;
+    }
+
+    /**
+     * Gets the number of frames that had to drop time
+     * @return The number of frames
+     */
+    public synchronized long getFramesWithDroppedTime() {
+        return this.framesWithDroppedTime;
+    }
+
+    /**
+     * Gets the total game time skipped because the loop fell too far behind
+     * @return The dropped time (s)
+     */
+    public synchronized double getDroppedTime() {
+        return this.droppedTime;
+    }
+
+    /**
+     * Removes every recorded frame
+     */
+    public synchronized void reset() {
+        this.updateTimes.reset();
+        this.renderTimes.reset();
+        for (int i = 0; i < this.subStepCounts.length; i++) {
+            this.subStepCounts[i] = 0;
+        }
+        this.frameCount = 0;
+        this.framesWithDroppedTime = 0;
+        this.droppedTime = 0;
+        this.qualityLevelChanges = 0;
+    }
+
+    /**
+     * Summarises the recorded frames in one line, e.g. for logging
+     */
+    @Override
+    public synchronized String toString() {
+        return String.format("frames=%d update(p50=%.2fms p95=%.2fms p99=%.2fms) render(p50=%.2fms p95=%.2fms p99=%.2fms) substeps(p50=%d p99=%d) dropped=%.3fs in %d frames quality=%d (%d changes)",
+                this.frameCount,
+                this.updateTimes.getPercentile(50), this.updateTimes.getPercentile(95), this.updateTimes.getPercentile(99),
+                this.renderTimes.getPercentile(50), this.renderTimes.getPercentile(95), this.renderTimes.getPercentile(99),
+                this.getSubStepPercentile(50), this.getSubStepPercentile(99),
+                this.droppedTime, this.framesWithDroppedTime,
+                this.qualityLevel, this.qualityLevelChanges);
+    }
+}
@@ -0,0 +1,109 @@
+package teamproject.wipeout.engine.core;
+
+/**
+ * Counts durations in fixed-width buckets, so percentiles can be read without storing every sample.
+ * Durations longer than the last bucket are counted in an overflow bucket, reported as the longest duration seen.
+ */
+public class FrameTimeHistogram {
+
+    public static final double BUCKET_WIDTH_MS = 0.05;
+    public static final int BUCKET_COUNT = 2000;
+
+    private final long[] buckets;
+    private long overflowCount;
+    private long count;
+    private double totalMs;
+    private double maxMs;
+
+    /**
+     * Creates a new, empty instance of FrameTimeHistogram
+     */
+    public FrameTimeHistogram() {
+        this.buckets = new long[BUCKET_COUNT];
+    }
+
+    /**
+     * Records a duration
+     * @param nanos The duration in nanoseconds
+     */
+    public synchronized void record(long nanos) {
+        double ms = nanos / 1000000.0;
+        int bucket = (int) (ms / BUCKET_WIDTH_MS);
+        if (bucket < BUCKET_COUNT) {
+            this.buckets[Math.max(bucket, 0)]++;
+        }
+        else {
+            this.overflowCount++;
+        }
+
+        this.count++;
+        this.totalMs += ms;
+        this.maxMs = Math.max(this.maxMs, ms);
+    }
+
+    /**
+     * Gets the duration that a given percentage of recorded durations are shorter than or equal to
+     * @param percentile The percentile to get, between 0 and 100
+     * @return The upper bound of the bucket containing the percentile (ms), or 0 if nothing has been recorded
+     */
+    public synchronized double getPercentile(double percentile) {
+        if (this.count == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(this.count * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += this.buckets[i];
+            if (seen >= target) {
+                return Math.min((i + 1) * BUCKET_WIDTH_MS, this.maxMs);
+            }
+        }
+        return this.maxMs;
+    }
+
+    /**
+     * Gets the number of durations recorded
+     * @return The number of durations
+     */
+    public synchronized long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Gets the mean of the recorded durations
+     * @return The mean duration (ms), or 0 if nothing has been recorded
+     */
+    public synchronized double getMean() {
+        return this.count == 0 ? 0 : this.totalMs / this.count;
+    }
+
+    /**
+     * Gets the longest recorded duration
+     * @return The longest duration (ms)
+     */
+    public synchronized double getMax() {
+        return this.maxMs;
+    }
+
+    /**
+     * Gets the number of durations too long to be placed in a bucket
+     * @return The number of overflowing durations
+     */
+    public synchronized long getOverflowCount() {
+        return this.overflowCount;
+    }
+
+    /**
+     * Removes every recorded duration
+     */
+    public synchronized void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            this.buckets[i] = 0;
+        }
+        this.overflowCount = 0;
+        this.count = 0;
+        this.totalMs = 0;
+        this.maxMs = 0;
+    }
+}
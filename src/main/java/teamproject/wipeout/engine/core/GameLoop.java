@@ -11,20 +11,58 @@ public class GameLoop extends AnimationTimer {
 
     public static final double timeStep = 0.01666f;
 
+    public static final int DEFAULT_MAX_SUB_STEPS = 5;
+
     private Consumer<Double> update;
     private Consumer<Double> renderer;
 
     private double lastTime;
     private double accumulator;
 
+    private int maxSubSteps;
+    private FrameStatistics statistics;
+    private QualityGovernor governor;
+
     /**
      * Creates a new GameLoop object
-     * @param {Consumer<Double>} A consumer object taking the previous frame time, which will update all logic systems
-     * @param {Consumer<Double>} A consumer object taking the previous frame time, which will rerender the scene.
+     * @param {Consumer<Double>} A consumer object taking the time step, which will update all logic systems
+     * @param {Consumer<Double>} A consumer object taking how far (0-1) the current time is between the last two updates, which will rerender the scene.
      */
     public GameLoop(Consumer<Double> update, Consumer<Double> renderer) {
+        this(update, renderer, DEFAULT_MAX_SUB_STEPS);
+    }
+
+    /**
+     * Creates a new GameLoop object
+     * @param {Consumer<Double>} A consumer object taking the time step, which will update all logic systems
+     * @param {Consumer<Double>} A consumer object taking how far (0-1) the current time is between the last two updates, which will rerender the scene.
+     * @param {int} The most updates run in one frame - any further time owed is dropped
+     */
+    public GameLoop(Consumer<Double> update, Consumer<Double> renderer, int maxSubSteps) {
         this.update = update;
         this.renderer = renderer;
+        this.maxSubSteps = maxSubSteps;
+        this.statistics = new FrameStatistics(maxSubSteps);
+    }
+
+    /**
+     * Gets the timing information recorded for each frame
+     * @return The FrameStatistics of this GameLoop
+     */
+    public FrameStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    /**
+     * Sets the QualityGovernor told how long each frame took to render
+     * @param governor The QualityGovernor, or null to stop governing quality
+     */
+    public void setQualityGovernor(QualityGovernor governor) {
+        this.governor = governor;
+    }
+
+    public QualityGovernor getQualityGovernor() {
+        return this.governor;
     }
 
     /**
@@ -41,16 +79,36 @@ public class GameLoop extends AnimationTimer {
      * Called at every frame of the GameLoop - updates the renderer every frame and the other GameSystems every time step.
      */
     @Override
-    public void handle(long currentTime) {        
+    public void handle(long currentTime) {
         double newCurrentTime = (currentTime / 1000000000.0);
         this.accumulator += (newCurrentTime - this.lastTime);
 
-        while (this.accumulator > timeStep) {
+        long updateStart = System.nanoTime();
+
+        int subSteps = 0;
+        while (this.accumulator > timeStep && subSteps < this.maxSubSteps) {
             this.update.accept(timeStep);
             this.accumulator -= timeStep;
+            subSteps++;
+        }
+
+        // Too far behind to catch up (e.g. after a GC pause) - drop whole steps rather than stalling on updates
+        double dropped = 0;
+        if (this.accumulator > timeStep) {
+            double remainder = this.accumulator % timeStep;
+            dropped = this.accumulator - remainder;
+            this.accumulator = remainder;
         }
 
-        this.renderer.accept(timeStep);
+        long renderStart = System.nanoTime();
+        this.renderer.accept(this.accumulator / timeStep);
+        long renderEnd = System.nanoTime();
+
+        this.statistics.recordFrame(renderStart - updateStart, renderEnd - renderStart, subSteps, dropped);
+        if (this.governor != null) {
+            this.governor.recordFrame(renderEnd - renderStart);
+            this.statistics.recordQualityLevel(this.governor.getLevel());
+        }
         this.lastTime = newCurrentTime;
     }
 
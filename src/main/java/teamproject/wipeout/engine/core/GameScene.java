@@ -1,10 +1,11 @@
 package teamproject.wipeout.engine.core;
 
+import teamproject.wipeout.engine.entity.ComponentStorage;
+import teamproject.wipeout.engine.entity.ComponentStorage.StorageMode;
 import teamproject.wipeout.engine.entity.GameEntity;
-import teamproject.wipeout.engine.entity.event.EntityChangeData;
-import teamproject.wipeout.util.BasicEvent;
+import teamproject.wipeout.engine.entity.event.EntityChangeChannel;
+import teamproject.wipeout.util.IndexedSet;
 
-import java.util.ArrayList;
 import java.util.List;
 
 
@@ -13,16 +14,74 @@ import java.util.List;
  */
 public class GameScene {
 
-    public BasicEvent<EntityChangeData> entityChangeEvent;
+    public EntityChangeChannel entityChangeEvent;
     public List<GameEntity> entities;
 
+    // Only present when components are stored in per-type arrays
+    protected ComponentStorage componentStorage;
+
+    // Structural changes requested by systems, applied between system updates
+    protected EntityCommandBuffer commandBuffer;
+
+    // Delayed tasks, run in game time by the SystemUpdater
+    protected TimerWheel timerWheel;
+
+    // The area in view of the camera, set by the renderer
+    protected ViewBounds viewBounds;
 
     /**
-     * Creates a new instance of GameScene
+     * Creates a new instance of GameScene, where each entity stores its own components
      */
     public GameScene() {
-        this.entityChangeEvent = new BasicEvent<EntityChangeData>();
-        this.entities = new ArrayList<GameEntity>();
+        this(StorageMode.MAP);
+    }
+
+    /**
+     * Creates a new instance of GameScene
+     * @param storageMode How the components of entities in this scene should be stored
+     */
+    public GameScene(StorageMode storageMode) {
+        this.entityChangeEvent = new EntityChangeChannel();
+        this.entities = new IndexedSet<GameEntity>();
+        this.commandBuffer = new EntityCommandBuffer(this);
+        this.timerWheel = new TimerWheel();
+        this.viewBounds = new ViewBounds();
+
+        if (storageMode == StorageMode.ARRAY) {
+            this.componentStorage = new ComponentStorage();
+        }
+    }
+
+    /**
+     * Gets the per-type component storage of this scene
+     * @return The ComponentStorage, or null if entities store their own components
+     */
+    public ComponentStorage getComponentStorage() {
+        return this.componentStorage;
+    }
+
+    /**
+     * Gets the command buffer used to defer structural changes to this scene
+     * @return The EntityCommandBuffer of this scene
+     */
+    public EntityCommandBuffer getCommandBuffer() {
+        return this.commandBuffer;
+    }
+
+    /**
+     * Gets the timer wheel used to run delayed tasks in this scene's game time
+     * @return The TimerWheel of this scene
+     */
+    public TimerWheel getTimerWheel() {
+        return this.timerWheel;
+    }
+
+    /**
+     * Gets the area of this scene in view of the camera, as last drawn by the renderer
+     * @return The ViewBounds of this scene
+     */
+    public ViewBounds getViewBounds() {
+        return this.viewBounds;
     }
 
     /**
@@ -38,9 +97,7 @@ public class GameScene {
      * @param newEntity The entity to add to the scene
      */
     public void addEntity(GameEntity newEntity) {
-        if (!this.entities.contains(newEntity)) {
-            this.entities.add(newEntity);
-        }
+        this.entities.add(newEntity);
     }
 
     /**
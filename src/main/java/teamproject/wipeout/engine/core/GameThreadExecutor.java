@@ -0,0 +1,44 @@
+package teamproject.wipeout.engine.core;
+
+import java.util.concurrent.Executor;
+
+import javafx.application.Platform;
+
+/**
+ * Runs tasks on the thread that updates the game, which is the JavaFX application thread unless
+ * another executor is set (e.g. by a HeadlessGameLoop, which has no JavaFX toolkit to run tasks on).
+ *
+ * Game logic should use this instead of Platform.runLater, so it can be simulated without a display.
+ */
+public class GameThreadExecutor {
+
+    private static final Executor javaFXExecutor = Platform::runLater;
+
+    private static volatile Executor executor = javaFXExecutor;
+
+    private GameThreadExecutor() {}
+
+    /**
+     * Runs a task on the game thread at some point in the future
+     * @param task The task to run
+     */
+    public static void runLater(Runnable task) {
+        executor.execute(task);
+    }
+
+    /**
+     * Changes where tasks are run
+     * @param newExecutor The executor to run tasks with, or null to go back to the JavaFX application thread
+     */
+    public static void setExecutor(Executor newExecutor) {
+        executor = newExecutor == null ? javaFXExecutor : newExecutor;
+    }
+
+    /**
+     * Gets the executor tasks are currently run with
+     * @return The current executor
+     */
+    public static Executor getExecutor() {
+        return executor;
+    }
+}
@@ -0,0 +1,244 @@
+package teamproject.wipeout.engine.core;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import teamproject.wipeout.util.threads.UtilityThread;
+
+/**
+ * Updates GameSystems without a JavaFX toolkit or display, either as fast as possible or at a fixed rate.
+ * Nothing is rendered - only give it systems that don't draw or play audio (e.g. leave out the RenderSystem and AudioSystems).
+ *
+ * While a HeadlessGameLoop is running (inside runSteps/runFor, or between start and stop) it is the GameThreadExecutor,
+ * so tasks passed to GameThreadExecutor.runLater are run on the loop's thread before the next update step.
+ * The previous executor is put back when it stops running.
+ */
+public class HeadlessGameLoop implements Executor {
+
+    private final Consumer<Double> update;
+    private final Queue<Runnable> pendingTasks;
+    private final FrameStatistics statistics;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    // The executor to put back when this loop stops, while this loop is the GameThreadExecutor
+    private boolean installed;
+    private Executor previousExecutor;
+
+    private volatile long stepCount;
+    private volatile double gameTime;
+
+    /**
+     * Creates a new HeadlessGameLoop
+     * @param update A consumer object taking the time step, which will update all logic systems (e.g. a SystemUpdater)
+     */
+    public HeadlessGameLoop(Consumer<Double> update) {
+        this.update = update;
+        this.pendingTasks = new ConcurrentLinkedQueue<>();
+        this.statistics = new FrameStatistics(GameLoop.DEFAULT_MAX_SUB_STEPS);
+        this.running = false;
+        this.installed = false;
+    }
+
+    /**
+     * Queues a task to be run before the next update step
+     * @param task The task to run
+     */
+    public void execute(Runnable task) {
+        this.pendingTasks.add(task);
+    }
+
+    /**
+     * Runs a number of update steps on the calling thread, as fast as possible
+     * @param steps The number of steps to run
+     */
+    public void runSteps(long steps) {
+        boolean wasInstalled = this.installed;
+        this.installExecutor();
+        try {
+            for (long i = 0; i < steps; i++) {
+                this.step(0);
+            }
+        }
+        finally {
+            if (!wasInstalled) {
+                this.restoreExecutor();
+            }
+        }
+    }
+
+    /**
+     * Runs update steps on the calling thread, as fast as possible, until an amount of game time has passed
+     * @param seconds The game time to simulate (s)
+     */
+    public void runFor(double seconds) {
+        this.runSteps((long) Math.ceil(seconds / GameLoop.timeStep));
+    }
+
+    /**
+     * Starts running update steps on a new thread until stop is called
+     * @param speed How many times faster than real time to run, or 0 to run as fast as possible
+     */
+    public void start(double speed) {
+        if (this.running) {
+            return;
+        }
+
+        this.installExecutor();
+        this.running = true;
+        this.thread = new UtilityThread(() -> {
+            if (speed > 0) {
+                this.runAtFixedRate((long) (GameLoop.timeStep * 1000000000.0 / speed));
+            }
+            else {
+                while (this.running) {
+                    this.step(0);
+                }
+            }
+        });
+        this.thread.start();
+    }
+
+    /**
+     * Stops the thread started by start, waiting for the current update step to finish,
+     * and puts back the GameThreadExecutor that was set before it started
+     */
+    public void stop() {
+        this.running = false;
+        if (this.thread != null && this.thread != Thread.currentThread()) {
+            try {
+                this.thread.join();
+            }
+            catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        this.thread = null;
+        this.restoreExecutor();
+    }
+
+    /**
+     * Stops running, and drops any tasks that were queued but not run
+     */
+    public void cleanup() {
+        this.stop();
+        this.pendingTasks.clear();
+    }
+
+    /**
+     * Gets whether the loop is running on its own thread
+     * @return Whether the loop is running
+     */
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * Gets the number of update steps run so far
+     * @return The number of steps
+     */
+    public long getStepCount() {
+        return this.stepCount;
+    }
+
+    /**
+     * Gets the game time simulated so far
+     * @return The game time (s)
+     */
+    public double getGameTime() {
+        return this.gameTime;
+    }
+
+    /**
+     * Gets the timing information recorded for each update step
+     * @return The FrameStatistics of this loop
+     */
+    public FrameStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    /**
+     * Makes this loop the GameThreadExecutor, remembering the executor it replaces
+     */
+    private void installExecutor() {
+        if (this.installed) {
+            return;
+        }
+
+        this.previousExecutor = GameThreadExecutor.getExecutor();
+        GameThreadExecutor.setExecutor(this);
+        this.installed = true;
+    }
+
+    /**
+     * Puts back the executor replaced by installExecutor, unless another executor has been set since
+     */
+    private void restoreExecutor() {
+        if (!this.installed) {
+            return;
+        }
+
+        if (GameThreadExecutor.getExecutor() == this) {
+            GameThreadExecutor.setExecutor(this.previousExecutor);
+        }
+        this.previousExecutor = null;
+        this.installed = false;
+    }
+
+    /**
+     * Runs update steps with a fixed real time between them, dropping steps if too far behind to catch up
+     * @param stepNanos The real time between steps (ns)
+     */
+    private void runAtFixedRate(long stepNanos) {
+        long nextStep = System.nanoTime();
+        long maxLag = stepNanos * GameLoop.DEFAULT_MAX_SUB_STEPS;
+
+        while (this.running) {
+            long now = System.nanoTime();
+            if (now < nextStep) {
+                try {
+                    Thread.sleep((nextStep - now) / 1000000, (int) ((nextStep - now) % 1000000));
+                }
+                catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                continue;
+            }
+
+            // Too far behind to catch up - skip the owed steps rather than running them back to back
+            double dropped = 0;
+            if (now - nextStep > maxLag) {
+                long droppedSteps = (now - nextStep) / stepNanos;
+                dropped = droppedSteps * GameLoop.timeStep;
+                nextStep += droppedSteps * stepNanos;
+            }
+
+            this.step(dropped);
+            nextStep += stepNanos;
+        }
+    }
+
+    /**
+     * Runs the queued tasks then one update step
+     * @param dropped The game time dropped before this step (s)
+     */
+    private void step(double dropped) {
+        long start = System.nanoTime();
+
+        // Tasks queued by these tasks wait for the next step, like Platform.runLater
+        int taskCount = this.pendingTasks.size();
+        for (int i = 0; i < taskCount; i++) {
+            this.pendingTasks.poll().run();
+        }
+
+        this.update.accept(GameLoop.timeStep);
+        this.stepCount++;
+        this.gameTime += GameLoop.timeStep;
+
+        this.statistics.recordFrame(System.nanoTime() - start, 0, 1, dropped);
+    }
+}
@@ -0,0 +1,149 @@
+package teamproject.wipeout.engine.core;
+
+/**
+ * Lowers rendering quality when frames take too long to render, and raises it again when there is time to spare.
+ *
+ * Each quality level lowers one of the following a step further than the level before it:
+ * the render scale (the fraction of the window's resolution the canvases are drawn at), the fraction of each
+ * particle effect's maximum particles emitted, and the fraction of each animation's frame rate shown.
+ * Level 0 is full quality. The level is raised when the smoothed render time has been over budget for
+ * OVER_BUDGET_FRAMES frames, and lowered when it has been under HEADROOM of the budget for UNDER_BUDGET_FRAMES frames.
+ */
+public class QualityGovernor {
+
+    public static final long DEFAULT_BUDGET_NANOS = 10000000;
+
+    public static final int OVER_BUDGET_FRAMES = 30;
+    public static final int UNDER_BUDGET_FRAMES = 180;
+    public static final double HEADROOM = 0.6;
+
+    // How much each frame's render time moves the smoothed render time
+    private static final double SMOOTHING = 0.1;
+
+    private static final double[] RENDER_SCALES = {1, 0.85, 0.85, 0.7, 0.7, 0.5};
+    private static final double[] PARTICLE_MULTIPLIERS = {1, 1, 0.5, 0.5, 0.25, 0.25};
+    private static final double[] ANIMATION_RATE_MULTIPLIERS = {1, 1, 1, 1, 0.5, 0.5};
+
+    public static final int MAX_LEVEL = RENDER_SCALES.length - 1;
+
+    private final long budgetNanos;
+    private int level;
+
+    private double smoothedNanos;
+    private int overBudgetFrames;
+    private int underBudgetFrames;
+
+    private Runnable onLevelChange;
+
+    /**
+     * Creates a new instance of QualityGovernor with the default budget, at full quality
+     */
+    public QualityGovernor() {
+        this(DEFAULT_BUDGET_NANOS);
+    }
+
+    /**
+     * Creates a new instance of QualityGovernor at full quality
+     * @param budgetNanos The most time rendering a frame should take (ns)
+     */
+    public QualityGovernor(long budgetNanos) {
+        this.budgetNanos = budgetNanos;
+        this.level = 0;
+        this.smoothedNanos = -1;
+    }
+
+    /**
+     * Records how long a frame took to render, changing the quality level if needed
+     * @param renderNanos The time spent rendering the frame (ns)
+     * @return Whether the quality level changed
+     */
+    public boolean recordFrame(long renderNanos) {
+        if (this.smoothedNanos < 0) {
+            this.smoothedNanos = renderNanos;
+        }
+        else {
+            this.smoothedNanos += SMOOTHING * (renderNanos - this.smoothedNanos);
+        }
+
+        if (this.smoothedNanos > this.budgetNanos) {
+            this.underBudgetFrames = 0;
+            if (++this.overBudgetFrames >= OVER_BUDGET_FRAMES && this.level < MAX_LEVEL) {
+                this.setLevel(this.level + 1);
+                return true;
+            }
+        }
+        else if (this.smoothedNanos < this.budgetNanos * HEADROOM) {
+            this.overBudgetFrames = 0;
+            if (++this.underBudgetFrames >= UNDER_BUDGET_FRAMES && this.level > 0) {
+                this.setLevel(this.level - 1);
+                return true;
+            }
+        }
+        else {
+            this.overBudgetFrames = 0;
+            this.underBudgetFrames = 0;
+        }
+        return false;
+    }
+
+    /**
+     * Sets the quality level, starting to measure render times at the new level from scratch
+     * @param level The new level, between 0 (full quality) and MAX_LEVEL
+     */
+    public void setLevel(int level) {
+        if (level < 0 || level > MAX_LEVEL) {
+            throw new IllegalArgumentException("Invalid quality level: " + level);
+        }
+
+        this.overBudgetFrames = 0;
+        this.underBudgetFrames = 0;
+        this.smoothedNanos = -1;
+
+        if (level != this.level) {
+            this.level = level;
+            if (this.onLevelChange != null) {
+                this.onLevelChange.run();
+            }
+        }
+    }
+
+    /**
+     * Sets the function called when the quality level changes, to apply the new level's settings
+     * @param onLevelChange The function to call
+     */
+    public void setOnLevelChange(Runnable onLevelChange) {
+        this.onLevelChange = onLevelChange;
+    }
+
+    public int getLevel() {
+        return this.level;
+    }
+
+    public long getBudgetNanos() {
+        return this.budgetNanos;
+    }
+
+    /**
+     * Gets the fraction of the window's resolution to render at
+     * @return The render scale (0-1)
+     */
+    public double getRenderScale() {
+        return RENDER_SCALES[this.level];
+    }
+
+    /**
+     * Gets the fraction of each particle effect's maximum particles to emit
+     * @return The particle multiplier (0-1)
+     */
+    public double getParticleMultiplier() {
+        return PARTICLE_MULTIPLIERS[this.level];
+    }
+
+    /**
+     * Gets the fraction of each animation's frame rate to show
+     * @return The animation rate multiplier (0-1)
+     */
+    public double getAnimationRateMultiplier() {
+        return ANIMATION_RATE_MULTIPLIERS[this.level];
+    }
+}
@@ -2,22 +2,62 @@ package teamproject.wipeout.engine.core;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Consumer;
 
+import teamproject.wipeout.engine.entity.ComponentMask;
 import teamproject.wipeout.engine.system.GameSystem;
 
 /**
  * Stores a list of GameSystems, and updates them at each timeStep in the GameLoop.
+ *
+ * Systems are grouped into stages: a system is placed in a later stage than every system added before it
+ * that it conflicts with (one writes a component type the other reads or writes). Systems in the same stage
+ * are run at the same time on a ForkJoinPool, except thread bound systems, which are run on the updating thread.
+ * Systems that don't declare their component types conflict with everything, so run on their own.
  */
 public class SystemUpdater implements Consumer<Double> {
 
     private List<GameSystem> systems;
-    
+
+    // The scene whose timers are advanced and whose command buffer is flushed after each stage
+    private GameScene scene;
+
+    // The pool systems in the same stage are run on, or null to run every system on the updating thread
+    private ForkJoinPool pool;
+
+    private List<List<GameSystem>> stages;
+    private boolean stagesDirty;
+    private List<ForkJoinTask<?>> runningTasks;
+
+    /**
+     * Creates a new instance of SystemUpdater, which advances the scene's timers, applies its deferred changes
+     * after each stage, and runs non-conflicting systems on the common ForkJoinPool
+     * @param scene The GameScene the systems update
+     */
+    public SystemUpdater(GameScene scene) {
+        this(scene, ForkJoinPool.commonPool());
+    }
+
     /**
      * Creates a new instance of SystemUpdater
+     * @param scene The GameScene the systems update
+     * @param pool The pool to run non-conflicting systems on, or null to run every system on the updating thread
+     * @throws IllegalArgumentException if the scene is null - its timers and deferred changes would never run
      */
-    public SystemUpdater() {
+    public SystemUpdater(GameScene scene, ForkJoinPool pool) {
+        if (scene == null) {
+            throw new IllegalArgumentException("SystemUpdater needs a GameScene to advance timers and apply deferred changes");
+        }
+
         this.systems = new ArrayList<GameSystem>();
+        this.scene = scene;
+        this.pool = pool;
+
+        this.stages = new ArrayList<>();
+        this.stagesDirty = true;
+        this.runningTasks = new ArrayList<>();
     }
 
     /**
@@ -34,6 +74,7 @@ public class SystemUpdater implements Consumer<Double> {
      */
     public void addSystem(GameSystem g) {
         this.systems.add(g);
+        this.stagesDirty = true;
     }
 
     /**
@@ -41,15 +82,144 @@ public class SystemUpdater implements Consumer<Double> {
      * @return Whether the system was removed successfully
      */
     public boolean removeSystem(GameSystem g) {
+        this.stagesDirty = true;
         return this.systems.remove(g);
     }
 
     /**
-     * Called each timeStep - this calls the update function on each system in this SystemUpdater's control
+     * Called each timeStep - this runs the scene's due timers, then calls the update function on each system
+     * in this SystemUpdater's control, applying any changes the systems deferred before the next stage runs
      */
     public void accept(Double timeStep) {
-        for (GameSystem g : this.systems) {
-            g.accept(timeStep);
+        if (this.stagesDirty) {
+            this.buildStages();
+        }
+
+        // Timers only move forward while the systems are updated, so pausing the game pauses them too
+        this.scene.getTimerWheel().advance(timeStep);
+        this.scene.getCommandBuffer().flush();
+
+        for (int i = 0; i < this.stages.size(); i++) {
+            this.runStage(this.stages.get(i), timeStep);
+            this.scene.getCommandBuffer().flush();
+        }
+    }
+
+    /**
+     * Gets the stages systems are currently run in
+     * @return The list of stages, each a list of systems that are run at the same time
+     */
+    List<List<GameSystem>> getStages() {
+        if (this.stagesDirty) {
+            this.buildStages();
+        }
+        return this.stages;
+    }
+
+    /**
+     * Runs every system in a stage, forking those that aren't thread bound onto the pool
+     * @param stage The systems to run (those that aren't thread bound come first)
+     * @param timeStep The time since the last update (s)
+     */
+    private void runStage(List<GameSystem> stage, Double timeStep) {
+        int lastIndex = stage.size() - 1;
+        if (lastIndex == 0 || this.pool == null) {
+            for (int i = 0; i <= lastIndex; i++) {
+                stage.get(i).accept(timeStep);
+            }
+            return;
+        }
+
+        try {
+            for (int i = 0; i <= lastIndex; i++) {
+                GameSystem system = stage.get(i);
+                // The last system is run here rather than forked, as this thread would otherwise be waiting
+                if (i < lastIndex && !system.isThreadBound()) {
+                    this.runningTasks.add(this.pool.submit(() -> system.accept(timeStep)));
+                }
+                else {
+                    system.accept(timeStep);
+                }
+            }
+        }
+        finally {
+            // Every forked system must finish before the stage ends, even if one on this thread failed
+            for (int i = 0; i < this.runningTasks.size(); i++) {
+                this.runningTasks.get(i).quietlyJoin();
+            }
+        }
+
+        try {
+            for (int i = 0; i < this.runningTasks.size(); i++) {
+                // Rethrows any exception thrown by the system
+                this.runningTasks.get(i).join();
+            }
+        }
+        finally {
+            this.runningTasks.clear();
+        }
+    }
+
+    /**
+     * Groups the systems into stages using the component types they read and write
+     */
+    private void buildStages() {
+        int systemCount = this.systems.size();
+        ComponentMask[] reads = new ComponentMask[systemCount];
+        ComponentMask[] writes = new ComponentMask[systemCount];
+        int[] stageIndices = new int[systemCount];
+
+        this.stages.clear();
+
+        for (int i = 0; i < systemCount; i++) {
+            GameSystem system = this.systems.get(i);
+            if (system.getReadComponents() != null && system.getWriteComponents() != null) {
+                reads[i] = ComponentMask.of(system.getReadComponents());
+                writes[i] = ComponentMask.of(system.getWriteComponents());
+            }
+
+            // Run after every earlier system this one conflicts with
+            int stageIndex = 0;
+            for (int j = 0; j < i; j++) {
+                if (stageIndices[j] >= stageIndex && this.conflicts(reads[i], writes[i], reads[j], writes[j])) {
+                    stageIndex = stageIndices[j] + 1;
+                }
+            }
+            stageIndices[i] = stageIndex;
+
+            if (stageIndex == this.stages.size()) {
+                this.stages.add(new ArrayList<>());
+            }
+
+            List<GameSystem> stage = this.stages.get(stageIndex);
+            if (system.isThreadBound()) {
+                stage.add(system);
+            }
+            else {
+                // Keep systems that can be forked at the start of the stage
+                int insertIndex = 0;
+                while (insertIndex < stage.size() && !stage.get(insertIndex).isThreadBound()) {
+                    insertIndex++;
+                }
+                stage.add(insertIndex, system);
+            }
+        }
+
+        this.stagesDirty = false;
+    }
+
+    /**
+     * Tests whether two systems can't be run at the same time
+     * @param readsA The component types the first system reads, or null if undeclared
+     * @param writesA The component types the first system writes, or null if undeclared
+     * @param readsB The component types the second system reads, or null if undeclared
+     * @param writesB The component types the second system writes, or null if undeclared
+     * @return Whether the systems conflict
+     */
+    private boolean conflicts(ComponentMask readsA, ComponentMask writesA, ComponentMask readsB, ComponentMask writesB) {
+        if (readsA == null || readsB == null) {
+            return true;
         }
+        return writesA.intersects(readsB) || writesA.intersects(writesB) || writesB.intersects(readsA);
     }
 }
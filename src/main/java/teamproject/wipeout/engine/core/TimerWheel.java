@@ -0,0 +1,245 @@
+package teamproject.wipeout.engine.core;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Runs delayed tasks after an amount of game time, on the thread that advances it.
+ *
+ * Timers are kept in a hashed wheel of slots, one per tick, so scheduling and expiring a timer are constant time.
+ * A timer due further away than one turn of the wheel waits for the remaining number of turns in its slot.
+ * As the wheel is only moved forward by advance (the SystemUpdater advances its scene's wheel every update step),
+ * timers don't run while the game isn't being updated, and always run on the same step for the same inputs.
+ *
+ * Timers can be scheduled from any thread, they are added to the wheel on the next tick.
+ */
+public class TimerWheel {
+
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final double tickLength;
+    private final int mask;
+    private final Timeout[] slotHeads;
+    private final Timeout[] slotTails;
+
+    // Timers scheduled since the last tick, not yet placed in a slot
+    private final Queue<Timeout> scheduledTimeouts;
+
+    private volatile long tick;
+    private double accumulatedTime;
+    private int pendingCount;
+
+    /**
+     * Creates a new instance of TimerWheel, which ticks once per GameLoop time step
+     */
+    public TimerWheel() {
+        this(GameLoop.timeStep, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Creates a new instance of TimerWheel
+     * @param tickLength The game time between ticks (s), timers run on the first tick after they are due
+     * @param wheelSize The number of slots in the wheel, rounded up to a power of two
+     */
+    public TimerWheel(double tickLength, int wheelSize) {
+        if (tickLength <= 0) {
+            throw new IllegalArgumentException("tickLength must be positive");
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("wheelSize must be between 1 and 2^30");
+        }
+
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+
+        this.tickLength = tickLength;
+        this.mask = size - 1;
+        this.slotHeads = new Timeout[size];
+        this.slotTails = new Timeout[size];
+        this.scheduledTimeouts = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Schedules a task to run once an amount of game time has passed
+     * @param delay The game time to wait (s), tasks always wait for at least one tick
+     * @param task The task to run
+     * @return A Timeout which can be used to cancel the task
+     */
+    public Timeout schedule(double delay, Runnable task) {
+        long delayTicks = Math.max(1, (long) Math.ceil(delay / this.tickLength));
+        Timeout timeout = new Timeout(task, this.tick + delayTicks);
+        this.scheduledTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Moves the wheel forward, running every task that becomes due in order of when it was due
+     * @param timeStep The game time that has passed (s)
+     */
+    public void advance(double timeStep) {
+        this.accumulatedTime += timeStep;
+        while (this.accumulatedTime >= this.tickLength) {
+            this.accumulatedTime -= this.tickLength;
+            this.tick++;
+            this.placeScheduledTimeouts();
+            this.expireSlot((int) (this.tick & this.mask));
+        }
+    }
+
+    /**
+     * Cancels every timer that hasn't run yet
+     */
+    public void clear() {
+        this.placeScheduledTimeouts();
+        for (int i = 0; i < this.slotHeads.length; i++) {
+            for (Timeout timeout = this.slotHeads[i]; timeout != null; timeout = timeout.next) {
+                timeout.cancel();
+            }
+            this.slotHeads[i] = null;
+            this.slotTails[i] = null;
+        }
+        this.pendingCount = 0;
+    }
+
+    /**
+     * Gets the number of ticks the wheel has moved forward
+     * @return The current tick
+     */
+    public long getTick() {
+        return this.tick;
+    }
+
+    /**
+     * Gets the game time the wheel has moved forward
+     * @return The current time (s)
+     */
+    public double getTime() {
+        return this.tick * this.tickLength;
+    }
+
+    /**
+     * Gets the number of timers placed in the wheel that haven't run or been removed after being cancelled
+     * @return The number of pending timers
+     */
+    public int getPendingCount() {
+        return this.pendingCount;
+    }
+
+    /**
+     * Adds the timers scheduled since the last tick to their slots
+     */
+    private void placeScheduledTimeouts() {
+        Timeout timeout;
+        while ((timeout = this.scheduledTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+
+            // Scheduled while a tick was being run, so one tick late at most
+            long deadline = Math.max(timeout.deadline, this.tick);
+            timeout.remainingRounds = (deadline - this.tick) / this.slotHeads.length;
+
+            int slot = (int) (deadline & this.mask);
+            if (this.slotTails[slot] == null) {
+                this.slotHeads[slot] = timeout;
+            }
+            else {
+                this.slotTails[slot].next = timeout;
+            }
+            this.slotTails[slot] = timeout;
+            this.pendingCount++;
+        }
+    }
+
+    /**
+     * Runs the due timers in a slot, and counts down the rounds of the others
+     * @param slot The index of the slot
+     */
+    private void expireSlot(int slot) {
+        Timeout previous = null;
+        Timeout timeout = this.slotHeads[slot];
+
+        while (timeout != null) {
+            Timeout next = timeout.next;
+
+            boolean due = timeout.remainingRounds == 0;
+            if (due || timeout.isCancelled()) {
+                // Unlink before running, as the task may schedule more timers
+                if (previous == null) {
+                    this.slotHeads[slot] = next;
+                }
+                else {
+                    previous.next = next;
+                }
+                if (next == null) {
+                    this.slotTails[slot] = previous;
+                }
+                timeout.next = null;
+                this.pendingCount--;
+
+                if (due) {
+                    timeout.expire();
+                }
+            }
+            else {
+                timeout.remainingRounds--;
+                previous = timeout;
+            }
+
+            timeout = next;
+        }
+    }
+
+    /**
+     * A task scheduled on a TimerWheel
+     */
+    public static class Timeout {
+
+        private final Runnable task;
+        private final long deadline;
+
+        private volatile boolean cancelled;
+        private volatile boolean expired;
+
+        private long remainingRounds;
+        private Timeout next;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Stops the task from running, if it hasn't run yet
+         */
+        public void cancel() {
+            this.cancelled = true;
+        }
+
+        /**
+         * Gets whether the task was cancelled
+         * @return true if cancelled, otherwise false
+         */
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        /**
+         * Gets whether the task has run
+         * @return true if run, otherwise false
+         */
+        public boolean isExpired() {
+            return this.expired;
+        }
+
+        private void expire() {
+            if (this.cancelled) {
+                return;
+            }
+            this.expired = true;
+            this.task.run();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package teamproject.wipeout.engine.core;
+
+/**
+ * The area of the world in view of the camera, as last drawn by the renderer.
+ * Systems can use it to do less work for entities that can't be seen (e.g. off-screen particle effects).
+ * Until the renderer has set it, everything counts as being in view.
+ */
+public class ViewBounds {
+
+    private double minX;
+    private double minY;
+    private double maxX;
+    private double maxY;
+    private boolean set;
+
+    /**
+     * Sets the area in view
+     * @param minX The left edge of the view
+     * @param minY The top edge of the view
+     * @param maxX The right edge of the view
+     * @param maxY The bottom edge of the view
+     */
+    public synchronized void set(double minX, double minY, double maxX, double maxY) {
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.set = true;
+    }
+
+    /**
+     * Forgets the area in view, so everything counts as being in view again
+     */
+    public synchronized void clear() {
+        this.set = false;
+    }
+
+    /**
+     * Gets whether the renderer has set the area in view
+     * @return Whether the view is set
+     */
+    public synchronized boolean isSet() {
+        return this.set;
+    }
+
+    /**
+     * Tests whether a point is in view, or within a margin of it
+     * @param x The x coordinate of the point
+     * @param y The y coordinate of the point
+     * @param margin How far outside the view the point can be
+     * @return Whether the point is near the view (always true if the view isn't set)
+     */
+    public synchronized boolean isNear(double x, double y, double margin) {
+        if (!this.set) {
+            return true;
+        }
+        return x >= this.minX - margin && x <= this.maxX + margin && y >= this.minY - margin && y <= this.maxY + margin;
+    }
+
+    public synchronized double getMinX() {
+        return this.minX;
+    }
+
+    public synchronized double getMinY() {
+        return this.minY;
+    }
+
+    public synchronized double getMaxX() {
+        return this.maxX;
+    }
+
+    public synchronized double getMaxY() {
+        return this.maxY;
+    }
+}
@@ -0,0 +1,148 @@
+package teamproject.wipeout.engine.entity;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Bitmask of component type IDs (see ComponentType), used to test entities against signatures without any lookups
+ */
+public class ComponentMask {
+
+    private long[] words;
+
+    /**
+     * Creates a new, empty instance of ComponentMask
+     */
+    public ComponentMask() {
+        this.words = new long[1];
+    }
+
+    /**
+     * Creates a ComponentMask containing the given component classes
+     *
+     * @param componentClasses The component classes to include in the mask
+     * @return The new ComponentMask
+     */
+    public static ComponentMask of(Collection<? extends Class<?>> componentClasses) {
+        ComponentMask mask = new ComponentMask();
+        for (Class<?> componentClass : componentClasses) {
+            mask.set(ComponentType.getID(componentClass));
+        }
+        return mask;
+    }
+
+    /**
+     * Sets the bit for a given component type ID
+     *
+     * @param typeID The component type ID
+     */
+    public void set(int typeID) {
+        int word = typeID >>> 6;
+        if (word >= this.words.length) {
+            this.words = Arrays.copyOf(this.words, Math.max(word + 1, this.words.length * 2));
+        }
+        this.words[word] |= (1L << typeID);
+    }
+
+    /**
+     * Clears the bit for a given component type ID
+     *
+     * @param typeID The component type ID
+     */
+    public void clear(int typeID) {
+        int word = typeID >>> 6;
+        if (word < this.words.length) {
+            this.words[word] &= ~(1L << typeID);
+        }
+    }
+
+    /**
+     * Clears every bit in this mask
+     */
+    public void clear() {
+        Arrays.fill(this.words, 0L);
+    }
+
+    /**
+     * Gets whether the bit for a given component type ID is set
+     *
+     * @param typeID The component type ID
+     * @return Whether the bit is set
+     */
+    public boolean get(int typeID) {
+        int word = typeID >>> 6;
+        return word < this.words.length && (this.words[word] & (1L << typeID)) != 0;
+    }
+
+    /**
+     * Gets whether no bits are set in this mask
+     *
+     * @return Whether this mask is empty
+     */
+    public boolean isEmpty() {
+        for (long word : this.words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the next set bit at or after a given index
+     *
+     * @param fromIndex The index to start searching from
+     * @return The next set type ID, or -1 if there are none
+     */
+    public int nextSetBit(int fromIndex) {
+        int word = fromIndex >>> 6;
+        if (word >= this.words.length) {
+            return -1;
+        }
+
+        long current = this.words[word] & (-1L << fromIndex);
+        while (true) {
+            if (current != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(current);
+            }
+            word++;
+            if (word == this.words.length) {
+                return -1;
+            }
+            current = this.words[word];
+        }
+    }
+
+    /**
+     * Tests whether every bit set in another mask is also set in this mask
+     *
+     * @param other The mask to test against (e.g. a collector's signature)
+     * @return Whether this mask is a superset of the other mask
+     */
+    public boolean containsAll(ComponentMask other) {
+        long[] otherWords = other.words;
+        for (int i = 0; i < otherWords.length; i++) {
+            long mine = i < this.words.length ? this.words[i] : 0L;
+            if ((mine & otherWords[i]) != otherWords[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tests whether this mask shares any set bit with another mask
+     *
+     * @param other The mask to test against
+     * @return Whether any bit is set in both masks
+     */
+    public boolean intersects(ComponentMask other) {
+        int length = Math.min(this.words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            if ((this.words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
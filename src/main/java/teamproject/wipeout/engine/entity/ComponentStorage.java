@@ -0,0 +1,115 @@
+package teamproject.wipeout.engine.entity;
+
+import java.util.Arrays;
+
+import teamproject.wipeout.engine.component.GameComponent;
+
+/**
+ * Stores the components of every entity in a GameScene in per-type arrays, indexed by entity slot.
+ * Looking up a component is then a single array load rather than a HashMap lookup.
+ */
+public class ComponentStorage {
+
+    /**
+     * How a GameScene stores the components of its entities
+     */
+    public enum StorageMode {
+        // Each entity keeps its own components, in an array indexed by type ID
+        MAP,
+        // Components are kept in per-type arrays owned by the scene (see ComponentStorage)
+        ARRAY
+    }
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // components[typeID][slot]
+    private GameComponent[][] components;
+    private int capacity;
+
+    private int nextSlot;
+    private int[] freeSlots;
+    private int freeSlotCount;
+
+    /**
+     * Creates a new instance of ComponentStorage
+     */
+    public ComponentStorage() {
+        this.capacity = INITIAL_CAPACITY;
+        this.components = new GameComponent[Math.max(ComponentType.count(), 16)][];
+        this.nextSlot = 0;
+        this.freeSlots = new int[INITIAL_CAPACITY];
+        this.freeSlotCount = 0;
+    }
+
+    /**
+     * Allocates a slot for a new entity, reusing a freed slot if possible
+     *
+     * @return The slot index for the entity
+     */
+    public int allocateSlot() {
+        if (this.freeSlotCount > 0) {
+            return this.freeSlots[--this.freeSlotCount];
+        }
+
+        int slot = this.nextSlot++;
+        if (slot >= this.capacity) {
+            this.capacity *= 2;
+            for (int i = 0; i < this.components.length; i++) {
+                if (this.components[i] != null) {
+                    this.components[i] = Arrays.copyOf(this.components[i], this.capacity);
+                }
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Frees a slot so it can be reused by another entity. All components in the slot must already be removed.
+     *
+     * @param slot The slot to free
+     */
+    public void freeSlot(int slot) {
+        if (this.freeSlotCount == this.freeSlots.length) {
+            this.freeSlots = Arrays.copyOf(this.freeSlots, this.freeSlots.length * 2);
+        }
+        this.freeSlots[this.freeSlotCount++] = slot;
+    }
+
+    /**
+     * Gets a component from storage
+     *
+     * @param typeID The component type ID (see ComponentType)
+     * @param slot The entity slot
+     * @return The stored component, or null if there is none
+     */
+    public GameComponent get(int typeID, int slot) {
+        if (typeID >= this.components.length) {
+            return null;
+        }
+        GameComponent[] column = this.components[typeID];
+        return column == null ? null : column[slot];
+    }
+
+    /**
+     * Stores a component, or clears it if the component is null
+     *
+     * @param typeID The component type ID (see ComponentType)
+     * @param slot The entity slot
+     * @param component The component to store
+     */
+    public void set(int typeID, int slot, GameComponent component) {
+        if (typeID >= this.components.length) {
+            this.components = Arrays.copyOf(this.components, Math.max(typeID + 1, this.components.length * 2));
+        }
+
+        GameComponent[] column = this.components[typeID];
+        if (column == null) {
+            if (component == null) {
+                return;
+            }
+            column = new GameComponent[this.capacity];
+            this.components[typeID] = column;
+        }
+        column[slot] = component;
+    }
+}
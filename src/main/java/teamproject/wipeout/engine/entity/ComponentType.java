@@ -0,0 +1,41 @@
+package teamproject.wipeout.engine.entity;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns every GameComponent class a dense integer ID.
+ * IDs are used to index component masks and the per-type arrays in ComponentStorage.
+ */
+public final class ComponentType {
+
+    private static final AtomicInteger nextID = new AtomicInteger(0);
+
+    // ClassValue caches the ID against the Class object itself, so no hashing of Class objects is needed
+    private static final ClassValue<Integer> typeIDs = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return nextID.getAndIncrement();
+        }
+    };
+
+    private ComponentType() {}
+
+    /**
+     * Gets the dense integer ID of a component class, assigning a new one if this class has not been seen before
+     *
+     * @param componentClass The component class
+     * @return The integer ID of the component class
+     */
+    public static int getID(Class<?> componentClass) {
+        return typeIDs.get(componentClass);
+    }
+
+    /**
+     * Gets the number of component types that have been assigned IDs so far
+     *
+     * @return The number of registered component types
+     */
+    public static int count() {
+        return nextID.get();
+    }
+}
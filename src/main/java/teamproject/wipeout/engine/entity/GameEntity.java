@@ -1,20 +1,21 @@
 package teamproject.wipeout.engine.entity;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 import teamproject.wipeout.engine.component.EntityAwareGameComponent;
 import teamproject.wipeout.engine.component.GameComponent;
-import teamproject.wipeout.engine.entity.event.EntityChangeEvent;
+import teamproject.wipeout.engine.component.Transform;
+import teamproject.wipeout.engine.entity.event.EntityChangeType;
 import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.util.IndexedSet;
 
 /**
  * Represents any entity in the GameScene
  */
-public class GameEntity {
+public class GameEntity implements IndexedSet.Member {
 
     private GameEntity parent;
     private List<GameEntity> children;
@@ -23,8 +24,17 @@ public class GameEntity {
 
     protected GameScene scene;
 
-    // This maps componentIDs to components
-    protected Map<Class<?>, GameComponent> componentMap;
+    // Components indexed by their type ID (only used when the scene does not provide a ComponentStorage)
+    protected GameComponent[] components;
+
+    // Bitmask of the component types (see ComponentType) this entity currently has
+    protected ComponentMask componentMask;
+
+    // Slot in the scene's ComponentStorage, or -1 if no slot is allocated
+    private int slot;
+
+    // Slot in the scene's entity list and in each collector this entity is in
+    private final IndexedSet.Slots indexedSetSlots;
 
     /**
      * Creates a new instance of GameEntity
@@ -33,7 +43,10 @@ public class GameEntity {
      */
     public GameEntity(GameScene scene) {
         this.uuid = UUID.randomUUID().toString();
-        this.componentMap = new HashMap<Class<?>, GameComponent>();
+        this.components = new GameComponent[ComponentType.count()];
+        this.componentMask = new ComponentMask();
+        this.slot = -1;
+        this.indexedSetSlots = new IndexedSet.Slots();
         this.parent = null;
         this.children = new ArrayList<>();
         this.setScene(scene);
@@ -54,13 +67,22 @@ public class GameEntity {
      * @param scene The new scene
      */
     public void setScene(GameScene scene) {
+        GameComponent[] components = null;
         if (this.scene != null) {
             this.scene.removeEntity(this);
-            this.scene.entityChangeEvent.emit(new EntityChangeEvent("ENTITY_REMOVED", this));
+            this.scene.entityChangeEvent.emit(EntityChangeType.ENTITY_REMOVED, this, null);
+
+            // Components may be stored by the old scene, so take them out before switching
+            components = this.takeComponents();
         }
         this.scene = scene;
+        if (components != null) {
+            for (GameComponent component : components) {
+                this.storeComponent(ComponentType.getID(component.getClass()), component);
+            }
+        }
         this.scene.addEntity(this);
-        this.scene.entityChangeEvent.emit(new EntityChangeEvent("COMPONENT_ADDED", this));
+        this.scene.entityChangeEvent.emit(EntityChangeType.ENTITY_ADDED, this, null);
     }
 
     /**
@@ -72,6 +94,10 @@ public class GameEntity {
         return this.uuid;
     }
 
+    public IndexedSet.Slots getIndexedSetSlots() {
+        return this.indexedSetSlots;
+    }
+
     /**
      * Gets this entity's parent GameEntity
      * 
@@ -100,6 +126,9 @@ public class GameEntity {
         if (this.parent != null) {
             this.parent.addChild(this);
         }
+
+        // The world positions below this entity are now relative to a different parent
+        Transform.invalidateWorldPositions(this);
     }
 
     /**
@@ -136,14 +165,14 @@ public class GameEntity {
      * Destroys this Entity
      */
     public void destroy() {
-        this.componentMap.clear();
-
         while (children.size() > 0) {
             children.get(0).destroy();
         }
 
-        this.scene.entityChangeEvent.emit(new EntityChangeEvent("ENTITY_REMOVED", this));
+        // Emit while components are still present, so observers can tell which types the entity had
+        this.scene.entityChangeEvent.emit(EntityChangeType.ENTITY_REMOVED, this, null);
         this.scene.removeEntity(this);
+        this.takeComponents();
 
         this.setParent(null);
         this.children = null;
@@ -156,7 +185,26 @@ public class GameEntity {
      * @return Whether the given component type exists on this entity
      */
     public <T extends GameComponent> boolean hasComponent(Class<T> c) {
-        return this.componentMap.containsKey(c);
+        return this.componentMask.get(ComponentType.getID(c));
+    }
+
+    /**
+     * Returns whether this entity contains a component of a given type ID
+     * 
+     * @param typeID The component type ID to check for (see ComponentType)
+     * @return Whether the given component type exists on this entity
+     */
+    public boolean hasComponent(int typeID) {
+        return this.componentMask.get(typeID);
+    }
+
+    /**
+     * Gets the bitmask of component types this entity currently has
+     * 
+     * @return The ComponentMask of this entity
+     */
+    public ComponentMask getComponentMask() {
+        return this.componentMask;
     }
 
     /**
@@ -165,11 +213,39 @@ public class GameEntity {
      * @param c The component type to return
      * @return The instance of the component on this entity
      */
+    @SuppressWarnings("unchecked")
     public <T extends GameComponent> T getComponent(Class<T> c) {
-        if (this.componentMap.containsKey(c)) {
-            return (T) this.componentMap.get(c);
+        // Components are stored under the ID of their own class, so the component found is always a T
+        int typeID = ComponentType.getID(c);
+        if (!this.componentMask.get(typeID)) {
+            return null;
         }
-        return null;
+
+        ComponentStorage storage = this.scene.getComponentStorage();
+        if (storage != null) {
+            return (T) storage.get(typeID, this.slot);
+        }
+        return (T) this.components[typeID];
+    }
+
+    /**
+     * Gets a component on this entity by its type ID - systems can cache type IDs to skip the Class lookup.
+     * 
+     * @param typeID The component type ID to return (see ComponentType)
+     * @return The instance of the component on this entity
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends GameComponent> T getComponent(int typeID) {
+        // Unchecked - callers ask for the type the ID belongs to, so the cast is safe
+        if (!this.componentMask.get(typeID)) {
+            return null;
+        }
+
+        ComponentStorage storage = this.scene.getComponentStorage();
+        if (storage != null) {
+            return (T) storage.get(typeID, this.slot);
+        }
+        return (T) this.components[typeID];
     }
 
     /**
@@ -179,15 +255,16 @@ public class GameEntity {
      * @return true if the component was added successfully, false if not (because a component of that type already exists)
      */
     public <T extends GameComponent> boolean addComponent(T component) {
-        if (!this.componentMap.containsKey(component.getClass())) {
-            this.componentMap.put(component.getClass(), component);
+        int typeID = ComponentType.getID(component.getClass());
+        if (!this.componentMask.get(typeID)) {
+            this.storeComponent(typeID, component);
 
             if (component instanceof EntityAwareGameComponent) {
                 EntityAwareGameComponent c = (EntityAwareGameComponent) component;
                 c.setEntity(this);
             }
 
-            this.scene.entityChangeEvent.emit(new EntityChangeEvent("COMPONENT_ADDED", this));
+            this.scene.entityChangeEvent.emit(EntityChangeType.COMPONENT_ADDED, this, component.getClass());
 
             return true;
         }
@@ -201,11 +278,85 @@ public class GameEntity {
      * @return The component that was removed
      */
     public <T extends GameComponent> T removeComponent(Class<T> c) {
-        if (this.componentMap.containsKey(c)) {
-            T removed = (T) this.componentMap.remove(c);
-            this.scene.entityChangeEvent.emit(new EntityChangeEvent("COMPONENT_REMOVED", this));
-            return (T) removed;
+        int typeID = ComponentType.getID(c);
+        if (this.componentMask.get(typeID)) {
+            T removed = this.getComponent(typeID);
+            this.componentMask.clear(typeID);
+
+            ComponentStorage storage = this.scene.getComponentStorage();
+            if (storage != null) {
+                storage.set(typeID, this.slot, null);
+            }
+            else {
+                this.components[typeID] = null;
+            }
+
+            if (removed instanceof Transform) {
+                // Children are now positioned relative to the next transform up
+                Transform.invalidateWorldPositions(this);
+            }
+
+            this.scene.entityChangeEvent.emit(EntityChangeType.COMPONENT_REMOVED, this, c);
+            return removed;
         }
         return null;
     }
+
+    /**
+     * Stores a component in the scene's ComponentStorage if there is one, otherwise in this entity's component array
+     * 
+     * @param typeID The component type ID (see ComponentType)
+     * @param component The component to store
+     */
+    private void storeComponent(int typeID, GameComponent component) {
+        ComponentStorage storage = this.scene.getComponentStorage();
+        if (storage != null) {
+            if (this.slot == -1) {
+                this.slot = storage.allocateSlot();
+            }
+            storage.set(typeID, this.slot, component);
+        }
+        else {
+            if (typeID >= this.components.length) {
+                this.components = Arrays.copyOf(this.components, Math.max(typeID + 1, ComponentType.count()));
+            }
+            this.components[typeID] = component;
+        }
+        this.componentMask.set(typeID);
+    }
+
+    /**
+     * Removes every component from this entity without emitting events, releasing its storage slot
+     * 
+     * @return The components that were removed
+     */
+    private GameComponent[] takeComponents() {
+        ComponentStorage storage = this.scene.getComponentStorage();
+
+        int count = 0;
+        for (int id = this.componentMask.nextSetBit(0); id >= 0; id = this.componentMask.nextSetBit(id + 1)) {
+            count++;
+        }
+
+        GameComponent[] taken = new GameComponent[count];
+        int index = 0;
+        for (int id = this.componentMask.nextSetBit(0); id >= 0; id = this.componentMask.nextSetBit(id + 1)) {
+            if (storage != null) {
+                taken[index++] = storage.get(id, this.slot);
+                storage.set(id, this.slot, null);
+            }
+            else {
+                taken[index++] = this.components[id];
+                this.components[id] = null;
+            }
+        }
+
+        if (storage != null && this.slot != -1) {
+            storage.freeSlot(this.slot);
+            this.slot = -1;
+        }
+
+        this.componentMask.clear();
+        return taken;
+    }
 }
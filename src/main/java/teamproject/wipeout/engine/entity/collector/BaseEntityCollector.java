@@ -1,6 +1,7 @@
 package teamproject.wipeout.engine.entity.collector;
 
 import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.entity.ComponentMask;
 import teamproject.wipeout.engine.entity.GameEntity;
 import teamproject.wipeout.engine.entity.event.EntityChangeData;
 
@@ -11,14 +12,27 @@ public abstract class BaseEntityCollector implements EntityCollector {
 
     protected GameScene scene;
 
+    // The component types this collector listens for, or null if it listens for every change
+    protected ComponentMask signatureMask;
+
     /**
-     * Creates a new instance of BaseEntityCollector
+     * Creates a new instance of BaseEntityCollector, which is notified of every change in the scene
      * @param scene The GameScene this EntityCollector is listening to
      */
     public BaseEntityCollector(GameScene scene) {
+        this(scene, null);
+    }
+
+    /**
+     * Creates a new instance of BaseEntityCollector, which is only notified of changes to component types in its signature
+     * @param scene The GameScene this EntityCollector is listening to
+     * @param signatureMask The component types to listen for, or null to listen for every change
+     */
+    public BaseEntityCollector(GameScene scene, ComponentMask signatureMask) {
         this.scene = scene;
+        this.signatureMask = signatureMask;
 
-        scene.entityChangeEvent.addObserver(this);
+        scene.entityChangeEvent.addObserver(this, signatureMask);
     }
 
     public void cleanup() {
@@ -26,17 +40,17 @@ public abstract class BaseEntityCollector implements EntityCollector {
     }
     
     public void eventCallback(EntityChangeData e) {
-        String change = e.getChange();
         GameEntity entity = e.getEntity();
         
-        switch (change) {
-            case "COMPONENT_ADDED":
+        switch (e.getChange()) {
+            case ENTITY_ADDED:
+            case COMPONENT_ADDED:
                 this.addComponent(entity);
                 break;
-            case "COMPONENT_REMOVED":
+            case COMPONENT_REMOVED:
                 this.removeComponent(entity);
                 break;
-            case "ENTITY_REMOVED":
+            case ENTITY_REMOVED:
                 this.removeEntity(entity);
                 break;
             default:
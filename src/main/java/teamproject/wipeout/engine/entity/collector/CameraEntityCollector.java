@@ -1,8 +1,11 @@
 package teamproject.wipeout.engine.entity.collector;
 
+import java.util.List;
+
 import teamproject.wipeout.engine.component.*;
 import teamproject.wipeout.engine.component.render.CameraComponent;
 import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.entity.ComponentMask;
 import teamproject.wipeout.engine.entity.GameEntity;
 import teamproject.wipeout.engine.entity.event.EntityChangeData;
 
@@ -16,13 +19,15 @@ public class CameraEntityCollector implements EntityCollector {
     protected CameraComponent cameraComponent;
     protected GameScene scene;
 
+    private static final ComponentMask signatureMask = ComponentMask.of(List.of(TagComponent.class, Transform.class, CameraComponent.class));
+
     /**
      * Creates a new instance of CameraEntityCollector
      * @param scene The scene this EntityCollector is listening to
      */
     public CameraEntityCollector(GameScene scene) {
         this.scene = scene;
-        this.scene.entityChangeEvent.addObserver(this);
+        this.scene.entityChangeEvent.addObserver(this, signatureMask);
 
         // Go through all existing entities once created
         for (GameEntity entity: this.scene.entities) {
@@ -59,17 +64,17 @@ public class CameraEntityCollector implements EntityCollector {
     }
 
     public void eventCallback(EntityChangeData e) {
-        String change = e.getChange();
         GameEntity entity = e.getEntity();
 
-        switch (change) {
-            case "COMPONENT_ADDED":
+        switch (e.getChange()) {
+            case ENTITY_ADDED:
+            case COMPONENT_ADDED:
                 this.addComponent(entity);
                 break;
-            case "COMPONENT_REMOVED":
+            case COMPONENT_REMOVED:
                 this.removeComponent(entity);
                 break;
-            case "ENTITY_REMOVED":
+            case ENTITY_REMOVED:
                 this.removeEntity(entity);
                 break;
             default:
@@ -86,7 +91,7 @@ public class CameraEntityCollector implements EntityCollector {
     };
 
     protected void removeComponent(GameEntity entity) {
-        if (entity.getUUID() == this.camera.getUUID() && !(entity.hasComponent(TagComponent.class) && entity.getComponent(TagComponent.class).tag == "MainCamera" && entity.hasComponent(Transform.class) && entity.hasComponent(CameraComponent.class))) {
+        if (this.camera != null && entity.getUUID() == this.camera.getUUID() && !(entity.hasComponent(TagComponent.class) && entity.getComponent(TagComponent.class).tag == "MainCamera" && entity.hasComponent(Transform.class) && entity.hasComponent(CameraComponent.class))) {
             this.camera = null;
             this.cameraTransform = null;
             this.cameraComponent = null;
@@ -94,7 +99,7 @@ public class CameraEntityCollector implements EntityCollector {
     }
 
     protected void removeEntity(GameEntity entity) {
-        if (entity.getUUID() == this.camera.getUUID()) {
+        if (this.camera != null && entity.getUUID() == this.camera.getUUID()) {
             this.camera = null;
             this.cameraTransform = null;
             this.cameraComponent = null;
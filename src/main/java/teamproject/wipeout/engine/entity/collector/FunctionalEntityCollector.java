@@ -3,6 +3,7 @@ package teamproject.wipeout.engine.entity.collector;
 import java.util.function.Consumer;
 
 import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.entity.ComponentMask;
 import teamproject.wipeout.engine.entity.GameEntity;
 
 /**
@@ -22,7 +23,19 @@ public class FunctionalEntityCollector extends BaseEntityCollector {
      * @param removeEntity Function to call when an entity is removed from the scene
      */
     public FunctionalEntityCollector(GameScene scene, Consumer<GameEntity> addComponent, Consumer<GameEntity> removeComponent, Consumer<GameEntity> removeEntity) {
-        super(scene);
+        this(scene, null, addComponent, removeComponent, removeEntity);
+    }
+
+    /**
+     * Creates a new instance of FunctionalEntityCollector that is only notified of changes to certain component types
+     * @param scene The GameScene this EntityCollector is listening to
+     * @param signatureMask The component types to listen for, or null to listen for every change
+     * @param addComponent Function to call when an entity adds a component
+     * @param removeComponent Function to call when an entity removes a component
+     * @param removeEntity Function to call when an entity is removed from the scene
+     */
+    protected FunctionalEntityCollector(GameScene scene, ComponentMask signatureMask, Consumer<GameEntity> addComponent, Consumer<GameEntity> removeComponent, Consumer<GameEntity> removeEntity) {
+        super(scene, signatureMask);
         this.addComponentFunction = addComponent;
         this.removeComponentFunction = removeComponent;
         this.removeEntityFunction = removeEntity;
@@ -7,6 +7,7 @@ import java.util.function.Consumer;
 
 import teamproject.wipeout.engine.component.GameComponent;
 import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.entity.ComponentMask;
 import teamproject.wipeout.engine.entity.GameEntity;
 
 /**
@@ -26,7 +27,7 @@ public class FunctionalSignatureCollector extends FunctionalEntityCollector {
      * @param removeEntity A function to call when an entity is removed
      */
     public FunctionalSignatureCollector(GameScene scene, Set<Class<? extends GameComponent>> signature, Consumer<GameEntity> addComponent, Consumer<GameEntity> removeComponent, Consumer<GameEntity> removeEntity) {
-        super(scene, addComponent, removeComponent, removeEntity);
+        super(scene, ComponentMask.of(signature), addComponent, removeComponent, removeEntity);
 
         this.signature = signature;
         this.signatureList = new ArrayList<>(signature);
@@ -60,11 +61,6 @@ public class FunctionalSignatureCollector extends FunctionalEntityCollector {
      * @param entity The entity that was removed
      */
     private boolean testComponent(GameEntity entity) {
-        for (Class<? extends GameComponent> componentClass : this.signatureList) {
-            if (!entity.hasComponent(componentClass)) {
-                return false;
-            }
-        }
-        return true;
+        return entity.getComponentMask().containsAll(this.signatureMask);
     }
 }
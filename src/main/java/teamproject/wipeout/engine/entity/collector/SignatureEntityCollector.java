@@ -6,8 +6,10 @@ import java.util.Set;
 import java.util.function.Consumer;
 
 import teamproject.wipeout.engine.component.GameComponent;
+import teamproject.wipeout.engine.entity.ComponentMask;
 import teamproject.wipeout.engine.entity.GameEntity;
 import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.util.IndexedSet;
 
 /** 
  * Uses a component signature to determine what entities to collect
@@ -30,13 +32,13 @@ public class SignatureEntityCollector extends BaseEntityCollector {
      * @param signature The component signature to listen for (represented as a set of unique GameComponents)
      */
     public SignatureEntityCollector(GameScene scene, Set<Class<? extends GameComponent>> signature) {
-        super(scene);
+        super(scene, ComponentMask.of(signature));
 
         // Convert signature to a list internally for faster iteration
         this.signature = signature;
         this.signatureList = new ArrayList<>(signature);
 
-        this.entityList = new ArrayList<GameEntity>();
+        this.entityList = new IndexedSet<GameEntity>();
 
         // Go through all existing entities once created
         for (GameEntity entity: this.scene.entities) {
@@ -53,9 +55,7 @@ public class SignatureEntityCollector extends BaseEntityCollector {
     }
 
     protected void addComponent(GameEntity entity) {
-        if (this.testComponent(entity) && !this.entityList.contains(entity)) {
-            this.entityList.add(entity);
-
+        if (this.testComponent(entity) && this.entityList.add(entity)) {
             if (this.onAdd != null) {
                 this.onAdd.accept(entity);
             }
@@ -63,9 +63,7 @@ public class SignatureEntityCollector extends BaseEntityCollector {
     }
 
     protected void removeComponent(GameEntity entity) {
-        if (!this.testComponent(entity)) {
-            this.entityList.remove(entity);
-
+        if (!this.testComponent(entity) && this.entityList.remove(entity)) {
             if (this.onRemove != null) {
                 this.onRemove.accept(entity);
             }
@@ -73,9 +71,7 @@ public class SignatureEntityCollector extends BaseEntityCollector {
     }
 
     protected void removeEntity(GameEntity entity) {
-        this.entityList.remove(entity);
-
-        if (this.onRemove != null) {
+        if (this.entityList.remove(entity) && this.onRemove != null) {
             this.onRemove.accept(entity);
         }
     }
@@ -86,11 +82,6 @@ public class SignatureEntityCollector extends BaseEntityCollector {
      * @return Whether the component contains all components in the signature
      */
     private boolean testComponent(GameEntity entity) {
-        for (Class<? extends GameComponent> componentClass : this.signatureList) {
-            if (!entity.hasComponent(componentClass)) {
-                return false;
-            }
-        }
-        return true;
+        return entity.getComponentMask().containsAll(this.signatureMask);
     }
 }
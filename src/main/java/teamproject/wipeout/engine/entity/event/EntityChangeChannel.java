@@ -0,0 +1,320 @@
+package teamproject.wipeout.engine.entity.event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import teamproject.wipeout.engine.entity.ComponentMask;
+import teamproject.wipeout.engine.entity.ComponentType;
+import teamproject.wipeout.engine.entity.GameEntity;
+import teamproject.wipeout.util.EventObserver;
+
+/**
+ * Delivers EntityChangeData to observers, only waking those interested in the component type that changed.
+ * Event objects are pooled (one per nesting level, as observers may change entities while handling an event),
+ * so emitting does not allocate.
+ * Observer lists are copied when observers are added or removed, so observers can unsubscribe while an event is
+ * being delivered without any other observer missing it.
+ * 
+ * Between beginBatch and endBatch, component changes are recorded instead of delivered. Each observer is then
+ * told about each changed entity at most once per kind of change, with the net component changes already applied.
+ */
+public class EntityChangeChannel {
+
+    /**
+     * An observer and the component types it is interested in
+     */
+    private static class Subscription {
+        final EventObserver<EntityChangeData> observer;
+        // null means interested in every component type
+        final ComponentMask interest;
+
+        Subscription(EventObserver<EntityChangeData> observer, ComponentMask interest) {
+            this.observer = observer;
+            this.interest = interest;
+        }
+    }
+
+    private static final Subscription[] NO_SUBSCRIPTIONS = new Subscription[0];
+
+    // Each array is replaced rather than changed, so a delivery in progress keeps iterating the array it started with
+    private Subscription[] subscriptions;
+    private Subscription[] allTypeSubscriptions;
+    // Subscriptions indexed by the component type ID they are interested in
+    private Subscription[][] typeSubscriptions;
+
+    /**
+     * The net component changes made to one entity during a batch
+     */
+    private static class PendingChange {
+        final ComponentMask added = new ComponentMask();
+        final ComponentMask removed = new ComponentMask();
+    }
+
+    private EntityChangeEvent[] eventPool;
+    private int depth;
+
+    private boolean batching;
+    private final List<GameEntity> pendingEntities;
+    private final Map<GameEntity, PendingChange> pendingChanges;
+    private final List<PendingChange> pendingChangePool;
+
+    /**
+     * Creates a new instance of EntityChangeChannel
+     */
+    public EntityChangeChannel() {
+        this.subscriptions = NO_SUBSCRIPTIONS;
+        this.allTypeSubscriptions = NO_SUBSCRIPTIONS;
+        this.typeSubscriptions = new Subscription[Math.max(ComponentType.count(), 16)][];
+        this.eventPool = new EntityChangeEvent[4];
+        this.depth = 0;
+
+        this.batching = false;
+        this.pendingEntities = new ArrayList<>();
+        this.pendingChanges = new HashMap<>();
+        this.pendingChangePool = new ArrayList<>();
+    }
+
+    /**
+     * Adds an observer which is notified of every change in the scene
+     * @param observer The observer to add
+     */
+    public void addObserver(EventObserver<EntityChangeData> observer) {
+        this.addObserver(observer, null);
+    }
+
+    /**
+     * Adds an observer which is only notified of changes to the given component types,
+     * and of entities being added or removed that have at least one of those types
+     * @param observer The observer to add
+     * @param interest The component types the observer cares about, or null for every type
+     */
+    public void addObserver(EventObserver<EntityChangeData> observer, ComponentMask interest) {
+        Subscription subscription = new Subscription(observer, interest);
+        this.subscriptions = with(this.subscriptions, subscription);
+
+        if (interest == null) {
+            this.allTypeSubscriptions = with(this.allTypeSubscriptions, subscription);
+            return;
+        }
+
+        for (int id = interest.nextSetBit(0); id >= 0; id = interest.nextSetBit(id + 1)) {
+            this.typeSubscriptions[id] = with(this.subscriptionsOf(id), subscription);
+        }
+    }
+
+    /**
+     * Removes an observer from this channel
+     * @param observer The observer to remove
+     */
+    public void removeObserver(EventObserver<EntityChangeData> observer) {
+        for (Subscription subscription : this.subscriptions) {
+            if (subscription.observer != observer) {
+                continue;
+            }
+
+            this.subscriptions = without(this.subscriptions, subscription);
+            if (subscription.interest == null) {
+                this.allTypeSubscriptions = without(this.allTypeSubscriptions, subscription);
+            }
+            else {
+                for (int id = subscription.interest.nextSetBit(0); id >= 0; id = subscription.interest.nextSetBit(id + 1)) {
+                    this.typeSubscriptions[id] = without(this.subscriptionsOf(id), subscription);
+                }
+            }
+            return;
+        }
+    }
+
+    /**
+     * Notifies interested observers that a change has occurred
+     * @param change The change that occurred
+     * @param entity The entity that changed
+     * @param componentType The component class that was added or removed, or null for ENTITY_ADDED and ENTITY_REMOVED
+     */
+    public void emit(EntityChangeType change, GameEntity entity, Class<?> componentType) {
+        if (this.batching) {
+            switch (change) {
+                case COMPONENT_ADDED:
+                    this.recordChange(entity, ComponentType.getID(componentType), true);
+                    return;
+                case COMPONENT_REMOVED:
+                    this.recordChange(entity, ComponentType.getID(componentType), false);
+                    return;
+                default:
+                    // Observers must know about earlier changes to an entity before it is added or removed
+                    this.deliverPending(entity);
+                    break;
+            }
+        }
+
+        this.deliver(change, entity, componentType, null);
+    }
+
+    /**
+     * Starts recording component changes instead of delivering them
+     */
+    public void beginBatch() {
+        this.batching = true;
+    }
+
+    /**
+     * Stops recording component changes, and delivers the net changes made since beginBatch
+     */
+    public void endBatch() {
+        this.batching = false;
+
+        for (int i = 0; i < this.pendingEntities.size(); i++) {
+            this.deliverPending(this.pendingEntities.get(i));
+        }
+        this.pendingEntities.clear();
+    }
+
+    /**
+     * Records a component change on an entity during a batch
+     * @param entity The entity that changed
+     * @param typeID The component type ID that changed
+     * @param added Whether the component was added (true) or removed (false)
+     */
+    private void recordChange(GameEntity entity, int typeID, boolean added) {
+        PendingChange pending = this.pendingChanges.get(entity);
+        if (pending == null) {
+            pending = this.pendingChangePool.isEmpty() ? new PendingChange() : this.pendingChangePool.remove(this.pendingChangePool.size() - 1);
+            this.pendingChanges.put(entity, pending);
+            this.pendingEntities.add(entity);
+        }
+
+        if (added) {
+            pending.added.set(typeID);
+        }
+        else if (pending.added.get(typeID)) {
+            // Added and removed within the batch, so observers never need to know
+            pending.added.clear(typeID);
+        }
+        else {
+            pending.removed.set(typeID);
+        }
+    }
+
+    /**
+     * Delivers the recorded changes to an entity, if there are any
+     * @param entity The entity to deliver changes for
+     */
+    private void deliverPending(GameEntity entity) {
+        PendingChange pending = this.pendingChanges.remove(entity);
+        if (pending == null) {
+            return;
+        }
+
+        // Removals first, so collectors drop entities that no longer match before re-testing additions
+        this.deliver(EntityChangeType.COMPONENT_REMOVED, entity, null, pending.removed);
+        this.deliver(EntityChangeType.COMPONENT_ADDED, entity, null, pending.added);
+
+        pending.added.clear();
+        pending.removed.clear();
+        this.pendingChangePool.add(pending);
+    }
+
+    /**
+     * Notifies interested observers of a change
+     * @param change The change that occurred
+     * @param entity The entity that changed
+     * @param componentType The single component class that changed, or null
+     * @param changedTypes The coalesced component types that changed (when componentType is null), or null for whole-entity changes
+     */
+    private void deliver(EntityChangeType change, GameEntity entity, Class<?> componentType, ComponentMask changedTypes) {
+        if (this.depth == this.eventPool.length) {
+            this.eventPool = Arrays.copyOf(this.eventPool, this.depth * 2);
+        }
+        EntityChangeEvent event = this.eventPool[this.depth];
+        if (event == null) {
+            event = new EntityChangeEvent(change, entity, componentType);
+            this.eventPool[this.depth] = event;
+        }
+        else {
+            event.set(change, entity, componentType);
+        }
+
+        this.depth++;
+        try {
+            if (componentType != null) {
+                this.notify(this.subscriptionsOf(ComponentType.getID(componentType)), event);
+            }
+            else {
+                if (changedTypes != null && changedTypes.isEmpty()) {
+                    return;
+                }
+
+                // Whole-entity and coalesced changes only matter to observers sharing a changed component type
+                ComponentMask relevantTypes = changedTypes != null ? changedTypes : entity.getComponentMask();
+                Subscription[] subscriptions = this.subscriptions;
+                for (int i = 0; i < subscriptions.length; i++) {
+                    Subscription subscription = subscriptions[i];
+                    if (subscription.interest != null && subscription.interest.intersects(relevantTypes)) {
+                        subscription.observer.eventCallback(event);
+                    }
+                }
+            }
+            this.notify(this.allTypeSubscriptions, event);
+        }
+        finally {
+            this.depth--;
+        }
+    }
+
+    /**
+     * Calls the observer of every subscription in an array with an event
+     * @param subscriptions The subscriptions to notify
+     * @param event The event to pass on
+     */
+    private void notify(Subscription[] subscriptions, EntityChangeData event) {
+        for (int i = 0; i < subscriptions.length; i++) {
+            subscriptions[i].observer.eventCallback(event);
+        }
+    }
+
+    /**
+     * Gets the subscriptions interested in a given component type
+     * @param typeID The component type ID
+     * @return The interested subscriptions
+     */
+    private Subscription[] subscriptionsOf(int typeID) {
+        if (typeID >= this.typeSubscriptions.length) {
+            this.typeSubscriptions = Arrays.copyOf(this.typeSubscriptions, Math.max(typeID + 1, this.typeSubscriptions.length * 2));
+        }
+        Subscription[] subscriptions = this.typeSubscriptions[typeID];
+        return subscriptions == null ? NO_SUBSCRIPTIONS : subscriptions;
+    }
+
+    /**
+     * Copies an array of subscriptions with one more at the end
+     * @param subscriptions The subscriptions to copy
+     * @param subscription The subscription to add
+     * @return The new array
+     */
+    private static Subscription[] with(Subscription[] subscriptions, Subscription subscription) {
+        Subscription[] copy = Arrays.copyOf(subscriptions, subscriptions.length + 1);
+        copy[subscriptions.length] = subscription;
+        return copy;
+    }
+
+    /**
+     * Copies an array of subscriptions without one of them
+     * @param subscriptions The subscriptions to copy
+     * @param subscription The subscription to leave out
+     * @return The new array, or the same array if the subscription wasn't in it
+     */
+    private static Subscription[] without(Subscription[] subscriptions, Subscription subscription) {
+        for (int i = 0; i < subscriptions.length; i++) {
+            if (subscriptions[i] == subscription) {
+                Subscription[] copy = new Subscription[subscriptions.length - 1];
+                System.arraycopy(subscriptions, 0, copy, 0, i);
+                System.arraycopy(subscriptions, i + 1, copy, i, copy.length - i);
+                return copy;
+            }
+        }
+        return subscriptions;
+    }
+}
@@ -4,17 +4,24 @@ import teamproject.wipeout.engine.entity.GameEntity;
 
 /**
  * Interface representing some change to a GameEntity in the scene.
+ * Instances are reused between emissions, so observers should not hold onto them.
  */
 public interface EntityChangeData {
     /**
      * Gets the change that occurred to the entity
-     * @return The change that occurred (one of "COMPONENT_ADDED", "COMPONENT_REMOVED", "ENTITY_REMOVED")
+     * @return The change that occurred
      */
-    public String getChange();
+    public EntityChangeType getChange();
 
     /**
      * Gets the entity that was affected by the change 
      * @return A GameEntity instance
      */
     public GameEntity getEntity();
-}
\ No newline at end of file
+
+    /**
+     * Gets the component class that was added or removed
+     * @return The component class, or null for ENTITY_ADDED and ENTITY_REMOVED, or when several changes were coalesced into one event
+     */
+    public Class<?> getComponentType();
+}
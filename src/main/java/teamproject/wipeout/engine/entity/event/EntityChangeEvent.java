@@ -6,24 +6,37 @@ import teamproject.wipeout.engine.entity.GameEntity;
  * Event representing changes in the state of an entity
  */
 public class EntityChangeEvent implements EntityChangeData {
-    protected String change;
+    protected EntityChangeType change;
     protected GameEntity entity;
+    protected Class<?> componentType;
 
     /**
      * Creates a new instance of EntityChangeEvent
-     * @param change The change that occurred (one of "COMPONENT_ADDED", "COMPONENT_REMOVED", "ENTITY_REMOVED")
+     * @param change The change that occurred
      * @param entity The entity that was affected in this event
+     * @param componentType The component class that was added or removed, or null for entity changes
      */
-    public EntityChangeEvent(String change, GameEntity entity) {
+    public EntityChangeEvent(EntityChangeType change, GameEntity entity, Class<?> componentType) {
+        this.set(change, entity, componentType);
+    }
+
+    /**
+     * Overwrites the contents of this event so it can be reused by EntityChangeChannel
+     * @param change The change that occurred
+     * @param entity The entity that was affected in this event
+     * @param componentType The component class that was added or removed, or null for entity changes
+     */
+    void set(EntityChangeType change, GameEntity entity, Class<?> componentType) {
         this.change = change;
         this.entity = entity;
+        this.componentType = componentType;
     }
 
     /**
      * Gets the change that occurred to the entity
-     * @return The change that occurred (one of "COMPONENT_ADDED", "COMPONENT_REMOVED", "ENTITY_REMOVED")
+     * @return The change that occurred
      */
-    public String getChange() {
+    public EntityChangeType getChange() {
         return this.change;
     }
 
@@ -35,4 +48,11 @@ public class EntityChangeEvent implements EntityChangeData {
         return this.entity;
     }
 
+    /**
+     * Gets the component class that was added or removed
+     * @return The component class, or null for ENTITY_ADDED and ENTITY_REMOVED, or when several changes were coalesced into one event
+     */
+    public Class<?> getComponentType() {
+        return this.componentType;
+    }
 }
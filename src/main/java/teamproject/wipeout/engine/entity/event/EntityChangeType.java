@@ -0,0 +1,15 @@
+package teamproject.wipeout.engine.entity.event;
+
+/**
+ * The kinds of change that can happen to a GameEntity in a GameScene
+ */
+public enum EntityChangeType {
+    // The entity joined the scene (it may already have components if it moved from another scene)
+    ENTITY_ADDED,
+    // The entity left the scene or was destroyed - its components are still present while this is emitted
+    ENTITY_REMOVED,
+    // A component was added to the entity
+    COMPONENT_ADDED,
+    // A component was removed from the entity
+    COMPONENT_REMOVED
+}
@@ -1,9 +1,16 @@
 package teamproject.wipeout.engine.system;
 
+import java.util.Set;
 import java.util.function.Consumer;
 
+import teamproject.wipeout.engine.component.GameComponent;
+
 /**
  * Interface for all systems in the game that need to do something every frame.
+ *
+ * Systems that declare the component types they read and write can be run by the SystemUpdater at the same time
+ * as other systems they don't conflict with. Such systems must only change the structure of the scene
+ * (entities and components) through the scene's EntityCommandBuffer.
  */
 public interface GameSystem extends Consumer<Double> {
 
@@ -17,4 +24,29 @@ public interface GameSystem extends Consumer<Double> {
      * @param timeStep The time between the this update cycle and the last (s)
      */
     public void accept(Double timeStep);
-}
\ No newline at end of file
+
+    /**
+     * Gets the component types this system reads in accept
+     * @return The component types read, or null if undeclared - the system is then run on its own, on the updating thread
+     */
+    public default Set<Class<? extends GameComponent>> getReadComponents() {
+        return null;
+    }
+
+    /**
+     * Gets the component types this system changes in accept
+     * @return The component types written, or null if undeclared - the system is then run on its own, on the updating thread
+     */
+    public default Set<Class<? extends GameComponent>> getWriteComponents() {
+        return null;
+    }
+
+    /**
+     * Gets whether this system must run on the thread updating the systems (the JavaFX application thread in game),
+     * for example because it changes UI nodes
+     * @return Whether the system is bound to the updating thread
+     */
+    public default boolean isThreadBound() {
+        return this.getReadComponents() == null || this.getWriteComponents() == null;
+    }
+}
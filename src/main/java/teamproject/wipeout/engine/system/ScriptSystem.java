@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Set;
 
 import teamproject.wipeout.engine.component.ScriptComponent;
+import teamproject.wipeout.engine.core.EntityCommandBuffer;
 import teamproject.wipeout.engine.core.GameScene;
 import teamproject.wipeout.engine.entity.GameEntity;
 import teamproject.wipeout.engine.entity.collector.SignatureEntityCollector;
@@ -15,8 +16,11 @@ public class ScriptSystem implements GameSystem {
     
     protected SignatureEntityCollector entityCollector;
 
+    private EntityCommandBuffer commandBuffer;
+
     public ScriptSystem(GameScene scene) {
         this.entityCollector = new SignatureEntityCollector(scene, Set.of(ScriptComponent.class));
+        this.commandBuffer = scene.getCommandBuffer();
     }
 
     public void cleanup() {
@@ -26,16 +30,12 @@ public class ScriptSystem implements GameSystem {
     public void accept(Double timeStep) {
         List<GameEntity> entities = this.entityCollector.getEntities();
 
-        int i = 0;
-        while (i < entities.size()) {
+        for (int i = 0; i < entities.size(); i++) {
             GameEntity entity = entities.get(i);
             ScriptComponent sc = entity.getComponent(ScriptComponent.class);
             sc.onStep.accept(timeStep);
             if (sc.requestDeletion) {
-                entity.removeComponent(ScriptComponent.class);
-            }
-            else {
-                i++;
+                this.commandBuffer.removeComponent(entity, ScriptComponent.class);
             }
         }
     }
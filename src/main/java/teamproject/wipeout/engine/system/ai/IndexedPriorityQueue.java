@@ -0,0 +1,126 @@
+package teamproject.wipeout.engine.system.ai;
+
+/**
+ * A binary min-heap of integer IDs (0 to capacity - 1), each with a priority that can be lowered while it is queued.
+ * IDs with equal priorities are removed most recently queued first.
+ */
+class IndexedPriorityQueue {
+
+    private final int[] heap;
+    // Where each ID is in the heap, or -1 if it isn't queued
+    private final int[] positions;
+    private final double[] priorities;
+    private final long[] order;
+
+    private int size;
+    private long nextOrder;
+
+    /**
+     * Creates a new, empty instance of IndexedPriorityQueue
+     * @param capacity The number of IDs
+     */
+    IndexedPriorityQueue(int capacity) {
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.priorities = new double[capacity];
+        this.order = new long[capacity];
+
+        for (int i = 0; i < capacity; i++) {
+            this.positions[i] = -1;
+        }
+    }
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    boolean contains(int id) {
+        return this.positions[id] != -1;
+    }
+
+    /**
+     * Queues an ID, or changes its priority if it is already queued
+     * @param id The ID
+     * @param priority The priority - lower priorities are removed first
+     */
+    void insertOrDecrease(int id, double priority) {
+        int position = this.positions[id];
+        if (position == -1) {
+            position = this.size++;
+            this.heap[position] = id;
+            this.positions[id] = position;
+        }
+        else if (priority > this.priorities[id]) {
+            throw new IllegalArgumentException("Priority of " + id + " can't be increased from " + this.priorities[id] + " to " + priority);
+        }
+
+        this.priorities[id] = priority;
+        this.order[id] = this.nextOrder++;
+        this.siftUp(position);
+    }
+
+    /**
+     * Removes the ID with the lowest priority
+     * @return The ID
+     */
+    int poll() {
+        int first = this.heap[0];
+        int last = this.heap[--this.size];
+        this.positions[first] = -1;
+
+        if (this.size > 0) {
+            this.heap[0] = last;
+            this.positions[last] = 0;
+            this.siftDown(0);
+        }
+        return first;
+    }
+
+    private void siftUp(int position) {
+        int id = this.heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            int parentId = this.heap[parent];
+            if (!this.before(id, parentId)) {
+                break;
+            }
+
+            this.heap[position] = parentId;
+            this.positions[parentId] = position;
+            position = parent;
+        }
+        this.heap[position] = id;
+        this.positions[id] = position;
+    }
+
+    private void siftDown(int position) {
+        int id = this.heap[position];
+        int half = this.size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < this.size && this.before(this.heap[right], this.heap[child])) {
+                child = right;
+            }
+
+            int childId = this.heap[child];
+            if (!this.before(childId, id)) {
+                break;
+            }
+
+            this.heap[position] = childId;
+            this.positions[childId] = position;
+            position = child;
+        }
+        this.heap[position] = id;
+        this.positions[id] = position;
+    }
+
+    private boolean before(int a, int b) {
+        int compare = Double.compare(this.priorities[a], this.priorities[b]);
+        if (compare != 0) {
+            return compare < 0;
+        }
+        return this.order[a] > this.order[b];
+    }
+}
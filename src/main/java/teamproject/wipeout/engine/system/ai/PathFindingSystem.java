@@ -2,6 +2,7 @@ package teamproject.wipeout.engine.system.ai;
 
 import javafx.geometry.Point2D;
 import teamproject.wipeout.engine.component.ai.NavigationEdge;
+import teamproject.wipeout.engine.component.ai.NavigationGraph;
 import teamproject.wipeout.engine.component.ai.NavigationMesh;
 import teamproject.wipeout.engine.component.ai.NavigationSquare;
 
@@ -13,8 +14,6 @@ import java.util.*;
  */
 public class PathFindingSystem {
 
-    private static final float doubleCompare = 0.00001f;
-
     /**
      * Calculates the Euclidian distance between 2 points in a mesh or square.
      * @param xPos The current x co-ordinate.
@@ -33,6 +32,7 @@ public class PathFindingSystem {
     
     /**
      * Calculates the optimal route through a mesh of traversible squares. Uses the A-Star algorithm to perform shortest path analysis.
+     * The connections between squares are compiled from the start square each time - use the NavigationGraph overload to reuse them.
      * @param startSquare The square the AI is starting in.
      * @param xPos The starting x co-ordinate.
      * @param yPos The starting y co-ordiante.
@@ -42,86 +42,95 @@ public class PathFindingSystem {
      * @return Returns the optimal traversal path of squares to get from the current location to the desired destination.
      */
     public static List<NavigationSquare> findPathThroughSquares(NavigationSquare startSquare, double xPos, double yPos, NavigationSquare goalSquare, double xGoal, double yGoal) {
+        return findPathThroughSquares(NavigationGraph.reachableFrom(startSquare), startSquare, xPos, yPos, goalSquare, xGoal, yGoal);
+    }
 
-        Point2D midPoint;
-
-        PriorityQueue<NavigationPath> frontier = new PriorityQueue<>(new NavigationPathComparator());
-
-        Set<NavigationSquare> visited = new HashSet<>();
-
-        NavigationPath currentPath = new NavigationPath(List.of(startSquare), 0);
-        NavigationSquare currentSquare = startSquare;
-
-        //Add initial node into the frontier.
-        frontier.add(currentPath);
-
-        while (frontier.size() > 0 && !currentSquare.equals(goalSquare)) {
-
-            //Select smallest child.
-            currentPath = frontier.remove();
-            currentSquare = currentPath.getPath().get(currentPath.getPath().size()-1);
+    /**
+     * Calculates the optimal route through a compiled mesh of traversible squares. Uses the A-Star algorithm to perform shortest path analysis.
+     *
+     * A path enters each square at the midpoint of the edge it crosses, so the cost g(square) is the length of the path
+     * through those midpoints, and the heuristic h(square) is the straight line distance from the midpoint to the goal.
+     * @param graph The compiled connections between squares.
+     * @param startSquare The square the AI is starting in.
+     * @param xPos The starting x co-ordinate.
+     * @param yPos The starting y co-ordiante.
+     * @param goalSquare The goal square.
+     * @param xGoal The goal x co-ordinate.
+     * @param yGoal The goal y co-ordinate.
+     * @return Returns the optimal traversal path of squares, or null if the goal square can't be reached.
+     */
+    public static List<NavigationSquare> findPathThroughSquares(NavigationGraph graph, NavigationSquare startSquare, double xPos, double yPos, NavigationSquare goalSquare, double xGoal, double yGoal) {
+        int start = graph.getId(startSquare);
+        int goal = graph.getId(goalSquare);
+        if (start == -1 || goal == -1) {
+            return null;
+        }
 
-            // Check if we have already visited this square, continue if we have.
-            if (visited.contains(currentSquare)) {
-                continue;
-            }
-            else {
-                //Add the current square to the visited list.
-                visited.add(currentSquare);
+        int squareCount = graph.size();
+        double[] gScores = new double[squareCount];
+        int[] parents = new int[squareCount];
+        // Where the best path found so far enters each square
+        double[] entryX = new double[squareCount];
+        double[] entryY = new double[squareCount];
+        boolean[] closed = new boolean[squareCount];
+        Arrays.fill(gScores, Double.POSITIVE_INFINITY);
+
+        IndexedPriorityQueue frontier = new IndexedPriorityQueue(squareCount);
+        gScores[start] = 0;
+        parents[start] = -1;
+        entryX[start] = xPos;
+        entryY[start] = yPos;
+        frontier.insertOrDecrease(start, Math.hypot(xGoal - xPos, yGoal - yPos));
+
+        while (!frontier.isEmpty()) {
+            int current = frontier.poll();
+            if (current == goal) {
+                return reconstructPath(graph, parents, goal);
             }
+            closed[current] = true;
 
-            //Find adjacent squares
-            for (int i = 0; i < currentSquare.adjacentEdges.size(); i++) {
-                NavigationEdge edge = currentSquare.adjacentEdges.get(i);
-                NavigationSquare adjacentSquare = edge.adjacentSquare;
-                Point2D start = edge.start;
-                Point2D end = edge.end;
-                
-                //Don't calculate mid-points for squares already visited.
-                if (visited.contains(adjacentSquare)) {
+            for (int e = graph.edgeOffsets[current]; e < graph.edgeOffsets[current + 1]; e++) {
+                int adjacent = graph.edgeTargets[e];
+                if (closed[adjacent]) {
                     continue;
                 }
 
-                //Calculate midpoint of intersection to a square.
-                //Is the intersection along the horizontal axis.
-                if (Math.abs(start.getX() - end.getX()) < doubleCompare) {
-                    midPoint = new Point2D(start.getX(),(start.getY() + end.getY())/2);
-                }
-                //Is the intersection along the vertical axis.
-                else if (Math.abs(start.getY() - end.getY()) < doubleCompare) {
-                    midPoint = new Point2D((start.getX() + end.getX())/2,start.getY());
-                }
-                //In the event of an error.
-                else {
-                    throw new ArithmeticException("Arithmetic error in calculating mid-point of an intersection. Possible reason: X & Y co-ordinates for an axis are not the same OR comparing doubles failed.");
+                //Calculate cost g(node) to the midpoint of the intersection, along the path to this square.
+                double midX = graph.edgeMidX[e];
+                double midY = graph.edgeMidY[e];
+                double cost = gScores[current] + Math.hypot(midX - entryX[current], midY - entryY[current]);
+                if (cost >= gScores[adjacent]) {
+                    continue;
                 }
 
-                
-
-                //Calculate cost g(node) to that midpoint using euclidian distance from current position.
-                double cost = calculateEuclidianDistanceSquared(xPos, yPos, midPoint.getX(), midPoint.getY());
+                gScores[adjacent] = cost;
+                parents[adjacent] = current;
+                entryX[adjacent] = midX;
+                entryY[adjacent] = midY;
 
-                //Calculate heuristic cost h(node) from current position to overall goal destination.
-                double heuristic = calculateEuclidianDistanceSquared(xPos, yPos, xGoal, yGoal);
-
-                //Calculate total cost.
-                double totalCost = cost + heuristic;
-
-                // Copy the list, add the next square, and create a new path object
-                List<NavigationSquare> listCopy = new ArrayList<>(currentPath.getPath());
-                listCopy.add(adjacentSquare);
-                NavigationPath node = new NavigationPath(listCopy, totalCost);
-
-                // Add to frontier (this node may already exist).
-                frontier.add(node);     
+                //Calculate heuristic cost h(node) from the midpoint to overall goal destination.
+                double heuristic = Math.hypot(xGoal - midX, yGoal - midY);
+                frontier.insertOrDecrease(adjacent, cost + heuristic);
             }
         }
 
-        if (currentPath.getPath().get(currentPath.getPath().size()-1) != goalSquare) {
-            return null;
+        return null;
+    }
+
+    /**
+     * Follows the parent of each square back from the goal to build the path
+     */
+    private static List<NavigationSquare> reconstructPath(NavigationGraph graph, int[] parents, int goal) {
+        int length = 0;
+        for (int id = goal; id != -1; id = parents[id]) {
+            length++;
         }
 
-        return currentPath.getPath();
+        NavigationSquare[] path = new NavigationSquare[length];
+        for (int id = goal; id != -1; id = parents[id]) {
+            path[--length] = graph.getSquare(id);
+        }
+        return new ArrayList<>(Arrays.asList(path));
     }
 
 
@@ -291,6 +300,16 @@ public class PathFindingSystem {
         return findStringPullPath(start, end, squarePath, radius);
     }
 
+    private static List<Point2D> findPath(NavigationGraph graph, Point2D start, Point2D end, NavigationSquare startSquare, NavigationSquare endSquare, double radius) {
+        List<NavigationSquare> squarePath = findPathThroughSquares(graph, startSquare, start.getX(), start.getY(), endSquare, end.getX(), end.getY());
+
+        if (squarePath == null) {
+            return null;
+        }
+
+        return findStringPullPath(start, end, squarePath, radius);
+    }
+
     /**
      * Finds a path from a start position and end position through a NavigationMesh.
      * If either the start or end position is not on the mesh, the shortest path to get onto the mesh will be used
@@ -319,71 +338,41 @@ public class PathFindingSystem {
             throw new IllegalArgumentException("NavigationMesh contains no squares");
         }
 
-        NavigationSquare startSquare = null;
+        // Only look for the closest square (and point in it) to positions that aren't on the mesh
+        NavigationSquare startSquare = mesh.findContainingSquare(start);
         NavigationSquare closestStartSquare = null;
         Point2D closestStartPoint = null;
-        double closestStartDistance = Double.POSITIVE_INFINITY;
+        if (startSquare == null) {
+            closestStartSquare = mesh.findClosestSquare(start);
+            closestStartPoint = rectClosestPoint(closestStartSquare, start);
+        }
 
-        NavigationSquare endSquare = null;
+        NavigationSquare endSquare = mesh.findContainingSquare(end);
         NavigationSquare closestEndSquare = null;
         Point2D closestEndPoint = null;
-        double closestEndDistance = Double.POSITIVE_INFINITY;
-
-        for (NavigationSquare square : mesh.squares) {
-            
-            if (startSquare == null) {
-                if (square.contains(start)) {
-                    startSquare = square;
-                    if (endSquare != null) {
-                        break;
-                    }
-                }
-                else {
-                    Point2D closestPoint = rectClosestPoint(square, start);
-                    double closestDistance = closestPoint.distance(start);
-                    if (closestDistance < closestStartDistance) {
-                            closestStartSquare = square;
-                            closestStartPoint = closestPoint;
-                            closestStartDistance = closestDistance;
-                    }
-                }
-            }
-            if (endSquare == null) {
-                if (square.contains(end)) {
-                    endSquare = square;
-                    if (startSquare != null) {
-                        break;
-                    }
-                }
-                else {
-                    Point2D closestPoint = rectClosestPoint(square, end);
-                    double closestDistance = closestPoint.distance(end);
-                    if (closestDistance < closestEndDistance) {
-                            closestEndSquare = square;
-                            closestEndPoint = closestPoint;
-                            closestEndDistance = closestDistance;
-                    }
-                }
-            }
+        if (endSquare == null) {
+            closestEndSquare = mesh.findClosestSquare(end);
+            closestEndPoint = rectClosestPoint(closestEndSquare, end);
         }
 
+        NavigationGraph graph = mesh.getGraph();
         List<Point2D> path = null;
 
         if (startSquare == null && endSquare == null) {
-            path = findPath(closestStartPoint, closestEndPoint, closestStartSquare, closestEndSquare, radius);
+            path = findPath(graph, closestStartPoint, closestEndPoint, closestStartSquare, closestEndSquare, radius);
             path.add(0, start);
             path.add(end);
         }
         else if (startSquare == null) {
-            path = findPath(closestStartPoint, end, closestStartSquare, endSquare, radius);
+            path = findPath(graph, closestStartPoint, end, closestStartSquare, endSquare, radius);
             path.add(0, start);
         }
         else if (endSquare == null) {
-            path = findPath(start, closestEndPoint, startSquare, closestEndSquare, radius);
+            path = findPath(graph, start, closestEndPoint, startSquare, closestEndSquare, radius);
             path.add(end);
         }
         else {
-            path = findPath(start, end, startSquare, endSquare, radius);
+            path = findPath(graph, start, end, startSquare, endSquare, radius);
         }
         
         return path;
@@ -1,13 +1,14 @@
 package teamproject.wipeout.engine.system.ai;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
 import javafx.geometry.Point2D;
+import teamproject.wipeout.engine.component.GameComponent;
 import teamproject.wipeout.engine.component.Transform;
 import teamproject.wipeout.engine.component.ai.SteeringComponent;
 import teamproject.wipeout.engine.component.physics.MovementComponent;
+import teamproject.wipeout.engine.core.EntityCommandBuffer;
 import teamproject.wipeout.engine.core.GameScene;
 import teamproject.wipeout.engine.entity.GameEntity;
 import teamproject.wipeout.engine.entity.collector.SignatureEntityCollector;
@@ -22,22 +23,30 @@ public class SteeringSystem implements GameSystem{
 
     protected SignatureEntityCollector entityCollector;
 
-    private List<GameEntity> toRemove = new ArrayList<>();
+    private EntityCommandBuffer commandBuffer;
     
     public SteeringSystem(GameScene e) {
         this.entityCollector = new SignatureEntityCollector(e, Set.of(Transform.class, MovementComponent.class, SteeringComponent.class));
+        this.commandBuffer = e.getCommandBuffer();
     }
 
     public void cleanup(){
         this.entityCollector.cleanup();
     }
 
+    public Set<Class<? extends GameComponent>> getReadComponents() {
+        return Set.of(Transform.class, SteeringComponent.class);
+    }
+
+    public Set<Class<? extends GameComponent>> getWriteComponents() {
+        return Set.of(MovementComponent.class, SteeringComponent.class);
+    }
+
     /**
      * Perform the movement through the mesh once the steering component is present.
      */
     public void accept(Double timeStep) {
         List<GameEntity> entities = this.entityCollector.getEntities();
-        toRemove.clear();
 
         for (GameEntity entity : entities) {
             MovementComponent m = entity.getComponent(MovementComponent.class);
@@ -47,28 +56,30 @@ public class SteeringSystem implements GameSystem{
                 continue;
             }
 
-            Point2D currentPosition = t.getWorldPosition();
-
             Point2D nextPosition = s.path.get(s.currentPoint);
 
-            Point2D vector = nextPosition.subtract(currentPosition);
+            double vectorX = nextPosition.getX() - t.getWorldX();
+            double vectorY = nextPosition.getY() - t.getWorldY();
+            double magnitude = Math.sqrt(vectorX * vectorX + vectorY * vectorY);
 
-            if (vector.magnitude() < MAGNITUDE) {
+            if (magnitude < MAGNITUDE) {
                 if (s.currentPoint == s.path.size() - 1) {
-                    m.acceleration = Point2D.ZERO;
-                    toRemove.add(entity);
+                    m.setAcceleration(0, 0);
+                    this.commandBuffer.removeComponent(entity, SteeringComponent.class);
+                    if (s.onArrive != null) {
+                        this.commandBuffer.run(s.onArrive);
+                    }
                     continue;
                 }
                 s.currentPoint++;
             }
 
-            m.acceleration = vector.normalize().multiply(s.accelerationMultiplier);
-        }
-
-        for(GameEntity entity : toRemove) {
-            SteeringComponent s = entity.removeComponent(SteeringComponent.class);
-            if (s.onArrive != null) {
-                s.onArrive.run(); 
+            if (magnitude == 0) {
+                m.setAcceleration(0, 0);
+            }
+            else {
+                double scale = s.accelerationMultiplier / magnitude;
+                m.setAcceleration(vectorX * scale, vectorY * scale);
             }
         }
     }
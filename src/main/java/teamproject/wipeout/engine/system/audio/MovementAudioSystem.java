@@ -53,10 +53,10 @@ public class MovementAudioSystem implements GameSystem {
 		List<GameEntity> entities = this.entityCollector.getEntities();
 		for (GameEntity entity : entities) { //iterates through all entities with AudioComponents
 			MovementAudioComponent s = entity.getComponent(MovementAudioComponent.class);
-			if ((s.playing == false) && (s.moveComp.velocity.getX() != 0.0f || s.moveComp.velocity.getY() != 0.0f)) {
+			if ((s.playing == false) && s.moveComp.isMoving()) {
 				s.setVolume(volume); //applies the spot effects volume to component before playing
 				s.playSound();
-			} else if (s.playing == true && muted || (s.playing == true) && (s.moveComp.velocity.getX() == 0.0f && s.moveComp.velocity.getY() == 0.0f)) {
+			} else if (s.playing == true && muted || (s.playing == true) && !s.moveComp.isMoving()) {
 				s.stop();
 			}
 		}
@@ -1,9 +1,11 @@
 package teamproject.wipeout.engine.system.farm;
 
 import javafx.geometry.Point2D;
-import javafx.scene.image.Image;
+import teamproject.wipeout.engine.component.GameComponent;
 import teamproject.wipeout.engine.component.Transform;
 import teamproject.wipeout.engine.component.farm.FarmSpriteComponent;
+import teamproject.wipeout.engine.component.farm.RowGrowthComponent;
+import teamproject.wipeout.engine.component.render.SpriteRegion;
 import teamproject.wipeout.engine.core.GameScene;
 import teamproject.wipeout.engine.entity.GameEntity;
 import teamproject.wipeout.engine.entity.collector.SignatureEntityCollector;
@@ -46,6 +48,17 @@ public class FarmSpriteSystem implements GameSystem {
         plantCollector.cleanup();
     }
 
+    /**
+     * Growth stages are read from the farm rows updated through {@link RowGrowthComponent}s.
+     */
+    public Set<Class<? extends GameComponent>> getReadComponents() {
+        return Set.of(Transform.class, FarmSpriteComponent.class, RowGrowthComponent.class);
+    }
+
+    public Set<Class<? extends GameComponent>> getWriteComponents() {
+        return Set.of(Transform.class, FarmSpriteComponent.class);
+    }
+
     public void accept(Double timeStep) {
         List<GameEntity> entities = plantCollector.getEntities();
 
@@ -74,13 +87,13 @@ public class FarmSpriteSystem implements GameSystem {
 
             PlantComponent plant = currentItem.getComponent(PlantComponent.class);
             try {
-                Image[] sprites = this.spriteManager.getSpriteSet(plant.spriteSheetName, plant.spriteSetName);
+                SpriteRegion[] sprites = this.spriteManager.getSpriteRegions(plant.spriteSheetName, plant.spriteSetName);
 
-                Image sprite = sprites[growthStage];
+                SpriteRegion sprite = sprites[growthStage];
                 fs.spriteRenderer.sprite = sprite;
 
-                Point2D spriteScale = this.rescaleToFitWidth(plant.width, sprite.getWidth(), sprite.getHeight());
-                fs.spriteRenderer.spriteScale = new Point2D(spriteScale.getX() / sprite.getWidth(), spriteScale.getY() / sprite.getHeight());
+                Point2D spriteScale = this.rescaleToFitWidth(plant.width, sprite.width, sprite.height);
+                fs.spriteRenderer.spriteScale = new Point2D(spriteScale.getX() / sprite.width, spriteScale.getY() / sprite.height);
 
 
                 double lastYOffset = fs.getLastYOffset();
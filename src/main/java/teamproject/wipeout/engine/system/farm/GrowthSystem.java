@@ -1,5 +1,6 @@
 package teamproject.wipeout.engine.system.farm;
 
+import teamproject.wipeout.engine.component.GameComponent;
 import teamproject.wipeout.engine.component.farm.RowGrowthComponent;
 import teamproject.wipeout.engine.core.GameScene;
 import teamproject.wipeout.engine.entity.GameEntity;
@@ -34,6 +35,14 @@ public class GrowthSystem implements GameSystem {
         this.plantCollector.cleanup();
     }
 
+    public Set<Class<? extends GameComponent>> getReadComponents() {
+        return Set.of(RowGrowthComponent.class);
+    }
+
+    public Set<Class<? extends GameComponent>> getWriteComponents() {
+        return Set.of(RowGrowthComponent.class);
+    }
+
     /**
      * Receives the change in time in the form of the given {@code timeStep} of type {@code Double}.
      *
@@ -1,28 +1,78 @@
 package teamproject.wipeout.engine.system.physics;
 
-import javafx.util.Pair;
 import teamproject.wipeout.engine.component.Transform;
 import teamproject.wipeout.engine.component.physics.CollisionResolutionComponent;
+import teamproject.wipeout.engine.component.physics.ContactBuffer;
+import teamproject.wipeout.engine.component.physics.GeometryUtil;
 import teamproject.wipeout.engine.component.physics.HitboxComponent;
+import teamproject.wipeout.engine.component.physics.MovementComponent;
+import teamproject.wipeout.engine.component.shape.Circle;
+import teamproject.wipeout.engine.component.shape.Rectangle;
 import teamproject.wipeout.engine.component.shape.Shape;
 import teamproject.wipeout.engine.core.GameScene;
 import teamproject.wipeout.engine.entity.GameEntity;
 import teamproject.wipeout.engine.entity.collector.SignatureEntityCollector;
 import teamproject.wipeout.engine.system.GameSystem;
+import teamproject.wipeout.util.BoxGrid;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
 /**
- * System that checks and resolves collisions between entities with the collision component and collision resolution component
+ * System that checks and resolves collisions between entities with the collision component and collision resolution component.
+ *
+ * Colliders that aren't moveable are static: they are put in a BoxGrid once, and never tested against each other.
+ * Each update, only the dynamic colliders are checked - against each other using a sweep and prune broad phase,
+ * and against the static colliders near them using the grid.
+ * Dynamic colliders with continuous collision detection enabled on their MovementComponent have their last move
+ * swept against the static colliders first, and are moved back to where they hit one.
  */
 public class CollisionSystem implements GameSystem {
+
+    // Distance kept between a swept entity and the collider it hit
+    public static final double SWEEP_SKIN = 0.01;
+    // Number of times a move is swept again after sliding along a collider
+    public static final int MAX_SWEEP_ITERATIONS = 2;
+    // Cell size of the grid of static colliders
+    public static final double STATIC_GRID_CELL_SIZE = 128;
     
     protected SignatureEntityCollector _entityCollector;
+    protected SweepAndPrune broadPhase;
+    protected BoxGrid staticGrid;
+    protected ContactBuffer contacts;
+
+    private final List<GameEntity> dynamicEntities;
+    private final List<GameEntity> staticEntities;
+    private boolean collidersChanged;
+
+    private double[] boundsMinX;
+    private double[] boundsMinY;
+    private double[] boundsMaxX;
+    private double[] boundsMaxY;
+
+    private final double[] sweepNormal;
 
     public CollisionSystem(GameScene e) {
         this._entityCollector = new SignatureEntityCollector(e, Set.of(Transform.class, HitboxComponent.class, CollisionResolutionComponent.class));
+        this._entityCollector.onAdd = (entity) -> this.collidersChanged = true;
+        this._entityCollector.onRemove = (entity) -> this.collidersChanged = true;
+
+        this.broadPhase = new SweepAndPrune();
+        this.staticGrid = new BoxGrid(STATIC_GRID_CELL_SIZE);
+        this.contacts = new ContactBuffer();
+
+        this.dynamicEntities = new ArrayList<>();
+        this.staticEntities = new ArrayList<>();
+        this.collidersChanged = true;
+
+        this.boundsMinX = new double[16];
+        this.boundsMinY = new double[16];
+        this.boundsMaxX = new double[16];
+        this.boundsMaxY = new double[16];
+
+        this.sweepNormal = new double[2];
     }
 
 	@Override
@@ -36,21 +86,206 @@ public class CollisionSystem implements GameSystem {
 		this._entityCollector.cleanup();
 	}
 
+    /**
+     * Rebuilds the static collider index next update, e.g. after moving a static collider
+     */
+    public void invalidateStaticColliders() {
+        this.collidersChanged = true;
+        this.staticEntities.clear();
+    }
+
 	@Override
     public void accept(Double timeStep) {
+        if (this.collidersChanged) {
+            this.sortColliders();
+        }
+
+        List<GameEntity> entities = this.dynamicEntities;
+
+        // Broad phase: only dynamic entities whose boxes overlap can collide
+        this.broadPhase.setCount(entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            this.updateBounds(entities.get(i), i);
+            this.sweepStatic(entities.get(i), i);
+            this.broadPhase.setBounds(i, this.boundsMinX[i], this.boundsMinY[i], this.boundsMaxX[i], this.boundsMaxY[i]);
+        }
+
+        // Narrow phase on the candidate pairs
+        int pairCount = this.broadPhase.findPairs();
+        for (int k = 0; k < pairCount; k++) {
+            this.resolve(entities.get(this.broadPhase.getPairFirst(k)), entities.get(this.broadPhase.getPairSecond(k)));
+        }
+
+        // Dynamic against static, using the boxes from before resolving the dynamic pairs -
+        // the narrow phase uses the current positions, and anything missed is caught next update
+        for (int i = 0; i < entities.size(); i++) {
+            int found = this.staticGrid.query(this.boundsMinX[i], this.boundsMinY[i], this.boundsMaxX[i], this.boundsMaxY[i]);
+            for (int k = 0; k < found; k++) {
+                this.resolve(entities.get(i), this.staticEntities.get(this.staticGrid.getResult(k)));
+            }
+        }
+    }
+
+    /**
+     * Splits the colliders into dynamic and static ones, rebuilding the static index only if the static colliders changed
+     */
+    private void sortColliders() {
+        this.collidersChanged = false;
+
         List<GameEntity> entities = this._entityCollector.getEntities();
+        this.dynamicEntities.clear();
+
+        int staticCount = 0;
+        boolean staticChanged = false;
+        for (int i = 0; i < entities.size(); i++) {
+            GameEntity entity = entities.get(i);
+            if (entity.getComponent(CollisionResolutionComponent.class).isMoveable()) {
+                this.dynamicEntities.add(entity);
+            }
+            else {
+                if (staticCount >= this.staticEntities.size() || this.staticEntities.get(staticCount) != entity) {
+                    staticChanged = true;
+                }
+                staticCount++;
+            }
+        }
+
+        if (!staticChanged && staticCount == this.staticEntities.size()) {
+            return;
+        }
+
+        this.staticEntities.clear();
+        for (int i = 0; i < entities.size(); i++) {
+            GameEntity entity = entities.get(i);
+            if (!entity.getComponent(CollisionResolutionComponent.class).isMoveable()) {
+                this.updateBounds(entity, this.staticEntities.size());
+                this.staticEntities.add(entity);
+            }
+        }
+        this.staticGrid.build(this.staticEntities.size(), this.boundsMinX, this.boundsMinY, this.boundsMaxX, this.boundsMaxY);
+    }
+
+    /**
+     * Calculates the world space box around an entity's hitboxes
+     *
+     * @param entity The entity
+     * @param index Where to store the box in the bounds arrays
+     */
+    private void updateBounds(GameEntity entity, int index) {
+        if (index >= this.boundsMinX.length) {
+            int capacity = Math.max(index + 1, this.boundsMinX.length * 2);
+            this.boundsMinX = Arrays.copyOf(this.boundsMinX, capacity);
+            this.boundsMinY = Arrays.copyOf(this.boundsMinY, capacity);
+            this.boundsMaxX = Arrays.copyOf(this.boundsMaxX, capacity);
+            this.boundsMaxY = Arrays.copyOf(this.boundsMaxY, capacity);
+        }
+
+        Transform t = entity.getComponent(Transform.class);
+        HitboxComponent h = entity.getComponent(HitboxComponent.class);
+
+        h.updateBounds();
+        double x = t.getWorldX();
+        double y = t.getWorldY();
+        this.boundsMinX[index] = x + h.getBoundsMinX();
+        this.boundsMinY[index] = y + h.getBoundsMinY();
+        this.boundsMaxX[index] = x + h.getBoundsMaxX();
+        this.boundsMaxY[index] = y + h.getBoundsMaxY();
+    }
+
+    /**
+     * Sweeps an entity's last move against the static colliders near it, if it has continuous collision detection enabled.
+     * If the move hits one, the entity is moved back to where it hit, and slides along the collider for the rest of the move.
+     *
+     * @param entity The dynamic entity
+     * @param index Where the entity's box at the end of the move is stored in the bounds arrays, updated if it is moved
+     */
+    private void sweepStatic(GameEntity entity, int index) {
+        MovementComponent m = entity.getComponent(MovementComponent.class);
+        if (m == null || !m.isContinuousCollisionDetection()) {
+            return;
+        }
+
+        double dx = m.getDisplacementX();
+        double dy = m.getDisplacementY();
+
+        for (int iteration = 0; iteration < MAX_SWEEP_ITERATIONS && (dx != 0 || dy != 0); iteration++) {
+            double startMinX = this.boundsMinX[index] - dx;
+            double startMinY = this.boundsMinY[index] - dy;
+            double startMaxX = this.boundsMaxX[index] - dx;
+            double startMaxY = this.boundsMaxY[index] - dy;
+
+            double impact = 1;
+            double normalX = 0;
+            double normalY = 0;
+
+            int found = this.staticGrid.query(Math.min(startMinX, this.boundsMinX[index]), Math.min(startMinY, this.boundsMinY[index]),
+                    Math.max(startMaxX, this.boundsMaxX[index]), Math.max(startMaxY, this.boundsMaxY[index]));
+            for (int k = 0; k < found; k++) {
+                GameEntity other = this.staticEntities.get(this.staticGrid.getResult(k));
+                Transform t = other.getComponent(Transform.class);
+                List<Shape> shapes = other.getComponent(HitboxComponent.class).getHitboxes();
+
+                // Each shape is swept separately, as the box around all of them may contain the entity (e.g. world boundaries)
+                for (int s = 0; s < shapes.size(); s++) {
+                    Shape shape = shapes.get(s);
+                    double minX;
+                    double minY;
+                    double maxX;
+                    double maxY;
+                    if (shape instanceof Rectangle) {
+                        Rectangle r = (Rectangle) shape;
+                        minX = t.getWorldX() + r.getX();
+                        minY = t.getWorldY() + r.getY();
+                        maxX = minX + r.getWidth();
+                        maxY = minY + r.getHeight();
+                    }
+                    else if (shape instanceof Circle) {
+                        Circle c = (Circle) shape;
+                        minX = t.getWorldX() + c.getCentreX() - c.getRadius();
+                        minY = t.getWorldY() + c.getCentreY() - c.getRadius();
+                        maxX = minX + 2 * c.getRadius();
+                        maxY = minY + 2 * c.getRadius();
+                    }
+                    else {
+                        continue;
+                    }
+
+                    double shapeImpact = GeometryUtil.sweepAABB(startMinX, startMinY, startMaxX, startMaxY, dx, dy, minX, minY, maxX, maxY, this.sweepNormal);
+                    if (shapeImpact < impact) {
+                        impact = shapeImpact;
+                        normalX = this.sweepNormal[0];
+                        normalY = this.sweepNormal[1];
+                    }
+                }
+            }
 
-        for(int i = 0; i < entities.size(); i++) {
-            for(int j = i+1; j < entities.size(); j++) {
-            	if(i != j) {
-                	ArrayList<Pair<Shape, Shape>> p = null;
-					if((p = HitboxComponent.collides(entities.get(i), entities.get(j))) != null) {
-						CollisionResolutionComponent.resolveCollision(entities.get(i),entities.get(j), p);
-                	}
-            	}
+            if (impact >= 1) {
+                return;
             }
+
+            // Undo the rest of the move into the collider, keeping the part along it
+            double correctionX = normalX != 0 ? -(1 - impact) * dx + normalX * SWEEP_SKIN : 0;
+            double correctionY = normalY != 0 ? -(1 - impact) * dy + normalY * SWEEP_SKIN : 0;
+
+            entity.getComponent(Transform.class).translate(correctionX, correctionY);
+            this.boundsMinX[index] += correctionX;
+            this.boundsMinY[index] += correctionY;
+            this.boundsMaxX[index] += correctionX;
+            this.boundsMaxY[index] += correctionY;
+
+            m.setVelocity(normalX != 0 ? 0 : m.getVelocityX(), normalY != 0 ? 0 : m.getVelocityY());
+            dx += correctionX;
+            dy += correctionY;
+        }
+    }
+
+    /**
+     * Runs the narrow phase on two entities, and resolves any collision between them
+     */
+    private void resolve(GameEntity g1, GameEntity g2) {
+        if (HitboxComponent.collides(g1, g2, this.contacts) > 0) {
+            CollisionResolutionComponent.resolveCollision(g1, g2, this.contacts);
         }
-        
     }
 
 }
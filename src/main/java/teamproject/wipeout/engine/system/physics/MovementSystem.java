@@ -3,7 +3,6 @@ package teamproject.wipeout.engine.system.physics;
 import java.util.List;
 import java.util.Set;
 
-import javafx.geometry.Point2D;
 import teamproject.wipeout.engine.component.Transform;
 import teamproject.wipeout.engine.component.physics.MovementComponent;
 import teamproject.wipeout.engine.core.GameScene;
@@ -33,15 +32,17 @@ public class MovementSystem implements GameSystem {
             Transform t = entity.getComponent(Transform.class);
             MovementComponent m = entity.getComponent(MovementComponent.class);
 
-            boolean wasMoving = !m.velocity.equals(Point2D.ZERO);
+            boolean wasMoving = m.isMoving();
 
             m.updateVelocity(timeStep);
-            t.setPosition(t.getPosition().add(m.velocity.multiply(timeStep)));
+            double dx = m.getVelocityX() * timeStep;
+            double dy = m.getVelocityY() * timeStep;
+            t.translate(dx, dy);
+            m.setDisplacement(dx, dy);
 
             m.updateFacingDirection();
 
-            boolean isStationary = m.velocity.equals(Point2D.ZERO);
-            if (m.stopCallback != null && wasMoving && isStationary) {
+            if (m.stopCallback != null && wasMoving && !m.isMoving()) {
                 m.stopCallback.accept(t.getWorldPosition());
             }
         }
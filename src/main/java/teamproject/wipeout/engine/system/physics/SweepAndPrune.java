@@ -0,0 +1,174 @@
+package teamproject.wipeout.engine.system.physics;
+
+import java.util.Arrays;
+
+/**
+ * Broad phase for collision detection: finds the pairs of axis-aligned boxes that overlap,
+ * without testing every pair against each other.
+ *
+ * Boxes are kept sorted by their minimum x. Only boxes that start before another box ends on the x axis
+ * can overlap it, so each box is only compared against the few boxes after it in that order.
+ * Boxes move little between updates, so the order from the last update is nearly sorted and
+ * insertion sort puts it back in order in close to linear time.
+ *
+ * Arrays are reused between updates, so finding pairs doesn't allocate once they are big enough.
+ */
+public class SweepAndPrune {
+
+    private double[] minX;
+    private double[] minY;
+    private double[] maxX;
+    private double[] maxY;
+    // Box indices, sorted by minX
+    private int[] order;
+    private int count;
+
+    // Overlapping pairs, stored as consecutive (lower index, higher index)
+    private int[] pairs;
+    private int pairCount;
+
+    /**
+     * Creates a new instance of SweepAndPrune
+     */
+    public SweepAndPrune() {
+        this.minX = new double[16];
+        this.minY = new double[16];
+        this.maxX = new double[16];
+        this.maxY = new double[16];
+        this.order = new int[16];
+        this.pairs = new int[32];
+    }
+
+    /**
+     * Changes the number of boxes. If it changed, the sort order is reset, as the indices may now be different boxes.
+     * Every box must have its bounds set (using setBounds) before calling findPairs.
+     *
+     * @param newCount The number of boxes
+     */
+    public void setCount(int newCount) {
+        if (newCount > this.minX.length) {
+            int capacity = Math.max(newCount, this.minX.length * 2);
+            this.minX = Arrays.copyOf(this.minX, capacity);
+            this.minY = Arrays.copyOf(this.minY, capacity);
+            this.maxX = Arrays.copyOf(this.maxX, capacity);
+            this.maxY = Arrays.copyOf(this.maxY, capacity);
+            this.order = Arrays.copyOf(this.order, capacity);
+        }
+
+        if (newCount != this.count) {
+            for (int i = 0; i < newCount; i++) {
+                this.order[i] = i;
+            }
+            this.count = newCount;
+        }
+    }
+
+    /**
+     * Gets the number of boxes
+     *
+     * @return The number of boxes
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Sets the bounds of a box
+     *
+     * @param index The index of the box (0 to count - 1)
+     * @param boxMinX The left edge
+     * @param boxMinY The top edge
+     * @param boxMaxX The right edge
+     * @param boxMaxY The bottom edge
+     */
+    public void setBounds(int index, double boxMinX, double boxMinY, double boxMaxX, double boxMaxY) {
+        this.minX[index] = boxMinX;
+        this.minY[index] = boxMinY;
+        this.maxX[index] = boxMaxX;
+        this.maxY[index] = boxMaxY;
+    }
+
+    /**
+     * Finds all pairs of boxes that overlap (touching edges count as overlapping)
+     *
+     * @return The number of pairs found (see getPairFirst and getPairSecond)
+     */
+    public int findPairs() {
+        this.sortByMinX();
+        this.pairCount = 0;
+
+        for (int i = 0; i < this.count; i++) {
+            int a = this.order[i];
+            double aMaxX = this.maxX[a];
+
+            for (int j = i + 1; j < this.count; j++) {
+                int b = this.order[j];
+                if (this.minX[b] > aMaxX) {
+                    // Every box after this starts further right, so none of them overlap a
+                    break;
+                }
+
+                if (this.minY[b] <= this.maxY[a] && this.minY[a] <= this.maxY[b]) {
+                    this.addPair(Math.min(a, b), Math.max(a, b));
+                }
+            }
+        }
+
+        return this.pairCount;
+    }
+
+    /**
+     * Gets the number of pairs found by the last call to findPairs
+     *
+     * @return The number of pairs
+     */
+    public int getPairCount() {
+        return this.pairCount;
+    }
+
+    /**
+     * Gets the lower box index of a pair found by findPairs
+     *
+     * @param pair The pair index (0 to pair count - 1)
+     * @return The box index
+     */
+    public int getPairFirst(int pair) {
+        return this.pairs[pair * 2];
+    }
+
+    /**
+     * Gets the higher box index of a pair found by findPairs
+     *
+     * @param pair The pair index (0 to pair count - 1)
+     * @return The box index
+     */
+    public int getPairSecond(int pair) {
+        return this.pairs[pair * 2 + 1];
+    }
+
+    private void addPair(int first, int second) {
+        if (this.pairCount * 2 == this.pairs.length) {
+            this.pairs = Arrays.copyOf(this.pairs, this.pairs.length * 2);
+        }
+        this.pairs[this.pairCount * 2] = first;
+        this.pairs[this.pairCount * 2 + 1] = second;
+        this.pairCount++;
+    }
+
+    /**
+     * Insertion sorts the box order by minX, which is fast as the order is nearly sorted from the last update
+     */
+    private void sortByMinX() {
+        for (int i = 1; i < this.count; i++) {
+            int index = this.order[i];
+            double key = this.minX[index];
+
+            int j = i - 1;
+            while (j >= 0 && this.minX[this.order[j]] > key) {
+                this.order[j + 1] = this.order[j];
+                j--;
+            }
+            this.order[j + 1] = index;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package teamproject.wipeout.engine.system.render;
+
+import java.util.List;
+import java.util.Set;
+
+import teamproject.wipeout.engine.component.GameComponent;
+import teamproject.wipeout.engine.component.Transform;
+import teamproject.wipeout.engine.component.render.CameraComponent;
+import teamproject.wipeout.engine.component.render.RenderComponent;
+import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.entity.GameEntity;
+import teamproject.wipeout.engine.entity.collector.CameraEntityCollector;
+import teamproject.wipeout.engine.system.GameSystem;
+
+/**
+ * Saves the world positions of moving renderable entities and the main camera at the start of each update step,
+ * so that the RenderSystem can draw them between their previous and current positions.
+ * This should be the first system in the SystemUpdater.
+ */
+public class InterpolationSystem implements GameSystem {
+
+    protected RendererEntityCollector renderableEntityCollector;
+    protected CameraEntityCollector cameraCollector;
+
+    /**
+     * Creates a new instance of InterpolationSystem
+     * @param scene The GameScene this system is part of
+     */
+    public InterpolationSystem(GameScene scene) {
+        this.renderableEntityCollector = new RendererEntityCollector(scene);
+        this.cameraCollector = new CameraEntityCollector(scene);
+    }
+
+    public void cleanup() {
+        this.renderableEntityCollector.cleanup();
+        this.cameraCollector.cleanup();
+    }
+
+    public Set<Class<? extends GameComponent>> getReadComponents() {
+        return Set.of(Transform.class, RenderComponent.class, CameraComponent.class);
+    }
+
+    public Set<Class<? extends GameComponent>> getWriteComponents() {
+        return Set.of(Transform.class);
+    }
+
+    public void accept(Double timeStep) {
+        // Static entities never move, so only dynamic entities need their positions saved
+        List<GameEntity> entities = this.renderableEntityCollector.getEntities();
+        for (int i = 0; i < entities.size(); i++) {
+            entities.get(i).getComponent(Transform.class).savePreviousWorldPosition();
+        }
+
+        if (this.cameraCollector.getMainCamera() != null) {
+            this.cameraCollector.getCameraTransform().savePreviousWorldPosition();
+        }
+    }
+}
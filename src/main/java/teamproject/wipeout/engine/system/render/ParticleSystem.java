@@ -1,20 +1,25 @@
 package teamproject.wipeout.engine.system.render;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import javafx.geometry.Point2D;
 import teamproject.wipeout.engine.component.render.particle.*;
 import teamproject.wipeout.engine.component.render.particle.ParticleParameters.ParticleSimulationSpace;
-import teamproject.wipeout.engine.component.render.particle.type.Particle;
 import teamproject.wipeout.engine.component.render.particle.type.ParticleUpdateFunction;
 import teamproject.wipeout.engine.component.Transform;
+import teamproject.wipeout.engine.component.GameComponent;
 import teamproject.wipeout.engine.component.render.RenderComponent;
+import teamproject.wipeout.engine.core.EntityCommandBuffer;
 import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.core.ViewBounds;
 import teamproject.wipeout.engine.entity.GameEntity;
 import teamproject.wipeout.engine.entity.collector.FunctionalSignatureCollector;
 import teamproject.wipeout.engine.system.GameSystem;
@@ -22,23 +27,92 @@ import teamproject.wipeout.util.ObjectPool;
 
 /**
  * Creates and manages particle emitters for entities with particle components.
+ * Each emitter's particles are stored in a ParticleBuffer, which is updated one step (ageing, each update function, moving) at a time.
+ *
+ * Emitters are independent while their particles are simulated, so when there are enough particles the emitters are
+ * split between the threads of a ForkJoinPool. Emission uses the entity's Transform and the (shared) suppliers, so it is
+ * run afterwards on the updating thread, in the same order every step.
+ *
+ * Emitters further than LOD_MARGIN outside the camera's view are throttled: their particles are only aged and moved
+ * (skipping the update functions) every OFFSCREEN_CATCH_UP_TIME, and they emit OFFSCREEN_DENSITY of their particles.
+ * When an emitter comes back into view its particles are caught up to the current time before the normal step.
  */
 public class ParticleSystem implements GameSystem {
+
+    // Fewer live particles than this are simulated on the updating thread
+    public static final int PARALLEL_THRESHOLD = 2000;
+    // A group of emitters with fewer particles than this is simulated by one task, rather than split further
+    public static final int TASK_THRESHOLD = 500;
+
+    // How far outside the view an emitter can be before it is throttled
+    public static final double LOD_MARGIN = 128;
+    // How long a throttled emitter's particles can go without being moved (s)
+    public static final double OFFSCREEN_CATCH_UP_TIME = 0.25;
+    // Fraction of the particles a throttled emitter emits
+    public static final double OFFSCREEN_DENSITY = 0.25;
     
     public FunctionalSignatureCollector entityCollector;
     public Map<GameEntity, ParticleRenderable> trackedEntities;
 
-    private ObjectPool<Particle> particlePool;
+    private ObjectPool<ParticleBuffer> bufferPool;
+    private EntityCommandBuffer commandBuffer;
+    private ViewBounds viewBounds;
+
+    // Fraction of each effect's maximum particles to emit, lowered to save rendering time
+    private volatile double particleMultiplier;
+
+    // The pool emitters are simulated on, or null to simulate them on the updating thread
+    private ForkJoinPool pool;
+
+    // The emitters simulated this step, and the number of particles before each (so particleOffsets[count] is the total)
+    private GameEntity[] activeEntities;
+    private ParticleComponent[] activeComponents;
+    private ParticleRenderable[] activeRenderables;
+    private ParticleParameters[] activeParameters;
+    private boolean[] activeThrottled;
+    private int[] particleOffsets;
 
     /**
-     * Creates a new instance of ParticleSystem
+     * Creates a new instance of ParticleSystem, which simulates emitters on the common ForkJoinPool
      * @param scene The scene this particle system is part of
      */
     public ParticleSystem(GameScene scene) {
+        this(scene, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new instance of ParticleSystem
+     * @param scene The scene this particle system is part of
+     * @param pool The pool to simulate emitters on, or null to simulate them on the updating thread
+     */
+    public ParticleSystem(GameScene scene, ForkJoinPool pool) {
         entityCollector = new FunctionalSignatureCollector(scene, Set.of(Transform.class, ParticleComponent.class), add, remove, remove);
         trackedEntities = new HashMap<>();
 
-        particlePool = new ObjectPool<Particle>(() -> {return new Particle();});
+        bufferPool = new ObjectPool<ParticleBuffer>(ParticleBuffer::new);
+        commandBuffer = scene.getCommandBuffer();
+        viewBounds = scene.getViewBounds();
+        particleMultiplier = 1;
+
+        this.pool = pool;
+        activeEntities = new GameEntity[16];
+        activeComponents = new ParticleComponent[16];
+        activeRenderables = new ParticleRenderable[16];
+        activeParameters = new ParticleParameters[16];
+        activeThrottled = new boolean[16];
+        particleOffsets = new int[17];
+    }
+
+    /**
+     * Sets the fraction of each effect's maximum particles to emit (see ParticleParameters.getMaxParticles)
+     * @param particleMultiplier The fraction to emit (0-1)
+     */
+    public void setParticleMultiplier(double particleMultiplier) {
+        this.particleMultiplier = particleMultiplier;
+    }
+
+    public double getParticleMultiplier() {
+        return particleMultiplier;
     }
 
     /**
@@ -48,55 +122,37 @@ public class ParticleSystem implements GameSystem {
         entityCollector.cleanup();
     }
 
-    public void accept(Double timeStep) {
-        ArrayList<ParticleComponent> toStop = new ArrayList<>();
-        for (Map.Entry<GameEntity, ParticleRenderable> entry : trackedEntities.entrySet()) {
-            ParticleComponent pc = entry.getKey().getComponent(ParticleComponent.class);
-            ParticleRenderable renderable = entry.getValue();
+    public Set<Class<? extends GameComponent>> getReadComponents() {
+        return Set.of(Transform.class, ParticleComponent.class);
+    }
 
-            // Check if we should skip this ParticleComponent - only skip if stopped and no particles left simulating
-            if (!pc.isPlaying() && renderable.particles.size() == 0) {
-                continue;
-            }
+    public Set<Class<? extends GameComponent>> getWriteComponents() {
+        return Set.of(ParticleComponent.class, RenderComponent.class);
+    }
 
-            ParticleParameters parameters = pc.parameters;
-            
-            double maxX = Double.NEGATIVE_INFINITY;
-            double maxY = Double.NEGATIVE_INFINITY;
-
-            // Increment particles by timeStep
-            int index = 0;
-            while (index < renderable.particles.size()) {
-                Particle particle = renderable.particles.get(index);
-                particle.aliveTime += timeStep;
-                double percentage = particle.aliveTime / particle.getLifetime();
-
-                if (percentage > 1) {
-                    renderable.particles.remove(index);
-                    particlePool.returnInstance(particle);
-                }
-                else {
-                    for (ParticleUpdateFunction function : parameters.getUpdateFunctions()) {
-                        function.update(particle, percentage, timeStep);
-                    }
-                    particle.position = particle.position.add(particle.velocity.multiply(timeStep));
-                    if (particle.position.getX() > maxX) {
-                        maxX = particle.position.getX();
-                    }
-                    if (particle.position.getY() > maxY) {
-                        maxY = particle.position.getY();
-                    }
-                    index++;
-                }
-            }
+    public void accept(Double timeStep) {
+        // Simulate the existing particles of every emitter, in parallel if there are enough
+        int count = collectActiveEmitters();
+        if (pool != null && count > 1 && particleOffsets[count] >= PARALLEL_THRESHOLD) {
+            pool.invoke(new SimulationTask(0, count, timeStep));
+        }
+        else {
+            simulate(0, count, timeStep);
+        }
 
-            renderable.setWidth(maxX);
-            renderable.setHeight(maxY);
+        for (int e = 0; e < count; e++) {
+            GameEntity entity = activeEntities[e];
+            ParticleComponent pc = activeComponents[e];
+            ParticleRenderable renderable = activeRenderables[e];
 
             // Check if stopped, if so we should only be simulating existing particles, so move on
             if (!pc.isPlaying()) {
                 continue;
             }
+
+            ParticleParameters parameters = pc.parameters;
+            double density = activeThrottled[e] ? particleMultiplier * OFFSCREEN_DENSITY : particleMultiplier;
+            int maxParticles = Math.max(1, (int) (parameters.getMaxParticles() * density));
             
             // Check if this ParticleComponent's runtime has elapsed
             pc.time += timeStep;
@@ -110,12 +166,10 @@ public class ParticleSystem implements GameSystem {
                     }
                 }
                 else {
-                    for (Particle p : renderable.particles) {
-                        particlePool.returnInstance(p);
-                    }
                     renderable.particles.clear();
                     
-                    toStop.add(pc);
+                    // Stop callbacks may change the scene, so defer them until the system has finished
+                    commandBuffer.run(pc::stop);
                     continue;
                 }
             }
@@ -125,18 +179,17 @@ public class ParticleSystem implements GameSystem {
                 double timeDiff = pc.time - pc.lastEmissionTime;
                 if (timeDiff > parameters.getSecsPerEmission()) {
                     int numberOfEmissions = (int) (timeDiff / parameters.getSecsPerEmission());
-
-                    if (numberOfEmissions + renderable.particles.size() > parameters.getMaxParticles()) {
-                        numberOfEmissions = parameters.getMaxParticles() - renderable.particles.size();
+                    if (activeThrottled[e]) {
+                        numberOfEmissions = (int) Math.ceil(numberOfEmissions * OFFSCREEN_DENSITY);
                     }
 
-                    Transform particleTransform = entry.getKey().getComponent(Transform.class);
-
-                    for (int i = 0; i < numberOfEmissions; i++) {
-                        Particle p = initialiseParticle(parameters, particleTransform.getWorldPosition());
-                        renderable.particles.add(p);
+                    if (numberOfEmissions + renderable.particles.size() > maxParticles) {
+                        numberOfEmissions = maxParticles - renderable.particles.size();
                     }
 
+                    Transform particleTransform = entity.getComponent(Transform.class);
+                    emitParticles(renderable.particles, parameters, particleTransform.getWorldPosition(), numberOfEmissions);
+
                     pc.lastEmissionTime = pc.time;
                 }
             }
@@ -144,16 +197,12 @@ public class ParticleSystem implements GameSystem {
             if (parameters.getBurstsEnabled() && pc.nextBurst != -1 && parameters.getBursts().get(pc.nextBurst).burstTime < pc.time) {
                 int numberOfEmissions = (int) parameters.getBursts().get(pc.nextBurst).burstAmount.get();
 
-                if (numberOfEmissions + renderable.particles.size() > parameters.getMaxParticles()) {
-                    numberOfEmissions = parameters.getMaxParticles() - renderable.particles.size();
+                if (numberOfEmissions + renderable.particles.size() > maxParticles) {
+                    numberOfEmissions = maxParticles - renderable.particles.size();
                 }
 
-                Transform particleTransform = entry.getKey().getComponent(Transform.class);
-
-                for (int i = 0; i < numberOfEmissions; i++) {
-                    Particle p = initialiseParticle(parameters, particleTransform.getWorldPosition());
-                    renderable.particles.add(p);
-                }
+                Transform particleTransform = entity.getComponent(Transform.class);
+                emitParticles(renderable.particles, parameters, particleTransform.getWorldPosition(), numberOfEmissions);
 
                 // Prepare for next burst
                 if (pc.nextBurst == parameters.getBursts().size() - 1) {
@@ -165,9 +214,115 @@ public class ParticleSystem implements GameSystem {
             }
         }
 
-        // Call stop function after main loop to prevent concurrent modification errors
-        while (toStop.size() > 0) {
-            toStop.remove(0).stop();
+        Arrays.fill(activeEntities, 0, count, null);
+        Arrays.fill(activeComponents, 0, count, null);
+        Arrays.fill(activeRenderables, 0, count, null);
+        Arrays.fill(activeParameters, 0, count, null);
+    }
+
+    /**
+     * Finds the emitters to simulate - skipping those that are stopped with no particles left simulating -
+     * and whether each is far enough out of view to be throttled
+     * @return The number of emitters
+     */
+    private int collectActiveEmitters() {
+        int count = 0;
+        for (Map.Entry<GameEntity, ParticleRenderable> entry : trackedEntities.entrySet()) {
+            GameEntity entity = entry.getKey();
+            ParticleComponent pc = entity.getComponent(ParticleComponent.class);
+            ParticleRenderable renderable = entry.getValue();
+
+            if (!pc.isPlaying() && renderable.particles.size() == 0) {
+                continue;
+            }
+
+            if (count == activeRenderables.length) {
+                activeEntities = Arrays.copyOf(activeEntities, count * 2);
+                activeComponents = Arrays.copyOf(activeComponents, count * 2);
+                activeRenderables = Arrays.copyOf(activeRenderables, count * 2);
+                activeParameters = Arrays.copyOf(activeParameters, count * 2);
+                activeThrottled = Arrays.copyOf(activeThrottled, count * 2);
+                particleOffsets = Arrays.copyOf(particleOffsets, count * 2 + 1);
+            }
+
+            Point2D position = entity.getComponent(Transform.class).getWorldPosition();
+            activeEntities[count] = entity;
+            activeComponents[count] = pc;
+            activeRenderables[count] = renderable;
+            activeParameters[count] = pc.parameters;
+            activeThrottled[count] = !viewBounds.isNear(position.getX(), position.getY(), LOD_MARGIN);
+            particleOffsets[count + 1] = particleOffsets[count] + renderable.particles.size();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Simulates the existing particles of a range of the active emitters for one time step,
+     * then sets each emitter's renderable bounds from its particles.
+     * Throttled emitters only add the time step to their deferred time, catching up once enough has built up.
+     * @param from The index of the first emitter
+     * @param to The index after the last emitter
+     * @param timeStep The time step (s)
+     */
+    private void simulate(int from, int to, double timeStep) {
+        for (int e = from; e < to; e++) {
+            ParticleRenderable renderable = activeRenderables[e];
+            ParticleBuffer particles = renderable.particles;
+
+            if (activeThrottled[e]) {
+                particles.defer(timeStep);
+                if (particles.getPendingTime() >= OFFSCREEN_CATCH_UP_TIME) {
+                    particles.catchUp();
+                    renderable.setWidth(particles.getMaxX());
+                    renderable.setHeight(particles.getMaxY());
+                }
+                continue;
+            }
+
+            // Back in view, so bring the particles up to date before stepping them normally
+            particles.catchUp();
+
+            // Increment particles by timeStep, removing those that have outlived their lifetime
+            particles.age(timeStep);
+
+            List<ParticleUpdateFunction> updateFunctions = activeParameters[e].getUpdateFunctions();
+            for (int i = 0; i < updateFunctions.size(); i++) {
+                updateFunctions.get(i).update(particles, timeStep);
+            }
+            particles.move(timeStep);
+
+            renderable.setWidth(particles.getMaxX());
+            renderable.setHeight(particles.getMaxY());
+        }
+    }
+
+    /**
+     * Simulates a range of the active emitters, splitting it in half until each half has few enough particles
+     */
+    private class SimulationTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final double timeStep;
+
+        SimulationTask(int from, int to, double timeStep) {
+            this.from = from;
+            this.to = to;
+            this.timeStep = timeStep;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1 || particleOffsets[to] - particleOffsets[from] <= TASK_THRESHOLD) {
+                simulate(from, to, timeStep);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new SimulationTask(from, middle, timeStep), new SimulationTask(middle, to, timeStep));
         }
     }
 
@@ -183,7 +338,7 @@ public class ParticleSystem implements GameSystem {
 
             RenderComponent render = entity.getComponent(RenderComponent.class);
 
-            ParticleRenderable particle = new ParticleRenderable();
+            ParticleRenderable particle = new ParticleRenderable(bufferPool.getInstance());
             render.addRenderable(particle);
 
             trackedEntities.put(entity, particle);
@@ -201,41 +356,51 @@ public class ParticleSystem implements GameSystem {
                 ParticleRenderable renderable = trackedEntities.get(entity);
                 render.removeRenderable(renderable);
 
-                for (Particle p : renderable.particles) {
-                    particlePool.returnInstance(p);
-                }
-
                 renderable.particles.clear();
-
+                bufferPool.returnInstance(renderable.particles);
             }
             trackedEntities.remove(entity);
         }
     };
 
     /**
-     * Initialises a new particle from the pool
+     * Adds new particles to a buffer
+     * @param particles The buffer to add to
      * @param parameters The particle parameter object to reference for initialisation
-     * @return The newly initialised particle
+     * @param particleEntityPos The world position of the particle system's entity
+     * @param numberOfEmissions The number of particles to add
      */
-    private Particle initialiseParticle(ParticleParameters parameters, Point2D particleEntityPos) {
-        Point2D startPos = Point2D.ZERO;
-        if (parameters.getSimulationSpace() == ParticleSimulationSpace.WORLD) {
-            startPos = particleEntityPos;
+    private void emitParticles(ParticleBuffer particles, ParticleParameters parameters, Point2D particleEntityPos, int numberOfEmissions) {
+        ParticleSimulationSpace simulationSpace = parameters.getSimulationSpace();
+        double originX = 0;
+        double originY = 0;
+        if (simulationSpace == ParticleSimulationSpace.WORLD) {
+            originX = particleEntityPos.getX();
+            originY = particleEntityPos.getY();
         }
 
         Supplier<Point2D> emissionArea = parameters.getEmissionPositionGenerator();
-        if (emissionArea != null) {
-            startPos = startPos.add(emissionArea.get());
+        if (numberOfEmissions > 0) {
+            particles.ensureCapacity(particles.size() + numberOfEmissions);
         }
 
-        double width = parameters.getWidth().get();
-        double height = width;
-        if (parameters.getHeight() != null) {
-            height = parameters.getHeight().get();
-        }
+        for (int i = 0; i < numberOfEmissions; i++) {
+            double x = originX;
+            double y = originY;
+            if (emissionArea != null) {
+                Point2D offset = emissionArea.get();
+                x += offset.getX();
+                y += offset.getY();
+            }
 
-        Particle p = particlePool.getInstance();
-        p.initialise(startPos, parameters.getSimulationSpace(), parameters.getVelocity().get(), parameters.getLifetime().get(), width, height, parameters.getOpacity().get(), parameters.getEmissionType().renderFactory());
-        return p;
+            double width = parameters.getWidth().get();
+            double height = width;
+            if (parameters.getHeight() != null) {
+                height = parameters.getHeight().get();
+            }
+
+            Point2D velocity = parameters.getVelocity().get();
+            particles.add(x, y, simulationSpace, velocity.getX(), velocity.getY(), parameters.getLifetime().get(), width, height, parameters.getOpacity().get(), parameters.getEmissionType());
+        }
     }
 }
@@ -0,0 +1,233 @@
+package teamproject.wipeout.engine.system.render;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.scene.canvas.GraphicsContext;
+import teamproject.wipeout.engine.component.render.RenderComponent;
+import teamproject.wipeout.engine.component.render.Renderable;
+import teamproject.wipeout.engine.component.render.SpriteRegion;
+import teamproject.wipeout.util.sort.RenderOrderComparator;
+
+/**
+ * The dynamic renderables to draw in a frame, and what to draw them with.
+ *
+ * A frame is drawn in three steps:
+ * - the list is filled (add) on the FX thread with a snapshot of each renderable: its resolved position,
+ *   its sprite region and size, its z position and its entity's bounds
+ * - the snapshot is culled to the view and sorted into drawing order (prepare). This only reads the list,
+ *   so it can run on another thread while the FX thread does something else
+ * - the visible commands are replayed to a GraphicsContext on the FX thread (draw). Sprites are drawn from the
+ *   snapshot - other renderables (text, shapes, particles) are drawn by calling their render method.
+ */
+public class RenderCommandList {
+
+    // Renderables of the same component are added one after another, so their sort keys keep them in order
+    private long[] sortKeys;
+    private Renderable[] renderables;
+    private SpriteRegion[] sprites;
+    private double[] x;
+    private double[] y;
+    private double[] width;
+    private double[] height;
+    private int[] z;
+    private double[] bottom;
+    // Bounds of the entity each renderable belongs to, used to cull
+    private double[] minX;
+    private double[] minY;
+    private double[] maxX;
+    private double[] maxY;
+    private int count;
+    private int visibleCount;
+    private double scale;
+
+    /**
+     * Creates a new, empty instance of RenderCommandList
+     */
+    public RenderCommandList() {
+        this.allocate(64);
+        this.scale = 1;
+    }
+
+    /**
+     * Removes every command, ready for the list to be filled again
+     * @param scale The scale the commands are drawn at (the zoom of the camera)
+     */
+    public void reset(double scale) {
+        Arrays.fill(this.renderables, 0, this.count, null);
+        Arrays.fill(this.sprites, 0, this.count, null);
+        this.count = 0;
+        this.visibleCount = 0;
+        this.scale = scale;
+    }
+
+    /**
+     * Adds a command for each renderable of a RenderComponent, recording what it draws now
+     * @param component The RenderComponent to draw
+     * @param x The x position of its entity
+     * @param y The y position of its entity
+     * @param z The z position of its entity
+     * @param bottom The y coordinate of its bottom edge, used to sort entities on the same z position
+     * @throws IllegalStateException if the list already holds as many commands as can be sorted
+     */
+    public void add(RenderComponent component, double x, double y, int z, double bottom) {
+        double left = x + component.offset.getX();
+        double top = y + component.offset.getY();
+        double right = left + component.getWidth();
+        double lower = top + component.getHeight();
+
+        List<Renderable> componentRenderables = component.getRenderables();
+        for (int i = 0; i < componentRenderables.size(); i++) {
+            if (this.count > RenderOrderComparator.MAX_SORT_KEY_INDEX) {
+                throw new IllegalStateException("Too many renderables to sort: " + (this.count + 1));
+            }
+            if (this.count == this.renderables.length) {
+                this.allocate(this.count * 2);
+            }
+
+            Renderable renderable = componentRenderables.get(i);
+            SpriteRegion sprite = renderable.getSprite();
+            int k = this.count++;
+            this.renderables[k] = renderable;
+            this.sprites[k] = sprite;
+            this.x[k] = left;
+            this.y[k] = top;
+            if (sprite != null) {
+                this.width[k] = renderable.getWidth();
+                this.height[k] = renderable.getHeight();
+            }
+            this.z[k] = z;
+            this.bottom[k] = bottom;
+            this.minX[k] = left;
+            this.minY[k] = top;
+            this.maxX[k] = right;
+            this.maxY[k] = lower;
+        }
+    }
+
+    /**
+     * Culls the commands to an area of the world and sorts the rest into drawing order (see RenderOrderComparator).
+     * Only reads what add recorded, so it can run on any thread, as long as the list isn't changed meanwhile.
+     * @param viewMinX The left edge of the area
+     * @param viewMinY The top edge of the area
+     * @param viewMaxX The right edge of the area
+     * @param viewMaxY The bottom edge of the area
+     */
+    public void prepare(double viewMinX, double viewMinY, double viewMaxX, double viewMaxY) {
+        int visible = 0;
+        for (int i = 0; i < this.count; i++) {
+            if (this.maxX[i] >= viewMinX && this.maxY[i] >= viewMinY && this.minX[i] <= viewMaxX && this.minY[i] <= viewMaxY) {
+                this.sortKeys[visible++] = RenderOrderComparator.sortKey(this.z[i], this.bottom[i], i);
+            }
+        }
+        Arrays.sort(this.sortKeys, 0, visible);
+        this.visibleCount = visible;
+    }
+
+    /**
+     * Draws the visible commands in drawing order. Must be called on the FX thread, after prepare.
+     * @param gc The GraphicsContext to draw to
+     */
+    public void draw(GraphicsContext gc) {
+        double scale = this.scale;
+        for (int k = 0; k < this.visibleCount; k++) {
+            int i = RenderOrderComparator.sortKeyIndex(this.sortKeys[k]);
+            SpriteRegion sprite = this.sprites[i];
+            if (sprite != null) {
+                sprite.draw(gc, this.x[i] * scale, this.y[i] * scale, this.width[i] * scale, this.height[i] * scale);
+            }
+            else {
+                this.renderables[i].render(gc, this.x[i], this.y[i], scale);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of commands added since the list was reset
+     * @return The number of commands
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Gets the number of commands left after the last prepare
+     * @return The number of visible commands
+     */
+    public int size() {
+        return this.visibleCount;
+    }
+
+    public double getScale() {
+        return this.scale;
+    }
+
+    /**
+     * Gets the renderable drawn by a visible command
+     * @param k The position of the command in drawing order
+     * @return The renderable
+     */
+    public Renderable getRenderable(int k) {
+        return this.renderables[RenderOrderComparator.sortKeyIndex(this.sortKeys[k])];
+    }
+
+    /**
+     * Gets the sprite recorded for a visible command
+     * @param k The position of the command in drawing order
+     * @return The sprite region, or null if the renderable is drawn with render
+     */
+    public SpriteRegion getSprite(int k) {
+        return this.sprites[RenderOrderComparator.sortKeyIndex(this.sortKeys[k])];
+    }
+
+    /**
+     * Gets the x position a visible command draws at
+     * @param k The position of the command in drawing order
+     * @return The x position
+     */
+    public double getX(int k) {
+        return this.x[RenderOrderComparator.sortKeyIndex(this.sortKeys[k])];
+    }
+
+    /**
+     * Gets the y position a visible command draws at
+     * @param k The position of the command in drawing order
+     * @return The y position
+     */
+    public double getY(int k) {
+        return this.y[RenderOrderComparator.sortKeyIndex(this.sortKeys[k])];
+    }
+
+    private void allocate(int capacity) {
+        if (this.renderables == null) {
+            this.sortKeys = new long[capacity];
+            this.renderables = new Renderable[capacity];
+            this.sprites = new SpriteRegion[capacity];
+            this.x = new double[capacity];
+            this.y = new double[capacity];
+            this.width = new double[capacity];
+            this.height = new double[capacity];
+            this.z = new int[capacity];
+            this.bottom = new double[capacity];
+            this.minX = new double[capacity];
+            this.minY = new double[capacity];
+            this.maxX = new double[capacity];
+            this.maxY = new double[capacity];
+            return;
+        }
+
+        this.sortKeys = Arrays.copyOf(this.sortKeys, capacity);
+        this.renderables = Arrays.copyOf(this.renderables, capacity);
+        this.sprites = Arrays.copyOf(this.sprites, capacity);
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.width = Arrays.copyOf(this.width, capacity);
+        this.height = Arrays.copyOf(this.height, capacity);
+        this.z = Arrays.copyOf(this.z, capacity);
+        this.bottom = Arrays.copyOf(this.bottom, capacity);
+        this.minX = Arrays.copyOf(this.minX, capacity);
+        this.minY = Arrays.copyOf(this.minY, capacity);
+        this.maxX = Arrays.copyOf(this.maxX, capacity);
+        this.maxY = Arrays.copyOf(this.maxY, capacity);
+    }
+}
@@ -1,24 +1,53 @@
 package teamproject.wipeout.engine.system.render;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
-import javafx.geometry.BoundingBox;
 import javafx.geometry.Point2D;
 import javafx.scene.canvas.Canvas;
+import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
 import javafx.scene.transform.Affine;
 import teamproject.wipeout.engine.component.*;
 import teamproject.wipeout.engine.component.render.*;
 import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.core.ViewBounds;
+import teamproject.wipeout.engine.entity.ComponentType;
 import teamproject.wipeout.engine.entity.GameEntity;
 import teamproject.wipeout.engine.entity.collector.CameraEntityCollector;
 import teamproject.wipeout.engine.system.GameSystem;
-import teamproject.wipeout.util.sort.*;
+import teamproject.wipeout.util.BoxGrid;
+import teamproject.wipeout.util.sort.RenderOrderComparator;
 
 /**
  * System to render relevant GameEntities to the canvas
+ *
+ * Entities out of view of the camera are culled before the rest are sorted into drawing order (see RenderOrderComparator).
+ * Static entities are rasterized into a StaticTileCache, using a spatial index of their render bounds to find those
+ * in each tile. Tiles are only rasterized again when a static entity in them changes (see RenderComponent.markDirty)
+ * or the zoom changes, so when the camera moves the visible tiles are just copied to the static canvas.
+ * Sprites are drawn as regions of their spritesheet atlas (see SpriteRegion).
+ *
+ * Dynamic entities are drawn through a RenderCommandList. The FX thread fills it with a snapshot of every dynamic
+ * renderable (resolved position, sprite region and size, z position and bounds) - resolving world positions updates
+ * cached positions of transforms shared with static entities, so it can't overlap the static tile update. The snapshot
+ * is then culled and sorted on a ForkJoinPool while the FX thread updates the static tiles, and replayed once both are done.
+ * Two command lists are used in turn, so a list is never filled while the pool may still be reading it.
  */
 public class RenderSystem implements GameSystem {
+
+    private static final int TRANSFORM_ID = ComponentType.getID(Transform.class);
+    private static final int RENDER_ID = ComponentType.getID(RenderComponent.class);
+    // Cell size of the spatial index of static entities
+    private static final double STATIC_GRID_CELL_SIZE = 128;
+
+    // Fewer dynamic renderables than this are culled and sorted on the FX thread, as forking would cost more
+    public static final int PARALLEL_THRESHOLD = 256;
+
     private Affine identityTransform;
 
     protected Canvas dynamicCanvas;
@@ -31,20 +60,61 @@ public class RenderSystem implements GameSystem {
     protected RendererEntityCollector renderableEntityCollector;
     protected CameraEntityCollector cameraCollector;
 
-    private RenderOrderComparator yPosComparator;
+    // Shares the area in view with other systems
+    private ViewBounds viewBounds;
+
     private Point2D lastCameraPos;
     private double lastZoom;
+    private double lastWidth;
+    private double lastHeight;
+
+    // Fraction of the window's resolution the canvases are drawn at
+    private double renderScale;
+
+    // Sort keys of the static entities being rasterized into a tile
+    private long[] sortKeys;
+
+    // The pool render commands are culled and sorted on, or null to do it on the FX thread
+    private ForkJoinPool pool;
+    private RenderCommandList[] commandLists;
+    // The task preparing each command list, if it may still be running
+    private ForkJoinTask<?>[] preparations;
+    private int frame;
+
+    private BoxGrid staticGrid;
+    private StaticTileCache tileCache;
+    private Canvas tileCanvas;
+    private GraphicsContext tileGC;
+    private SnapshotParameters tileSnapshotParameters;
+    private int staticChangeCount;
+    private double[] staticMinX;
+    private double[] staticMinY;
+    private double[] staticMaxX;
+    private double[] staticMaxY;
 
     /** 
-     * Creates a new instance of RenderSystem
+     * Creates a new instance of RenderSystem, which culls and sorts render commands on the common ForkJoinPool
      * 
      * @param scene The GameScene this System is part of
+     * @param staticCanvas The canvas this RenderSystem should draw static entities to
      * @param dynamicCanvas The canvas this RenderSystem should draw to
      */
     public RenderSystem(GameScene scene, Canvas staticCanvas, Canvas dynamicCanvas) {
+        this(scene, staticCanvas, dynamicCanvas, ForkJoinPool.commonPool());
+    }
+
+    /** 
+     * Creates a new instance of RenderSystem
+     * 
+     * @param scene The GameScene this System is part of
+     * @param staticCanvas The canvas this RenderSystem should draw static entities to
+     * @param dynamicCanvas The canvas this RenderSystem should draw to
+     * @param pool The pool to cull and sort render commands on, or null to do it on the FX thread
+     */
+    public RenderSystem(GameScene scene, Canvas staticCanvas, Canvas dynamicCanvas, ForkJoinPool pool) {
         this.renderableEntityCollector = new RendererEntityCollector(scene);
         this.cameraCollector = new CameraEntityCollector(scene);
-        this.yPosComparator = new RenderOrderComparator();
+        this.viewBounds = scene.getViewBounds();
 
         this.staticCanvas = staticCanvas;
         this.staticGC = staticCanvas.getGraphicsContext2D();
@@ -58,6 +128,27 @@ public class RenderSystem implements GameSystem {
         this.identityTransform = new Affine();
         this.lastCameraPos = Point2D.ZERO;
         this.lastZoom = 0;
+
+        this.sortKeys = new long[64];
+
+        this.renderScale = 1;
+        this.pool = pool;
+        this.commandLists = new RenderCommandList[] {new RenderCommandList(), new RenderCommandList()};
+        this.preparations = new ForkJoinTask<?>[2];
+        this.frame = 0;
+
+        this.staticGrid = new BoxGrid(STATIC_GRID_CELL_SIZE);
+        this.tileCache = new StaticTileCache();
+        this.tileCanvas = new Canvas(StaticTileCache.TILE_PIXELS, StaticTileCache.TILE_PIXELS);
+        this.tileGC = this.tileCanvas.getGraphicsContext2D();
+        this.tileGC.setImageSmoothing(false);
+        this.tileSnapshotParameters = new SnapshotParameters();
+        this.tileSnapshotParameters.setFill(Color.TRANSPARENT);
+        this.staticChangeCount = -1;
+        this.staticMinX = new double[0];
+        this.staticMinY = new double[0];
+        this.staticMaxX = new double[0];
+        this.staticMaxY = new double[0];
     }
 
     public RenderSystem(GameScene scene, Canvas staticCanvas, Canvas dynamicCanvas, CameraEntityCollector cameraCollector) {
@@ -68,16 +159,19 @@ public class RenderSystem implements GameSystem {
 
 
 	public void cleanup() {
+        this.awaitPreparation(0);
+        this.awaitPreparation(1);
         this.cameraCollector.cleanup();
         this.renderableEntityCollector.cleanup();
     }
 
     /**
      * Renders all renderable objects in view of the current camera.
+     * Moving entities are drawn between their positions before and after the last update step.
      * 
-     * @param timeStep The amount of time, in seconds, that passed between the last frame and now
+     * @param alpha How far the current time is between the last two update steps (0-1)
      */
-    public void accept(Double timeStep) {
+    public void accept(Double alpha) {
         // Reset the GraphicsContext back to the origin
         this.dynamicGC.setTransform(this.identityTransform);
         
@@ -94,9 +188,10 @@ public class RenderSystem implements GameSystem {
         if (camera != null) {
             Transform cameraTransform = camera.getComponent(Transform.class);
             CameraComponent cameraData = camera.getComponent(CameraComponent.class);
-            zoom = cameraData.zoom;
+            // Canvases drawn at a lower resolution show the same view, so everything is drawn smaller
+            zoom = cameraData.zoom * this.renderScale;
 
-            cameraPos = cameraTransform.getWorldPosition();
+            cameraPos = cameraTransform.getInterpolatedWorldPosition(alpha);
             
             if (cameraPos.getX() != 0 || cameraPos.getY() != 0) {
                 this.dynamicGC.translate(-cameraPos.getX() * zoom, -cameraPos.getY() * zoom);
@@ -108,60 +203,249 @@ public class RenderSystem implements GameSystem {
                 height /= zoom;
             }
 
-            if (!cameraPos.equals(lastCameraPos) || Double.compare(zoom, lastZoom) != 0) {
+            if (!cameraPos.equals(lastCameraPos) || Double.compare(zoom, lastZoom) != 0 || width != this.lastWidth || height != this.lastHeight) {
                 lastZoom = zoom;
                 lastCameraPos = cameraPos;
-                this.staticGC.clearRect(0, 0, width, height);
-                // Copy in the now calculated transform
-                this.staticGC.setTransform(this.dynamicGC.getTransform());
+                this.lastWidth = width;
+                this.lastHeight = height;
                 this.renderStatic = true;
             }
         }
 
-        BoundingBox cameraBox = new BoundingBox(cameraPos.getX(), cameraPos.getY(), width, height);
+        double cameraMinX = cameraPos.getX();
+        double cameraMinY = cameraPos.getY();
+        double cameraMaxX = cameraMinX + width;
+        double cameraMaxY = cameraMinY + height;
+        this.viewBounds.set(cameraMinX, cameraMinY, cameraMaxX, cameraMaxY);
 
-        // Get the list of renderable entities
-        List<GameEntity> entities = this.renderableEntityCollector.getEntities();
-        
-        // Sort it - use an insertion sort because insertion sort is fast for nearly sorted lists:
-        // On most frames this list will be sorted or very nearly sorted.
-        InsertionSort.sort(entities, yPosComparator);
-
-        for (GameEntity entity : entities) {
-            Transform t = entity.getComponent(Transform.class);
-            RenderComponent r = entity.getComponent(RenderComponent.class);
-
-            // Test if the entity is actually visible on the camera view
-            Point2D tWorldPosition = t.getWorldPosition();
-            Point2D rOffset = r.getOffset();
-            if (cameraBox.intersects(tWorldPosition.getX() + rOffset.getX(), tWorldPosition.getY() + rOffset.getY(), r.getWidth(), r.getHeight())) {
-                // Render the entity, scaled according to the camera view
-                r.render(this.dynamicGC, tWorldPosition.getX(), tWorldPosition.getY(), zoom);
+        int listIndex = this.frame++ & 1;
+        RenderCommandList commands = this.commandLists[listIndex];
+        this.awaitPreparation(listIndex);
+        commands.reset(zoom);
+        this.snapshotDynamicEntities(this.renderableEntityCollector.getEntities(), commands, alpha);
+
+        // Cull before sorting, so only the visible renderables are sorted
+        if (this.pool != null && commands.getCount() >= PARALLEL_THRESHOLD) {
+            this.preparations[listIndex] = this.pool.submit(() -> commands.prepare(cameraMinX, cameraMinY, cameraMaxX, cameraMaxY));
+        }
+        else {
+            commands.prepare(cameraMinX, cameraMinY, cameraMaxX, cameraMaxY);
+        }
+
+        // Static entities are rasterized into tiles, which are copied to the canvas when the camera moves
+        if (camera != null) {
+            // Keep every tile in view, whatever the canvas size (which includes the render scale)
+            this.tileCache.setViewSize(this.staticCanvas.getWidth(), this.staticCanvas.getHeight());
+            if (this.updateStaticTiles(zoom)) {
+                this.renderStatic = true;
+            }
+            if (this.renderStatic) {
+                this.renderStatic = false;
+                this.drawStaticTiles(cameraMinX, cameraMinY, cameraMaxX, cameraMaxY, zoom);
             }
         }
 
-        // Renderable static entities if needed
-        if (this.renderStatic) {
-            this.renderStatic = false;
-            // Get the list of renderable entities
-            entities = this.renderableEntityCollector.getStaticEntities();
-        
-            // Sort it - use an insertion sort because insertion sort is fast for nearly sorted lists:
-            // On most frames this list will be sorted or very nearly sorted.
-            InsertionSort.sort(entities, yPosComparator);
-
-            for (GameEntity entity : entities) {
-                Transform t = entity.getComponent(Transform.class);
-                RenderComponent r = entity.getComponent(RenderComponent.class);
-
-                // Test if the entity is actually visible on the camera view
-                Point2D tWorldPosition = t.getWorldPosition();
-                Point2D rOffset = r.getOffset();
-                if (cameraBox.intersects(tWorldPosition.getX() + rOffset.getX(), tWorldPosition.getY() + rOffset.getY(), r.getWidth(), r.getHeight())) {
-                    // Render the entity, scaled according to the camera view
-                    r.render(this.staticGC, tWorldPosition.getX(), tWorldPosition.getY(), zoom);
+        this.awaitPreparation(listIndex);
+        commands.draw(this.dynamicGC);
+    }
+
+    /**
+     * Sets the fraction of the window's resolution the canvases are drawn at.
+     * The canvases should be resized to match, and scaled up to fill the window.
+     * @param renderScale The render scale (0-1)
+     */
+    public void setRenderScale(double renderScale) {
+        this.renderScale = renderScale;
+    }
+
+    public double getRenderScale() {
+        return this.renderScale;
+    }
+
+    /**
+     * Rebuilds the spatial index of static entities and rasterizes them again before they are next drawn
+     */
+    public void invalidateStaticEntities() {
+        this.staticChangeCount = this.renderableEntityCollector.getStaticChangeCount() - 1;
+    }
+
+    /**
+     * Adds commands for every dynamic entity, at its resolved (interpolated) world position.
+     * Dynamic entities can move every update step, so they are culled directly rather than through a spatial index,
+     * which would have to be rebuilt for every frame it is queried in.
+     *
+     * @param entities The dynamic entities
+     * @param commands The command list to add to
+     * @param alpha How far the current time is between the last two update steps (0-1)
+     */
+    private void snapshotDynamicEntities(List<GameEntity> entities, RenderCommandList commands, double alpha) {
+        for (int i = 0; i < entities.size(); i++) {
+            GameEntity entity = entities.get(i);
+            Transform t = entity.getComponent(TRANSFORM_ID);
+            RenderComponent r = entity.getComponent(RENDER_ID);
+
+            commands.add(r, t.getInterpolatedWorldX(alpha), t.getInterpolatedWorldY(alpha), t.getZPosition(), t.getWorldY() + r.getHeight());
+        }
+    }
+
+    /**
+     * Waits for the pool to finish preparing a command list, if it is preparing it
+     * @param listIndex The index of the command list
+     */
+    private void awaitPreparation(int listIndex) {
+        ForkJoinTask<?> preparation = this.preparations[listIndex];
+        if (preparation != null) {
+            this.preparations[listIndex] = null;
+            preparation.join();
+        }
+    }
+
+    /**
+     * Rebuilds the spatial index of static entities from their render bounds
+     * @param entities The static entities
+     */
+    private void buildStaticGrid(List<GameEntity> entities) {
+        int count = entities.size();
+        if (this.staticMinX.length < count) {
+            this.staticMinX = new double[count];
+            this.staticMinY = new double[count];
+            this.staticMaxX = new double[count];
+            this.staticMaxY = new double[count];
+        }
+
+        for (int i = 0; i < count; i++) {
+            Transform t = entities.get(i).getComponent(TRANSFORM_ID);
+            RenderComponent r = entities.get(i).getComponent(RENDER_ID);
+            this.staticMinX[i] = t.getWorldX() + r.offset.getX();
+            this.staticMinY[i] = t.getWorldY() + r.offset.getY();
+            this.staticMaxX[i] = this.staticMinX[i] + r.getWidth();
+            this.staticMaxY[i] = this.staticMinY[i] + r.getHeight();
+        }
+
+        this.staticGrid.build(count, this.staticMinX, this.staticMinY, this.staticMaxX, this.staticMaxY);
+        this.staticChangeCount = this.renderableEntityCollector.getStaticChangeCount();
+    }
+
+    /**
+     * Brings the static tiles up to date with the static entities, invalidating the tiles covered by those that changed
+     * @param zoom The zoom of the camera
+     * @return Whether any tile in use needs to be drawn again
+     */
+    private boolean updateStaticTiles(double zoom) {
+        List<GameEntity> entities = this.renderableEntityCollector.getStaticEntities();
+        boolean changed = false;
+
+        if (Double.compare(this.tileCache.getScale(), zoom) != 0) {
+            this.tileCache.setScale(zoom);
+            changed = true;
+        }
+
+        if (this.staticChangeCount != this.renderableEntityCollector.getStaticChangeCount()) {
+            this.buildStaticGrid(entities);
+            for (int i = 0; i < entities.size(); i++) {
+                entities.get(i).<RenderComponent>getComponent(RENDER_ID).clearDirty();
+            }
+            this.tileCache.invalidateAll();
+            return true;
+        }
+
+        // Where the changed entities were
+        boolean dirty = false;
+        for (int i = 0; i < entities.size(); i++) {
+            if (entities.get(i).<RenderComponent>getComponent(RENDER_ID).isDirty()) {
+                changed |= this.tileCache.invalidate(this.staticMinX[i], this.staticMinY[i], this.staticMaxX[i], this.staticMaxY[i]);
+                dirty = true;
+            }
+        }
+
+        if (dirty) {
+            // Where the changed entities are now
+            this.buildStaticGrid(entities);
+            for (int i = 0; i < entities.size(); i++) {
+                RenderComponent r = entities.get(i).getComponent(RENDER_ID);
+                if (r.isDirty()) {
+                    r.clearDirty();
+                    changed |= this.tileCache.invalidate(this.staticMinX[i], this.staticMinY[i], this.staticMaxX[i], this.staticMaxY[i]);
                 }
             }
         }
+
+        return changed;
+    }
+
+    /**
+     * Copies the static tiles in view of the camera to the static canvas, rasterizing any that aren't valid
+     * @param zoom The zoom of the camera
+     */
+    private void drawStaticTiles(double cameraMinX, double cameraMinY, double cameraMaxX, double cameraMaxY, double zoom) {
+        this.staticGC.setTransform(this.identityTransform);
+        this.staticGC.clearRect(0, 0, this.staticCanvas.getWidth(), this.staticCanvas.getHeight());
+
+        double tileSize = this.tileCache.getTileSize();
+        int lastColumn = this.tileCache.toTile(cameraMaxX);
+        int lastRow = this.tileCache.toTile(cameraMaxY);
+
+        for (int row = this.tileCache.toTile(cameraMinY); row <= lastRow; row++) {
+            for (int column = this.tileCache.toTile(cameraMinX); column <= lastColumn; column++) {
+                StaticTileCache.Tile tile = this.tileCache.getTile(column, row);
+                if (!tile.valid) {
+                    this.rasterizeTile(tile, zoom);
+                }
+                this.staticGC.drawImage(tile.image, (column * tileSize - cameraMinX) * zoom, (row * tileSize - cameraMinY) * zoom);
+            }
+        }
+    }
+
+    /**
+     * Draws the static entities overlapping a tile into its image
+     * @param tile The tile to draw
+     * @param zoom The zoom of the camera
+     */
+    private void rasterizeTile(StaticTileCache.Tile tile, double zoom) {
+        if (tile.image == null) {
+            tile.image = new WritableImage(StaticTileCache.TILE_PIXELS, StaticTileCache.TILE_PIXELS);
+        }
+
+        double tileSize = this.tileCache.getTileSize();
+        double tileMinX = tile.column * tileSize;
+        double tileMinY = tile.row * tileSize;
+
+        this.tileGC.setTransform(this.identityTransform);
+        this.tileGC.clearRect(0, 0, StaticTileCache.TILE_PIXELS, StaticTileCache.TILE_PIXELS);
+        this.tileGC.translate(-tileMinX * zoom, -tileMinY * zoom);
+
+        List<GameEntity> entities = this.renderableEntityCollector.getStaticEntities();
+        int found = this.staticGrid.query(tileMinX, tileMinY, tileMinX + tileSize, tileMinY + tileSize);
+        this.ensureCapacity(found);
+        for (int k = 0; k < found; k++) {
+            int i = this.staticGrid.getResult(k);
+            Transform t = entities.get(i).getComponent(TRANSFORM_ID);
+            RenderComponent r = entities.get(i).getComponent(RENDER_ID);
+            this.sortKeys[k] = RenderOrderComparator.sortKey(t.getZPosition(), t.getWorldY() + r.getHeight(), i);
+        }
+        Arrays.sort(this.sortKeys, 0, found);
+
+        for (int k = 0; k < found; k++) {
+            GameEntity entity = entities.get(RenderOrderComparator.sortKeyIndex(this.sortKeys[k]));
+            Transform t = entity.getComponent(TRANSFORM_ID);
+            entity.<RenderComponent>getComponent(RENDER_ID).render(this.tileGC, t.getWorldX(), t.getWorldY(), zoom);
+        }
+
+        this.tileCanvas.snapshot(this.tileSnapshotParameters, tile.image);
+        tile.valid = true;
+    }
+
+    /**
+     * Makes sure the sort key array can hold a number of static entities
+     * @param count The number of entities
+     */
+    private void ensureCapacity(int count) {
+        if (count > RenderOrderComparator.MAX_SORT_KEY_INDEX + 1) {
+            throw new IllegalStateException("Too many renderable entities to sort: " + count);
+        }
+        if (count > this.sortKeys.length) {
+            int capacity = Math.min(Math.max(count, this.sortKeys.length * 2), RenderOrderComparator.MAX_SORT_KEY_INDEX + 1);
+            this.sortKeys = new long[capacity];
+        }
     }
 }
@@ -1,14 +1,15 @@
 package teamproject.wipeout.engine.system.render;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import teamproject.wipeout.engine.component.GameComponent;
 import teamproject.wipeout.engine.component.Transform;
 import teamproject.wipeout.engine.component.render.RenderComponent;
 import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.entity.ComponentMask;
 import teamproject.wipeout.engine.entity.GameEntity;
 import teamproject.wipeout.engine.entity.collector.BaseEntityCollector;
+import teamproject.wipeout.util.IndexedSet;
 
 /**
  * Entity collector implementation for the Renderer
@@ -17,18 +18,22 @@ import teamproject.wipeout.engine.entity.collector.BaseEntityCollector;
 public class RendererEntityCollector extends BaseEntityCollector {
 
     public static final List<Class<? extends GameComponent>> signature = List.of(Transform.class, RenderComponent.class);
+    private static final ComponentMask rendererSignatureMask = ComponentMask.of(signature);
     protected List<GameEntity> dynamicEntityList;
     protected List<GameEntity> staticEntityList;
 
+    // Incremented whenever a static entity is added or removed
+    private int staticChangeCount;
+
     /**
      * Creates a new instance of RendererEntityCollector
      * @param scene The GameScene this entity collector is part of
      */
     public RendererEntityCollector(GameScene scene) {
-        super(scene);
+        super(scene, rendererSignatureMask);
 
-        this.dynamicEntityList = new ArrayList<GameEntity>();
-        this.staticEntityList = new ArrayList<GameEntity>();
+        this.dynamicEntityList = new IndexedSet<GameEntity>();
+        this.staticEntityList = new IndexedSet<GameEntity>();
 
         // Go through all existing entities once created
         for (GameEntity entity: this.scene.entities) {
@@ -52,6 +57,14 @@ public class RendererEntityCollector extends BaseEntityCollector {
         return this.staticEntityList;
     }
 
+    /**
+     * Gets a count that changes whenever the list of static entities changes, so users can tell when to rebuild data about them
+     * @return The number of changes made to the list of static entities
+     */
+    public int getStaticChangeCount() {
+        return this.staticChangeCount;
+    }
+
     /**
      * Called when a component is added to an entity in the scene
      * @param entity The GameEntity that changed
@@ -59,10 +72,12 @@ public class RendererEntityCollector extends BaseEntityCollector {
     protected void addComponent(GameEntity entity) {
         if (this.testComponent(entity)) {
             RenderComponent rc = entity.getComponent(RenderComponent.class);
-            if (rc.isStatic() && !this.staticEntityList.contains(entity)) {
-                this.staticEntityList.add(entity);
+            if (rc.isStatic()) {
+                if (this.staticEntityList.add(entity)) {
+                    this.staticChangeCount++;
+                }
             }
-            else if (!rc.isStatic() && !this.dynamicEntityList.contains(entity)) {
+            else {
                 this.dynamicEntityList.add(entity);
             }
         }
@@ -75,7 +90,9 @@ public class RendererEntityCollector extends BaseEntityCollector {
     protected void removeComponent(GameEntity entity) {
         if (!this.testComponent(entity)) {
             this.dynamicEntityList.remove(entity);
-            this.staticEntityList.remove(entity);
+            if (this.staticEntityList.remove(entity)) {
+                this.staticChangeCount++;
+            }
         }
     }
 
@@ -85,7 +102,9 @@ public class RendererEntityCollector extends BaseEntityCollector {
      */
     protected void removeEntity(GameEntity entity) {
         this.dynamicEntityList.remove(entity);
-        this.staticEntityList.remove(entity);
+        if (this.staticEntityList.remove(entity)) {
+            this.staticChangeCount++;
+        }
     }
     
 
@@ -95,11 +114,6 @@ public class RendererEntityCollector extends BaseEntityCollector {
      * @return Whether the entity meets the signature.
      */
     private boolean testComponent(GameEntity entity) {
-        for (Class<? extends GameComponent> componentClass : signature) {
-            if (!entity.hasComponent(componentClass)) {
-                return false;
-            }
-        }
-        return true;
+        return entity.getComponentMask().containsAll(this.signatureMask);
     }
 }
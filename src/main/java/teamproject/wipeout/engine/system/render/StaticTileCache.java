@@ -0,0 +1,185 @@
+package teamproject.wipeout.engine.system.render;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import javafx.scene.image.WritableImage;
+
+/**
+ * Keeps track of the tiles the static layer is rasterized into.
+ *
+ * The world is split into square tiles of TILE_PIXELS pixels at the current scale. Each tile keeps its image
+ * until something drawn in it changes, or the scale changes, so moving the camera only needs the tiles copied.
+ * Enough tiles are kept to cover the view (see setViewSize) plus MARGIN_TILES - beyond that, the least recently
+ * used tile is reused (with its image) for a new one.
+ */
+public class StaticTileCache {
+
+    public static final int TILE_PIXELS = 512;
+    // Tiles kept beyond those the view can overlap, so recently seen tiles survive the camera moving back and forth
+    public static final int MARGIN_TILES = 8;
+
+    private final LinkedHashMap<Long, Tile> tiles;
+    private double scale;
+    private int maxTiles;
+
+    /**
+     * Creates a new, empty instance of StaticTileCache at a scale of 1, sized for an empty view
+     */
+    public StaticTileCache() {
+        // Access order, so the first tile is the least recently used
+        this.tiles = new LinkedHashMap<>(64, 0.75f, true);
+        this.scale = 1;
+        this.setViewSize(0, 0);
+    }
+
+    /**
+     * Sets the size of the canvas the tiles are drawn to, so every tile in view (and a margin) can be kept.
+     * The view can overlap one more column and row of tiles than it covers, and one more again on each axis is kept
+     * for the camera moving. If the cache shrinks, the least recently used tiles are dropped.
+     * @param width The width of the canvas, in pixels
+     * @param height The height of the canvas, in pixels
+     */
+    public void setViewSize(double width, double height) {
+        int columns = (int) Math.ceil(width / TILE_PIXELS) + 2;
+        int rows = (int) Math.ceil(height / TILE_PIXELS) + 2;
+        this.maxTiles = columns * rows + MARGIN_TILES;
+
+        Iterator<Tile> leastRecentlyUsed = this.tiles.values().iterator();
+        while (this.tiles.size() > this.maxTiles) {
+            leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    /**
+     * Gets the number of tiles kept before the least recently used is reused
+     * @return The maximum number of tiles
+     */
+    public int getMaxTiles() {
+        return this.maxTiles;
+    }
+
+    /**
+     * Sets the scale tiles are rasterized at, dropping every tile if it changed
+     * @param scale The new scale (e.g. the camera zoom)
+     */
+    public void setScale(double scale) {
+        if (Double.compare(scale, this.scale) != 0) {
+            this.scale = scale;
+            this.tiles.clear();
+        }
+    }
+
+    public double getScale() {
+        return this.scale;
+    }
+
+    /**
+     * Gets the width and height of each tile in world space, at the current scale
+     * @return The tile size
+     */
+    public double getTileSize() {
+        return TILE_PIXELS / this.scale;
+    }
+
+    /**
+     * Gets the column or row of the tile containing a world coordinate
+     * @param coordinate The x or y coordinate
+     * @return The column (for x) or row (for y)
+     */
+    public int toTile(double coordinate) {
+        return (int) Math.floor(coordinate / this.getTileSize());
+    }
+
+    /**
+     * Gets a tile, adding an invalid one (which needs to be rasterized before it is used) if it isn't cached
+     * @param column The column of the tile
+     * @param row The row of the tile
+     * @return The tile
+     */
+    public Tile getTile(int column, int row) {
+        long key = key(column, row);
+        Tile tile = this.tiles.get(key);
+        if (tile != null) {
+            return tile;
+        }
+
+        WritableImage image = null;
+        if (this.tiles.size() >= this.maxTiles) {
+            Iterator<Tile> leastRecentlyUsed = this.tiles.values().iterator();
+            image = leastRecentlyUsed.next().image;
+            leastRecentlyUsed.remove();
+        }
+
+        tile = new Tile(column, row, image);
+        this.tiles.put(key, tile);
+        return tile;
+    }
+
+    /**
+     * Marks every cached tile overlapping an area as needing to be rasterized again
+     * @param minX The left edge of the area
+     * @param minY The top edge of the area
+     * @param maxX The right edge of the area
+     * @param maxY The bottom edge of the area
+     * @return Whether any cached tile was invalidated
+     */
+    public boolean invalidate(double minX, double minY, double maxX, double maxY) {
+        int firstColumn = this.toTile(minX);
+        int lastColumn = this.toTile(maxX);
+        int firstRow = this.toTile(minY);
+        int lastRow = this.toTile(maxY);
+
+        // Looking up each tile would change the usage order, and an area can cover far more tiles than are cached
+        boolean invalidated = false;
+        for (Tile tile : this.tiles.values()) {
+            if (tile.column >= firstColumn && tile.column <= lastColumn && tile.row >= firstRow && tile.row <= lastRow) {
+                invalidated |= tile.valid;
+                tile.valid = false;
+            }
+        }
+        return invalidated;
+    }
+
+    /**
+     * Marks every cached tile as needing to be rasterized again, keeping their images
+     */
+    public void invalidateAll() {
+        for (Tile tile : this.tiles.values()) {
+            tile.valid = false;
+        }
+    }
+
+    /**
+     * Gets the number of cached tiles
+     * @return The number of tiles
+     */
+    public int size() {
+        return this.tiles.size();
+    }
+
+    private static long key(int column, int row) {
+        return ((long) column << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    /**
+     * A square area of the static layer, and the image it was rasterized into
+     */
+    public static class Tile {
+
+        public final int column;
+        public final int row;
+
+        // Created by the renderer when the tile is first rasterized, or reused from an evicted tile
+        public WritableImage image;
+        public boolean valid;
+
+        private Tile(int column, int row, WritableImage image) {
+            this.column = column;
+            this.row = row;
+            this.image = image;
+            this.valid = false;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import javafx.scene.image.Image;
+import teamproject.wipeout.engine.component.render.SpriteRegion;
 import teamproject.wipeout.game.assetmanagement.spritesheet.Spritesheet;
 import teamproject.wipeout.game.assetmanagement.spritesheet.SpritesheetDescriptor;
 import teamproject.wipeout.util.resources.ResourceLoader;
@@ -21,6 +22,8 @@ public class SpriteManager {
 
     protected Map<String, Image> imageCache;
     protected Map<String, Map<String, Image[]>> spriteSheetCache;
+    protected Map<String, Image> atlasCache;
+    protected Map<String, Map<String, SpriteRegion[]>> spriteRegionCache;
 
     /**
      * Creates a new instance of SpriteManager
@@ -28,6 +31,8 @@ public class SpriteManager {
     public SpriteManager() {
         imageCache = new HashMap<String, Image>();
         spriteSheetCache = new HashMap<String, Map<String, Image[]>>();
+        atlasCache = new HashMap<String, Image>();
+        spriteRegionCache = new HashMap<String, Map<String, SpriteRegion[]>>();
     }
 
     /**
@@ -52,8 +57,10 @@ public class SpriteManager {
     } 
 
     /**
-     * Gets a given SpriteSet using the spritesheet name, and the SpriteSet name
+     * Gets a given SpriteSet as separate images using the spritesheet name, and the SpriteSet name
      * The SpriteSet must already be loaded using loadSpriteSheet
+     * The images are copied from the atlas the first time they are asked for, so only use this for code that needs an Image (e.g. UI nodes) -
+     * renderables should use getSpriteRegions
      * 
      * @param spriteSheetName The name of the spriteSheet as written in its descriptor file
      * @param spriteSetName The name of the spriteSet as written in its descriptor file
@@ -61,11 +68,33 @@ public class SpriteManager {
      * @throws FileNotFoundException Thrown when a given spritesheet or SpriteSet name is not found
      */
     public Image[] getSpriteSet(String spriteSheetName, String spriteSetName) throws FileNotFoundException {
-        if (!spriteSheetCache.containsKey(spriteSheetName)) {
+        SpriteRegion[] regions = this.getSpriteRegions(spriteSheetName, spriteSetName);
+
+        Map<String, Image[]> spriteSheet = spriteSheetCache.computeIfAbsent(spriteSheetName, (name) -> new HashMap<String, Image[]>());
+        Image[] images = spriteSheet.get(spriteSetName);
+        if (images == null) {
+            images = Spritesheet.getRegionImages(regions);
+            spriteSheet.put(spriteSetName, images);
+        }
+
+        return images;
+    }
+
+    /**
+     * Gets the regions of a given SpriteSet in its spritesheet's atlas, using the spritesheet name, and the SpriteSet name
+     * The SpriteSet must already be loaded using loadSpriteSheet
+     * 
+     * @param spriteSheetName The name of the spriteSheet as written in its descriptor file
+     * @param spriteSetName The name of the spriteSet as written in its descriptor file
+     * @return The regions in the sprite set
+     * @throws FileNotFoundException Thrown when a given spritesheet or SpriteSet name is not found
+     */
+    public SpriteRegion[] getSpriteRegions(String spriteSheetName, String spriteSetName) throws FileNotFoundException {
+        if (!spriteRegionCache.containsKey(spriteSheetName)) {
             throw new FileNotFoundException("Sprite sheet not loaded: " + spriteSheetName + " " + spriteSetName);
         }
 
-        Map<String, Image[]> spriteSheet = spriteSheetCache.get(spriteSheetName);
+        Map<String, SpriteRegion[]> spriteSheet = spriteRegionCache.get(spriteSheetName);
 
         if (!spriteSheet.containsKey(spriteSetName)) {
             throw new FileNotFoundException("Sprite set (" + spriteSetName + ") does not exist in the following spritesheet:" + spriteSheetName);
@@ -74,8 +103,24 @@ public class SpriteManager {
         return spriteSheet.get(spriteSetName);
     }
 
+    /**
+     * Gets the atlas image of a given spritesheet, containing all of its sprites
+     * The spritesheet must already be loaded using loadSpriteSheet
+     * 
+     * @param spriteSheetName The name of the spriteSheet as written in its descriptor file
+     * @return The atlas image
+     * @throws FileNotFoundException Thrown when a given spritesheet name is not found
+     */
+    public Image getAtlas(String spriteSheetName) throws FileNotFoundException {
+        if (!atlasCache.containsKey(spriteSheetName)) {
+            throw new FileNotFoundException("Sprite sheet not loaded: " + spriteSheetName);
+        }
+        return atlasCache.get(spriteSheetName);
+    }
+
     /**
      * Loads a given spritesheet into the cache using its JSON descriptor file and the image itself
+     * The image is kept as one atlas, and each sprite as a region of it
      * 
      * @param JSONPath The relative path inside /resources/assets/ to the JSON descriptor file for this spritesheet
      * @param imagePath The relative path inside /resources/assets/ to the image containing this spritesheet
@@ -84,9 +129,12 @@ public class SpriteManager {
      */
     public void loadSpriteSheet(String JSONPath, String imagePath) throws FileNotFoundException, IOException {
         SpritesheetDescriptor descriptor = Spritesheet.getSpritesheetFromJSON(JSONPath);
-        if (!spriteSheetCache.containsKey(descriptor.name)) {
-            Map<String, Image[]> spriteSets = Spritesheet.parseSpriteSheet(descriptor, imagePath);
-            spriteSheetCache.put(descriptor.name, spriteSets);  
+        if (!spriteRegionCache.containsKey(descriptor.name)) {
+            Image atlas = Spritesheet.loadAtlas(imagePath);
+            Map<String, SpriteRegion[]> spriteRegions = Spritesheet.parseSpriteRegions(descriptor, atlas);
+
+            atlasCache.put(descriptor.name, atlas);
+            spriteRegionCache.put(descriptor.name, spriteRegions);
         }   
     }
 }
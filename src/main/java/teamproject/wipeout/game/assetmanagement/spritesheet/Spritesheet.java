@@ -13,10 +13,12 @@ import java.awt.image.BufferedImage;
 import javax.imageio.ImageIO;
 
 import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
 import javafx.scene.image.PixelWriter;
 import javafx.scene.image.WritableImage;
 
 import com.google.gson.Gson;
+import teamproject.wipeout.engine.component.render.SpriteRegion;
 import teamproject.wipeout.util.resources.ResourceLoader;
 import teamproject.wipeout.util.resources.ResourceType;
 
@@ -38,13 +40,51 @@ public class Spritesheet {
      * @throws IllegalArgumentException if the spritesheetDescriptor is invalid
      */
     public static Map<String, Image[]> parseSpriteSheet(SpritesheetDescriptor spritesheetDescriptor, String imagePath) throws FileNotFoundException, IOException {
+        Image atlas = Spritesheet.loadAtlas(imagePath);
+        Map<String, SpriteRegion[]> spriteRegions = Spritesheet.parseSpriteRegions(spritesheetDescriptor, atlas);
+
+        Map<String, Image[]> spriteSets = new HashMap<String, Image[]>();
+        for (Map.Entry<String, SpriteRegion[]> spriteSet : spriteRegions.entrySet()) {
+            spriteSets.put(spriteSet.getKey(), Spritesheet.getRegionImages(spriteSet.getValue()));
+        }
+
+        return spriteSets;
+    }
+
+    /**
+     * Loads a spritesheet image as a single atlas image
+     * 
+     * @param imagePath The relative path to the image inside /resources/assets/
+     * @return The atlas image
+     * @throws FileNotFoundException if the file path provided is invalid
+     * @throws IOException if loading the image fails
+     */
+    public static Image loadAtlas(String imagePath) throws FileNotFoundException, IOException {
         File imageFile = ResourceLoader.get(ResourceType.ASSET, imagePath);
         BufferedImage image = ImageIO.read(imageFile);
 
-        Map<String, Image[]> spriteSets = new HashMap<String, Image[]>();
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+        WritableImage atlas = new WritableImage(width, height);
+        atlas.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+        return atlas;
+    }
+
+    /**
+     * Parses the regions of an atlas image containing each sprite, using a given JSON file
+     * 
+     * @param spritesheetDescriptor A SpritesheetDescriptor object describing the sprites in the atlas
+     * @param atlas The atlas image
+     * @return A map of spriteSet names (as described in the JSON file) to a list of regions
+     * @throws IllegalArgumentException if the spritesheetDescriptor is invalid
+     */
+    public static Map<String, SpriteRegion[]> parseSpriteRegions(SpritesheetDescriptor spritesheetDescriptor, Image atlas) {
+        Map<String, SpriteRegion[]> spriteSets = new HashMap<String, SpriteRegion[]>();
         
         for (SpriteSetDescriptor spriteSet : spritesheetDescriptor.sprites) {
-            Image[] sprites = null;
+            SpriteRegion[] regions = null;
             int xStart = spriteSet.parameters.get("x");
             int yStart = spriteSet.parameters.get("y");
             int width = spriteSet.parameters.get("width");
@@ -52,24 +92,67 @@ public class Spritesheet {
 
             switch (spriteSet.type) {
                 case "sprite":
-                    sprites = new Image[] {Spritesheet.getSubImage(image, xStart, yStart, width, height)};
+                    regions = new SpriteRegion[] {new SpriteRegion(atlas, xStart, yStart, width, height)};
                     break;
                 case "sprite-list-x":
-                    sprites = Spritesheet.parseSpriteList(image, xStart, yStart, width, height, spriteSet.parameters.get("length"), true);
+                    regions = Spritesheet.parseRegionList(atlas, xStart, yStart, width, height, spriteSet.parameters.get("length"), true);
                     break;
                 case "sprite-list-y":
-                    sprites = Spritesheet.parseSpriteList(image, xStart, yStart, width, height, spriteSet.parameters.get("length"), false);
+                    regions = Spritesheet.parseRegionList(atlas, xStart, yStart, width, height, spriteSet.parameters.get("length"), false);
                     break;
                 default:
                     throw new IllegalArgumentException("Invalid sprite set type: " + spriteSet.type);
             }   
             
-            spriteSets.put(spriteSet.name, sprites);
+            spriteSets.put(spriteSet.name, regions);
         }
 
         return spriteSets;
     }
 
+    /**
+     * Parses a list of sprites from an atlas into a list of regions
+     * 
+     * @param atlas The atlas image
+     * @param xStart The x coordinate the first region starts at
+     * @param yStart The y coordinate the first region starts at
+     * @param width The width of each region
+     * @param height The height of each region
+     * @param length The number of regions to get
+     * @param incrementX Boolean determining whether to get regions along the x axis (true) or the y axis (false)
+     * @return An array of regions
+     */
+    public static SpriteRegion[] parseRegionList(Image atlas, int xStart, int yStart, int width, int height, int length, boolean incrementX) {
+        SpriteRegion[] regions = new SpriteRegion[length];
+
+        for (int i = 0; i < length; i++) {
+            if (incrementX) {
+                regions[i] = new SpriteRegion(atlas, xStart + width * i, yStart, width, height);
+            }
+            else {
+                regions[i] = new SpriteRegion(atlas, xStart, yStart + height * i, width, height);
+            }
+        }
+
+        return regions;
+    }
+
+    /**
+     * Gets a separate image for each region of an atlas, for code that needs an Image (e.g. UI nodes)
+     * 
+     * @param regions The regions to copy
+     * @return An array of images, one for each region
+     */
+    public static Image[] getRegionImages(SpriteRegion[] regions) {
+        Image[] images = new Image[regions.length];
+
+        for (int i = 0; i < regions.length; i++) {
+            images[i] = regions[i].toImage();
+        }
+
+        return images;
+    }
+
     /**
      * Parses a list of sprites from a spritesheet into a list of images
      * 
@@ -1,6 +1,5 @@
 package teamproject.wipeout.game.entity;
 
-import javafx.application.Platform;
 import javafx.geometry.Point2D;
 import javafx.scene.paint.Color;
 import teamproject.wipeout.engine.component.PlayerAnimatorComponent;
@@ -11,12 +10,16 @@ import teamproject.wipeout.engine.component.ai.SteeringComponent;
 import teamproject.wipeout.engine.component.physics.HitboxComponent;
 import teamproject.wipeout.engine.component.physics.MovementComponent;
 import teamproject.wipeout.engine.component.render.RenderComponent;
+import teamproject.wipeout.engine.component.render.SpriteRegion;
 import teamproject.wipeout.engine.component.render.particle.ParticleParameters;
 import teamproject.wipeout.engine.component.render.particle.ParticleParameters.ParticleSimulationSpace;
 import teamproject.wipeout.engine.component.render.particle.property.EaseCurve;
 import teamproject.wipeout.engine.component.render.particle.property.OvalParticle;
+import teamproject.wipeout.engine.component.render.particle.type.ParticleUpdateFunction;
 import teamproject.wipeout.engine.component.shape.Rectangle;
 import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.core.GameThreadExecutor;
+import teamproject.wipeout.engine.core.TimerWheel;
 import teamproject.wipeout.engine.entity.GameEntity;
 import teamproject.wipeout.engine.system.ai.PathFindingSystem;
 import teamproject.wipeout.game.assetmanagement.SpriteManager;
@@ -32,9 +35,6 @@ import java.io.FileNotFoundException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 /**
@@ -58,9 +58,11 @@ public class AnimalEntity extends GameEntity implements StateUpdatable<AnimalSta
     private Transform transformComponent;
     private MovementComponent movementComponent;
 
-    private ScheduledExecutorService executor;
     private boolean shouldStop;
 
+    // The end of the current idle period, waiting in the scene's timer wheel
+    private TimerWheel.Timeout idleTimeout;
+
     private Supplier<GameClient> clientSupplier;
     private AnimalState animalState;
     private List<FarmEntity> farms;
@@ -84,8 +86,6 @@ public class AnimalEntity extends GameEntity implements StateUpdatable<AnimalSta
         this.navMesh = navMesh;
         this.farms = farms;
 
-        this.executor = Executors.newSingleThreadScheduledExecutor();
-
         this.transformComponent = new Transform(position.getX(), position.getY(), 1);
         this.movementComponent = new MovementComponent();
         this.movementComponent.speedMultiplierChanged = (newMultiplier) -> {
@@ -125,9 +125,7 @@ public class AnimalEntity extends GameEntity implements StateUpdatable<AnimalSta
 
         parameters.setEmissionRate(20);
         parameters.setEmissionPositionGenerator(SupplierGenerator.rangeSupplier(new Point2D(11, 22), new Point2D(20, 32)));
-        parameters.addUpdateFunction((particle, percentage, timeStep) -> {
-            particle.opacity = EaseCurve.FADE_IN_OUT.apply(percentage);
-        });
+        parameters.addUpdateFunction(ParticleUpdateFunction.opacityOverLifetime(EaseCurve.FADE_IN_OUT));
 
         this.sabotageEffect = new ParticleEntity(scene, 0, parameters);
         this.sabotageEffect.setParent(this);
@@ -136,11 +134,11 @@ public class AnimalEntity extends GameEntity implements StateUpdatable<AnimalSta
 
         try {
             this.addComponent(new PlayerAnimatorComponent(
-                    spriteManager.getSpriteSet("mouse", "up"),
-                    spriteManager.getSpriteSet("mouse", "right"),
-                    spriteManager.getSpriteSet("mouse", "down"),
-                    spriteManager.getSpriteSet("mouse", "left"),
-                    spriteManager.getSpriteSet("mouse", "idle")));
+                    spriteManager.getSpriteRegions("mouse", "up"),
+                    spriteManager.getSpriteRegions("mouse", "right"),
+                    spriteManager.getSpriteRegions("mouse", "down"),
+                    spriteManager.getSpriteRegions("mouse", "left"),
+                    spriteManager.getSpriteRegions("mouse", "idle")));
         }
         catch (FileNotFoundException e) {
             e.printStackTrace();
@@ -195,12 +193,14 @@ public class AnimalEntity extends GameEntity implements StateUpdatable<AnimalSta
     }
 
     /**
-     * Stops the rat's AI algorithm and kills its thread.
+     * Stops the rat's AI algorithm and cancels its pending idle timer.
      */
     public void stop() {
         this.shouldStop = true;
         this.removeComponent(SteeringComponent.class);
-        this.executor.shutdown();
+        if (this.idleTimeout != null) {
+            this.idleTimeout.cancel();
+        }
     }
 
     /**
@@ -229,7 +229,7 @@ public class AnimalEntity extends GameEntity implements StateUpdatable<AnimalSta
         this.animalState.setPath(null);
         this.sendStateUpdate();
 
-        executor.schedule(() -> Platform.runLater(aiDecisionAlgorithm), idleTime, TimeUnit.SECONDS);
+        this.idleTimeout = this.getScene().getTimerWheel().schedule(idleTime, aiDecisionAlgorithm);
     }
 
     /**
@@ -256,7 +256,7 @@ public class AnimalEntity extends GameEntity implements StateUpdatable<AnimalSta
 
         Runnable onComplete = () ->  {
             randFarm.pickItemAt(x, y, false, false);
-            Platform.runLater(aiDecisionAlgorithm);
+            GameThreadExecutor.runLater(aiDecisionAlgorithm);
         };
 
         aiTraverse(x, y, onComplete);
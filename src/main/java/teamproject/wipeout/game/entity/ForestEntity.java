@@ -3,7 +3,7 @@ package teamproject.wipeout.game.entity;
 import java.io.FileNotFoundException;
 
 import javafx.geometry.Point2D;
-import javafx.scene.image.Image;
+import teamproject.wipeout.engine.component.render.SpriteRegion;
 import teamproject.wipeout.engine.core.GameScene;
 import teamproject.wipeout.engine.entity.GameEntity;
 import teamproject.wipeout.game.assetmanagement.SpriteManager;
@@ -20,10 +20,10 @@ public class ForestEntity extends GameEntity
 	{
 		super(scene);
 
-		Image treeImages[] = spriteManager.getSpriteSet("fruit-tree", "apple-tree");
+		SpriteRegion treeImages[] = spriteManager.getSpriteRegions("fruit-tree", "apple-tree");
 		
-		int xTrees = 1+ (int) (dimensions.getX()/treeImages[treeImages.length-1].getWidth());
-		int yTrees = 1+ (int) (dimensions.getY()/treeImages[treeImages.length-1].getHeight());
+		int xTrees = 1+ (int) (dimensions.getX()/treeImages[treeImages.length-1].width);
+		int yTrees = 1+ (int) (dimensions.getY()/treeImages[treeImages.length-1].height);
 		TreeEntity[][] trees = new TreeEntity[yTrees][xTrees];
 		double xChange = dimensions.getX()/(float)xTrees;
 		double yChange = dimensions.getY()/(float)yTrees;
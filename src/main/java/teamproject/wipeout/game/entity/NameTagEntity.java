@@ -0,0 +1,49 @@
+package teamproject.wipeout.game.entity;
+
+import java.util.function.Function;
+
+import teamproject.wipeout.engine.component.Transform;
+import teamproject.wipeout.engine.component.render.RenderComponent;
+import teamproject.wipeout.engine.component.render.Renderable;
+import teamproject.wipeout.engine.component.render.TextRenderable;
+import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.entity.GameEntity;
+
+/**
+ * Entity showing a name centred above its parent (e.g. a player or the rat)
+ */
+public class NameTagEntity extends GameEntity {
+
+    private static final Function<String, Renderable> TEXT_TAGS = (name) -> new TextRenderable(name, 20);
+
+    // Creates the renderable showing a name - TextRenderables need the JavaFX font libraries
+    private static volatile Function<String, Renderable> renderableFactory = TEXT_TAGS;
+
+    /**
+     * Creates a new instance of NameTagEntity
+     *
+     * @param scene The GameScene this entity is part of
+     * @param parent The entity to show the name above - it should already have its RenderComponent
+     * @param name The name to show
+     */
+    public NameTagEntity(GameScene scene, GameEntity parent, String name) {
+        super(scene);
+
+        Renderable tag = renderableFactory.apply(name);
+        this.addComponent(new RenderComponent(tag));
+
+        RenderComponent parentRender = parent.getComponent(RenderComponent.class);
+        double parentWidth = parentRender == null ? 0 : parentRender.getWidth();
+        this.addComponent(new Transform(parentWidth/2f - tag.getWidth()/2f, -tag.getHeight()*0.5f, 10));
+        this.setParent(parent);
+    }
+
+    /**
+     * Sets how the renderables showing names are created, e.g. so players can be created without a JavaFX toolkit
+     *
+     * @param factory Function creating the renderable for a name, or null to show names as TextRenderables
+     */
+    public static void setRenderableFactory(Function<String, Renderable> factory) {
+        renderableFactory = factory == null ? TEXT_TAGS : factory;
+    }
+}
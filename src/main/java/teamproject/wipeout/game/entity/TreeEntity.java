@@ -2,9 +2,9 @@ package teamproject.wipeout.game.entity;
 
 import java.io.FileNotFoundException;
 
-import javafx.scene.image.Image;
 import teamproject.wipeout.engine.component.Transform;
 import teamproject.wipeout.engine.component.render.RenderComponent;
+import teamproject.wipeout.engine.component.render.SpriteRegion;
 import teamproject.wipeout.engine.component.render.SpriteRenderable;
 import teamproject.wipeout.engine.core.GameScene;
 import teamproject.wipeout.engine.entity.GameEntity;
@@ -27,9 +27,9 @@ public class TreeEntity extends GameEntity {
 		
 		this.addComponent(new Transform(x, y, 1));
 
-		Image treeImage;
+		SpriteRegion treeImage;
 		try {
-			treeImage = spriteManager.getSpriteSet("fruit-tree", "apple-tree")[3];
+			treeImage = spriteManager.getSpriteRegions("fruit-tree", "apple-tree")[3];
 	        SpriteRenderable treeRenderable = new SpriteRenderable(treeImage);
 
 	        RenderComponent renderComponent = new RenderComponent(treeRenderable);
@@ -45,9 +45,9 @@ public class TreeEntity extends GameEntity {
 	 * @param scene The GameScene this entity is part of
 	 * @param x The x coordinate to spawn the tree at
 	 * @param y The y coordinate to spawn the tree at
-	 * @param treeImage The image to use for this tree
+	 * @param treeImage The sprite to use for this tree
 	 */
-	public TreeEntity(GameScene scene, double x, double y, Image treeImage) {
+	public TreeEntity(GameScene scene, double x, double y, SpriteRegion treeImage) {
 		super(scene);
 		
 		this.addComponent(new Transform(x,y, 1));
@@ -12,7 +12,6 @@ import teamproject.wipeout.engine.component.physics.CollisionResolutionComponent
 import teamproject.wipeout.engine.component.physics.HitboxComponent;
 import teamproject.wipeout.engine.component.render.RectRenderable;
 import teamproject.wipeout.engine.component.render.RenderComponent;
-import teamproject.wipeout.engine.component.render.TextRenderable;
 import teamproject.wipeout.engine.component.shape.Rectangle;
 import teamproject.wipeout.engine.core.GameScene;
 import teamproject.wipeout.engine.entity.GameEntity;
@@ -103,7 +102,7 @@ public class WorldEntity extends GameEntity implements StateUpdatable<WorldState
 		GameEntity grass = this.scene.createEntity();
 		grass.setParent(this);
 		grass.addComponent(new Transform(-width * 4, -height * 4, -100));
-		grass.addComponent(new RenderComponent(new RectRenderable(Color.rgb(47, 129, 54), width * 8, height * 8)));
+		grass.addComponent(new RenderComponent(true, new RectRenderable(Color.rgb(47, 129, 54), width * 8, height * 8)));
 		
 		// World Boundary
 		this.createEndOfTheWorld(width, height);
@@ -121,11 +120,7 @@ public class WorldEntity extends GameEntity implements StateUpdatable<WorldState
 		this.createFarms();
 
 		// AI
-        this.navMesh = NavigationMesh.generateMesh(
-        		Point2D.ZERO,
-				new Point2D(width - this.myCurrentPlayer.size.getX(), height - this.myCurrentPlayer.size.getY()),
-				this.getNavMeshAvoidRectangles()
-		);
+        this.navMesh = generateNavMesh(this.myCurrentPlayer.size);
 
 		this.myAnimal = this.createAnimalAt(new Point2D(10.0, 10.0));
 
@@ -367,13 +362,7 @@ public class WorldEntity extends GameEntity implements StateUpdatable<WorldState
 	private AnimalEntity createAnimalAt(Point2D startPoint) {
 		AnimalEntity animal = new AnimalEntity(this.scene, startPoint, this.navMesh, this.spriteManager, List.copyOf(this.farms.values()));
 
-		TextRenderable tag = new TextRenderable("Remy", 20);
-		GameEntity nameTag = this.scene.createEntity();
-		nameTag.addComponent(new RenderComponent(tag));
-
-		RenderComponent ratRender = animal.getComponent(RenderComponent.class);
-		nameTag.addComponent(new Transform(ratRender.getWidth()/2f - tag.getWidth()/2f, -tag.getHeight()*0.5f, 10));
-		nameTag.setParent(animal);
+		new NameTagEntity(this.scene, animal, "Remy");
 
 		return animal;
 	}
@@ -391,15 +380,19 @@ public class WorldEntity extends GameEntity implements StateUpdatable<WorldState
 		}
 	}
 
-	private List<Rectangle> getNavMeshAvoidRectangles() {
-		Point2D marketTopLeftCorner = this.marketEntity.corners[0];
-		Point2D marketBottomRightCorner = this.marketEntity.corners[3];
-
-		double marketWidth = marketBottomRightCorner.getX() - marketTopLeftCorner.getX();
-		double marketHeight = marketBottomRightCorner.getY() - marketTopLeftCorner.getY();
+	/**
+	 * Generates the navigation mesh AI entities use to move around the world
+	 * @param agentSize The size of the entities moving through the mesh
+	 * @return The NavigationMesh
+	 */
+	public static NavigationMesh generateNavMesh(Point2D agentSize) {
+		Rectangle marketRect = new Rectangle(MARKET_START, MarketEntity.WIDTH, MarketEntity.HEIGHT);
 
-		Rectangle marketRect = new Rectangle(marketTopLeftCorner, marketWidth, marketHeight);
-		return List.of(marketRect);
+		return NavigationMesh.generateMesh(
+				Point2D.ZERO,
+				new Point2D(WORLD_SIZE[0] - agentSize.getX(), WORLD_SIZE[1] - agentSize.getY()),
+				List.of(marketRect)
+		);
 	}
 
 	/**
@@ -1,13 +1,13 @@
 package teamproject.wipeout.game.farm;
 
 import javafx.geometry.Point2D;
-import javafx.scene.image.Image;
 import teamproject.wipeout.engine.component.PickableComponent;
 import teamproject.wipeout.engine.component.ScriptComponent;
 import teamproject.wipeout.engine.component.Transform;
 import teamproject.wipeout.engine.component.physics.HitboxComponent;
 import teamproject.wipeout.engine.component.physics.MovementComponent;
 import teamproject.wipeout.engine.component.render.RenderComponent;
+import teamproject.wipeout.engine.component.render.SpriteRegion;
 import teamproject.wipeout.engine.component.render.SpriteRenderable;
 import teamproject.wipeout.engine.component.shape.Rectangle;
 import teamproject.wipeout.engine.core.GameScene;
@@ -118,10 +118,10 @@ public class Pickables {
      * @param numberOfPickables The number of pickables to generate
      */
     public void createPickablesFor(Item item, double x, double y, int numberOfPickables) {
-        Image sprite;
+        SpriteRegion sprite;
         try {
             InventoryComponent invComponent = item.getComponent(InventoryComponent.class);
-            sprite = this.spriteManager.getSpriteSet(invComponent.spriteSheetName, invComponent.spriteSetName)[0];
+            sprite = this.spriteManager.getSpriteRegions(invComponent.spriteSheetName, invComponent.spriteSetName)[0];
 
         } catch (FileNotFoundException exception) {
             exception.printStackTrace();
@@ -150,10 +150,10 @@ public class Pickables {
      */
     private void createPickable(Pickable pickable) {
         Item item = this.itemStore.getItem(pickable.getID());
-        Image sprite;
+        SpriteRegion sprite;
         try {
             InventoryComponent invComponent = item.getComponent(InventoryComponent.class);
-            sprite = this.spriteManager.getSpriteSet(invComponent.spriteSheetName, invComponent.spriteSetName)[0];
+            sprite = this.spriteManager.getSpriteRegions(invComponent.spriteSheetName, invComponent.spriteSetName)[0];
 
         } catch (FileNotFoundException exception) {
             exception.printStackTrace();
@@ -168,16 +168,16 @@ public class Pickables {
      * Creates a single {@code Pickable} game entity
      *
      * @param pickable {@link Pickable} for which the {@link GameEntity} is being created
-     * @param sprite   {@code Image} for the given {@code Pickble}
+     * @param sprite   {@link SpriteRegion} for the given {@code Pickble}
      * @return Created {@code Pickable} {@code GameEntity}
      */
-    private GameEntity createPickableEntity(Pickable pickable, Image sprite) {
+    private GameEntity createPickableEntity(Pickable pickable, SpriteRegion sprite) {
         GameEntity entity = this.gameScene.createEntity();
         SpriteRenderable spriteRenderable = new SpriteRenderable(sprite, 0.01);
 
         entity.addComponent(new RenderComponent(spriteRenderable));
         entity.addComponent(new Transform(pickable.getStartPosition(), 0.0, 1));
-        entity.addComponent(new HitboxComponent(new Rectangle(0, 0, sprite.getWidth() * 0.75, sprite.getHeight() * 0.75)));
+        entity.addComponent(new HitboxComponent(new Rectangle(0, 0, sprite.width * 0.75, sprite.height * 0.75)));
         entity.addComponent(new MovementComponent(pickable.getVelocity(), Point2D.ZERO));
         entity.addComponent(new PickableComponent(pickable));
 
@@ -15,6 +15,7 @@ import teamproject.wipeout.engine.component.render.particle.ParticleParameters;
 import teamproject.wipeout.engine.component.render.particle.ParticleParameters.ParticleSimulationSpace;
 import teamproject.wipeout.engine.component.render.particle.property.EaseCurve;
 import teamproject.wipeout.engine.component.render.particle.property.OvalParticle;
+import teamproject.wipeout.engine.component.render.particle.type.ParticleUpdateFunction;
 import teamproject.wipeout.engine.core.GameScene;
 import teamproject.wipeout.engine.entity.GameEntity;
 import teamproject.wipeout.engine.input.InputHoverableAction;
@@ -117,7 +118,8 @@ public class FarmEntity extends GameEntity {
         this.size = squareGrid.multiply(SQUARE_SIZE).add(SQUARE_SIZE * 2, SQUARE_SIZE * 2);
 
         this.farmRenderer = new FarmRenderer(this.size, this.spriteManager);
-        this.addComponent(new RenderComponent(false, this.farmRenderer));
+        // The soil only changes when the farm is expanded, so it is drawn in the static layer
+        this.addComponent(new RenderComponent(true, this.farmRenderer));
 
         //Create row entities for the rows of the farm
         this.rowEntities = new ArrayList<ItemsRowEntity>();
@@ -818,6 +820,8 @@ public class FarmEntity extends GameEntity {
                 row += 1;
             }
 
+            this.getComponent(RenderComponent.class).markDirty();
+
             Point2D newRowPoint;
             int newRowIndex;
             switch (this.farmID) {
@@ -1003,9 +1007,7 @@ public class FarmEntity extends GameEntity {
 
         parameters.setEmissionRate(10);
         parameters.setEmissionPositionGenerator(SupplierGenerator.rangeSupplier(Point2D.ZERO, this.getSize()));
-        parameters.addUpdateFunction((particle, percentage, timeStep) -> {
-            particle.opacity = 1.0 * EaseCurve.FADE_IN_OUT.apply(percentage);
-        });
+        parameters.addUpdateFunction(ParticleUpdateFunction.opacityOverLifetime(EaseCurve.FADE_IN_OUT));
 
         return parameters;
     }
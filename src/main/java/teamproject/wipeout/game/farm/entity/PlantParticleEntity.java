@@ -9,6 +9,7 @@ import teamproject.wipeout.engine.component.render.particle.ParticleParameters.P
 import teamproject.wipeout.engine.component.render.particle.property.EaseCurve;
 import teamproject.wipeout.engine.component.render.particle.property.OvalParticle;
 import teamproject.wipeout.engine.component.render.particle.property.ParticleBurst;
+import teamproject.wipeout.engine.component.render.particle.type.ParticleUpdateFunction;
 import teamproject.wipeout.engine.core.GameScene;
 import teamproject.wipeout.engine.entity.GameEntity;
 import teamproject.wipeout.util.SupplierGenerator;
@@ -42,10 +43,10 @@ public class PlantParticleEntity extends GameEntity {
                 SupplierGenerator.rangeSupplier(new Point2D(-70, -60), new Point2D(70, -2)));
 
         plantEffect.setBursts(List.of(new ParticleBurst(0.0, SupplierGenerator.rangeSupplier(50, 100))));
+        plantEffect.addUpdateFunction(ParticleUpdateFunction.sizeOverLifetime(EaseCurve.EASE_OUT));
         plantEffect.addUpdateFunction((particle, percentage, timeStep) -> {
-            particle.width = particle.getStartWidth() * EaseCurve.EASE_OUT.apply(percentage);
-            particle.height = particle.getStartHeight() * EaseCurve.EASE_OUT.apply(percentage);
-            particle.velocity = particle.velocity.add(0, 80 * timeStep).multiply(0.95);
+            particle.velocityX *= 0.95;
+            particle.velocityY = (particle.velocityY + 80 * timeStep) * 0.95;
         });
 
         this.addComponent(new Transform(x, y, 0));
@@ -1,11 +1,11 @@
 package teamproject.wipeout.game.farm.entity;
 
 import javafx.geometry.Point2D;
-import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import teamproject.wipeout.engine.component.Transform;
 import teamproject.wipeout.engine.component.render.RectRenderable;
 import teamproject.wipeout.engine.component.render.RenderComponent;
+import teamproject.wipeout.engine.component.render.SpriteRegion;
 import teamproject.wipeout.engine.component.render.SpriteRenderable;
 import teamproject.wipeout.engine.core.GameScene;
 import teamproject.wipeout.engine.entity.GameEntity;
@@ -54,7 +54,7 @@ public class SeedEntity extends GameEntity {
 
         int widthPixelSize = plant.width * FarmEntity.SQUARE_SIZE;
         int heightPixelSize = plant.height * FarmEntity.SQUARE_SIZE;
-        Image seedImage = spriteManager.getSpriteSet(inventory.spriteSheetName, inventory.spriteSetName)[0];
+        SpriteRegion seedImage = spriteManager.getSpriteRegions(inventory.spriteSheetName, inventory.spriteSetName)[0];
 
         this.seedArea = new RectRenderable(Color.GREEN, widthPixelSize, heightPixelSize * FarmEntity.SKEW_FACTOR);
         this.seedArea.radius = Math.max(widthPixelSize, heightPixelSize) / 3.0;
@@ -68,7 +68,7 @@ public class SeedEntity extends GameEntity {
         seedRenderEntity.addComponent(new Transform(0, 0, 2));
 
         SpriteRenderable seedRenderable = new SpriteRenderable(seedImage);
-        double scaleFactor = SeedEntity.scaleFactorToFitWidth(plant.width, seedImage.getWidth());
+        double scaleFactor = SeedEntity.scaleFactorToFitWidth(plant.width, seedImage.width);
         seedRenderable.spriteScale = new Point2D(scaleFactor, scaleFactor);
         RenderComponent seedRenderComponent = new RenderComponent(seedRenderable);
         seedRenderEntity.addComponent(seedRenderComponent);
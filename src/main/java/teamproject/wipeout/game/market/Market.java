@@ -1,7 +1,7 @@
 package teamproject.wipeout.game.market;
 
-import javafx.application.Platform;
 import javafx.util.Pair;
+import teamproject.wipeout.engine.core.GameThreadExecutor;
 import teamproject.wipeout.game.item.Item;
 import teamproject.wipeout.game.item.ItemStore;
 import teamproject.wipeout.game.item.components.TradableComponent;
@@ -69,7 +69,7 @@ public class Market implements StateUpdatable<MarketState> {
      * @param newState New state of the market
      */
     public void updateFromState(MarketState newState) {
-        Platform.runLater(() -> {
+        GameThreadExecutor.runLater(() -> {
             for (Map.Entry<Integer, Double> entry : newState.getItemDeviations().entrySet()) {
                 this.stockDatabase.get(entry.getKey()).setQuantityDeviation(entry.getValue());
             }
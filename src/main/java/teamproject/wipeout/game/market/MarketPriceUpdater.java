@@ -4,7 +4,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
-import javafx.application.Platform;
+import teamproject.wipeout.engine.core.GameThreadExecutor;
 
 /**
  * Class which automatically returns market items to their equilibrium price after a set amount of time.
@@ -25,11 +25,11 @@ public class MarketPriceUpdater {
     private final ScheduledExecutorService executor;
 
     /**
-     * Platform.runLater wrapper for updatePrices to prevent JavaFX error
+     * GameThreadExecutor.runLater wrapper for updatePrices to prevent JavaFX error
      */
     private final Runnable runUpdatePrices = () -> {
         if (this.isLocal) {
-            Platform.runLater(this.priceUpdater());
+            GameThreadExecutor.runLater(this.priceUpdater());
         } else {
             this.priceUpdater().run();
         }
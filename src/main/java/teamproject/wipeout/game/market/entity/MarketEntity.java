@@ -20,6 +20,7 @@ import teamproject.wipeout.engine.component.shape.Shape;
 import teamproject.wipeout.engine.component.input.*;
 import teamproject.wipeout.engine.component.render.RectRenderable;
 import teamproject.wipeout.engine.component.render.RenderComponent;
+import teamproject.wipeout.engine.component.render.SpriteRegion;
 import teamproject.wipeout.engine.component.render.SpriteRenderable;
 import teamproject.wipeout.engine.core.GameScene;
 import teamproject.wipeout.engine.entity.GameEntity;
@@ -43,15 +44,20 @@ import teamproject.wipeout.game.task.Task;
 public class MarketEntity extends GameEntity {
 
     public static final double PLAYER_INTERACTION_DISTANCE = 250;
+    public static final int WIDTH = 306;
+    public static final int HEIGHT = 203;
 
     public final Point2D[] corners;
 
+    // Built the first time the market is opened, so the market can be created without the JavaFX font libraries (e.g. headless)
     protected MarketUI marketUI;
+    protected Supplier<MarketUI> marketUISupplier;
     protected Market market;
 
     protected StackPane uiContainer;
 
     protected Runnable onUIOpen;
+    protected Runnable onUIClose;
 
     // Hover and click variables
     protected Supplier<Point2D> playerWorldPosition;
@@ -90,8 +96,8 @@ public class MarketEntity extends GameEntity {
         hoverEntity.addComponent(new Clickable(this.onClick));
         hoverEntity.addComponent(new ScriptComponent(this.onStep));
 
-        int width = 306;
-        int height = 203;
+        int width = WIDTH;
+        int height = HEIGHT;
         this.addComponent(new RenderComponent(new RectRenderable(Color.TRANSPARENT, width, height)));
         this.corners = new Point2D[]{
                 new Point2D(x, y),
@@ -101,7 +107,7 @@ public class MarketEntity extends GameEntity {
         };
 
         try {
-            spriteManager.loadSpriteSheet("gameworld/market-descriptor.json", "gameworld/market.png");
+            spriteManager.loadSpriteSheet("gameworld/market-descriptor.json", "gameworld/Market.png");
 
             RenderComponent marketRenderComponent = this.getComponent(RenderComponent.class);
             this.hoverRect = new RectRenderable(Color.DARKGRAY, marketRenderComponent.getWidth(), marketRenderComponent.getHeight());
@@ -122,7 +128,7 @@ public class MarketEntity extends GameEntity {
                 GameEntity childRenderer = new GameEntity(scene);
                 childRenderer.setParent(this);
                 childRenderer.addComponent(new Transform(spriteSet.parameters.get("x"), spriteSet.parameters.get("y"), 1));
-                childRenderer.addComponent(new RenderComponent(new SpriteRenderable(spriteManager.getSpriteSet("market", spriteSet.name)[0])));
+                childRenderer.addComponent(new RenderComponent(new SpriteRenderable(spriteManager.getSpriteRegions("market", spriteSet.name)[0])));
             }
         }
         catch (Exception exception) {
@@ -162,8 +168,7 @@ public class MarketEntity extends GameEntity {
 
         ArrayList<Task> purchasableTasks = (ArrayList<Task>) marketPack.get("tasks");
         Collection<Item> items = itemStore.getData().values();
-        this.marketUI = new MarketUI(items, this.market, currentPlayer, spriteManager, purchasableTasks);
-        this.marketUI.setParent(uiContainer);
+        this.marketUISupplier = () -> new MarketUI(items, this.market, currentPlayer, spriteManager, purchasableTasks);
     }
 
     /**
@@ -196,14 +201,30 @@ public class MarketEntity extends GameEntity {
      * @param onClose The runnable to call when the UI is closed.
      */
     public void setOnUIClose(Runnable onClose) {
-        this.marketUI.onUIClose = onClose;
+        this.onUIClose = onClose;
+        if (this.marketUI != null) {
+            this.marketUI.onUIClose = onClose;
+        }
+    }
+
+    /**
+     * Gets the MarketUI, building it if the market hasn't been opened yet
+     * @return The MarketUI
+     */
+    protected MarketUI getMarketUI() {
+        if (this.marketUI == null) {
+            this.marketUI = this.marketUISupplier.get();
+            this.marketUI.setParent(this.uiContainer);
+            this.marketUI.onUIClose = this.onUIClose;
+        }
+        return this.marketUI;
     }
 
     /**
      * Runnable called when this MarketEntity is clicked.
      */
     private final EntityClickAction onClick = (x, y, button) -> {
-        if (this.getPlayerDistance() < PLAYER_INTERACTION_DISTANCE && marketUI.getParent() == null) {
+        if (this.getPlayerDistance() < PLAYER_INTERACTION_DISTANCE && this.getMarketUI().getParent() == null) {
             if (this.onUIOpen != null) {
                 this.onUIOpen.run();
             }
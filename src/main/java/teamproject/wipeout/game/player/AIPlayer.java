@@ -1,6 +1,5 @@
 package teamproject.wipeout.game.player;
 
-import javafx.application.Platform;
 import javafx.geometry.Point2D;
 import javafx.scene.input.MouseButton;
 import javafx.util.Pair;
@@ -9,6 +8,8 @@ import teamproject.wipeout.engine.component.ai.NavigationSquare;
 import teamproject.wipeout.engine.component.ai.SteeringComponent;
 import teamproject.wipeout.engine.component.physics.CollisionResolutionComponent;
 import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.core.GameThreadExecutor;
+import teamproject.wipeout.engine.core.TimerWheel;
 import teamproject.wipeout.engine.entity.GameEntity;
 import teamproject.wipeout.engine.system.ClockSystem;
 import teamproject.wipeout.engine.system.ai.PathFindingSystem;
@@ -25,10 +26,7 @@ import teamproject.wipeout.game.potion.PotionThrowEntity;
 import teamproject.wipeout.util.SortByMoney;
 
 import java.util.*;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -54,7 +52,6 @@ public class AIPlayer extends Player {
 
     private final NavigationMesh navMesh;
     private final CollisionResolutionComponent collisionResolution;
-    private final ScheduledExecutorService executor;
     private final Random random;
     private final Comparator<Player> moneyComparator;
 
@@ -68,6 +65,9 @@ public class AIPlayer extends Player {
     private double currentFarmExpansionPrice;
     private boolean shouldStop;
 
+    // The end of the current idle period, waiting in the scene's timer wheel
+    private TimerWheel.Timeout idleTimeout;
+
     /**
      * Creates a new {@code AIPlayer} entity.
      *
@@ -80,7 +80,6 @@ public class AIPlayer extends Player {
 
         this.navMesh = worldEntity.getNavMesh();
         this.collisionResolution = this.createCollisionResolutionComponent();
-        this.executor = Executors.newSingleThreadScheduledExecutor();
         this.random = ThreadLocalRandom.current();
         this.moneyComparator = new SortByMoney(true);
 
@@ -132,7 +131,9 @@ public class AIPlayer extends Player {
     public void stop() {
         this.shouldStop = true;
         this.removeComponent(SteeringComponent.class);
-        this.executor.shutdown();
+        if (this.idleTimeout != null) {
+            this.idleTimeout.cancel();
+        }
     }
 
     /**
@@ -218,8 +219,8 @@ public class AIPlayer extends Player {
      */
     private void aiIdle(Runnable completion) {
         long idleTime = (long) (Math.random() * IDLE_TIME_SCALING_FACTOR) + IDLE_TIME_MINIMUM;
-        Runnable finishedIdling = () -> Platform.runLater(completion == null ? this.aiDecisionAlgorithm() : completion);
-        this.executor.schedule(finishedIdling, idleTime, TimeUnit.SECONDS);
+        Runnable finishedIdling = completion == null ? this.aiDecisionAlgorithm() : completion;
+        this.idleTimeout = this.getScene().getTimerWheel().schedule(idleTime, finishedIdling);
     }
 
     /**
@@ -242,7 +243,7 @@ public class AIPlayer extends Player {
             double randDestroy = Math.random();
             FarmItem farmItem = this.aiFarm.itemAt(x, y);
             if (farmItem == null || farmItem.get() == null) {
-                Platform.runLater(this.aiDecisionAlgorithm());
+                GameThreadExecutor.runLater(this.aiDecisionAlgorithm());
                 return;
             }
             boolean isTree = farmItem.get().hasComponent(PlantComponent.class) && farmItem.get().getComponent(PlantComponent.class).isTree;
@@ -269,7 +270,7 @@ public class AIPlayer extends Player {
                 this.aiHarvestPlants();
 
             } else {
-                Platform.runLater(this.aiDecisionAlgorithm());
+                GameThreadExecutor.runLater(this.aiDecisionAlgorithm());
             }
         };
 
@@ -559,37 +560,37 @@ public class AIPlayer extends Player {
 
             if (vectorX < 0) {
                 if (vectorY < 0) {
-                    this.physics.acceleration = new Point2D(COLLISION_RESOLUTION_SPEED, COLLISION_RESOLUTION_SPEED);
+                    this.physics.setAcceleration(new Point2D(COLLISION_RESOLUTION_SPEED, COLLISION_RESOLUTION_SPEED));
                 } else if (vectorY > 0) {
-                    this.physics.acceleration = new Point2D(COLLISION_RESOLUTION_SPEED, -COLLISION_RESOLUTION_SPEED);
+                    this.physics.setAcceleration(new Point2D(COLLISION_RESOLUTION_SPEED, -COLLISION_RESOLUTION_SPEED));
                 } else {
                     int oneMultiplier = Math.random() > 0.5 ? 1 : -1;
-                    this.physics.acceleration = new Point2D(COLLISION_RESOLUTION_SPEED, oneMultiplier * COLLISION_RESOLUTION_SPEED);
+                    this.physics.setAcceleration(new Point2D(COLLISION_RESOLUTION_SPEED, oneMultiplier * COLLISION_RESOLUTION_SPEED));
                 }
 
             } else if (vectorX > 0) {
                 if (vectorY < 0) {
-                    this.physics.acceleration = new Point2D(-COLLISION_RESOLUTION_SPEED, COLLISION_RESOLUTION_SPEED);
+                    this.physics.setAcceleration(new Point2D(-COLLISION_RESOLUTION_SPEED, COLLISION_RESOLUTION_SPEED));
                 } else if (vectorY > 0) {
-                    this.physics.acceleration = new Point2D(-COLLISION_RESOLUTION_SPEED, -COLLISION_RESOLUTION_SPEED);
+                    this.physics.setAcceleration(new Point2D(-COLLISION_RESOLUTION_SPEED, -COLLISION_RESOLUTION_SPEED));
                 } else {
                     int oneMultiplier = Math.random() > 0.5 ? 1 : -1;
-                    this.physics.acceleration = new Point2D(-COLLISION_RESOLUTION_SPEED, oneMultiplier * COLLISION_RESOLUTION_SPEED);
+                    this.physics.setAcceleration(new Point2D(-COLLISION_RESOLUTION_SPEED, oneMultiplier * COLLISION_RESOLUTION_SPEED));
                 }
 
             } else {
                 int oneMultiplier = Math.random() > 0.5 ? 1 : -1;
                 if (vectorY < 0) {
-                    this.physics.acceleration = new Point2D(oneMultiplier * COLLISION_RESOLUTION_SPEED, COLLISION_RESOLUTION_SPEED);
+                    this.physics.setAcceleration(new Point2D(oneMultiplier * COLLISION_RESOLUTION_SPEED, COLLISION_RESOLUTION_SPEED));
                 } else if (vectorY > 0) {
-                    this.physics.acceleration = new Point2D(oneMultiplier * COLLISION_RESOLUTION_SPEED, -COLLISION_RESOLUTION_SPEED);
+                    this.physics.setAcceleration(new Point2D(oneMultiplier * COLLISION_RESOLUTION_SPEED, -COLLISION_RESOLUTION_SPEED));
                 } else {
-                    this.physics.acceleration = new Point2D(oneMultiplier * COLLISION_RESOLUTION_SPEED, oneMultiplier * COLLISION_RESOLUTION_SPEED);
+                    this.physics.setAcceleration(new Point2D(oneMultiplier * COLLISION_RESOLUTION_SPEED, oneMultiplier * COLLISION_RESOLUTION_SPEED));
                 }
             }
 
             return (pair) -> {
-                this.physics.acceleration = new Point2D(0, 0);
+                this.physics.setAcceleration(new Point2D(0, 0));
                 if (pair.getKey() > 4) {
                     steeringComponent.paused = false;
                     steeringComponent.currentPoint = steeringComponent.path.size() - 1;
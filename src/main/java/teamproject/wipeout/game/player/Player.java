@@ -3,7 +3,6 @@ package teamproject.wipeout.game.player;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.geometry.Point2D;
-import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import javafx.util.Pair;
 import teamproject.wipeout.engine.component.PlayerAnimatorComponent;
@@ -12,16 +11,18 @@ import teamproject.wipeout.engine.component.physics.CollisionResolutionComponent
 import teamproject.wipeout.engine.component.physics.HitboxComponent;
 import teamproject.wipeout.engine.component.physics.MovementComponent;
 import teamproject.wipeout.engine.component.render.RenderComponent;
-import teamproject.wipeout.engine.component.render.TextRenderable;
+import teamproject.wipeout.engine.component.render.SpriteRegion;
 import teamproject.wipeout.engine.component.render.particle.ParticleParameters;
 import teamproject.wipeout.engine.component.render.particle.ParticleParameters.ParticleSimulationSpace;
 import teamproject.wipeout.engine.component.render.particle.property.EaseCurve;
 import teamproject.wipeout.engine.component.render.particle.property.OvalParticle;
+import teamproject.wipeout.engine.component.render.particle.type.ParticleUpdateFunction;
 import teamproject.wipeout.engine.component.shape.Rectangle;
 import teamproject.wipeout.engine.core.GameScene;
 import teamproject.wipeout.engine.entity.GameEntity;
 import teamproject.wipeout.engine.input.InputKeyAction;
 import teamproject.wipeout.game.assetmanagement.SpriteManager;
+import teamproject.wipeout.game.entity.NameTagEntity;
 import teamproject.wipeout.game.entity.ParticleEntity;
 import teamproject.wipeout.game.farm.entity.FarmEntity;
 import teamproject.wipeout.game.inventory.InventoryItem;
@@ -111,7 +112,7 @@ public class Player extends GameEntity implements StateUpdatable<PlayerState> {
 
         parameters.setEmissionRate(20);
         parameters.setEmissionPositionGenerator(SupplierGenerator.rangeSupplier(new Point2D(12, 0), new Point2D(52, 40)));
-        parameters.addUpdateFunction((particle, percentage, timeStep) -> particle.opacity = EaseCurve.FADE_IN_OUT.apply(percentage));
+        parameters.addUpdateFunction(ParticleUpdateFunction.opacityOverLifetime(EaseCurve.FADE_IN_OUT));
 
         // Sabotage
         this.sabotageEffect = new ParticleEntity(scene, 0, parameters);
@@ -121,6 +122,8 @@ public class Player extends GameEntity implements StateUpdatable<PlayerState> {
 
         // Physics
         this.physics = new MovementComponent(0f, 0f, 0f, 0f);
+        // Speed sabotage can move players further than a boundary is thick in one step
+        this.physics.setContinuousCollisionDetection(true);
         this.physics.stopCallback = (newPosition) -> {
             this.playerState.setPosition(newPosition);
             this.sendPlayerStateUpdate();
@@ -157,31 +160,26 @@ public class Player extends GameEntity implements StateUpdatable<PlayerState> {
 
         Point2D tempSize = null;
         try {
-            Image[] idleSprites = spriteManager.getSpriteSet(spriteSheetName, "idle");
+            SpriteRegion[] idleSprites = spriteManager.getSpriteRegions(spriteSheetName, "idle");
 
             this.addComponent(new RenderComponent(new Point2D(0, -3)));
             this.addComponent(new PlayerAnimatorComponent(
-                    spriteManager.getSpriteSet(spriteSheetName, "walk-up"),
-                    spriteManager.getSpriteSet(spriteSheetName, "walk-right"),
-                    spriteManager.getSpriteSet(spriteSheetName, "walk-down"),
-                    spriteManager.getSpriteSet(spriteSheetName, "walk-left"),
+                    spriteManager.getSpriteRegions(spriteSheetName, "walk-up"),
+                    spriteManager.getSpriteRegions(spriteSheetName, "walk-right"),
+                    spriteManager.getSpriteRegions(spriteSheetName, "walk-down"),
+                    spriteManager.getSpriteRegions(spriteSheetName, "walk-left"),
                     idleSprites
             ));
 
-            Image idleSprite = idleSprites[0];
-            tempSize = new Point2D(idleSprite.getWidth(), idleSprite.getHeight());
+            SpriteRegion idleSprite = idleSprites[0];
+            tempSize = new Point2D(idleSprite.width, idleSprite.height);
 
         } catch (FileNotFoundException e) {
             e.printStackTrace();
         }
         this.size = tempSize;
 
-        TextRenderable tag= new TextRenderable(playerName, 20);
-        GameEntity nameTag = new GameEntity(scene);
-        nameTag.addComponent(new RenderComponent(tag));
-        RenderComponent playerRender = this.getComponent(RenderComponent.class);
-        nameTag.addComponent(new Transform(playerRender.getWidth()/2f -tag.getWidth()/2f, -tag.getHeight()*0.5f, 10));
-        nameTag.setParent(this);
+        new NameTagEntity(scene, this, playerName);
     }
 
     /**
@@ -266,12 +264,12 @@ public class Player extends GameEntity implements StateUpdatable<PlayerState> {
      */
     public InputKeyAction addAcceleration(int xAxisMultiplier, int yAxisMultiplier) {
         return () -> {
-            this.physics.acceleration = this.physics.acceleration.add(
+            this.physics.setAcceleration(this.physics.getAcceleration().add(
                     xAxisMultiplier * Player.NOMINAL_SPEED,
                     yAxisMultiplier * Player.NOMINAL_SPEED
-            );
+            ));
             this.playerState.setPosition(this.position.getWorldPosition());
-            this.playerState.setAcceleration(this.physics.acceleration);
+            this.playerState.setAcceleration(this.physics.getAcceleration());
             this.sendPlayerStateUpdate();
         };
     }
@@ -286,7 +284,7 @@ public class Player extends GameEntity implements StateUpdatable<PlayerState> {
      */
     public void updateFromState(PlayerState newState) {
         this.physics.setSpeedMultiplier(newState.getSpeedMultiplier());
-        this.physics.acceleration = newState.getAcceleration();
+        this.physics.setAcceleration(newState.getAcceleration());
         if (newState.getAcceleration().equals(Point2D.ZERO) && this.position != null) {
             this.position.setPosition(newState.getPosition());
         }
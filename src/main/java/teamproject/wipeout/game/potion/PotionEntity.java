@@ -5,9 +5,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
 
-import javafx.application.Platform;
 import javafx.geometry.Point2D;
-import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import teamproject.wipeout.engine.component.ScriptComponent;
 import teamproject.wipeout.engine.component.Transform;
@@ -16,6 +14,7 @@ import teamproject.wipeout.engine.component.physics.GeometryUtil;
 import teamproject.wipeout.engine.component.physics.MovementComponent;
 import teamproject.wipeout.engine.component.render.OvalRenderable;
 import teamproject.wipeout.engine.component.render.RenderComponent;
+import teamproject.wipeout.engine.component.render.SpriteRegion;
 import teamproject.wipeout.engine.component.render.SpriteRenderable;
 import teamproject.wipeout.engine.component.render.particle.ParticleComponent;
 import teamproject.wipeout.engine.component.render.particle.ParticleParameters;
@@ -24,9 +23,11 @@ import teamproject.wipeout.engine.component.render.particle.property.EaseCurve;
 import teamproject.wipeout.engine.component.render.particle.property.OvalParticle;
 import teamproject.wipeout.engine.component.render.particle.property.ParticleBurst;
 import teamproject.wipeout.engine.component.render.particle.property.EaseCurve.EaseType;
+import teamproject.wipeout.engine.component.render.particle.type.ParticleUpdateFunction;
 import teamproject.wipeout.engine.component.shape.Circle;
 import teamproject.wipeout.engine.component.shape.Rectangle;
 import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.core.GameThreadExecutor;
 import teamproject.wipeout.engine.entity.GameEntity;
 import teamproject.wipeout.game.assetmanagement.SpriteManager;
 import teamproject.wipeout.game.item.Item;
@@ -89,10 +90,10 @@ public class PotionEntity extends GameEntity {
         this.audio = new AudioComponent();
         this.addComponent(audio);
 
-        Image potionSprite = null;
+        SpriteRegion potionSprite = null;
         InventoryComponent itemInventory = potion.getComponent(InventoryComponent.class);
         try {
-            potionSprite = sm.getSpriteSet(itemInventory.spriteSheetName, itemInventory.spriteSetName)[0];
+            potionSprite = sm.getSpriteRegions(itemInventory.spriteSheetName, itemInventory.spriteSetName)[0];
         }
         catch (FileNotFoundException e) {
             e.printStackTrace();
@@ -105,8 +106,8 @@ public class PotionEntity extends GameEntity {
             Color potionColor = Color.BLACK;
 
             // Sample hardcoded pixel in potion image to get highlight color
-            if (potionSprite.getWidth() > 9 && potionSprite.getHeight() > 8) {
-                potionColor = potionSprite.getPixelReader().getColor(9, 8);
+            if (potionSprite.width > 9 && potionSprite.height > 8) {
+                potionColor = potionSprite.atlas.getPixelReader().getColor((int) potionSprite.x + 9, (int) potionSprite.y + 8);
             }
 
             this.addComponent(new RenderComponent(new Point2D(-2, -2), new OvalRenderable(potionColor.brighter(), 4, 4)));
@@ -125,7 +126,7 @@ public class PotionEntity extends GameEntity {
             trail.play();
         }
         else {
-            Point2D offset = new Point2D(-potionSprite.getWidth()/4, -potionSprite.getHeight()/4);
+            Point2D offset = new Point2D(-potionSprite.width/4, -potionSprite.height/4);
             this.addComponent(new RenderComponent(offset, new SpriteRenderable(potionSprite, 0.5)));
         }
 
@@ -168,11 +169,7 @@ public class PotionEntity extends GameEntity {
     public static ParticleParameters potionTrailFactory(Color particleColor) {
         ParticleParameters parameters = new ParticleParameters(100, true, new OvalParticle(particleColor), ParticleSimulationSpace.WORLD, SupplierGenerator.rangeSupplier(0.5, 1.5), SupplierGenerator.rangeSupplier(1.0, 2.0), null, SupplierGenerator.staticSupplier(1.0), SupplierGenerator.circlePointSupplier(5, 10));
         parameters.setEmissionRate(50);
-        parameters.addUpdateFunction((particle, percentage, timeStep) -> {
-            double val = particle.getStartWidth() * EASE_CURVE.apply(percentage);
-            particle.width = val;
-            particle.height = val;
-        });
+        parameters.addUpdateFunction(ParticleUpdateFunction.sizeOverLifetime(EASE_CURVE));
 
         return parameters;
     }
@@ -188,12 +185,8 @@ public class PotionEntity extends GameEntity {
 
         ParticleParameters parameters = new ParticleParameters(3.0, false, new OvalParticle(particleColor), ParticleSimulationSpace.WORLD, SupplierGenerator.rangeSupplier(3.5, 4.0), SupplierGenerator.rangeSupplier(1.0, 4.0), null, SupplierGenerator.staticSupplier(1.0), velocitySupplier);
         parameters.setBursts(List.of(new ParticleBurst(0.0, SupplierGenerator.staticSupplier(600))));
-        parameters.addUpdateFunction((particle, percentage, timeStep) -> {
-            double val = particle.getStartWidth() * EASE_CURVE.apply(percentage);
-            particle.width = val;
-            particle.height = val;
-            particle.velocity = particle.velocity.multiply(0.952);
-        });
+        parameters.addUpdateFunction(ParticleUpdateFunction.sizeOverLifetime(EASE_CURVE));
+        parameters.addUpdateFunction(ParticleUpdateFunction.damping(0.952));
         return parameters;
     }
 
@@ -233,12 +226,17 @@ public class PotionEntity extends GameEntity {
                 trail.parameters.setEmissionRate(0);
 
                 explosion.onStop = () -> {
-                    Platform.runLater(() -> this.destroyMyself());
+                    GameThreadExecutor.runLater(() -> this.destroyMyself());
                 };
 
                 explosion.parameters.addUpdateFunction((particle, percentage, updateTimeStep) -> {
-                    if (particle.position.distance(hitPosition) > POTION_EFFECT_RADIUS) {
-                        particle.position = hitPosition.add(particle.position.subtract(hitPosition).normalize().multiply(POTION_EFFECT_RADIUS));
+                    double offsetX = particle.x - hitPosition.getX();
+                    double offsetY = particle.y - hitPosition.getY();
+                    double distance = Math.sqrt(offsetX * offsetX + offsetY * offsetY);
+                    if (distance > POTION_EFFECT_RADIUS) {
+                        double scale = POTION_EFFECT_RADIUS / distance;
+                        particle.x = hitPosition.getX() + offsetX * scale;
+                        particle.y = hitPosition.getY() + offsetY * scale;
                     }
                 });
 
@@ -1,7 +1,6 @@
 package teamproject.wipeout.game.potion;
 
 import javafx.geometry.Point2D;
-import javafx.scene.image.Image;
 import javafx.scene.input.MouseButton;
 import javafx.scene.paint.Color;
 import teamproject.wipeout.engine.component.Transform;
@@ -10,6 +9,7 @@ import teamproject.wipeout.engine.component.input.EntityClickAction;
 import teamproject.wipeout.engine.component.input.Hoverable;
 import teamproject.wipeout.engine.component.render.RectRenderable;
 import teamproject.wipeout.engine.component.render.RenderComponent;
+import teamproject.wipeout.engine.component.render.SpriteRegion;
 import teamproject.wipeout.engine.component.render.SpriteRenderable;
 import teamproject.wipeout.engine.core.GameScene;
 import teamproject.wipeout.engine.entity.GameEntity;
@@ -68,10 +68,10 @@ public class PotionThrowEntity extends GameEntity {
 
         potionTransform = new Transform(0, 0, 10);
         this.addComponent(potionTransform);
-        Image potionSprite = null;
+        SpriteRegion potionSprite = null;
         InventoryComponent itemInventory = potion.getComponent(InventoryComponent.class);
         try {
-            potionSprite = sm.getSpriteSet(itemInventory.spriteSheetName, itemInventory.spriteSetName)[0];
+            potionSprite = sm.getSpriteRegions(itemInventory.spriteSheetName, itemInventory.spriteSetName)[0];
         }
         catch (FileNotFoundException e) {
             e.printStackTrace();
@@ -0,0 +1,224 @@
+package teamproject.wipeout.util;
+
+import java.util.Arrays;
+
+/**
+ * Spatial index of boxes that rarely move (e.g. static colliders, or the render bounds of static entities),
+ * built once and then only queried until they change.
+ *
+ * The area covered by the boxes is split into a uniform grid, and each cell stores the boxes overlapping it.
+ * Cells are packed into flat arrays (the boxes of cell c are cellBoxes[cellStart[c]] to cellBoxes[cellStart[c + 1] - 1]),
+ * so querying doesn't allocate.
+ */
+public class BoxGrid {
+
+    // Very large boxes (or boxes far apart) would need too many cells - cells are made bigger instead
+    private static final int MAX_CELLS = 1 << 16;
+
+    private double[] minX;
+    private double[] minY;
+    private double[] maxX;
+    private double[] maxY;
+    private int count;
+
+    // The cell size asked for, used unless it would need too many cells
+    private final double baseCellSize;
+    private double originX;
+    private double originY;
+    private double cellSize;
+    private int columns;
+    private int rows;
+    private int[] cellStart;
+    private int[] cellBoxes;
+
+    // Boxes already returned by the current query, so boxes spanning several cells are only returned once
+    private int[] queryStamps;
+    private int currentStamp;
+    private int[] results;
+    private int resultCount;
+
+    /**
+     * Creates a new, empty instance of BoxGrid
+     *
+     * @param cellSize The width and height of each cell - roughly the size of a typical box or query works well
+     */
+    public BoxGrid(double cellSize) {
+        if (!(cellSize > 0)) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+        this.baseCellSize = cellSize;
+        this.build(0, new double[0], new double[0], new double[0], new double[0]);
+    }
+
+    /**
+     * Rebuilds the grid from a set of boxes. The arrays are copied, so they can be reused afterwards.
+     * Empty boxes (max less than min) are never returned by queries.
+     *
+     * @param boxCount The number of boxes
+     * @param boxMinX The left edge of each box
+     * @param boxMinY The top edge of each box
+     * @param boxMaxX The right edge of each box
+     * @param boxMaxY The bottom edge of each box
+     */
+    public void build(int boxCount, double[] boxMinX, double[] boxMinY, double[] boxMaxX, double[] boxMaxY) {
+        this.count = boxCount;
+        this.minX = Arrays.copyOf(boxMinX, boxCount);
+        this.minY = Arrays.copyOf(boxMinY, boxCount);
+        this.maxX = Arrays.copyOf(boxMaxX, boxCount);
+        this.maxY = Arrays.copyOf(boxMaxY, boxCount);
+        this.queryStamps = new int[boxCount];
+        this.currentStamp = 0;
+        this.results = new int[Math.max(boxCount, 1)];
+        this.resultCount = 0;
+
+        double gridMinX = Double.POSITIVE_INFINITY;
+        double gridMinY = Double.POSITIVE_INFINITY;
+        double gridMaxX = Double.NEGATIVE_INFINITY;
+        double gridMaxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < boxCount; i++) {
+            if (this.isEmpty(i)) {
+                continue;
+            }
+            gridMinX = Math.min(gridMinX, this.minX[i]);
+            gridMinY = Math.min(gridMinY, this.minY[i]);
+            gridMaxX = Math.max(gridMaxX, this.maxX[i]);
+            gridMaxY = Math.max(gridMaxY, this.maxY[i]);
+        }
+
+        if (gridMinX > gridMaxX) {
+            // Nothing to index
+            this.originX = 0;
+            this.originY = 0;
+            this.cellSize = this.baseCellSize;
+            this.columns = 0;
+            this.rows = 0;
+            this.cellStart = new int[1];
+            this.cellBoxes = new int[0];
+            return;
+        }
+
+        this.originX = gridMinX;
+        this.originY = gridMinY;
+        this.cellSize = this.baseCellSize;
+        while (true) {
+            this.columns = (int) ((gridMaxX - gridMinX) / this.cellSize) + 1;
+            this.rows = (int) ((gridMaxY - gridMinY) / this.cellSize) + 1;
+            if ((long) this.columns * this.rows <= MAX_CELLS) {
+                break;
+            }
+            this.cellSize *= 2;
+        }
+
+        // Count the boxes in each cell, then fill them in
+        int cellCount = this.columns * this.rows;
+        this.cellStart = new int[cellCount + 1];
+        for (int i = 0; i < boxCount; i++) {
+            if (this.isEmpty(i)) {
+                continue;
+            }
+            for (int row = this.toRow(this.minY[i]); row <= this.toRow(this.maxY[i]); row++) {
+                for (int column = this.toColumn(this.minX[i]); column <= this.toColumn(this.maxX[i]); column++) {
+                    this.cellStart[row * this.columns + column + 1]++;
+                }
+            }
+        }
+        for (int c = 0; c < cellCount; c++) {
+            this.cellStart[c + 1] += this.cellStart[c];
+        }
+
+        this.cellBoxes = new int[this.cellStart[cellCount]];
+        int[] fill = Arrays.copyOf(this.cellStart, cellCount);
+        for (int i = 0; i < boxCount; i++) {
+            if (this.isEmpty(i)) {
+                continue;
+            }
+            for (int row = this.toRow(this.minY[i]); row <= this.toRow(this.maxY[i]); row++) {
+                for (int column = this.toColumn(this.minX[i]); column <= this.toColumn(this.maxX[i]); column++) {
+                    this.cellBoxes[fill[row * this.columns + column]++] = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of boxes in the grid
+     *
+     * @return The number of boxes
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Finds all boxes overlapping an area (touching edges count as overlapping)
+     *
+     * @param queryMinX The left edge of the area
+     * @param queryMinY The top edge of the area
+     * @param queryMaxX The right edge of the area
+     * @param queryMaxY The bottom edge of the area
+     * @return The number of boxes found (see getResult)
+     */
+    public int query(double queryMinX, double queryMinY, double queryMaxX, double queryMaxY) {
+        this.resultCount = 0;
+        if (this.columns == 0 || queryMinX > queryMaxX || queryMinY > queryMaxY) {
+            return 0;
+        }
+
+        this.currentStamp++;
+        if (this.currentStamp == 0) {
+            // Wrapped around, so old stamps could match again
+            Arrays.fill(this.queryStamps, 0);
+            this.currentStamp = 1;
+        }
+
+        int firstRow = this.toRow(queryMinY);
+        int lastRow = this.toRow(queryMaxY);
+        int firstColumn = this.toColumn(queryMinX);
+        int lastColumn = this.toColumn(queryMaxX);
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int cell = row * this.columns + column;
+                for (int k = this.cellStart[cell]; k < this.cellStart[cell + 1]; k++) {
+                    int box = this.cellBoxes[k];
+                    if (this.queryStamps[box] == this.currentStamp) {
+                        continue;
+                    }
+                    this.queryStamps[box] = this.currentStamp;
+
+                    if (this.minX[box] <= queryMaxX && queryMinX <= this.maxX[box] && this.minY[box] <= queryMaxY && queryMinY <= this.maxY[box]) {
+                        this.results[this.resultCount++] = box;
+                    }
+                }
+            }
+        }
+
+        return this.resultCount;
+    }
+
+    /**
+     * Gets a box found by the last query
+     *
+     * @param index The result index (0 to result count - 1)
+     * @return The index of the box, as passed to build
+     */
+    public int getResult(int index) {
+        return this.results[index];
+    }
+
+    private boolean isEmpty(int box) {
+        return !(this.minX[box] <= this.maxX[box] && this.minY[box] <= this.maxY[box]);
+    }
+
+    private int toColumn(double x) {
+        return clamp((int) Math.floor((x - this.originX) / this.cellSize), this.columns);
+    }
+
+    private int toRow(double y) {
+        return clamp((int) Math.floor((y - this.originY) / this.cellSize), this.rows);
+    }
+
+    private static int clamp(int value, int size) {
+        return Math.max(0, Math.min(size - 1, value));
+    }
+}
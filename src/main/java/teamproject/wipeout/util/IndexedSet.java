@@ -0,0 +1,282 @@
+package teamproject.wipeout.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * List of unique elements supporting O(1) add, remove and contains, iterated in insertion order.
+ * Each element stores its own slot index for every IndexedSet it is in (see Member), so no hashing is needed.
+ * Removal leaves a hole in the slot array, and the holes are closed up (keeping the order) the next time the list is read by index.
+ */
+public class IndexedSet<T extends IndexedSet.Member> extends AbstractList<T> implements RandomAccess {
+
+    /**
+     * An element that can be stored in IndexedSets
+     */
+    public interface Member {
+
+        /**
+         * Gets the slot indices of this element in the IndexedSets it is in
+         *
+         * @return The Slots object of this element (always the same one)
+         */
+        Slots getIndexedSetSlots();
+    }
+
+    /**
+     * The slot index of an element in each IndexedSet it is in.
+     * An element is only in a few sets at once, so they are searched in order, comparing by identity.
+     */
+    public static final class Slots {
+
+        private Object[] sets;
+        private int[] indices;
+        private int count;
+
+        /**
+         * Creates a new instance of Slots, for an element that isn't in any IndexedSet
+         */
+        public Slots() {
+            this.sets = new Object[4];
+            this.indices = new int[4];
+            this.count = 0;
+        }
+
+        private int indexIn(Object set) {
+            for (int i = 0; i < this.count; i++) {
+                if (this.sets[i] == set) {
+                    return this.indices[i];
+                }
+            }
+            return -1;
+        }
+
+        private void put(Object set, int index) {
+            for (int i = 0; i < this.count; i++) {
+                if (this.sets[i] == set) {
+                    this.indices[i] = index;
+                    return;
+                }
+            }
+
+            if (this.count == this.sets.length) {
+                this.sets = Arrays.copyOf(this.sets, this.count * 2);
+                this.indices = Arrays.copyOf(this.indices, this.count * 2);
+            }
+            this.sets[this.count] = set;
+            this.indices[this.count] = index;
+            this.count++;
+        }
+
+        private void remove(Object set) {
+            for (int i = 0; i < this.count; i++) {
+                if (this.sets[i] == set) {
+                    int last = --this.count;
+                    this.sets[i] = this.sets[last];
+                    this.indices[i] = this.indices[last];
+                    this.sets[last] = null;
+                    return;
+                }
+            }
+        }
+    }
+
+    private Object[] elements;
+    // Number of slots used, including holes
+    private int end;
+    private int size;
+    // Holes left by removals - read without locking, so systems reading the set in parallel can tell it is compact
+    private volatile int holes;
+
+    /**
+     * Creates a new, empty instance of IndexedSet
+     */
+    public IndexedSet() {
+        this.elements = new Object[16];
+        this.end = 0;
+        this.size = 0;
+        this.holes = 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + this.size);
+        }
+        this.compact();
+        return (T) this.elements[index];
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return this.slotOf(o) != -1;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        this.compact();
+        return this.slotOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return this.indexOf(o);
+    }
+
+    /**
+     * Appends an element to the end of this set if it is not already present
+     *
+     * @param element The element to add
+     * @return Whether the element was added
+     */
+    @Override
+    public boolean add(T element) {
+        Slots slots = element.getIndexedSetSlots();
+        if (slots.indexIn(this) != -1) {
+            return false;
+        }
+
+        if (this.end == this.elements.length) {
+            this.compact();
+            if (this.end == this.elements.length) {
+                this.elements = Arrays.copyOf(this.elements, this.end * 2);
+            }
+        }
+        this.elements[this.end] = element;
+        slots.put(this, this.end);
+        this.end++;
+        this.size++;
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * Replaces the element at a given index, used to reorder the set in place (e.g. by InsertionSort).
+     * An element may briefly appear at two indices while sorting; the index of the last position it was set to is kept.
+     *
+     * @param index The index to set
+     * @param element The new element at that index
+     * @return The element previously at that index
+     */
+    @Override
+    public T set(int index, T element) {
+        T old = this.get(index);
+        if (old != element) {
+            Slots oldSlots = old.getIndexedSetSlots();
+            if (oldSlots.indexIn(this) == index) {
+                oldSlots.remove(this);
+            }
+            this.elements[index] = element;
+        }
+        element.getIndexedSetSlots().put(this, index);
+        return old;
+    }
+
+    /**
+     * Removes an element, leaving a hole to be closed up the next time the set is read by index
+     *
+     * @param o The element to remove
+     * @return Whether the element was present
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = this.slotOf(o);
+        if (index == -1) {
+            return false;
+        }
+
+        ((Member) o).getIndexedSetSlots().remove(this);
+        this.elements[index] = null;
+        this.size--;
+        this.modCount++;
+
+        if (this.size == 0) {
+            this.end = 0;
+            this.holes = 0;
+        }
+        else if (index == this.end - 1) {
+            this.end--;
+        }
+        else {
+            this.holes++;
+        }
+        return true;
+    }
+
+    /**
+     * Removes the element at a given index
+     *
+     * @param index The index to remove
+     * @return The element that was removed
+     */
+    @Override
+    public T remove(int index) {
+        T removed = this.get(index);
+        this.remove(removed);
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < this.end; i++) {
+            if (this.elements[i] != null) {
+                ((Member) this.elements[i]).getIndexedSetSlots().remove(this);
+            }
+        }
+        Arrays.fill(this.elements, 0, this.end, null);
+        this.end = 0;
+        this.size = 0;
+        this.holes = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Gets the slot an element is stored in
+     *
+     * @param o The element
+     * @return The slot index, or -1 if the element isn't in this set
+     */
+    private int slotOf(Object o) {
+        if (!(o instanceof Member)) {
+            return -1;
+        }
+        return ((Member) o).getIndexedSetSlots().indexIn(this);
+    }
+
+    /**
+     * Closes up the holes left by removals, keeping the elements in order
+     */
+    private void compact() {
+        if (this.holes == 0) {
+            return;
+        }
+
+        synchronized (this) {
+            if (this.holes == 0) {
+                return;
+            }
+
+            int next = 0;
+            for (int i = 0; i < this.end; i++) {
+                Object element = this.elements[i];
+                if (element != null) {
+                    if (i != next) {
+                        this.elements[next] = element;
+                        ((Member) element).getIndexedSetSlots().put(this, next);
+                    }
+                    next++;
+                }
+            }
+            Arrays.fill(this.elements, next, this.end, null);
+            this.end = next;
+            this.holes = 0;
+        }
+    }
+}
@@ -4,13 +4,55 @@ import java.util.Comparator;
 
 import teamproject.wipeout.engine.component.Transform;
 import teamproject.wipeout.engine.component.render.RenderComponent;
+import teamproject.wipeout.engine.entity.ComponentType;
 import teamproject.wipeout.engine.entity.GameEntity;
 
 public class RenderOrderComparator implements Comparator<GameEntity> {
+
+    private static final int TRANSFORM_ID = ComponentType.getID(Transform.class);
+    private static final int RENDER_ID = ComponentType.getID(RenderComponent.class);
+
+    // Bits of a sort key used for each field, from most to least significant
+    private static final int Z_BITS = 16;
+    private static final int BOTTOM_BITS = 28;
+    private static final int INDEX_BITS = 20;
+
+    public static final int MAX_SORT_KEY_INDEX = (1 << INDEX_BITS) - 1;
+
+    /**
+     * Packs the fields this comparator orders by into a single number, so entities can be ordered by sorting primitive keys.
+     * Keys order by z position, then by the bottom of the entity (y position plus height, to 2^-19 relative precision),
+     * then by index, so entities that compare equal keep their order.
+     *
+     * @param zPosition The z position of the entity's Transform, clamped to a 16 bit signed integer
+     * @param bottom The world y position of the entity plus the height of its RenderComponent
+     * @param index A number up to MAX_SORT_KEY_INDEX identifying the entity, e.g. its index in a list
+     * @return The sort key
+     */
+    public static long sortKey(int zPosition, double bottom, int index) {
+        long z = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, zPosition));
+
+        // Float bits order like signed integers for positive values - flip the others so every value orders as unsigned
+        int bits = Float.floatToIntBits((float) bottom);
+        bits = bits < 0 ? ~bits : bits | Integer.MIN_VALUE;
+        long bottomBits = (bits & 0xFFFFFFFFL) >>> (32 - BOTTOM_BITS);
+
+        return (z << (BOTTOM_BITS + INDEX_BITS)) | (bottomBits << INDEX_BITS) | index;
+    }
+
+    /**
+     * Gets the index packed into a sort key
+     * @param sortKey A key created by sortKey
+     * @return The index of the entity
+     */
+    public static int sortKeyIndex(long sortKey) {
+        return (int) (sortKey & MAX_SORT_KEY_INDEX);
+    }
+
     @Override
     public int compare(GameEntity a, GameEntity b) {
-        Transform transformA = a.getComponent(Transform.class);
-        Transform transformB = b.getComponent(Transform.class);
+        Transform transformA = a.getComponent(TRANSFORM_ID);
+        Transform transformB = b.getComponent(TRANSFORM_ID);
 
         if (transformA != null && transformB != null) {
             int zComp = Integer.compare(transformA.getZPosition(), transformB.getZPosition());
@@ -19,8 +61,8 @@ public class RenderOrderComparator implements Comparator<GameEntity> {
                 return zComp;
             }
             
-            RenderComponent rcA = a.getComponent(RenderComponent.class);
-            RenderComponent rcB = b.getComponent(RenderComponent.class);
+            RenderComponent rcA = a.getComponent(RENDER_ID);
+            RenderComponent rcB = b.getComponent(RENDER_ID);
 
             if (rcA != null && rcB != null) {
                 return Double.compare(transformA.getWorldPosition().getY() + rcA.getHeight(), transformB.getWorldPosition().getY() + rcB.getHeight());
@@ -0,0 +1,95 @@
+package teamproject.wipeout.engine.component;
+
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.Test;
+import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.entity.GameEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TransformTest {
+
+    private GameEntity createEntity(GameScene scene, double x, double y) {
+        GameEntity entity = scene.createEntity();
+        entity.addComponent(new Transform(x, y));
+        return entity;
+    }
+
+    @Test
+    public void testWorldPositionIsCached() {
+        GameScene scene = new GameScene();
+        GameEntity parent = this.createEntity(scene, 10, 20);
+        GameEntity child = this.createEntity(scene, 1, 2);
+        child.setParent(parent);
+
+        Transform childTransform = child.getComponent(Transform.class);
+        Point2D worldPosition = childTransform.getWorldPosition();
+        assertEquals(new Point2D(11, 22), worldPosition);
+
+        // Nothing moved, so the same position is returned without recalculating it
+        assertSame(worldPosition, childTransform.getWorldPosition());
+    }
+
+    @Test
+    public void testMovingAncestorUpdatesDescendants() {
+        GameScene scene = new GameScene();
+        GameEntity grandparent = this.createEntity(scene, 100, 100);
+        GameEntity parent = this.createEntity(scene, 10, 10);
+        GameEntity child = this.createEntity(scene, 1, 1);
+        parent.setParent(grandparent);
+        child.setParent(parent);
+
+        Transform childTransform = child.getComponent(Transform.class);
+        assertEquals(new Point2D(111, 111), childTransform.getWorldPosition());
+
+        grandparent.getComponent(Transform.class).setPosition(new Point2D(200, 100));
+        assertEquals(new Point2D(211, 111), childTransform.getWorldPosition());
+
+        parent.getComponent(Transform.class).setPosition(new Point2D(20, 10));
+        assertEquals(new Point2D(221, 111), childTransform.getWorldPosition());
+        assertEquals(new Point2D(220, 110), parent.getComponent(Transform.class).getWorldPosition());
+    }
+
+    @Test
+    public void testEntityWithoutTransformIsLookedThrough() {
+        GameScene scene = new GameScene();
+        GameEntity root = this.createEntity(scene, 50, 50);
+        GameEntity group = scene.createEntity();
+        GameEntity child = this.createEntity(scene, 5, 5);
+        group.setParent(root);
+        child.setParent(group);
+
+        Transform childTransform = child.getComponent(Transform.class);
+        assertEquals(new Point2D(55, 55), childTransform.getWorldPosition());
+
+        root.getComponent(Transform.class).setPosition(new Point2D(60, 50));
+        assertEquals(new Point2D(65, 55), childTransform.getWorldPosition());
+
+        // Giving the middle entity a transform puts the child relative to it
+        group.addComponent(new Transform(1, 1));
+        assertEquals(new Point2D(66, 56), childTransform.getWorldPosition());
+
+        group.removeComponent(Transform.class);
+        assertEquals(new Point2D(65, 55), childTransform.getWorldPosition());
+    }
+
+    @Test
+    public void testReparentingUpdatesDescendants() {
+        GameScene scene = new GameScene();
+        GameEntity first = this.createEntity(scene, 10, 0);
+        GameEntity second = this.createEntity(scene, 0, 10);
+        GameEntity parent = this.createEntity(scene, 1, 1);
+        GameEntity child = this.createEntity(scene, 1, 1);
+        parent.setParent(first);
+        child.setParent(parent);
+
+        Transform childTransform = child.getComponent(Transform.class);
+        assertEquals(new Point2D(12, 2), childTransform.getWorldPosition());
+
+        parent.setParent(second);
+        assertEquals(new Point2D(2, 12), childTransform.getWorldPosition());
+
+        parent.setParent(null);
+        assertEquals(new Point2D(2, 2), childTransform.getWorldPosition());
+    }
+}
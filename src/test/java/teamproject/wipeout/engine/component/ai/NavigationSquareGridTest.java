@@ -0,0 +1,92 @@
+package teamproject.wipeout.engine.component.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NavigationSquareGridTest {
+
+    @Test
+    public void testMatchesLinearSearch() {
+        // Squares of different sizes in columns, with gaps between them
+        List<NavigationSquare> squares = new ArrayList<>();
+        Random random = new Random(7);
+        for (int column = 0; column < 12; column++) {
+            double y = 0;
+            while (y < 400) {
+                double height = 5 + random.nextInt(60);
+                if (random.nextInt(4) != 0) {
+                    squares.add(new NavigationSquare(new Point2D(column * 40, y), new Point2D(column * 40 + 20 + random.nextInt(20), y + height)));
+                }
+                y += height;
+            }
+        }
+
+        NavigationSquareGrid grid = new NavigationSquareGrid(squares);
+        for (int i = 0; i < 2000; i++) {
+            double x = random.nextDouble() * 700 - 100;
+            double y = random.nextDouble() * 700 - 100;
+            Point2D point = new Point2D(x, y);
+
+            NavigationSquare expected = null;
+            double closestDistance = Double.POSITIVE_INFINITY;
+            for (NavigationSquare square : squares) {
+                if (expected == null && square.contains(point)) {
+                    assertSame(square, grid.findContaining(x, y));
+                    expected = square;
+                }
+                closestDistance = Math.min(closestDistance, NavigationSquareGrid.distance(square, x, y));
+            }
+
+            if (expected == null) {
+                assertNull(grid.findContaining(x, y));
+            }
+            assertEquals(closestDistance, NavigationSquareGrid.distance(grid.findClosest(x, y), x, y));
+        }
+    }
+
+    @Test
+    public void testAddAndRemove() {
+        NavigationSquare a = new NavigationSquare(new Point2D(0, 0), new Point2D(10, 10));
+        NavigationSquare b = new NavigationSquare(new Point2D(10, 0), new Point2D(20, 10));
+        NavigationSquareGrid grid = new NavigationSquareGrid(new ArrayList<>(List.of(a)));
+
+        assertNull(grid.findContaining(15, 5));
+        assertSame(a, grid.findClosest(15, 5));
+
+        assertTrue(grid.add(b));
+        assertSame(b, grid.findContaining(15, 5));
+        // On the boundary of both squares, the first added is found
+        assertSame(a, grid.findContaining(10, 5));
+
+        assertTrue(grid.remove(a));
+        assertFalse(grid.remove(a));
+        assertSame(b, grid.findContaining(10, 5));
+        assertSame(b, grid.findClosest(-100, -100));
+
+        assertTrue(grid.remove(b));
+        assertNull(grid.findClosest(0, 0));
+    }
+
+    @Test
+    public void testMeshRebuildsGridForLargeSquare() {
+        NavigationSquare a = new NavigationSquare(new Point2D(0, 0), new Point2D(10, 10));
+        NavigationMesh navigationMesh = NavigationMesh.generateMesh(new ArrayList<>(List.of(a)));
+
+        NavigationSquare large = new NavigationSquare(new Point2D(10, 0), new Point2D(10000, 10000));
+        assertFalse(new NavigationSquareGrid(List.of(a)).add(large));
+
+        assertTrue(navigationMesh.addSquare(large));
+        assertSame(large, navigationMesh.findContainingSquare(new Point2D(5000, 5000)));
+        assertSame(a, navigationMesh.findContainingSquare(new Point2D(5, 5)));
+
+        assertTrue(navigationMesh.removeSquare(large));
+        assertNull(navigationMesh.findContainingSquare(new Point2D(5000, 5000)));
+        assertSame(a, navigationMesh.findClosestSquare(new Point2D(5000, 5000)));
+    }
+}
@@ -0,0 +1,87 @@
+package teamproject.wipeout.engine.component.physics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Random;
+
+import javafx.geometry.Point2D;
+import javafx.util.Pair;
+import org.junit.jupiter.api.Test;
+import teamproject.wipeout.engine.component.Transform;
+import teamproject.wipeout.engine.component.shape.Circle;
+import teamproject.wipeout.engine.component.shape.Rectangle;
+import teamproject.wipeout.engine.component.shape.Shape;
+import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.entity.GameEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class ContactBufferTest {
+
+    private GameEntity createEntity(GameScene scene, double x, double y, Shape... hitboxes) {
+        GameEntity entity = scene.createEntity();
+        entity.addComponent(new Transform(x, y));
+        entity.addComponent(new HitboxComponent(hitboxes));
+        return entity;
+    }
+
+    @Test
+    public void testMatchesShapeNarrowPhase() {
+        GameScene scene = new GameScene();
+        Random random = new Random(11);
+        ContactBuffer contacts = new ContactBuffer();
+
+        for (int test = 0; test < 2000; test++) {
+            GameEntity g1 = this.createEntity(scene, random.nextInt(60), random.nextInt(60),
+                    new Rectangle(random.nextInt(10), random.nextInt(10), 5 + random.nextInt(30), 5 + random.nextInt(30)),
+                    new Circle(random.nextInt(20), random.nextInt(20), 3 + random.nextInt(15)));
+            GameEntity g2 = this.createEntity(scene, random.nextInt(60), random.nextInt(60),
+                    new Rectangle(random.nextInt(10), random.nextInt(10), 5 + random.nextInt(30), 5 + random.nextInt(30)),
+                    new Circle(random.nextInt(20), random.nextInt(20), 3 + random.nextInt(15)));
+
+            ArrayList<Pair<Shape, Shape>> expected = HitboxComponent.collides(g1, g2);
+            int found = HitboxComponent.collides(g1, g2, contacts);
+
+            assertEquals(expected == null ? 0 : expected.size(), found);
+            assertEquals(found > 0, HitboxComponent.checkCollides(g1, g2));
+            for (int i = 0; i < found; i++) {
+                Point2D resolution = GeometryUtil.getResolutionVector(expected.get(i).getKey(), expected.get(i).getValue());
+                assertEquals(resolution.getX(), contacts.getResolutionX(i), 1e-9);
+                assertEquals(resolution.getY(), contacts.getResolutionY(i), 1e-9);
+            }
+
+            g1.destroy();
+            g2.destroy();
+        }
+    }
+
+    @Test
+    public void testNoAllocationInSteadyState() {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        GameScene scene = new GameScene();
+        GameEntity g1 = this.createEntity(scene, 0, 0, new Rectangle(0, 0, 32, 32), new Circle(16, 16, 10));
+        GameEntity g2 = this.createEntity(scene, 20, 10, new Rectangle(0, 0, 32, 32), new Circle(16, 16, 10));
+        ContactBuffer contacts = new ContactBuffer();
+
+        // Grow the buffer and let the JIT settle before counting
+        int total = 0;
+        for (int i = 0; i < 20000; i++) {
+            total += HitboxComponent.collides(g1, g2, contacts);
+        }
+
+        long threadID = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadID);
+        for (int i = 0; i < 10000; i++) {
+            total += HitboxComponent.collides(g1, g2, contacts);
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadID) - before;
+
+        // Allow for the odd allocation by the JVM itself (e.g. recompiling) - one per call would be at least 160000 bytes
+        assertTrue(total > 0);
+        assertTrue(allocated < 1024, "Narrow phase should not allocate, but allocated " + allocated + " bytes");
+    }
+}
@@ -335,4 +335,34 @@ class GeometryUtilTest
 		assertTrue(rv.equals(expected) || rv.equals(expected.multiply(-1)));
 	}
 
+	@Test
+	void sweepAABBTest() {
+		double[] normal = new double[2];
+
+		// Moving right into a box 10 away, over a move of 40
+		double impact = GeometryUtil.sweepAABB(0, 0, 10, 10, 40, 0, 20, -5, 22, 15, normal);
+		assertEquals(0.25, impact, 1e-9);
+		assertArrayEquals(new double[] {-1, 0}, normal);
+
+		// Moving up into a box
+		impact = GeometryUtil.sweepAABB(0, 20, 10, 30, 0, -20, -5, 0, 15, 10, normal);
+		assertEquals(0.5, impact, 1e-9);
+		assertArrayEquals(new double[] {0, 1}, normal);
+
+		// Diagonal move that passes the corner of the box without touching it
+		assertEquals(1, GeometryUtil.sweepAABB(0, 0, 10, 10, 40, 40, 20, 0, 30, 5, null));
+
+		// Too short a move to reach the box
+		assertEquals(1, GeometryUtil.sweepAABB(0, 0, 10, 10, 5, 0, 20, 0, 30, 10, null));
+
+		// Moving away from the box
+		assertEquals(1, GeometryUtil.sweepAABB(0, 0, 10, 10, -40, 0, 20, 0, 30, 10, null));
+
+		// Already overlapping at the start is left to the discrete test
+		assertEquals(1, GeometryUtil.sweepAABB(0, 0, 10, 10, 40, 0, 5, 0, 30, 10, null));
+
+		// Sliding along a face without moving into it
+		assertEquals(1, GeometryUtil.sweepAABB(0, 0, 10, 10, 0, 40, 10, 0, 20, 50, null));
+	}
+
 }
@@ -0,0 +1,31 @@
+package teamproject.wipeout.engine.component.render;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpriteRegionTest {
+
+    @Test
+    public void testToImage() {
+        WritableImage atlas = new WritableImage(32, 32);
+        SpriteRegion region = new SpriteRegion(atlas, 16, 0, 16, 8);
+
+        Image image = region.toImage();
+        assertEquals(16, image.getWidth());
+        assertEquals(8, image.getHeight());
+        assertSame(image, region.toImage());
+
+        // A region covering the whole atlas doesn't need a copy
+        assertSame(atlas, SpriteRegion.whole(atlas).toImage());
+    }
+
+    @Test
+    public void testInvalidRegion() {
+        WritableImage atlas = new WritableImage(16, 16);
+        assertThrows(IllegalArgumentException.class, () -> new SpriteRegion(atlas, 8, 8, 16, 16));
+        assertThrows(IllegalArgumentException.class, () -> new SpriteRegion(atlas, -1, 0, 4, 4));
+    }
+}
@@ -0,0 +1,127 @@
+package teamproject.wipeout.engine.component.render.particle;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+import teamproject.wipeout.engine.component.render.particle.ParticleParameters.ParticleSimulationSpace;
+import teamproject.wipeout.engine.component.render.particle.property.EaseCurve;
+import teamproject.wipeout.engine.component.render.particle.property.OvalParticle;
+import teamproject.wipeout.engine.component.render.particle.type.ParticleUpdateFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParticleBufferTest {
+
+    private static final OvalParticle TYPE = new OvalParticle(Color.WHITE);
+
+    @Test
+    public void testAgeRemovesDeadParticles() {
+        ParticleBuffer particles = new ParticleBuffer();
+        for (int i = 0; i < 100; i++) {
+            // Every other particle dies after the first second
+            particles.add(i, 0, ParticleSimulationSpace.WORLD, 0, 0, i % 2 == 0 ? 0.5 : 2, 1, 1, 1, TYPE);
+        }
+        assertTrue(particles.capacity() >= 100);
+
+        particles.age(1);
+        assertEquals(50, particles.size());
+        for (int i = 0; i < particles.size(); i++) {
+            assertEquals(1, ((int) particles.x[i]) % 2);
+            assertEquals(0.5, particles.percentage[i], 0.0001);
+            assertNotNull(particles.getRenderFunction(i));
+        }
+        assertNull(particles.getRenderFunction(50));
+
+        particles.clear();
+        assertEquals(0, particles.size());
+    }
+
+    @Test
+    public void testMoveFindsBounds() {
+        ParticleBuffer particles = new ParticleBuffer();
+        particles.add(0, 0, ParticleSimulationSpace.LOCAL, 10, -10, 1, 1, 1, 1, TYPE);
+        particles.add(5, 5, ParticleSimulationSpace.LOCAL, 0, 20, 1, 1, 1, 1, TYPE);
+
+        particles.move(0.5);
+        assertEquals(5, particles.x[0]);
+        assertEquals(-5, particles.y[0]);
+        assertEquals(5, particles.getMaxX());
+        assertEquals(15, particles.getMaxY());
+    }
+
+    @Test
+    public void testCatchUpMatchesSteps() {
+        ParticleBuffer stepped = new ParticleBuffer();
+        ParticleBuffer deferred = new ParticleBuffer();
+
+        for (int step = 0; step < 10; step++) {
+            if (step == 0) {
+                // The first particle dies before the end, moving the last particle into its place
+                stepped.add(0, 0, ParticleSimulationSpace.LOCAL, 10, 5, 0.3, 1, 1, 1, TYPE);
+                deferred.add(0, 0, ParticleSimulationSpace.LOCAL, 10, 5, 0.3, 1, 1, 1, TYPE);
+                stepped.add(1, 2, ParticleSimulationSpace.LOCAL, -4, 8, 1, 1, 1, 1, TYPE);
+                deferred.add(1, 2, ParticleSimulationSpace.LOCAL, -4, 8, 1, 1, 1, 1, TYPE);
+            }
+            if (step == 5) {
+                stepped.add(3, 3, ParticleSimulationSpace.LOCAL, 20, -6, 1, 1, 1, 1, TYPE);
+                deferred.add(3, 3, ParticleSimulationSpace.LOCAL, 20, -6, 1, 1, 1, 1, TYPE);
+            }
+
+            stepped.age(0.05);
+            stepped.move(0.05);
+            deferred.defer(0.05);
+        }
+
+        assertEquals(0.5, deferred.getPendingTime(), 0.0001);
+        deferred.catchUp();
+        assertEquals(0, deferred.getPendingTime());
+
+        assertEquals(2, stepped.size());
+        assertEquals(stepped.size(), deferred.size());
+        for (int i = 0; i < stepped.size(); i++) {
+            assertEquals(stepped.x[i], deferred.x[i], 0.0001);
+            assertEquals(stepped.y[i], deferred.y[i], 0.0001);
+            assertEquals(stepped.aliveTime[i], deferred.aliveTime[i], 0.0001);
+            assertEquals(stepped.percentage[i], deferred.percentage[i], 0.0001);
+            assertEquals(stepped.startX[i], deferred.startX[i]);
+        }
+        assertEquals(stepped.getMaxX(), deferred.getMaxX(), 0.0001);
+        assertEquals(stepped.getMaxY(), deferred.getMaxY(), 0.0001);
+    }
+
+    @Test
+    public void testBatchUpdateMatchesParticleUpdate() {
+        ParticleUpdateFunction[] batched = {
+            ParticleUpdateFunction.opacityOverLifetime(EaseCurve.FADE_IN_OUT),
+            ParticleUpdateFunction.sizeOverLifetime(EaseCurve.EASE_OUT),
+            ParticleUpdateFunction.damping(0.9)
+        };
+
+        ParticleBuffer expected = this.createParticles();
+        ParticleBuffer actual = this.createParticles();
+        expected.age(0.3);
+        actual.age(0.3);
+
+        for (ParticleUpdateFunction function : batched) {
+            // Update one particle at a time, through the default batch form
+            ParticleUpdateFunction single = (particle, percentage, timeStep) -> function.update(particle, percentage, timeStep);
+            single.update(expected, 0.1);
+            function.update(actual, 0.1);
+        }
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.opacity[i], actual.opacity[i], 1e-9);
+            assertEquals(expected.width[i], actual.width[i], 1e-9);
+            assertEquals(expected.height[i], actual.height[i], 1e-9);
+            assertEquals(expected.velocityX[i], actual.velocityX[i], 1e-9);
+            assertEquals(expected.velocityY[i], actual.velocityY[i], 1e-9);
+        }
+    }
+
+    private ParticleBuffer createParticles() {
+        ParticleBuffer particles = new ParticleBuffer();
+        for (int i = 0; i < 10; i++) {
+            particles.add(i, i, ParticleSimulationSpace.WORLD, i, -i, 1 + i * 0.1, 2 + i, 3 + i, 1, TYPE);
+        }
+        return particles;
+    }
+}
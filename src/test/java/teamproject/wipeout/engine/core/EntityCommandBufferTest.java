@@ -0,0 +1,130 @@
+package teamproject.wipeout.engine.core;
+
+import org.junit.jupiter.api.Test;
+import teamproject.wipeout.engine.component.TagComponent;
+import teamproject.wipeout.engine.component.Transform;
+import teamproject.wipeout.engine.entity.GameEntity;
+import teamproject.wipeout.engine.entity.collector.SignatureEntityCollector;
+import teamproject.wipeout.engine.system.GameSystem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityCommandBufferTest {
+
+    @Test
+    public void testChangesAreDeferredUntilFlush() {
+        GameScene scene = new GameScene();
+        EntityCommandBuffer buffer = scene.getCommandBuffer();
+        SignatureEntityCollector collector = new SignatureEntityCollector(scene, Set.of(Transform.class));
+
+        GameEntity entity = scene.createEntity();
+        buffer.addComponent(entity, new Transform());
+        buffer.createEntity((created) -> created.addComponent(new Transform()));
+
+        assertFalse(entity.hasComponent(Transform.class));
+        assertEquals(0, collector.getEntities().size());
+        assertFalse(buffer.isEmpty());
+
+        buffer.flush();
+
+        assertTrue(buffer.isEmpty());
+        assertTrue(entity.hasComponent(Transform.class));
+        assertEquals(2, collector.getEntities().size());
+        assertEquals(2, scene.entities.size());
+    }
+
+    @Test
+    public void testCollectorNotifiedOncePerEntity() {
+        GameScene scene = new GameScene();
+        EntityCommandBuffer buffer = scene.getCommandBuffer();
+        SignatureEntityCollector collector = new SignatureEntityCollector(scene, Set.of(Transform.class, TagComponent.class));
+
+        List<GameEntity> added = new ArrayList<>();
+        List<GameEntity> removed = new ArrayList<>();
+        collector.onAdd = added::add;
+        collector.onRemove = removed::add;
+
+        GameEntity entity = scene.createEntity();
+        buffer.addComponent(entity, new Transform());
+        buffer.addComponent(entity, new TagComponent("tag"));
+        // Added and removed in the same batch, so never seen by the collector
+        GameEntity temporary = scene.createEntity();
+        buffer.addComponent(temporary, new Transform());
+        buffer.addComponent(temporary, new TagComponent("tag"));
+        buffer.removeComponent(temporary, Transform.class);
+        buffer.flush();
+
+        assertEquals(List.of(entity), added);
+        assertEquals(0, removed.size());
+        assertEquals(List.of(entity), collector.getEntities());
+    }
+
+    @Test
+    public void testDestroyAppliedOnce() {
+        GameScene scene = new GameScene();
+        EntityCommandBuffer buffer = scene.getCommandBuffer();
+        SignatureEntityCollector collector = new SignatureEntityCollector(scene, Set.of(Transform.class));
+
+        List<GameEntity> removed = new ArrayList<>();
+        collector.onRemove = removed::add;
+
+        GameEntity entity = scene.createEntity();
+        entity.addComponent(new Transform());
+
+        buffer.destroy(entity);
+        buffer.destroy(entity);
+        buffer.removeComponent(entity, Transform.class);
+        buffer.flush();
+
+        assertEquals(List.of(entity), removed);
+        assertEquals(0, scene.entities.size());
+        assertEquals(0, collector.getEntities().size());
+    }
+
+    @Test
+    public void testCommandsRecordedDuringFlush() {
+        GameScene scene = new GameScene();
+        EntityCommandBuffer buffer = scene.getCommandBuffer();
+
+        GameEntity entity = scene.createEntity();
+        buffer.run(() -> buffer.addComponent(entity, new Transform()));
+        buffer.flush();
+
+        assertTrue(entity.hasComponent(Transform.class));
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void testSystemUpdaterFlushesBetweenSystems() {
+        GameScene scene = new GameScene();
+        SystemUpdater updater = new SystemUpdater(scene);
+        GameEntity entity = scene.createEntity();
+
+        List<Boolean> seenByLaterSystem = new ArrayList<>();
+        updater.addSystem(new TestSystem((timeStep) -> scene.getCommandBuffer().addComponent(entity, new Transform())));
+        updater.addSystem(new TestSystem((timeStep) -> seenByLaterSystem.add(entity.hasComponent(Transform.class))));
+
+        updater.accept(0.1);
+
+        assertEquals(List.of(true), seenByLaterSystem);
+    }
+
+    private static class TestSystem implements GameSystem {
+        private final Consumer<Double> update;
+
+        TestSystem(Consumer<Double> update) {
+            this.update = update;
+        }
+
+        public void accept(Double timeStep) {
+            this.update.accept(timeStep);
+        }
+
+        public void cleanup() {}
+    }
+}
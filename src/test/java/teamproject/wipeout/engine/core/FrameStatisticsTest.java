@@ -0,0 +1,78 @@
+package teamproject.wipeout.engine.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrameStatisticsTest {
+
+    @Test
+    public void testHistogramPercentiles() {
+        FrameTimeHistogram histogram = new FrameTimeHistogram();
+        assertEquals(0, histogram.getPercentile(50));
+
+        // 1ms to 100ms
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000000L);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(50, histogram.getPercentile(50), 2 * FrameTimeHistogram.BUCKET_WIDTH_MS);
+        assertEquals(95, histogram.getPercentile(95), 2 * FrameTimeHistogram.BUCKET_WIDTH_MS);
+        assertEquals(99, histogram.getPercentile(99), 2 * FrameTimeHistogram.BUCKET_WIDTH_MS);
+        assertEquals(100, histogram.getPercentile(100), 2 * FrameTimeHistogram.BUCKET_WIDTH_MS);
+        assertEquals(50.5, histogram.getMean(), 0.0001);
+        assertEquals(100, histogram.getMax(), 0.0001);
+    }
+
+    @Test
+    public void testHistogramOverflow() {
+        FrameTimeHistogram histogram = new FrameTimeHistogram();
+        histogram.record(1000000L);
+        histogram.record(5000000000L);
+
+        assertEquals(1, histogram.getOverflowCount());
+        assertEquals(5000, histogram.getPercentile(99), 0.0001);
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void testSubStepsAndDroppedTime() {
+        FrameStatistics statistics = new FrameStatistics(5);
+        for (int i = 0; i < 98; i++) {
+            statistics.recordFrame(1000000L, 2000000L, 1, 0);
+        }
+        statistics.recordFrame(1000000L, 2000000L, 5, 0.5);
+        statistics.recordFrame(1000000L, 2000000L, 5, 0.25);
+
+        assertEquals(100, statistics.getFrameCount());
+        assertEquals(1, statistics.getSubStepPercentile(50));
+        assertEquals(5, statistics.getSubStepPercentile(99));
+        assertEquals(2, statistics.getFramesWithSubSteps(5));
+        assertEquals(2, statistics.getFramesWithDroppedTime());
+        assertEquals(0.75, statistics.getDroppedTime(), 0.0001);
+        assertEquals(2, statistics.getRenderTimes().getPercentile(50), 2 * FrameTimeHistogram.BUCKET_WIDTH_MS);
+
+        statistics.reset();
+        assertEquals(0, statistics.getFrameCount());
+        assertEquals(0, statistics.getSubStepPercentile(50));
+    }
+
+    @Test
+    public void testQualityLevel() {
+        FrameStatistics statistics = new FrameStatistics(GameLoop.DEFAULT_MAX_SUB_STEPS);
+        assertEquals(0, statistics.getQualityLevel());
+
+        statistics.recordQualityLevel(0);
+        statistics.recordQualityLevel(2);
+        statistics.recordQualityLevel(2);
+        statistics.recordQualityLevel(1);
+
+        assertEquals(1, statistics.getQualityLevel());
+        assertEquals(2, statistics.getQualityLevelChanges());
+        assertTrue(statistics.toString().contains("quality=1"));
+    }
+}
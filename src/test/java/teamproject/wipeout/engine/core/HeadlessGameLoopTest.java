@@ -0,0 +1,112 @@
+package teamproject.wipeout.engine.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HeadlessGameLoopTest {
+
+    private HeadlessGameLoop loop;
+
+    @AfterEach
+    public void cleanup() {
+        if (this.loop != null) {
+            this.loop.cleanup();
+        }
+    }
+
+    @Test
+    public void testRunSteps() {
+        List<Double> timeSteps = new ArrayList<>();
+        this.loop = new HeadlessGameLoop(timeSteps::add);
+
+        this.loop.runSteps(10);
+        assertEquals(10, timeSteps.size());
+        assertEquals(GameLoop.timeStep, timeSteps.get(0));
+
+        this.loop.runFor(1);
+        assertEquals(10 + Math.ceil(1 / GameLoop.timeStep), this.loop.getStepCount());
+        assertEquals(this.loop.getStepCount(), this.loop.getStatistics().getFrameCount());
+    }
+
+    @Test
+    public void testRunLaterRunsBeforeNextStep() {
+        List<String> order = new ArrayList<>();
+        this.loop = new HeadlessGameLoop((timeStep) -> order.add("step"));
+
+        this.loop.execute(() -> {
+            order.add("task");
+            // Queued during the step's tasks, so must wait for the following step
+            GameThreadExecutor.runLater(() -> order.add("nested"));
+        });
+        this.loop.runSteps(2);
+
+        assertEquals(List.of("task", "step", "nested", "step"), order);
+    }
+
+    @Test
+    public void testStartAndStop() throws InterruptedException {
+        AtomicReference<Thread> updateThread = new AtomicReference<>();
+        this.loop = new HeadlessGameLoop((timeStep) -> updateThread.set(Thread.currentThread()));
+
+        this.loop.start(0);
+        assertTrue(this.loop.isRunning());
+        while (this.loop.getStepCount() < 100) {
+            Thread.sleep(1);
+        }
+        this.loop.stop();
+
+        long steps = this.loop.getStepCount();
+        assertFalse(this.loop.isRunning());
+        assertNotSame(Thread.currentThread(), updateThread.get());
+        Thread.sleep(20);
+        assertEquals(steps, this.loop.getStepCount());
+    }
+
+    @Test
+    public void testFixedRate() throws InterruptedException {
+        this.loop = new HeadlessGameLoop((timeStep) -> {});
+
+        // 10x real time is one step every ~1.7ms
+        long start = System.nanoTime();
+        this.loop.start(10);
+        Thread.sleep(200);
+        this.loop.stop();
+        double elapsed = (System.nanoTime() - start) / 1000000000.0;
+
+        assertTrue(this.loop.getStepCount() > 10);
+        assertTrue(this.loop.getStepCount() <= Math.ceil(elapsed * 10 / GameLoop.timeStep) + 1);
+    }
+
+    @Test
+    public void testExecutorOnlySetWhileRunning() {
+        List<Runnable> queued = new ArrayList<>();
+        Executor previous = queued::add;
+        GameThreadExecutor.setExecutor(previous);
+
+        try {
+            AtomicReference<Executor> stepExecutor = new AtomicReference<>();
+            this.loop = new HeadlessGameLoop((timeStep) -> stepExecutor.set(GameThreadExecutor.getExecutor()));
+            assertSame(previous, GameThreadExecutor.getExecutor());
+
+            this.loop.runSteps(1);
+            assertSame(this.loop, stepExecutor.get());
+            assertSame(previous, GameThreadExecutor.getExecutor());
+
+            this.loop.start(0);
+            assertSame(this.loop, GameThreadExecutor.getExecutor());
+            this.loop.stop();
+            assertSame(previous, GameThreadExecutor.getExecutor());
+            assertTrue(queued.isEmpty());
+        }
+        finally {
+            GameThreadExecutor.setExecutor(null);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package teamproject.wipeout.engine.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QualityGovernorTest {
+
+    private static final long BUDGET = 10000000;
+
+    @Test
+    public void testStepsDownWhenOverBudget() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        int[] changes = {0};
+        governor.setOnLevelChange(() -> changes[0]++);
+
+        for (int i = 0; i < QualityGovernor.OVER_BUDGET_FRAMES - 1; i++) {
+            assertFalse(governor.recordFrame(BUDGET * 2));
+        }
+        assertTrue(governor.recordFrame(BUDGET * 2));
+        assertEquals(1, governor.getLevel());
+        assertEquals(1, changes[0]);
+        assertTrue(governor.getRenderScale() < 1);
+
+        // Keeps stepping down, but no further than the lowest level
+        for (int i = 0; i < QualityGovernor.OVER_BUDGET_FRAMES * (QualityGovernor.MAX_LEVEL + 2); i++) {
+            governor.recordFrame(BUDGET * 2);
+        }
+        assertEquals(QualityGovernor.MAX_LEVEL, governor.getLevel());
+        assertEquals(QualityGovernor.MAX_LEVEL, changes[0]);
+        assertTrue(governor.getParticleMultiplier() < 1);
+        assertTrue(governor.getAnimationRateMultiplier() < 1);
+    }
+
+    @Test
+    public void testStepsUpWithHeadroom() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        governor.setLevel(2);
+
+        // Just under budget isn't enough headroom
+        for (int i = 0; i < QualityGovernor.UNDER_BUDGET_FRAMES * 2; i++) {
+            assertFalse(governor.recordFrame((long) (BUDGET * 0.9)));
+        }
+        assertEquals(2, governor.getLevel());
+
+        // Allow a few frames for the smoothed time to fall
+        for (int i = 0; i < QualityGovernor.UNDER_BUDGET_FRAMES + 20; i++) {
+            governor.recordFrame(BUDGET / 4);
+        }
+        assertEquals(1, governor.getLevel());
+
+        for (int i = 0; i < QualityGovernor.UNDER_BUDGET_FRAMES * 2; i++) {
+            governor.recordFrame(BUDGET / 4);
+        }
+        assertEquals(0, governor.getLevel());
+        assertEquals(1, governor.getRenderScale());
+    }
+
+    @Test
+    public void testSingleSlowFrameIgnored() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        for (int i = 0; i < QualityGovernor.OVER_BUDGET_FRAMES * 4; i++) {
+            governor.recordFrame(i % 60 == 0 ? BUDGET * 3 : BUDGET / 2);
+        }
+        assertEquals(0, governor.getLevel());
+
+        assertThrows(IllegalArgumentException.class, () -> governor.setLevel(QualityGovernor.MAX_LEVEL + 1));
+    }
+}
@@ -0,0 +1,140 @@
+package teamproject.wipeout.engine.core;
+
+import org.junit.jupiter.api.Test;
+import teamproject.wipeout.engine.component.GameComponent;
+import teamproject.wipeout.engine.component.TagComponent;
+import teamproject.wipeout.engine.component.Transform;
+import teamproject.wipeout.engine.component.physics.MovementComponent;
+import teamproject.wipeout.engine.system.GameSystem;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SystemUpdaterTest {
+
+    @Test
+    public void testRequiresScene() {
+        assertThrows(IllegalArgumentException.class, () -> new SystemUpdater(null));
+        assertThrows(IllegalArgumentException.class, () -> new SystemUpdater(null, null));
+    }
+
+    @Test
+    public void testConflictingSystemsKeepTheirOrder() {
+        SystemUpdater updater = new SystemUpdater(new GameScene(), new ForkJoinPool(2));
+
+        TestSystem writesTransform = new TestSystem(Set.of(), Set.of(Transform.class), (t) -> {});
+        TestSystem readsTransform = new TestSystem(Set.of(Transform.class), Set.of(), (t) -> {});
+        TestSystem writesTag = new TestSystem(Set.of(), Set.of(TagComponent.class), (t) -> {});
+        TestSystem undeclared = new TestSystem(null, null, (t) -> {});
+        TestSystem writesMovement = new TestSystem(Set.of(), Set.of(MovementComponent.class), (t) -> {});
+
+        updater.addSystem(writesTransform);
+        updater.addSystem(readsTransform);
+        updater.addSystem(writesTag);
+        updater.addSystem(undeclared);
+        updater.addSystem(writesMovement);
+
+        List<List<GameSystem>> stages = updater.getStages();
+        assertEquals(4, stages.size());
+        assertEquals(List.of(writesTransform, writesTag), stages.get(0));
+        assertEquals(List.of(readsTransform), stages.get(1));
+        assertEquals(List.of(undeclared), stages.get(2));
+        assertEquals(List.of(writesMovement), stages.get(3));
+    }
+
+    @Test
+    public void testNonConflictingSystemsRunTogether() throws InterruptedException {
+        SystemUpdater updater = new SystemUpdater(new GameScene(), new ForkJoinPool(2));
+        Thread updatingThread = Thread.currentThread();
+
+        // Each system waits for the other to start, which only finishes if they are run at the same time
+        CountDownLatch started = new CountDownLatch(2);
+        Consumer<Double> waitForOther = (t) -> {
+            started.countDown();
+            try {
+                assertTrue(started.await(5, TimeUnit.SECONDS));
+            }
+            catch (InterruptedException exception) {
+                fail(exception);
+            }
+        };
+
+        TestSystem first = new TestSystem(Set.of(Transform.class), Set.of(TagComponent.class), waitForOther);
+        TestSystem second = new TestSystem(Set.of(Transform.class), Set.of(MovementComponent.class), waitForOther);
+        TestSystem threadBound = new TestSystem(null, null, (t) -> assertSame(updatingThread, Thread.currentThread()));
+
+        updater.addSystem(first);
+        updater.addSystem(second);
+        updater.addSystem(threadBound);
+
+        updater.accept(0.1);
+
+        assertEquals(0, started.getCount());
+        assertEquals(1, threadBound.runs);
+    }
+
+    @Test
+    public void testDeferredChangesAppliedBetweenStages() {
+        GameScene scene = new GameScene();
+        SystemUpdater updater = new SystemUpdater(scene, new ForkJoinPool(2));
+        GameComponent[] seen = new GameComponent[1];
+
+        scene.createEntity();
+        updater.addSystem(new TestSystem(Set.of(), Set.of(Transform.class), (t) -> {
+            scene.getCommandBuffer().addComponent(scene.entities.get(0), new Transform());
+        }));
+        updater.addSystem(new TestSystem(Set.of(Transform.class), Set.of(), (t) -> {
+            seen[0] = scene.entities.get(0).getComponent(Transform.class);
+        }));
+
+        updater.accept(0.1);
+
+        assertNotNull(seen[0]);
+    }
+
+    @Test
+    public void testExceptionsRethrown() {
+        SystemUpdater updater = new SystemUpdater(new GameScene(), new ForkJoinPool(2));
+
+        updater.addSystem(new TestSystem(Set.of(), Set.of(Transform.class), (t) -> {
+            throw new IllegalStateException();
+        }));
+        updater.addSystem(new TestSystem(Set.of(), Set.of(TagComponent.class), (t) -> {}));
+
+        assertThrows(IllegalStateException.class, () -> updater.accept(0.1));
+    }
+
+    private static class TestSystem implements GameSystem {
+        private final Set<Class<? extends GameComponent>> reads;
+        private final Set<Class<? extends GameComponent>> writes;
+        private final Consumer<Double> update;
+        int runs;
+
+        TestSystem(Set<Class<? extends GameComponent>> reads, Set<Class<? extends GameComponent>> writes, Consumer<Double> update) {
+            this.reads = reads;
+            this.writes = writes;
+            this.update = update;
+        }
+
+        public void accept(Double timeStep) {
+            this.runs++;
+            this.update.accept(timeStep);
+        }
+
+        public void cleanup() {}
+
+        public Set<Class<? extends GameComponent>> getReadComponents() {
+            return this.reads;
+        }
+
+        public Set<Class<? extends GameComponent>> getWriteComponents() {
+            return this.writes;
+        }
+    }
+}
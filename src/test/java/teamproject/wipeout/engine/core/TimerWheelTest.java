@@ -0,0 +1,119 @@
+package teamproject.wipeout.engine.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimerWheelTest {
+
+    @Test
+    public void testRunsOnDueTick() {
+        TimerWheel wheel = new TimerWheel(1.0, 8);
+        List<Long> runTicks = new ArrayList<>();
+
+        wheel.schedule(3.0, () -> runTicks.add(wheel.getTick()));
+        // Further away than one turn of the wheel
+        wheel.schedule(21.0, () -> runTicks.add(wheel.getTick()));
+        // Rounded up to a whole tick
+        wheel.schedule(0.5, () -> runTicks.add(wheel.getTick()));
+
+        for (int i = 0; i < 30; i++) {
+            wheel.advance(1.0);
+        }
+
+        assertEquals(List.of(1L, 3L, 21L), runTicks);
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    public void testRunsInScheduledOrder() {
+        TimerWheel wheel = new TimerWheel(1.0, 4);
+        List<Integer> order = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            int index = i;
+            wheel.schedule(2.0, () -> order.add(index));
+        }
+
+        wheel.advance(1.0);
+        assertTrue(order.isEmpty());
+
+        wheel.advance(1.0);
+        assertEquals(List.of(0, 1, 2, 3, 4), order);
+    }
+
+    @Test
+    public void testCancel() {
+        TimerWheel wheel = new TimerWheel(1.0, 8);
+        int[] runCount = new int[1];
+
+        TimerWheel.Timeout cancelled = wheel.schedule(2.0, () -> runCount[0] += 10);
+        TimerWheel.Timeout kept = wheel.schedule(2.0, () -> runCount[0]++);
+
+        wheel.advance(1.0);
+        cancelled.cancel();
+        wheel.advance(1.0);
+
+        assertEquals(1, runCount[0]);
+        assertTrue(kept.isExpired());
+        assertFalse(cancelled.isExpired());
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    public void testRescheduleFromTask() {
+        TimerWheel wheel = new TimerWheel(1.0, 8);
+        List<Long> runTicks = new ArrayList<>();
+
+        Runnable[] repeat = new Runnable[1];
+        repeat[0] = () -> {
+            runTicks.add(wheel.getTick());
+            if (runTicks.size() < 3) {
+                wheel.schedule(5.0, repeat[0]);
+            }
+        };
+        wheel.schedule(5.0, repeat[0]);
+
+        for (int i = 0; i < 20; i++) {
+            wheel.advance(1.0);
+        }
+
+        assertEquals(List.of(5L, 10L, 15L), runTicks);
+    }
+
+    @Test
+    public void testPartialTimeSteps() {
+        TimerWheel wheel = new TimerWheel(1.0, 8);
+        int[] runCount = new int[1];
+        wheel.schedule(2.0, () -> runCount[0]++);
+
+        wheel.advance(0.75);
+        wheel.advance(0.75);
+        assertEquals(0, runCount[0]);
+
+        wheel.advance(0.5);
+        assertEquals(1, runCount[0]);
+        assertEquals(2.0, wheel.getTime(), 0.0001);
+    }
+
+    @Test
+    public void testAdvancedBySystemUpdater() {
+        GameScene scene = new GameScene();
+        SystemUpdater updater = new SystemUpdater(scene, null);
+        int[] runCount = new int[1];
+
+        scene.getTimerWheel().schedule(10 * GameLoop.timeStep, () -> runCount[0]++);
+
+        for (int i = 0; i < 9; i++) {
+            updater.accept(GameLoop.timeStep);
+        }
+        assertEquals(0, runCount[0]);
+        assertEquals(1, scene.getTimerWheel().getPendingCount());
+
+        updater.accept(GameLoop.timeStep);
+        assertEquals(1, runCount[0]);
+    }
+}
@@ -0,0 +1,25 @@
+package teamproject.wipeout.engine.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ViewBoundsTest {
+
+    @Test
+    public void testEverythingNearUntilSet() {
+        ViewBounds view = new ViewBounds();
+        assertFalse(view.isSet());
+        assertTrue(view.isNear(1e9, -1e9, 0));
+
+        view.set(0, 0, 100, 50);
+        assertTrue(view.isSet());
+        assertTrue(view.isNear(100, 50, 0));
+        assertFalse(view.isNear(110, 25, 0));
+        assertTrue(view.isNear(110, 25, 10));
+        assertFalse(view.isNear(50, -11, 10));
+
+        view.clear();
+        assertTrue(view.isNear(1e9, -1e9, 0));
+    }
+}
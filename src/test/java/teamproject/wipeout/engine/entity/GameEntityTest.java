@@ -0,0 +1,103 @@
+package teamproject.wipeout.engine.entity;
+
+import org.junit.jupiter.api.Test;
+import teamproject.wipeout.engine.component.TagComponent;
+import teamproject.wipeout.engine.component.Transform;
+import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.entity.ComponentStorage.StorageMode;
+import teamproject.wipeout.engine.entity.collector.SignatureEntityCollector;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameEntityTest {
+
+    private void testComponentLookups(GameScene scene) {
+        GameEntity entity = new GameEntity(scene);
+        Transform transform = new Transform(1, 2);
+        TagComponent tag = new TagComponent("tag");
+
+        assertFalse(entity.hasComponent(Transform.class));
+        assertNull(entity.getComponent(Transform.class));
+
+        assertTrue(entity.addComponent(transform));
+        assertFalse(entity.addComponent(new Transform()));
+        assertTrue(entity.addComponent(tag));
+
+        assertTrue(entity.hasComponent(Transform.class));
+        assertTrue(entity.hasComponent(ComponentType.getID(TagComponent.class)));
+        assertSame(transform, entity.getComponent(Transform.class));
+        assertSame(tag, entity.getComponent(ComponentType.getID(TagComponent.class)));
+
+        assertSame(transform, entity.removeComponent(Transform.class));
+        assertNull(entity.removeComponent(Transform.class));
+        assertFalse(entity.hasComponent(Transform.class));
+        assertSame(tag, entity.getComponent(TagComponent.class));
+    }
+
+    @Test
+    public void testMapStorage() {
+        this.testComponentLookups(new GameScene(StorageMode.MAP));
+    }
+
+    @Test
+    public void testArrayStorage() {
+        this.testComponentLookups(new GameScene(StorageMode.ARRAY));
+    }
+
+    @Test
+    public void testArrayStorageManyEntities() {
+        GameScene scene = new GameScene(StorageMode.ARRAY);
+
+        GameEntity[] entities = new GameEntity[500];
+        for (int i = 0; i < entities.length; i++) {
+            entities[i] = new GameEntity(scene);
+            entities[i].addComponent(new Transform(i, i));
+        }
+
+        // Destroying frees slots, which must not leak components into reused slots
+        for (int i = 0; i < entities.length; i += 2) {
+            entities[i].destroy();
+        }
+        for (int i = 0; i < 100; i++) {
+            assertNull(new GameEntity(scene).getComponent(Transform.class));
+        }
+
+        for (int i = 1; i < entities.length; i += 2) {
+            assertEquals(i, entities[i].getComponent(Transform.class).getPosition().getX());
+        }
+    }
+
+    @Test
+    public void testChangingScene() {
+        GameScene arrayScene = new GameScene(StorageMode.ARRAY);
+        GameScene mapScene = new GameScene(StorageMode.MAP);
+
+        GameEntity entity = new GameEntity(arrayScene);
+        Transform transform = new Transform();
+        entity.addComponent(transform);
+
+        entity.setScene(mapScene);
+        assertSame(transform, entity.getComponent(Transform.class));
+
+        entity.setScene(arrayScene);
+        assertSame(transform, entity.getComponent(Transform.class));
+    }
+
+    @Test
+    public void testSignatureCollectorMask() {
+        GameScene scene = new GameScene(StorageMode.ARRAY);
+        SignatureEntityCollector collector = new SignatureEntityCollector(scene, Set.of(Transform.class, TagComponent.class));
+
+        GameEntity entity = new GameEntity(scene);
+        entity.addComponent(new Transform());
+        assertEquals(0, collector.getEntities().size());
+
+        entity.addComponent(new TagComponent("tag"));
+        assertEquals(1, collector.getEntities().size());
+
+        entity.removeComponent(Transform.class);
+        assertEquals(0, collector.getEntities().size());
+    }
+}
@@ -0,0 +1,102 @@
+package teamproject.wipeout.engine.entity.event;
+
+import org.junit.jupiter.api.Test;
+import teamproject.wipeout.engine.component.TagComponent;
+import teamproject.wipeout.engine.component.Transform;
+import teamproject.wipeout.engine.component.physics.MovementComponent;
+import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.entity.ComponentMask;
+import teamproject.wipeout.engine.entity.GameEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityChangeChannelTest {
+
+    @Test
+    public void testOnlyInterestedObserversNotified() {
+        GameScene scene = new GameScene();
+        List<EntityChangeType> transformChanges = new ArrayList<>();
+        List<Class<?>> allChanges = new ArrayList<>();
+
+        scene.entityChangeEvent.addObserver((e) -> transformChanges.add(e.getChange()), ComponentMask.of(List.of(Transform.class)));
+        scene.entityChangeEvent.addObserver((e) -> allChanges.add(e.getComponentType()));
+
+        GameEntity entity = scene.createEntity();
+        entity.addComponent(new MovementComponent());
+        entity.addComponent(new Transform());
+        entity.removeComponent(MovementComponent.class);
+        entity.destroy();
+
+        assertEquals(List.of(EntityChangeType.COMPONENT_ADDED, EntityChangeType.ENTITY_REMOVED), transformChanges);
+        assertEquals(5, allChanges.size());
+        assertEquals(MovementComponent.class, allChanges.get(1));
+        assertNull(allChanges.get(4));
+    }
+
+    @Test
+    public void testNestedEmissions() {
+        GameScene scene = new GameScene();
+        List<Class<?>> seen = new ArrayList<>();
+
+        // Adding a component while handling an event must not overwrite the outer event
+        scene.entityChangeEvent.addObserver((e) -> {
+            if (e.getComponentType() == Transform.class) {
+                e.getEntity().addComponent(new TagComponent("nested"));
+            }
+            seen.add(e.getComponentType());
+        }, ComponentMask.of(List.of(Transform.class, TagComponent.class)));
+
+        scene.createEntity().addComponent(new Transform());
+
+        assertEquals(List.of(TagComponent.class, Transform.class), seen);
+    }
+
+    @Test
+    public void testRemoveObserver() {
+        GameScene scene = new GameScene();
+        List<EntityChangeData> seen = new ArrayList<>();
+        EntityObserverStub observer = new EntityObserverStub(seen);
+
+        scene.entityChangeEvent.addObserver(observer, ComponentMask.of(List.of(Transform.class)));
+        scene.createEntity().addComponent(new Transform());
+        scene.entityChangeEvent.removeObserver(observer);
+        scene.createEntity().addComponent(new Transform());
+
+        assertEquals(1, seen.size());
+    }
+
+    @Test
+    public void testObserverRemovedDuringDispatch() {
+        GameScene scene = new GameScene();
+        List<EntityChangeData> seen = new ArrayList<>();
+        EntityObserverStub last = new EntityObserverStub(seen);
+
+        // An observer that unsubscribes while handling an event must not make the next observer miss it
+        scene.entityChangeEvent.addObserver(new teamproject.wipeout.util.EventObserver<>() {
+            public void eventCallback(EntityChangeData eventData) {
+                scene.entityChangeEvent.removeObserver(this);
+            }
+        }, ComponentMask.of(List.of(Transform.class)));
+        scene.entityChangeEvent.addObserver(last, ComponentMask.of(List.of(Transform.class)));
+
+        scene.createEntity().addComponent(new Transform());
+        scene.createEntity().addComponent(new Transform());
+
+        assertEquals(2, seen.size());
+    }
+
+    private static class EntityObserverStub implements teamproject.wipeout.util.EventObserver<EntityChangeData> {
+        private final List<EntityChangeData> seen;
+
+        EntityObserverStub(List<EntityChangeData> seen) {
+            this.seen = seen;
+        }
+
+        public void eventCallback(EntityChangeData eventData) {
+            this.seen.add(eventData);
+        }
+    }
+}
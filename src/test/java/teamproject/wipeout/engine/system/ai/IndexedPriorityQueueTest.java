@@ -0,0 +1,39 @@
+package teamproject.wipeout.engine.system.ai;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedPriorityQueueTest {
+
+    @Test
+    public void testPollsInPriorityOrder() {
+        IndexedPriorityQueue queue = new IndexedPriorityQueue(6);
+        queue.insertOrDecrease(0, 5);
+        queue.insertOrDecrease(1, 3);
+        queue.insertOrDecrease(2, 8);
+        queue.insertOrDecrease(3, 1);
+        queue.insertOrDecrease(4, 3);
+
+        // Lowering a queued priority moves it forward
+        queue.insertOrDecrease(2, 2);
+        assertTrue(queue.contains(2));
+        assertFalse(queue.contains(5));
+
+        assertEquals(3, queue.poll());
+        assertEquals(2, queue.poll());
+        // Equal priorities are removed most recently queued first
+        assertEquals(4, queue.poll());
+        assertEquals(1, queue.poll());
+        assertEquals(0, queue.poll());
+        assertTrue(queue.isEmpty());
+        assertFalse(queue.contains(0));
+    }
+
+    @Test
+    public void testPriorityCannotIncrease() {
+        IndexedPriorityQueue queue = new IndexedPriorityQueue(2);
+        queue.insertOrDecrease(0, 1);
+        assertThrows(IllegalArgumentException.class, () -> queue.insertOrDecrease(0, 2));
+    }
+}
@@ -3,6 +3,7 @@ package teamproject.wipeout.engine.system.ai;
 import javafx.geometry.Point2D;
 import org.junit.jupiter.api.Test;
 import teamproject.wipeout.engine.component.ai.NavigationEdge;
+import teamproject.wipeout.engine.component.ai.NavigationGraph;
 import teamproject.wipeout.engine.component.ai.NavigationMesh;
 import teamproject.wipeout.engine.component.ai.NavigationSquare;
 
@@ -11,6 +12,9 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * This tests that given a world navigation mesh, an AI character will take the correct,
@@ -1108,4 +1112,40 @@ public class PathFindingSystemTest {
         assertEquals(new Point2D(10, 30), nodes.get(1));
         assertEquals(end, nodes.get(2));
     }
+
+    @Test
+    public void testPathCostAccumulatesAlongPath() {
+        
+        //Mesh generation
+        NavigationSquare a = new NavigationSquare(new Point2D(0, 0), new Point2D(10, 10));
+        // The first step into b is shorter, but the path through it to c is longer
+        NavigationSquare b = new NavigationSquare(new Point2D(10, 0), new Point2D(40, 10));
+        NavigationSquare c = new NavigationSquare(new Point2D(10, 10), new Point2D(40, 40));
+        NavigationSquare d = new NavigationSquare(new Point2D(0, 10), new Point2D(10, 40));
+
+        NavigationMesh navigationMesh = NavigationMesh.generateMesh(new ArrayList<>(List.of(a, b, c, d)));
+
+        List<NavigationSquare> path = PathFindingSystem.findPathThroughSquares(navigationMesh.getGraph(), a, 5, 1, c, 12, 38);
+
+        assertEquals(List.of(a, d, c), path);
+        assertEquals(path, PathFindingSystem.findPathThroughSquares(a, 5, 1, c, 12, 38));
+    }
+
+    @Test
+    public void testMeshGraphRebuiltOnChange() {
+        NavigationSquare a = new NavigationSquare(new Point2D(0, 0), new Point2D(10, 10));
+        NavigationSquare b = new NavigationSquare(new Point2D(20, 0), new Point2D(30, 10));
+
+        NavigationMesh navigationMesh = NavigationMesh.generateMesh(new ArrayList<>(List.of(a, b)));
+
+        NavigationGraph graph = navigationMesh.getGraph();
+        assertSame(graph, navigationMesh.getGraph());
+        assertNull(PathFindingSystem.findPathThroughSquares(graph, a, 5, 5, b, 25, 5));
+
+        NavigationSquare c = new NavigationSquare(new Point2D(10, 0), new Point2D(20, 10));
+        navigationMesh.addSquare(c);
+
+        assertNotSame(graph, navigationMesh.getGraph());
+        assertEquals(List.of(a, c, b), PathFindingSystem.findPathThroughSquares(navigationMesh.getGraph(), a, 5, 5, b, 25, 5));
+    }
 }
@@ -0,0 +1,126 @@
+package teamproject.wipeout.engine.system.physics;
+
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.Test;
+import teamproject.wipeout.engine.component.Transform;
+import teamproject.wipeout.engine.component.physics.CollisionResolutionComponent;
+import teamproject.wipeout.engine.component.physics.HitboxComponent;
+import teamproject.wipeout.engine.component.physics.MovementComponent;
+import teamproject.wipeout.engine.component.shape.Rectangle;
+import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.entity.GameEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CollisionSystemTest {
+
+    private GameEntity createCollider(GameScene scene, double x, double y, boolean moveable) {
+        GameEntity entity = scene.createEntity();
+        entity.addComponent(new Transform(x, y));
+        entity.addComponent(new HitboxComponent(new Rectangle(0, 0, 32, 32)));
+        entity.addComponent(moveable ? new CollisionResolutionComponent() : new CollisionResolutionComponent(false, null));
+        return entity;
+    }
+
+    @Test
+    public void testDynamicPushedOutOfStatic() {
+        GameScene scene = new GameScene();
+        CollisionSystem collisionSystem = new CollisionSystem(scene);
+
+        GameEntity wall = this.createCollider(scene, 0, 0, false);
+        GameEntity otherWall = this.createCollider(scene, 16, 0, false);
+        GameEntity player = this.createCollider(scene, 100, 0, true);
+
+        collisionSystem.accept(0.0);
+        assertEquals(new Point2D(100, 0), player.getComponent(Transform.class).getPosition());
+
+        // Moving into the wall after the static index was built
+        player.getComponent(Transform.class).setPosition(new Point2D(40, 0));
+        collisionSystem.accept(0.0);
+
+        Transform playerTransform = player.getComponent(Transform.class);
+        assertTrue(playerTransform.getX() >= 48, "Player should be pushed out of the walls");
+        assertEquals(new Point2D(0, 0), wall.getComponent(Transform.class).getPosition());
+        assertEquals(new Point2D(16, 0), otherWall.getComponent(Transform.class).getPosition());
+
+        collisionSystem.cleanup();
+    }
+
+    @Test
+    public void testDynamicCollidersPushedApart() {
+        GameScene scene = new GameScene();
+        CollisionSystem collisionSystem = new CollisionSystem(scene);
+
+        GameEntity first = this.createCollider(scene, 0, 0, true);
+        GameEntity second = this.createCollider(scene, 20, 0, true);
+
+        collisionSystem.accept(0.0);
+
+        double firstX = first.getComponent(Transform.class).getX();
+        double secondX = second.getComponent(Transform.class).getX();
+        assertTrue(secondX - firstX >= 32 - 1e-6, "Colliders should no longer overlap");
+        assertTrue(firstX < 0 && secondX > 20, "Both colliders should move");
+
+        collisionSystem.cleanup();
+    }
+
+    @Test
+    public void testFastMoverStoppedByThinWall() {
+        GameScene scene = new GameScene();
+        MovementSystem movementSystem = new MovementSystem(scene);
+        CollisionSystem collisionSystem = new CollisionSystem(scene);
+
+        GameEntity wall = scene.createEntity();
+        wall.addComponent(new Transform(100, -100));
+        wall.addComponent(new HitboxComponent(new Rectangle(0, 0, 2, 300)));
+        wall.addComponent(new CollisionResolutionComponent(false, null));
+
+        GameEntity fast = this.createCollider(scene, 0, 0, true);
+        GameEntity tunnelling = this.createCollider(scene, 0, 100, true);
+        MovementComponent fastMovement = new MovementComponent(new Point2D(12000, 0), Point2D.ZERO, 1);
+        fastMovement.setContinuousCollisionDetection(true);
+        fast.addComponent(fastMovement);
+        tunnelling.addComponent(new MovementComponent(new Point2D(12000, 0), Point2D.ZERO, 1));
+
+        // Moves about 200px in one step, jumping over the wall
+        movementSystem.accept(0.0166);
+        collisionSystem.accept(0.0166);
+
+        double fastX = fast.getComponent(Transform.class).getX();
+        assertTrue(fastX + 32 <= 100 && fastX > 60, "Swept entity should stop against the wall");
+        assertEquals(0, fastMovement.getVelocityX());
+        assertTrue(tunnelling.getComponent(Transform.class).getX() > 102, "Without sweeping the entity passes through");
+
+        collisionSystem.cleanup();
+        movementSystem.cleanup();
+    }
+
+    @Test
+    public void testSweptMoverSlidesAlongWall() {
+        GameScene scene = new GameScene();
+        CollisionSystem collisionSystem = new CollisionSystem(scene);
+
+        GameEntity wall = scene.createEntity();
+        wall.addComponent(new Transform(100, -1000));
+        wall.addComponent(new HitboxComponent(new Rectangle(0, 0, 2, 2000)));
+        wall.addComponent(new CollisionResolutionComponent(false, null));
+
+        GameEntity mover = this.createCollider(scene, 150, 50, true);
+        MovementComponent movement = new MovementComponent();
+        movement.setContinuousCollisionDetection(true);
+        movement.setVelocity(9000, 3000);
+        // As if moved from (0, 0) by the MovementSystem
+        movement.setDisplacement(150, 50);
+        mover.addComponent(movement);
+
+        collisionSystem.accept(0.0166);
+
+        Transform t = mover.getComponent(Transform.class);
+        assertEquals(100 - 32 - CollisionSystem.SWEEP_SKIN, t.getX(), 1e-6);
+        assertEquals(50, t.getY(), 1e-6);
+        assertEquals(0, movement.getVelocityX());
+        assertEquals(3000, movement.getVelocityY());
+
+        collisionSystem.cleanup();
+    }
+}
@@ -0,0 +1,74 @@
+package teamproject.wipeout.engine.system.physics;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SweepAndPruneTest {
+
+    private Set<Long> findPairs(SweepAndPrune broadPhase) {
+        Set<Long> found = new HashSet<>();
+        int pairCount = broadPhase.findPairs();
+        for (int k = 0; k < pairCount; k++) {
+            int first = broadPhase.getPairFirst(k);
+            int second = broadPhase.getPairSecond(k);
+            assertTrue(first < second);
+            assertTrue(found.add(((long) first << 32) | second), "Pair found twice");
+        }
+        return found;
+    }
+
+    @Test
+    public void testTouchingAndSeparateBoxes() {
+        SweepAndPrune broadPhase = new SweepAndPrune();
+        broadPhase.setCount(4);
+        broadPhase.setBounds(0, 0, 0, 10, 10);
+        broadPhase.setBounds(1, 10, 5, 20, 15);
+        broadPhase.setBounds(2, 5, 20, 15, 30);
+        // No hitboxes, so an empty box
+        broadPhase.setBounds(3, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY);
+
+        assertEquals(Set.of(1L), this.findPairs(broadPhase));
+    }
+
+    @Test
+    public void testMatchesBruteForce() {
+        Random random = new Random(7);
+        SweepAndPrune broadPhase = new SweepAndPrune();
+        int count = 300;
+        double[][] boxes = new double[count][4];
+
+        for (int update = 0; update < 5; update++) {
+            broadPhase.setCount(count);
+            for (int i = 0; i < count; i++) {
+                if (update == 0) {
+                    boxes[i][0] = random.nextDouble() * 1000;
+                    boxes[i][1] = random.nextDouble() * 1000;
+                }
+                else {
+                    // Small moves, like between two update steps
+                    boxes[i][0] += random.nextDouble() * 20 - 10;
+                    boxes[i][1] += random.nextDouble() * 20 - 10;
+                }
+                boxes[i][2] = boxes[i][0] + 32;
+                boxes[i][3] = boxes[i][1] + 32;
+                broadPhase.setBounds(i, boxes[i][0], boxes[i][1], boxes[i][2], boxes[i][3]);
+            }
+
+            Set<Long> expected = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                for (int j = i + 1; j < count; j++) {
+                    if (boxes[i][0] <= boxes[j][2] && boxes[j][0] <= boxes[i][2] && boxes[i][1] <= boxes[j][3] && boxes[j][1] <= boxes[i][3]) {
+                        expected.add(((long) i << 32) | j);
+                    }
+                }
+            }
+
+            assertEquals(expected, this.findPairs(broadPhase));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package teamproject.wipeout.engine.system.render;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import javafx.geometry.Point2D;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+import teamproject.wipeout.engine.component.Transform;
+import teamproject.wipeout.engine.component.render.particle.ParticleComponent;
+import teamproject.wipeout.engine.component.render.particle.ParticleParameters;
+import teamproject.wipeout.engine.component.render.particle.ParticleParameters.ParticleSimulationSpace;
+import teamproject.wipeout.engine.component.render.particle.ParticleRenderable;
+import teamproject.wipeout.engine.component.render.particle.property.EaseCurve;
+import teamproject.wipeout.engine.component.render.particle.property.OvalParticle;
+import teamproject.wipeout.engine.component.render.particle.type.ParticleUpdateFunction;
+import teamproject.wipeout.engine.core.GameLoop;
+import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.entity.GameEntity;
+import teamproject.wipeout.util.SupplierGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParticleSystemTest {
+
+    private static final int EMITTERS = 12;
+    private static final int PARTICLES_PER_EMITTER = 400;
+
+    @Test
+    public void testParallelMatchesSerial() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            GameScene serialScene = new GameScene();
+            GameScene parallelScene = new GameScene();
+            ParticleSystem serial = new ParticleSystem(serialScene, null);
+            ParticleSystem parallel = new ParticleSystem(parallelScene, pool);
+            List<GameEntity> serialEmitters = this.createEmitters(serialScene);
+            List<GameEntity> parallelEmitters = this.createEmitters(parallelScene);
+
+            for (int step = 0; step < 60; step++) {
+                serial.accept(GameLoop.timeStep);
+                parallel.accept(GameLoop.timeStep);
+            }
+
+            int total = 0;
+            for (int i = 0; i < EMITTERS; i++) {
+                ParticleRenderable expected = serial.trackedEntities.get(serialEmitters.get(i));
+                ParticleRenderable actual = parallel.trackedEntities.get(parallelEmitters.get(i));
+
+                assertEquals(expected.particles.size(), actual.particles.size());
+                assertEquals(expected.getWidth(), actual.getWidth());
+                assertEquals(expected.getHeight(), actual.getHeight());
+                for (int p = 0; p < expected.particles.size(); p++) {
+                    assertEquals(expected.particles.x[p], actual.particles.x[p]);
+                    assertEquals(expected.particles.opacity[p], actual.particles.opacity[p]);
+                }
+                total += actual.particles.size();
+            }
+
+            // Enough particles for the parallel system to have split the emitters between tasks
+            assertTrue(total >= ParticleSystem.PARALLEL_THRESHOLD);
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testOffscreenEmittersThrottled() {
+        GameScene scene = new GameScene();
+        ParticleSystem particleSystem = new ParticleSystem(scene, null);
+        List<GameEntity> emitters = this.createEmitters(scene);
+        ParticleRenderable renderable = particleSystem.trackedEntities.get(emitters.get(0));
+
+        // Every emitter is far out of view
+        scene.getViewBounds().set(10000, 10000, 11000, 11000);
+        particleSystem.accept(GameLoop.timeStep);
+        assertTrue(renderable.particles.getPendingTime() > 0);
+
+        for (int step = 0; step < 60; step++) {
+            particleSystem.accept(GameLoop.timeStep);
+        }
+        int maxThrottled = (int) Math.ceil(PARTICLES_PER_EMITTER * ParticleSystem.OFFSCREEN_DENSITY);
+        assertTrue(renderable.particles.size() > 0);
+        assertTrue(renderable.particles.size() <= maxThrottled);
+        assertTrue(renderable.particles.getPendingTime() < ParticleSystem.OFFSCREEN_CATCH_UP_TIME);
+
+        // Back in view, caught up and emitting normally again
+        scene.getViewBounds().set(0, 0, 1000, 1000);
+        particleSystem.accept(GameLoop.timeStep);
+        assertEquals(0, renderable.particles.getPendingTime());
+        for (int i = 0; i < renderable.particles.size(); i++) {
+            assertTrue(renderable.particles.aliveTime[i] >= 0);
+        }
+
+        for (int step = 0; step < 60; step++) {
+            particleSystem.accept(GameLoop.timeStep);
+        }
+        assertTrue(renderable.particles.size() > maxThrottled);
+    }
+
+    private List<GameEntity> createEmitters(GameScene scene) {
+        List<GameEntity> emitters = new ArrayList<>();
+        for (int i = 0; i < EMITTERS; i++) {
+            ParticleParameters parameters = new ParticleParameters(100, true, new OvalParticle(Color.WHITE), ParticleSimulationSpace.LOCAL,
+                    SupplierGenerator.staticSupplier(0.5 + i * 0.1), SupplierGenerator.staticSupplier(2.0), null,
+                    SupplierGenerator.staticSupplier(1.0), SupplierGenerator.staticSupplier(new Point2D(i, 10 - i)));
+            parameters.setMaxParticles(PARTICLES_PER_EMITTER);
+            parameters.setEmissionRate(PARTICLES_PER_EMITTER * 4);
+            parameters.addUpdateFunction(ParticleUpdateFunction.opacityOverLifetime(EaseCurve.FADE_IN_OUT));
+            parameters.addUpdateFunction((particle, percentage, timeStep) -> particle.velocityY += 50 * timeStep);
+
+            GameEntity emitter = scene.createEntity();
+            emitter.addComponent(new Transform(i * 10, 0));
+            ParticleComponent particleComponent = new ParticleComponent(parameters);
+            emitter.addComponent(particleComponent);
+            particleComponent.play();
+            emitters.add(emitter);
+        }
+        return emitters;
+    }
+}
@@ -0,0 +1,78 @@
+package teamproject.wipeout.engine.system.render;
+
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+import teamproject.wipeout.engine.component.render.RectRenderable;
+import teamproject.wipeout.engine.component.render.RenderComponent;
+import teamproject.wipeout.engine.component.render.SpriteRegion;
+import teamproject.wipeout.engine.component.render.SpriteRenderable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RenderCommandListTest {
+
+    @Test
+    public void testCommandsSortedIntoDrawingOrder() {
+        RectRenderable top = new RectRenderable(Color.RED, 10, 10);
+        RectRenderable bottom = new RectRenderable(Color.RED, 10, 10);
+        RectRenderable above = new RectRenderable(Color.RED, 10, 10);
+
+        RenderCommandList commands = new RenderCommandList();
+        commands.reset(2);
+        commands.add(new RenderComponent(above), 1, 2, 1, 0);
+        commands.add(new RenderComponent(bottom), 3, 4, 0, 50);
+        commands.add(new RenderComponent(top), 5, 6, 0, 10);
+        commands.prepare(0, 0, 100, 100);
+
+        assertEquals(3, commands.size());
+        assertEquals(2, commands.getScale());
+        assertSame(top, commands.getRenderable(0));
+        assertEquals(5, commands.getX(0));
+        assertEquals(6, commands.getY(0));
+        assertSame(bottom, commands.getRenderable(1));
+        assertSame(above, commands.getRenderable(2));
+        assertEquals(1, commands.getX(2));
+    }
+
+    @Test
+    public void testSnapshotAndCull() {
+        WritableImage atlas = new WritableImage(32, 32);
+        SpriteRegion first = new SpriteRegion(atlas, 0, 0, 16, 16);
+        SpriteRenderable sprite = new SpriteRenderable(first);
+        RectRenderable rect = new RectRenderable(Color.RED, 4, 4);
+
+        RenderCommandList commands = new RenderCommandList();
+        commands.reset(1);
+        commands.add(new RenderComponent(sprite, rect), 10, 10, 0, 26);
+        commands.add(new RenderComponent(new RectRenderable(Color.RED, 10, 10)), 500, 500, 0, 510);
+
+        // Changing the renderable after the snapshot doesn't change what is drawn
+        sprite.sprite = new SpriteRegion(atlas, 16, 16, 16, 16);
+        commands.prepare(0, 0, 100, 100);
+
+        assertEquals(3, commands.getCount());
+        assertEquals(2, commands.size());
+        assertSame(sprite, commands.getRenderable(0));
+        assertSame(first, commands.getSprite(0));
+        assertSame(rect, commands.getRenderable(1));
+        assertNull(commands.getSprite(1));
+    }
+
+    @Test
+    public void testResetAndGrow() {
+        RenderComponent component = new RenderComponent(new RectRenderable(Color.RED, 10, 10));
+
+        RenderCommandList commands = new RenderCommandList();
+        for (int i = 0; i < 100; i++) {
+            commands.add(component, i, 0, 0, 100 - i);
+        }
+        commands.prepare(0, 0, 1000, 1000);
+        assertEquals(100, commands.size());
+        assertEquals(99, commands.getX(0));
+
+        commands.reset(1);
+        assertEquals(0, commands.size());
+        assertEquals(0, commands.getCount());
+    }
+}
@@ -0,0 +1,109 @@
+package teamproject.wipeout.engine.system.render;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StaticTileCacheTest {
+
+    @Test
+    public void testTileCoordinates() {
+        StaticTileCache cache = new StaticTileCache();
+        assertEquals(StaticTileCache.TILE_PIXELS, cache.getTileSize());
+        assertEquals(0, cache.toTile(0));
+        assertEquals(0, cache.toTile(StaticTileCache.TILE_PIXELS - 1));
+        assertEquals(1, cache.toTile(StaticTileCache.TILE_PIXELS));
+        assertEquals(-1, cache.toTile(-1));
+
+        cache.setScale(2);
+        assertEquals(StaticTileCache.TILE_PIXELS / 2.0, cache.getTileSize());
+        assertEquals(1, cache.toTile(StaticTileCache.TILE_PIXELS / 2.0));
+    }
+
+    @Test
+    public void testInvalidateOnlyCoveredTiles() {
+        StaticTileCache cache = new StaticTileCache();
+        double size = cache.getTileSize();
+
+        StaticTileCache.Tile first = cache.getTile(0, 0);
+        StaticTileCache.Tile second = cache.getTile(1, 0);
+        StaticTileCache.Tile below = cache.getTile(0, 1);
+        first.valid = true;
+        second.valid = true;
+        below.valid = true;
+
+        assertSame(first, cache.getTile(0, 0));
+
+        // Overlaps both tiles in the first row
+        assertTrue(cache.invalidate(size - 10, 10, size + 10, 20));
+        assertFalse(first.valid);
+        assertFalse(second.valid);
+        assertTrue(below.valid);
+
+        // Already invalid, and nothing cached further away
+        assertFalse(cache.invalidate(size - 10, 10, size + 10, 20));
+        assertFalse(cache.invalidate(size * 10, size * 10, size * 11, size * 11));
+
+        cache.invalidateAll();
+        assertFalse(below.valid);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedTileReused() {
+        StaticTileCache cache = new StaticTileCache();
+        for (int i = 0; i < cache.getMaxTiles(); i++) {
+            cache.getTile(i, 0).valid = true;
+        }
+
+        // Use the first tile again, so the second is the least recently used
+        StaticTileCache.Tile first = cache.getTile(0, 0);
+        StaticTileCache.Tile second = cache.getTile(1, 0);
+        cache.getTile(0, 0);
+        for (int i = 2; i < cache.getMaxTiles(); i++) {
+            cache.getTile(i, 0);
+        }
+
+        StaticTileCache.Tile added = cache.getTile(-1, -1);
+        assertFalse(added.valid);
+        assertEquals(cache.getMaxTiles(), cache.size());
+        assertSame(first, cache.getTile(0, 0));
+        assertNotSame(second, cache.getTile(1, 0));
+    }
+
+    @Test
+    public void testSizedForView() {
+        StaticTileCache cache = new StaticTileCache();
+
+        // A 4K view overlaps up to 9x6 tiles, which must all stay cached while it is drawn
+        cache.setViewSize(3840, 2160);
+        assertEquals(10 * 7 + StaticTileCache.MARGIN_TILES, cache.getMaxTiles());
+
+        StaticTileCache.Tile first = cache.getTile(0, 0);
+        for (int row = 0; row < 6; row++) {
+            for (int column = 0; column < 9; column++) {
+                cache.getTile(column, row).valid = true;
+            }
+        }
+        assertSame(first, cache.getTile(0, 0));
+        assertTrue(first.valid);
+
+        // Shrinking drops the least recently used tiles
+        cache.setViewSize(1024, 512);
+        assertEquals(4 * 3 + StaticTileCache.MARGIN_TILES, cache.getMaxTiles());
+        assertEquals(cache.getMaxTiles(), cache.size());
+        assertSame(first, cache.getTile(0, 0));
+    }
+
+    @Test
+    public void testScaleChangeDropsTiles() {
+        StaticTileCache cache = new StaticTileCache();
+        cache.getTile(0, 0).valid = true;
+
+        cache.setScale(1);
+        assertEquals(1, cache.size());
+
+        cache.setScale(3);
+        assertEquals(0, cache.size());
+        assertFalse(cache.getTile(0, 0).valid);
+    }
+}
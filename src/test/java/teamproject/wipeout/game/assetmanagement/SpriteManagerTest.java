@@ -3,6 +3,7 @@ package teamproject.wipeout.game.assetmanagement;
 import javafx.scene.image.Image;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import teamproject.wipeout.engine.component.render.SpriteRegion;
 import teamproject.wipeout.util.resources.ResourceLoader;
 
 import java.io.FileNotFoundException;
@@ -40,5 +41,10 @@ public class SpriteManagerTest {
 
         Image[] ss = assertDoesNotThrow(() -> sm.getSpriteSet("player", "test"));
         assertEquals(1, ss.length);
+
+        // The images are copies of the regions, made once
+        SpriteRegion[] regions = assertDoesNotThrow(() -> sm.getSpriteRegions("player", "test"));
+        assertSame(regions[0].toImage(), ss[0]);
+        assertSame(ss, assertDoesNotThrow(() -> sm.getSpriteSet("player", "test")));
     }
 }
@@ -4,6 +4,7 @@ import javafx.scene.image.Image;
 import javafx.scene.image.PixelReader;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import teamproject.wipeout.engine.component.render.SpriteRegion;
 import teamproject.wipeout.util.resources.ResourceLoader;
 import teamproject.wipeout.util.resources.ResourceType;
 
@@ -39,6 +40,28 @@ public class SpritesheetTest {
         assertEquals(235, test.getHeight());
     }
 
+    @Test
+    void testSpritesShareAtlas() {
+        final SpritesheetDescriptor ss = assertDoesNotThrow(() -> Spritesheet.getSpritesheetFromJSON("t_spritesheet-descriptor.json"));
+
+        Image atlas = assertDoesNotThrow(() -> Spritesheet.loadAtlas("t_spritesheet.png"));
+        Map<String, SpriteRegion[]> regions = Spritesheet.parseSpriteRegions(ss, atlas);
+
+        SpriteRegion[] idle = regions.get("idle");
+        assertEquals(10, idle.length);
+        for (SpriteRegion region : idle) {
+            assertSame(atlas, region.atlas);
+        }
+        assertEquals(idle[0].x + idle[0].width, idle[1].x);
+
+        // Images are only copied from the regions when asked for, and only once
+        Image[] images = Spritesheet.getRegionImages(idle);
+        assertEquals(idle[1].width, images[1].getWidth());
+        assertSame(images[1], idle[1].toImage());
+        assertSame(atlas, SpriteRegion.whole(atlas).toImage());
+        assertEquals(atlas.getPixelReader().getArgb((int) idle[1].x + 3, (int) idle[1].y + 5), images[1].getPixelReader().getArgb(3, 5));
+    }
+
     @Test
     void testParseValidSpriteList() {
         BufferedImage image = assertDoesNotThrow(()-> ImageIO.read(ResourceLoader.get(ResourceType.ASSET, "t_sprite.png")));
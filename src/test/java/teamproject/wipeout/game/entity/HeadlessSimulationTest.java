@@ -0,0 +1,194 @@
+package teamproject.wipeout.game.entity;
+
+import javafx.geometry.Point2D;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.util.Pair;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import teamproject.wipeout.engine.component.Transform;
+import teamproject.wipeout.engine.component.ai.NavigationMesh;
+import teamproject.wipeout.engine.component.render.RectRenderable;
+import teamproject.wipeout.engine.core.GameLoop;
+import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.core.HeadlessGameLoop;
+import teamproject.wipeout.engine.core.SystemUpdater;
+import teamproject.wipeout.engine.system.PlayerAnimatorSystem;
+import teamproject.wipeout.engine.system.ScriptSystem;
+import teamproject.wipeout.engine.system.ai.SteeringSystem;
+import teamproject.wipeout.engine.system.farm.FarmSpriteSystem;
+import teamproject.wipeout.engine.system.farm.GrowthSystem;
+import teamproject.wipeout.engine.system.physics.CollisionSystem;
+import teamproject.wipeout.engine.system.physics.MovementSystem;
+import teamproject.wipeout.game.assetmanagement.SpriteManager;
+import teamproject.wipeout.game.farm.FarmData;
+import teamproject.wipeout.game.farm.FarmItem;
+import teamproject.wipeout.game.farm.Pickables;
+import teamproject.wipeout.game.farm.entity.FarmEntity;
+import teamproject.wipeout.game.item.ItemStore;
+import teamproject.wipeout.game.market.entity.MarketEntity;
+import teamproject.wipeout.game.player.AIPlayer;
+import teamproject.wipeout.game.player.CurrentPlayer;
+import teamproject.wipeout.game.player.Player;
+import teamproject.wipeout.util.resources.PlayerSpriteSheetManager;
+import teamproject.wipeout.util.resources.ResourceLoader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Steps matches with a HeadlessGameLoop, without a JavaFX toolkit.
+ * Name tags are shown as rectangles, as TextRenderables need the JavaFX font libraries (see NameTagEntity).
+ */
+public class HeadlessSimulationTest {
+
+    private static SpriteManager spriteManager;
+    private static ItemStore itemStore;
+
+    private GameScene scene;
+    private SystemUpdater systemUpdater;
+    private HeadlessGameLoop loop;
+    private AnimalEntity animal;
+    private WorldEntity world;
+
+    @BeforeAll
+    static void initialization() throws IOException, ReflectiveOperationException {
+        ResourceLoader.setTargetClass(ResourceLoader.class);
+        itemStore = new ItemStore("items.json");
+
+        spriteManager = new SpriteManager();
+        spriteManager.loadSpriteSheet("crops/crops-descriptor.json", "crops/crops.png");
+        spriteManager.loadSpriteSheet("crops/fruit-tree-descriptor.json", "crops/FruitTrees.png");
+        spriteManager.loadSpriteSheet("inventory/inventory-fruit-descriptor.json", "inventory/Fruits.png");
+        spriteManager.loadSpriteSheet("inventory/inventory-vegetables-descriptor.json", "inventory/Vegetables.png");
+        spriteManager.loadSpriteSheet("ai/mouse-descriptor.json", "ai/mouse.png");
+        spriteManager.loadSpriteSheet("inventory/inventory-tools-descriptor.json", "inventory/Tools.png");
+        spriteManager.loadSpriteSheet("inventory/inventory-fruit-and-vegetable-descriptor.json", "inventory/FruitsAndVeg.png");
+        spriteManager.loadSpriteSheet("inventory/inventory-animals-and-food-descriptor.json", "inventory/AnimalsAndFood.png");
+        spriteManager.loadSpriteSheet("inventory/inventory-potions-descriptor.json", "inventory/Potions.png");
+        spriteManager.loadSpriteSheet("ai/rat-descriptor.json", "ai/rat.png");
+        spriteManager.loadSpriteSheet("gameworld/arrow-descriptor.json", "gameworld/Arrow.png");
+        PlayerSpriteSheetManager.loadPlayerSpriteSheets(spriteManager);
+
+        NameTagEntity.setRenderableFactory((name) -> new RectRenderable(Color.WHITE, name.length() * 10, 20));
+    }
+
+    @AfterAll
+    static void restoreNameTags() {
+        NameTagEntity.setRenderableFactory(null);
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (this.world != null) {
+            this.world.cleanup();
+        }
+        if (this.animal != null) {
+            this.animal.stop();
+        }
+        if (this.loop != null) {
+            this.loop.cleanup();
+        }
+        if (this.systemUpdater != null) {
+            this.systemUpdater.cleanup();
+        }
+    }
+
+    private void createSystems() {
+        this.scene = new GameScene();
+        this.systemUpdater = new SystemUpdater(this.scene);
+        this.systemUpdater.addSystem(new MovementSystem(this.scene));
+        this.systemUpdater.addSystem(new CollisionSystem(this.scene));
+        this.systemUpdater.addSystem(new FarmSpriteSystem(this.scene, spriteManager));
+        this.systemUpdater.addSystem(new GrowthSystem(this.scene));
+        this.systemUpdater.addSystem(new SteeringSystem(this.scene));
+        this.systemUpdater.addSystem(new ScriptSystem(this.scene));
+        new PlayerAnimatorSystem(this.scene);
+        this.loop = new HeadlessGameLoop(this.systemUpdater);
+    }
+
+    @Test
+    void testRatAndCropsWithoutToolkit() throws IOException {
+        this.createSystems();
+
+        Pickables pickables = new Pickables(this.scene, spriteManager, itemStore);
+        List<FarmEntity> farms = new ArrayList<>();
+        for (int i = 0; i < FarmData.ALL_FARM_IDS.length; i++) {
+            FarmEntity farm = new FarmEntity(this.scene, FarmData.ALL_FARM_IDS[i], FarmEntity.FARM_POSITIONS[i], pickables, spriteManager, itemStore);
+            farm.placeItemAtSquare(itemStore.getItem(28), 0, 0);
+            farms.add(farm);
+        }
+
+        NavigationMesh navMesh = WorldEntity.generateNavMesh(new Point2D(32, 32));
+        Point2D start = new Point2D(10, 10);
+        this.animal = new AnimalEntity(this.scene, start, navMesh, spriteManager, farms);
+
+        this.loop.runFor(30);
+
+        assertEquals(Math.ceil(30 / GameLoop.timeStep), this.loop.getStepCount());
+        assertNotEquals(start, this.animal.getComponent(Transform.class).getWorldPosition());
+
+        // Each crop has either grown or been eaten by the rat
+        for (FarmEntity farm : farms) {
+            Point2D cropPosition = farm.coordinatesForItemAt(0, 0);
+            FarmItem crop = farm.itemAt(cropPosition.getX(), cropPosition.getY());
+            assertTrue(crop == null || crop.growth.get() > 0);
+        }
+    }
+
+    @Test
+    void testMatchWithAIPlayersWithoutToolkit() {
+        this.createSystems();
+
+        CurrentPlayer currentPlayer = new CurrentPlayer(this.scene, new Pair<>(100, "Player"), null, spriteManager, itemStore);
+        currentPlayer.debug = true;
+
+        Map<String, Object> marketPack = new HashMap<>();
+        marketPack.put("itemStore", itemStore);
+        marketPack.put("spriteManager", spriteManager);
+        marketPack.put("gameScene", this.scene);
+        marketPack.put("uiContainer", new StackPane());
+        marketPack.put("networked", false);
+        marketPack.put("currentPlayer", currentPlayer);
+        marketPack.put("tasks", new ArrayList<>());
+        MarketEntity marketEntity = new MarketEntity(marketPack);
+
+        Map<String, Object> worldPack = new HashMap<>();
+        worldPack.put("itemStore", itemStore);
+        worldPack.put("spriteManager", spriteManager);
+        worldPack.put("gameScene", this.scene);
+        worldPack.put("inputHandler", null);
+        worldPack.put("currentPlayer", currentPlayer);
+        worldPack.put("marketEntity", marketEntity);
+        worldPack.put("singleplayer", true);
+        this.world = new WorldEntity(worldPack);
+        this.world.setPlayerSpriteSheetSupplier(new PlayerSpriteSheetManager().getPlayerSpriteSheetSupplier());
+
+        List<Point2D> starts = new ArrayList<>();
+        for (Player player : this.world.getPlayers()) {
+            if (player instanceof AIPlayer) {
+                starts.add(player.getWorldPosition());
+            }
+        }
+        assertEquals(AIPlayer.AI_NAMES.length, starts.size());
+
+        this.loop.runFor(30);
+
+        assertEquals(Math.ceil(30 / GameLoop.timeStep), this.loop.getStepCount());
+        int moved = 0;
+        int index = 0;
+        for (Player player : this.world.getPlayers()) {
+            if (player instanceof AIPlayer && !player.getWorldPosition().equals(starts.get(index++))) {
+                moved++;
+            }
+        }
+        assertTrue(moved > 0);
+    }
+}
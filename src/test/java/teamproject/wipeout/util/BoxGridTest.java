@@ -0,0 +1,83 @@
+package teamproject.wipeout.util;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoxGridTest {
+
+    private Set<Integer> query(BoxGrid grid, double minX, double minY, double maxX, double maxY) {
+        Set<Integer> found = new HashSet<>();
+        int count = grid.query(minX, minY, maxX, maxY);
+        for (int i = 0; i < count; i++) {
+            assertTrue(found.add(grid.getResult(i)), "Box found twice");
+        }
+        return found;
+    }
+
+    @Test
+    public void testEmptyGrid() {
+        BoxGrid grid = new BoxGrid(128);
+        assertEquals(0, grid.query(0, 0, 100, 100));
+    }
+
+    @Test
+    public void testInvalidCellSize() {
+        assertThrows(IllegalArgumentException.class, () -> new BoxGrid(0));
+    }
+
+    @Test
+    public void testLargeBoxesAreFoundOnce() {
+        // The boundaries around the world, each spanning many cells
+        double[] minX = {-20, -20, -20, 1461};
+        double[] minY = {-20, -20, 1184, -20};
+        double[] maxX = {0, 1461, 1461, 1481};
+        double[] maxY = {1204, 0, 1204, 1204};
+
+        BoxGrid grid = new BoxGrid(128);
+        grid.build(4, minX, minY, maxX, maxY);
+
+        assertEquals(Set.of(0, 1), this.query(grid, -10, -10, 300, 300));
+        assertEquals(Set.of(), this.query(grid, 500, 500, 564, 564));
+        assertEquals(Set.of(0, 1, 2, 3), this.query(grid, -100, -100, 2000, 2000));
+    }
+
+    @Test
+    public void testMatchesBruteForce() {
+        Random random = new Random(3);
+        int count = 200;
+        double[] minX = new double[count];
+        double[] minY = new double[count];
+        double[] maxX = new double[count];
+        double[] maxY = new double[count];
+        for (int i = 0; i < count; i++) {
+            minX[i] = random.nextDouble() * 2000;
+            minY[i] = random.nextDouble() * 2000;
+            maxX[i] = minX[i] + random.nextDouble() * 300;
+            maxY[i] = minY[i] + random.nextDouble() * 300;
+        }
+
+        BoxGrid grid = new BoxGrid(128);
+        grid.build(count, minX, minY, maxX, maxY);
+
+        for (int q = 0; q < 100; q++) {
+            double qMinX = random.nextDouble() * 2200 - 100;
+            double qMinY = random.nextDouble() * 2200 - 100;
+            double qMaxX = qMinX + random.nextDouble() * 100;
+            double qMaxY = qMinY + random.nextDouble() * 100;
+
+            Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                if (minX[i] <= qMaxX && qMinX <= maxX[i] && minY[i] <= qMaxY && qMinY <= maxY[i]) {
+                    expected.add(i);
+                }
+            }
+
+            assertEquals(expected, this.query(grid, qMinX, qMinY, qMaxX, qMaxY));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package teamproject.wipeout.util;
+
+import org.junit.jupiter.api.Test;
+import teamproject.wipeout.util.sort.InsertionSort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedSetTest {
+
+    private static class Element implements IndexedSet.Member {
+        private final int value;
+        private final IndexedSet.Slots slots = new IndexedSet.Slots();
+
+        Element(int value) {
+            this.value = value;
+        }
+
+        public IndexedSet.Slots getIndexedSetSlots() {
+            return this.slots;
+        }
+    }
+
+    private static List<Element> elements(int count) {
+        List<Element> elements = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            elements.add(new Element(i));
+        }
+        return elements;
+    }
+
+    private static List<Integer> values(List<Element> elements) {
+        List<Integer> values = new ArrayList<>();
+        for (Element element : elements) {
+            values.add(element.value);
+        }
+        return values;
+    }
+
+    @Test
+    public void testAddIsUnique() {
+        List<Element> e = elements(2);
+        IndexedSet<Element> set = new IndexedSet<>();
+        assertTrue(set.add(e.get(0)));
+        assertTrue(set.add(e.get(1)));
+        assertFalse(set.add(e.get(0)));
+
+        assertEquals(List.of(0, 1), values(set));
+        assertTrue(set.contains(e.get(1)));
+        assertEquals(1, set.indexOf(e.get(1)));
+    }
+
+    @Test
+    public void testRemoveKeepsOrder() {
+        List<Element> e = elements(5);
+        IndexedSet<Element> set = new IndexedSet<>();
+        set.addAll(e);
+
+        assertTrue(set.remove(e.get(1)));
+        assertFalse(set.remove(e.get(1)));
+        assertTrue(set.remove(e.get(3)));
+        assertEquals(3, set.size());
+        assertFalse(set.contains(e.get(3)));
+        assertEquals(List.of(0, 2, 4), values(set));
+        assertEquals(1, set.indexOf(e.get(2)));
+        assertEquals(-1, set.indexOf(e.get(1)));
+
+        assertSame(e.get(4), set.remove(2));
+        set.add(e.get(1));
+        assertEquals(List.of(0, 2, 1), values(set));
+    }
+
+    @Test
+    public void testElementInSeveralSets() {
+        List<Element> e = elements(3);
+        IndexedSet<Element> first = new IndexedSet<>();
+        IndexedSet<Element> second = new IndexedSet<>();
+        first.addAll(e);
+        second.add(e.get(2));
+        second.add(e.get(0));
+
+        assertEquals(2, first.indexOf(e.get(2)));
+        assertEquals(0, second.indexOf(e.get(2)));
+
+        first.remove(e.get(0));
+        assertTrue(second.contains(e.get(0)));
+        assertEquals(1, second.indexOf(e.get(0)));
+        assertEquals(1, first.indexOf(e.get(2)));
+    }
+
+    @Test
+    public void testGrowAndClear() {
+        List<Element> e = elements(1000);
+        IndexedSet<Element> set = new IndexedSet<>();
+        set.addAll(e);
+        assertEquals(1000, set.size());
+        assertEquals(500, set.indexOf(e.get(500)));
+
+        for (int i = 0; i < 1000; i += 2) {
+            set.remove(e.get(i));
+        }
+        assertEquals(500, set.size());
+        assertEquals(250, set.indexOf(e.get(501)));
+
+        set.clear();
+        assertEquals(0, set.size());
+        assertFalse(set.contains(e.get(501)));
+        assertTrue(set.add(e.get(501)));
+        assertEquals(0, set.indexOf(e.get(501)));
+    }
+
+    @Test
+    public void testIndicesAfterInsertionSort() {
+        IndexedSet<Element> set = new IndexedSet<>();
+        for (int value : new int[] {5, 3, 9, 1, 7, 2}) {
+            set.add(new Element(value));
+        }
+
+        InsertionSort.sort(set, Comparator.comparingInt((element) -> element.value));
+
+        assertEquals(List.of(1, 2, 3, 5, 7, 9), values(set));
+        for (int i = 0; i < set.size(); i++) {
+            assertEquals(i, set.indexOf(set.get(i)));
+        }
+
+        assertTrue(set.remove(set.get(2)));
+        assertEquals(List.of(1, 2, 5, 7, 9), values(set));
+    }
+}
@@ -0,0 +1,58 @@
+package teamproject.wipeout.util.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+import teamproject.wipeout.engine.component.Transform;
+import teamproject.wipeout.engine.component.render.RectRenderable;
+import teamproject.wipeout.engine.component.render.RenderComponent;
+import teamproject.wipeout.engine.core.GameScene;
+import teamproject.wipeout.engine.entity.GameEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RenderOrderComparatorTest {
+
+    @Test
+    public void testSortKeysMatchComparator() {
+        GameScene scene = new GameScene();
+        Random random = new Random(7);
+        List<GameEntity> entities = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            GameEntity entity = scene.createEntity();
+            // Include negative positions and a few z layers
+            entity.addComponent(new Transform(0, Math.round(random.nextDouble() * 2000 - 500), random.nextInt(3) - 1));
+            entity.addComponent(new RenderComponent(new RectRenderable(Color.RED, 10, random.nextInt(40))));
+            entities.add(entity);
+        }
+
+        long[] keys = new long[entities.size()];
+        for (int i = 0; i < entities.size(); i++) {
+            Transform t = entities.get(i).getComponent(Transform.class);
+            RenderComponent r = entities.get(i).getComponent(RenderComponent.class);
+            keys[i] = RenderOrderComparator.sortKey(t.getZPosition(), t.getWorldY() + r.getHeight(), i);
+        }
+        Arrays.sort(keys);
+
+        // Stable, so equal entities keep their order like the keys' index tie break
+        List<GameEntity> expected = new ArrayList<>(entities);
+        expected.sort(new RenderOrderComparator());
+
+        for (int k = 0; k < keys.length; k++) {
+            assertSame(expected.get(k), entities.get(RenderOrderComparator.sortKeyIndex(keys[k])));
+        }
+    }
+
+    @Test
+    public void testSortKeyIndex() {
+        long key = RenderOrderComparator.sortKey(-3, -12.5, RenderOrderComparator.MAX_SORT_KEY_INDEX);
+        assertEquals(RenderOrderComparator.MAX_SORT_KEY_INDEX, RenderOrderComparator.sortKeyIndex(key));
+        assertTrue(key < RenderOrderComparator.sortKey(-3, 0, 0));
+        assertTrue(RenderOrderComparator.sortKey(0, 5000, 1) < RenderOrderComparator.sortKey(1, -5000, 0));
+    }
+}